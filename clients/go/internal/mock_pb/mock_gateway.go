@@ -152,6 +152,26 @@ func (mr *MockGatewayClientMockRecorder) CompleteJob(ctx, in interface{}, opts .
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJob), varargs...)
 }
 
+// CompleteJobs mocks base method.
+func (m *MockGatewayClient) CompleteJobs(ctx context.Context, in *pb.CompleteJobsRequest, opts ...grpc.CallOption) (*pb.CompleteJobsResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "CompleteJobs", varargs...)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs.
+func (mr *MockGatewayClientMockRecorder) CompleteJobs(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayClient)(nil).CompleteJobs), varargs...)
+}
+
 // CreateProcessInstance mocks base method.
 func (m *MockGatewayClient) CreateProcessInstance(ctx context.Context, in *pb.CreateProcessInstanceRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstanceResponse, error) {
 	m.ctrl.T.Helper()
@@ -192,6 +212,26 @@ func (mr *MockGatewayClientMockRecorder) CreateProcessInstanceWithResult(ctx, in
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceWithResult", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstanceWithResult), varargs...)
 }
 
+// CreateProcessInstances mocks base method.
+func (m *MockGatewayClient) CreateProcessInstances(ctx context.Context, in *pb.CreateProcessInstancesRequest, opts ...grpc.CallOption) (*pb.CreateProcessInstancesResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "CreateProcessInstances", varargs...)
+	ret0, _ := ret[0].(*pb.CreateProcessInstancesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstances indicates an expected call of CreateProcessInstances.
+func (mr *MockGatewayClientMockRecorder) CreateProcessInstances(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstances", reflect.TypeOf((*MockGatewayClient)(nil).CreateProcessInstances), varargs...)
+}
+
 // DeleteResource mocks base method.
 func (m *MockGatewayClient) DeleteResource(ctx context.Context, in *pb.DeleteResourceRequest, opts ...grpc.CallOption) (*pb.DeleteResourceResponse, error) {
 	m.ctrl.T.Helper()
@@ -352,6 +392,26 @@ func (mr *MockGatewayClientMockRecorder) PublishMessage(ctx, in interface{}, opt
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessage), varargs...)
 }
 
+// PublishMessages mocks base method.
+func (m *MockGatewayClient) PublishMessages(ctx context.Context, in *pb.PublishMessagesRequest, opts ...grpc.CallOption) (*pb.PublishMessagesResponse, error) {
+	m.ctrl.T.Helper()
+	varargs := []interface{}{ctx, in}
+	for _, a := range opts {
+		varargs = append(varargs, a)
+	}
+	ret := m.ctrl.Call(m, "PublishMessages", varargs...)
+	ret0, _ := ret[0].(*pb.PublishMessagesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessages indicates an expected call of PublishMessages.
+func (mr *MockGatewayClientMockRecorder) PublishMessages(ctx, in interface{}, opts ...interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	varargs := append([]interface{}{ctx, in}, opts...)
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessages", reflect.TypeOf((*MockGatewayClient)(nil).PublishMessages), varargs...)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayClient) ResolveIncident(ctx context.Context, in *pb.ResolveIncidentRequest, opts ...grpc.CallOption) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
@@ -820,6 +880,21 @@ func (mr *MockGatewayServerMockRecorder) CompleteJob(arg0, arg1 interface{}) *go
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJob", reflect.TypeOf((*MockGatewayServer)(nil).CompleteJob), arg0, arg1)
 }
 
+// CompleteJobs mocks base method.
+func (m *MockGatewayServer) CompleteJobs(arg0 context.Context, arg1 *pb.CompleteJobsRequest) (*pb.CompleteJobsResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CompleteJobs", arg0, arg1)
+	ret0, _ := ret[0].(*pb.CompleteJobsResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CompleteJobs indicates an expected call of CompleteJobs.
+func (mr *MockGatewayServerMockRecorder) CompleteJobs(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CompleteJobs", reflect.TypeOf((*MockGatewayServer)(nil).CompleteJobs), arg0, arg1)
+}
+
 // CreateProcessInstance mocks base method.
 func (m *MockGatewayServer) CreateProcessInstance(arg0 context.Context, arg1 *pb.CreateProcessInstanceRequest) (*pb.CreateProcessInstanceResponse, error) {
 	m.ctrl.T.Helper()
@@ -850,6 +925,21 @@ func (mr *MockGatewayServerMockRecorder) CreateProcessInstanceWithResult(arg0, a
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstanceWithResult", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstanceWithResult), arg0, arg1)
 }
 
+// CreateProcessInstances mocks base method.
+func (m *MockGatewayServer) CreateProcessInstances(arg0 context.Context, arg1 *pb.CreateProcessInstancesRequest) (*pb.CreateProcessInstancesResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "CreateProcessInstances", arg0, arg1)
+	ret0, _ := ret[0].(*pb.CreateProcessInstancesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// CreateProcessInstances indicates an expected call of CreateProcessInstances.
+func (mr *MockGatewayServerMockRecorder) CreateProcessInstances(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "CreateProcessInstances", reflect.TypeOf((*MockGatewayServer)(nil).CreateProcessInstances), arg0, arg1)
+}
+
 // DeleteResource mocks base method.
 func (m *MockGatewayServer) DeleteResource(arg0 context.Context, arg1 *pb.DeleteResourceRequest) (*pb.DeleteResourceResponse, error) {
 	m.ctrl.T.Helper()
@@ -970,6 +1060,21 @@ func (mr *MockGatewayServerMockRecorder) PublishMessage(arg0, arg1 interface{})
 	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessage", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessage), arg0, arg1)
 }
 
+// PublishMessages mocks base method.
+func (m *MockGatewayServer) PublishMessages(arg0 context.Context, arg1 *pb.PublishMessagesRequest) (*pb.PublishMessagesResponse, error) {
+	m.ctrl.T.Helper()
+	ret := m.ctrl.Call(m, "PublishMessages", arg0, arg1)
+	ret0, _ := ret[0].(*pb.PublishMessagesResponse)
+	ret1, _ := ret[1].(error)
+	return ret0, ret1
+}
+
+// PublishMessages indicates an expected call of PublishMessages.
+func (mr *MockGatewayServerMockRecorder) PublishMessages(arg0, arg1 interface{}) *gomock.Call {
+	mr.mock.ctrl.T.Helper()
+	return mr.mock.ctrl.RecordCallWithMethodType(mr.mock, "PublishMessages", reflect.TypeOf((*MockGatewayServer)(nil).PublishMessages), arg0, arg1)
+}
+
 // ResolveIncident mocks base method.
 func (m *MockGatewayServer) ResolveIncident(arg0 context.Context, arg1 *pb.ResolveIncidentRequest) (*pb.ResolveIncidentResponse, error) {
 	m.ctrl.T.Helper()
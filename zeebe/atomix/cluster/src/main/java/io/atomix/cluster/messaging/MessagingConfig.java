@@ -20,11 +20,15 @@ import io.atomix.utils.config.Config;
 import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 /** Messaging configuration. */
 public class MessagingConfig implements Config {
-  private final int connectionPoolSize = 8;
+  private final Map<TrafficClass, Integer> connections = new EnumMap<>(TrafficClass.class);
+  private final Map<TrafficClass, Integer> sendQueueLimits = new EnumMap<>(TrafficClass.class);
   private List<String> interfaces = new ArrayList<>();
   private Integer port;
   private Duration shutdownQuietPeriod = Duration.ofMillis(20);
@@ -34,6 +38,18 @@ public class MessagingConfig implements Config {
   private File privateKey;
   private CompressionAlgorithm compressionAlgorithm = CompressionAlgorithm.NONE;
 
+  public MessagingConfig() {
+    connections.put(TrafficClass.REPLICATION, 2);
+    connections.put(TrafficClass.SNAPSHOT, 1);
+    connections.put(TrafficClass.COMMAND, 4);
+    connections.put(TrafficClass.GOSSIP, 1);
+
+    sendQueueLimits.put(TrafficClass.REPLICATION, 4 * 1024 * 1024);
+    sendQueueLimits.put(TrafficClass.SNAPSHOT, 8 * 1024 * 1024);
+    sendQueueLimits.put(TrafficClass.COMMAND, 4 * 1024 * 1024);
+    sendQueueLimits.put(TrafficClass.GOSSIP, 1024 * 1024);
+  }
+
   /**
    * Returns the local interfaces to which to bind the node.
    *
@@ -75,12 +91,75 @@ public class MessagingConfig implements Config {
   }
 
   /**
-   * Returns the connection pool size.
+   * Returns the connection pool size, i.e. the number of connections to a member over all traffic
+   * classes.
    *
    * @return the connection pool size
    */
   public int getConnectionPoolSize() {
-    return connectionPoolSize;
+    return connections.values().stream().mapToInt(Integer::intValue).sum();
+  }
+
+  /**
+   * Returns the number of connections to a member which are dedicated to each traffic class.
+   *
+   * @return the number of connections per traffic class
+   */
+  public Map<TrafficClass, Integer> getConnectionsPerTrafficClass() {
+    return Collections.unmodifiableMap(connections);
+  }
+
+  /**
+   * Sets the number of connections to a member which are dedicated to the given traffic class.
+   *
+   * @param trafficClass the traffic class
+   * @param connectionCount the number of connections, must be greater than 0
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the number of connections is not greater than 0
+   */
+  public MessagingConfig setConnections(
+      final TrafficClass trafficClass, final int connectionCount) {
+    if (connectionCount <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the number of connections for traffic class %s to be greater than 0, but was %d"
+              .formatted(trafficClass, connectionCount));
+    }
+
+    connections.put(trafficClass, connectionCount);
+    return this;
+  }
+
+  /**
+   * Returns the send queue limit of the given traffic class, i.e. the number of bytes which can be
+   * queued on a connection of the traffic class before further messages are rejected, until the
+   * queue is drained to half of the limit.
+   *
+   * @param trafficClass the traffic class
+   * @return the send queue limit in bytes
+   */
+  public int getSendQueueLimit(final TrafficClass trafficClass) {
+    return sendQueueLimits.get(trafficClass);
+  }
+
+  /**
+   * Sets the send queue limit of the given traffic class.
+   *
+   * @param trafficClass the traffic class
+   * @param sendQueueLimit the send queue limit in bytes, must be greater than 0
+   * @return this config for chaining
+   * @throws IllegalArgumentException if the send queue limit is not greater than 0
+   * @see #getSendQueueLimit(TrafficClass)
+   */
+  public MessagingConfig setSendQueueLimit(
+      final TrafficClass trafficClass, final int sendQueueLimit) {
+    if (sendQueueLimit <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the send queue limit for traffic class %s to be greater than 0, but was %d"
+              .formatted(trafficClass, sendQueueLimit));
+    }
+
+    sendQueueLimits.put(trafficClass, sendQueueLimit);
+    return this;
   }
 
   /**
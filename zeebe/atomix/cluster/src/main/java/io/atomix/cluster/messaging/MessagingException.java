@@ -64,4 +64,16 @@ public class MessagingException extends IOException {
       super(message);
     }
   }
+
+  /**
+   * Exception indicating that a message was not sent, because the send queue of the connection is
+   * full.
+   */
+  public static class SendQueueFullException extends MessagingException {
+    public SendQueueFullException(final Address address, final String subject) {
+      super(
+          "Failed to send message with subject %s to %s, the send queue is full"
+              .formatted(subject, address));
+    }
+  }
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging;
+
+/**
+ * The class of the traffic a message belongs to. Every traffic class uses its own connections to a
+ * member, with their own send queue, so that a large amount of traffic of one class (e.g. a
+ * snapshot which is replicated) doesn't delay the messages of the other classes (e.g. the
+ * heartbeats of the leader).
+ */
+public enum TrafficClass {
+  /** Raft messages, except for the snapshot replication, e.g. appends, heartbeats and votes. */
+  REPLICATION,
+  /** The replication of snapshots. */
+  SNAPSHOT,
+  /** Requests and responses of the command API, and all messages which have no other class. */
+  COMMAND,
+  /** Membership and topology gossip. */
+  GOSSIP;
+
+  private static final String RAFT_PREFIX = "raft-";
+  private static final String SNAPSHOT_SUFFIX = "-install";
+  // the cluster events are sent on the subject of their topic, they are classified as commands
+  private static final String[] GOSSIP_PREFIXES = {"atomix-membership-", "cluster-topology-"};
+
+  /**
+   * Returns the traffic class of the given message type.
+   *
+   * @param messageType the type (or subject) of the message
+   * @return the traffic class of the message type
+   */
+  public static TrafficClass of(final String messageType) {
+    if (messageType.startsWith(RAFT_PREFIX)) {
+      return messageType.endsWith(SNAPSHOT_SUFFIX) ? SNAPSHOT : REPLICATION;
+    }
+
+    for (final String gossipPrefix : GOSSIP_PREFIXES) {
+      if (messageType.startsWith(gossipPrefix)) {
+        return GOSSIP;
+      }
+    }
+
+    return COMMAND;
+  }
+}
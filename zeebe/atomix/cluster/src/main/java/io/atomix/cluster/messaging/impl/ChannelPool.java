@@ -18,30 +18,55 @@ package io.atomix.cluster.messaging.impl;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.collection.Tuple;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Internal Netty channel pool. */
+/**
+ * Internal Netty channel pool. The channels to an address are split between the traffic classes,
+ * so that every traffic class uses its own dedicated channels. Within a traffic class, the message
+ * types are hashed onto the channels of the class.
+ */
 class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
-  private final Function<Address, CompletableFuture<Channel>> factory;
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory;
   private final int size;
+  private final Map<TrafficClass, Integer> firstChannelOffsets = new EnumMap<>(TrafficClass.class);
+  private final Map<TrafficClass, Integer> channelCounts;
+  private final Map<String, TrafficClass> trafficClasses = Maps.newConcurrentMap();
   private final Map<Tuple<Address, InetAddress>, List<CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
-  ChannelPool(final Function<Address, CompletableFuture<Channel>> factory, final int size) {
+  ChannelPool(
+      final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory,
+      final Map<TrafficClass, Integer> channelsPerTrafficClass) {
     this.factory = factory;
-    this.size = size;
+    channelCounts = new EnumMap<>(channelsPerTrafficClass);
+
+    int offset = 0;
+    for (final TrafficClass trafficClass : TrafficClass.values()) {
+      final int channelCount = channelCounts.getOrDefault(trafficClass, 0);
+      if (channelCount <= 0) {
+        throw new IllegalArgumentException(
+            "Expected at least one channel for traffic class %s, but was %d"
+                .formatted(trafficClass, channelCount));
+      }
+
+      firstChannelOffsets.put(trafficClass, offset);
+      offset += channelCount;
+    }
+    size = offset;
   }
 
   /**
@@ -70,13 +95,30 @@ class ChannelPool {
   }
 
   /**
-   * Returns the channel offset for the given message type.
+   * Returns the traffic class of the given message type.
+   *
+   * @param messageType the message type for which to return the traffic class
+   * @return the traffic class of the given message type
+   */
+  TrafficClass getTrafficClass(final String messageType) {
+    final TrafficClass trafficClass = trafficClasses.get(messageType);
+    if (trafficClass != null) {
+      return trafficClass;
+    }
+    return trafficClasses.computeIfAbsent(messageType, TrafficClass::of);
+  }
+
+  /**
+   * Returns the channel offset for the given message type, which is within the channels of its
+   * traffic class.
    *
    * @param messageType the message type for which to return the channel offset
+   * @param trafficClass the traffic class of the message type
    * @return the channel offset for the given message type
    */
-  private int getChannelOffset(final String messageType) {
-    return Math.abs(messageType.hashCode() % size);
+  private int getChannelOffset(final String messageType, final TrafficClass trafficClass) {
+    return firstChannelOffsets.get(trafficClass)
+        + Math.abs(messageType.hashCode() % channelCounts.get(trafficClass));
   }
 
   /**
@@ -90,15 +132,16 @@ class ChannelPool {
     final InetAddress inetAddress = address.getAddress();
 
     final List<CompletableFuture<Channel>> channelPool = getChannelPool(address, inetAddress);
-    final int offset = getChannelOffset(messageType);
+    final TrafficClass trafficClass = getTrafficClass(messageType);
+    final int offset = getChannelOffset(messageType, trafficClass);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
       synchronized (channelPool) {
         channelFuture = channelPool.get(offset);
         if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
-          LOGGER.debug("Connecting to {}", address);
-          channelFuture = factory.apply(address);
+          LOGGER.debug("Connecting to {} for {} traffic", address, trafficClass);
+          channelFuture = factory.apply(address, trafficClass);
           final var finalFuture = channelFuture;
           channelFuture.whenComplete(
               (channel, error) -> {
@@ -135,7 +178,7 @@ class ChannelPool {
                 if (currentFuture == finalFuture) {
                   channelPool.set(offset, null);
                 } else if (currentFuture == null) {
-                  currentFuture = factory.apply(address);
+                  currentFuture = factory.apply(address, trafficClass);
                   currentFuture.whenComplete(this::logConnection);
                   channelPool.set(offset, currentFuture);
                 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+/**
+ * Coalesces the flushes of a channel, so that all messages which are written within the same event
+ * loop tick are sent with a single flush (and thus usually a single syscall), instead of flushing
+ * after every message.
+ *
+ * <p>A requested flush is postponed until the tasks which are currently queued on the event loop
+ * have been executed, or until the current read completed if the flush was requested while reading
+ * from the channel. The latency this adds is bounded: the channel is flushed at the latest after
+ * {@code maxMessagesPerFlush} written messages, or when it becomes unwritable, is closed or the
+ * handler is removed.
+ *
+ * <p>The handler is not sharable, as it keeps the state of its channel.
+ */
+final class FlushCoalescingHandler extends ChannelDuplexHandler {
+
+  private final int maxMessagesPerFlush;
+  private final MessagingMetrics messagingMetrics;
+  private final Runnable scheduledFlush = this::onScheduledFlush;
+
+  private ChannelHandlerContext context;
+
+  private int pendingMessages;
+  private boolean flushPending;
+  private boolean flushScheduled;
+  private boolean readInProgress;
+
+  FlushCoalescingHandler(final int maxMessagesPerFlush, final MessagingMetrics messagingMetrics) {
+    if (maxMessagesPerFlush <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max messages per flush to be greater than 0, but was "
+              + maxMessagesPerFlush);
+    }
+
+    this.maxMessagesPerFlush = maxMessagesPerFlush;
+    this.messagingMetrics = messagingMetrics;
+  }
+
+  @Override
+  public void handlerAdded(final ChannelHandlerContext ctx) {
+    context = ctx;
+  }
+
+  @Override
+  public void handlerRemoved(final ChannelHandlerContext ctx) {
+    flushIfPending(ctx);
+  }
+
+  @Override
+  public void write(
+      final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+    pendingMessages++;
+    ctx.write(msg, promise);
+  }
+
+  @Override
+  public void flush(final ChannelHandlerContext ctx) {
+    flushPending = true;
+
+    if (pendingMessages >= maxMessagesPerFlush) {
+      flushNow(ctx);
+    } else if (!readInProgress && !flushScheduled) {
+      // flush once all tasks which are already queued (e.g. other writes) have been executed
+      flushScheduled = true;
+      ctx.channel().eventLoop().execute(scheduledFlush);
+    }
+  }
+
+  @Override
+  public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+    // messages written while reading are flushed when the read is complete
+    readInProgress = true;
+    ctx.fireChannelRead(msg);
+  }
+
+  @Override
+  public void channelReadComplete(final ChannelHandlerContext ctx) {
+    readInProgress = false;
+    flushIfPending(ctx);
+    ctx.fireChannelReadComplete();
+  }
+
+  @Override
+  public void channelWritabilityChanged(final ChannelHandlerContext ctx) {
+    if (!ctx.channel().isWritable()) {
+      // give the transport the chance to drain the outbound buffer
+      flushIfPending(ctx);
+    }
+    ctx.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
+    flushIfPending(ctx);
+    ctx.fireExceptionCaught(cause);
+  }
+
+  @Override
+  public void disconnect(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+    flushIfPending(ctx);
+    ctx.disconnect(promise);
+  }
+
+  @Override
+  public void close(final ChannelHandlerContext ctx, final ChannelPromise promise) {
+    flushIfPending(ctx);
+    ctx.close(promise);
+  }
+
+  private void onScheduledFlush() {
+    flushScheduled = false;
+    if (!readInProgress) {
+      flushIfPending(context);
+    }
+  }
+
+  private void flushIfPending(final ChannelHandlerContext ctx) {
+    if (flushPending) {
+      flushNow(ctx);
+    }
+  }
+
+  private void flushNow(final ChannelHandlerContext ctx) {
+    if (pendingMessages > 0) {
+      messagingMetrics.observeMessagesPerFlush(pendingMessages);
+    }
+
+    pendingMessages = 0;
+    flushPending = false;
+    ctx.flush();
+  }
+}
@@ -60,6 +60,14 @@ final class MessagingMetricsImpl implements MessagingMetrics {
           .labelNames(LABEL_ADDRESS, LABEL_TOPIC)
           .register();
 
+  private static final Histogram MESSAGES_PER_FLUSH =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("messaging_messages_per_flush")
+          .help("The number of messages which have been sent with a single flush of a channel")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256)
+          .register();
+
   @Override
   public CloseableSilently startRequestTimer(final String name) {
     final var timer = REQUEST_RESPONSE_LATENCY.labels(name).startTimer();
@@ -100,4 +108,9 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   public void decInFlightRequests(final String address, String topic) {
     IN_FLIGHT_REQUESTS.labels(address, topic).dec();
   }
+
+  @Override
+  public void observeMessagesPerFlush(final int messageCount) {
+    MESSAGES_PER_FLUSH.observe(messageCount);
+  }
 }
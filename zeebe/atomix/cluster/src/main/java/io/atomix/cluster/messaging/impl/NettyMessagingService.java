@@ -26,6 +26,7 @@ import io.atomix.cluster.messaging.ManagedMessagingService;
 import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.concurrent.OrderedFuture;
 import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.StringUtil;
@@ -100,6 +101,8 @@ import org.slf4j.LoggerFactory;
 public final class NettyMessagingService implements ManagedMessagingService {
   private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
   private static final String TLS_PROTOCOL = "TLSv1.3";
+  // bounds the latency which is added by coalescing the flushes of a channel
+  private static final int MAX_MESSAGES_PER_FLUSH = 256;
 
   private final Logger log = LoggerFactory.getLogger(getClass());
   private final Address advertisedAddress;
@@ -144,7 +147,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.advertisedAddress = advertisedAddress;
     this.protocolVersion = protocolVersion;
     this.config = config;
-    channelPool = new ChannelPool(this::openChannel, config.getConnectionPoolSize());
+    channelPool = new ChannelPool(this::openChannel, config.getConnectionsPerTrafficClass());
 
     initAddresses(config);
   }
@@ -156,7 +159,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
       final Address advertisedAddress,
       final MessagingConfig config,
       final ProtocolVersion protocolVersion,
-      final Function<Function<Address, CompletableFuture<Channel>>, ChannelPool>
+      final Function<BiFunction<Address, TrafficClass, CompletableFuture<Channel>>, ChannelPool>
           channelPoolFactor) {
     preamble = cluster.hashCode();
     this.advertisedAddress = advertisedAddress;
@@ -250,7 +253,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
           executeOnPooledConnection(address, type, c -> c.sendAndReceive(message), executor);
     } else {
       responseFuture =
-          executeOnTransientConnection(address, c -> c.sendAndReceive(message), executor);
+          executeOnTransientConnection(address, type, c -> c.sendAndReceive(message), executor);
     }
 
     final var timeoutFuture =
@@ -584,6 +587,18 @@ public final class NettyMessagingService implements ManagedMessagingService {
         .whenComplete(
             (channel, channelError) -> {
               if (channelError == null) {
+                if (!channel.isWritable()) {
+                  // the send queue limit of the channel is exceeded; rejecting the message keeps
+                  // the queue bounded, the sender is expected to retry
+                  executor.execute(
+                      () -> {
+                        responseFuture.completeExceptionally(
+                            new MessagingException.SendQueueFullException(address, type));
+                        openFutures.remove(responseFuture);
+                      });
+                  return;
+                }
+
                 responseFuture.whenComplete(
                     (response, error) -> {
                       if (error instanceof TimeoutException) {
@@ -642,12 +657,14 @@ public final class NettyMessagingService implements ManagedMessagingService {
    * Executes the given callback on a transient connection.
    *
    * @param address the connection address
+   * @param type the message type, which determines the traffic class of the connection
    * @param callback the callback to execute
    * @param executor an executor on which to complete the callback future
    * @param <T> the callback response type
    */
   private <T> CompletableFuture<T> executeOnTransientConnection(
       final Address address,
+      final String type,
       final Function<ClientConnection, CompletableFuture<T>> callback,
       final Executor executor) {
     final CompletableFuture<T> future = new CompletableFuture<>();
@@ -665,7 +682,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
       return future;
     }
 
-    openChannel(address)
+    openChannel(address, TrafficClass.of(type))
         .whenComplete(
             (channel, channelError) -> {
               if (channelError == null) {
@@ -710,27 +727,34 @@ public final class NettyMessagingService implements ManagedMessagingService {
    * Opens a new Netty channel to the given address.
    *
    * @param address the address to which to open the channel
+   * @param trafficClass the traffic class for which the channel is used
    * @return a future to be completed once the channel has been opened and the handshake is complete
    */
-  private CompletableFuture<Channel> openChannel(final Address address) {
-    return bootstrapClient(address);
+  private CompletableFuture<Channel> openChannel(
+      final Address address, final TrafficClass trafficClass) {
+    return bootstrapClient(address, trafficClass);
   }
 
   /**
-   * Bootstraps a new channel to the given address.
+   * Bootstraps a new channel to the given address. The send queue of the channel is limited by the
+   * configured send queue limit of the traffic class; the channel becomes unwritable when the limit
+   * is exceeded, and writable again when the queue is drained to half of it.
    *
    * @param address the address to which to connect
+   * @param trafficClass the traffic class for which the channel is used
    * @return a future to be completed with the connected channel
    */
-  private CompletableFuture<Channel> bootstrapClient(final Address address) {
+  private CompletableFuture<Channel> bootstrapClient(
+      final Address address, final TrafficClass trafficClass) {
     final CompletableFuture<Channel> future = new OrderedFuture<>();
     final InetSocketAddress socketAddress = address.socketAddress();
+    final int sendQueueLimit = config.getSendQueueLimit(trafficClass);
 
     final Bootstrap bootstrap = new Bootstrap();
     bootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
     bootstrap.option(
         ChannelOption.WRITE_BUFFER_WATER_MARK,
-        new WriteBufferWaterMark(10 * 32 * 1024, 10 * 64 * 1024));
+        new WriteBufferWaterMark(sendQueueLimit / 2, sendQueueLimit));
     bootstrap.option(ChannelOption.SO_RCVBUF, 1024 * 1024);
     bootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 1024);
     bootstrap.option(ChannelOption.SO_KEEPALIVE, true);
@@ -970,6 +994,11 @@ public final class NettyMessagingService implements ManagedMessagingService {
         final ProtocolVersion protocolVersion) {
       final MessagingProtocol protocol = protocolVersion.createProtocol(advertisedAddress);
       context.pipeline().remove(this);
+      context
+          .pipeline()
+          .addLast(
+              "flush-coalescing",
+              new FlushCoalescingHandler(MAX_MESSAGES_PER_FLUSH, messagingMetrics));
       context.pipeline().addLast("encoder", protocol.newEncoder());
       context.pipeline().addLast("decoder", protocol.newDecoder());
       context.pipeline().addLast("handler", new MessageDispatcher<>(connection));
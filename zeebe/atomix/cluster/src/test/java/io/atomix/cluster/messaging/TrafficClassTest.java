@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+final class TrafficClassTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "raft-partition-partition-1-append, REPLICATION",
+    "raft-partition-partition-1-append-versioned, REPLICATION",
+    "raft-partition-partition-1-vote, REPLICATION",
+    "raft-partition-partition-1-install, SNAPSHOT",
+    "command-api-1, COMMAND",
+    "inter-partition-1, COMMAND",
+    "jobsAvailable, COMMAND",
+    "atomix-membership-probe, GOSSIP",
+    "atomix-membership-sync, GOSSIP",
+    "cluster-topology-gossip, GOSSIP"
+  })
+  void shouldClassifyMessageType(final String messageType, final TrafficClass expected) {
+    // when
+    final var trafficClass = TrafficClass.of(messageType);
+
+    // then
+    assertThat(trafficClass).isEqualTo(expected);
+  }
+}
@@ -8,26 +8,34 @@
 package io.atomix.cluster.messaging.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import io.atomix.cluster.messaging.MessagingConfig;
+import io.atomix.cluster.messaging.TrafficClass;
 import io.atomix.utils.net.Address;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import org.junit.jupiter.api.Test;
 
 class ChannelPoolTest {
   private static final String MESSAGE_TYPE = "test";
-  private final Function<Address, CompletableFuture<Channel>> factory =
-      a -> {
+  private final Map<Channel, TrafficClass> channelTrafficClasses = new HashMap<>();
+  private final BiFunction<Address, TrafficClass, CompletableFuture<Channel>> factory =
+      (address, trafficClass) -> {
         final var channel = mock(Channel.class);
         when(channel.isActive()).thenReturn(true);
+        channelTrafficClasses.put(channel, trafficClass);
         return CompletableFuture.completedFuture(channel);
       };
-  private final ChannelPool channelPool = new ChannelPool(factory, 8);
+  private final ChannelPool channelPool =
+      new ChannelPool(factory, new MessagingConfig().getConnectionsPerTrafficClass());
 
   @Test
   void shouldNotUseOldChannelWhenIPChanged() throws UnknownHostException {
@@ -59,4 +67,54 @@ class ChannelPoolTest {
     // then
     assertThat(channelForOldNode).isNotEqualTo(channelForNewNode);
   }
+
+  @Test
+  void shouldUseDedicatedChannelPerTrafficClass() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+
+    // when
+    final var appendChannel =
+        channelPool.getChannel(address, "raft-partition-partition-1-append").join();
+    final var installChannel =
+        channelPool.getChannel(address, "raft-partition-partition-1-install").join();
+    final var commandChannel = channelPool.getChannel(address, "command-api-1").join();
+    final var gossipChannel = channelPool.getChannel(address, "atomix-membership-probe").join();
+
+    // then
+    assertThat(channelTrafficClasses)
+        .containsEntry(appendChannel, TrafficClass.REPLICATION)
+        .containsEntry(installChannel, TrafficClass.SNAPSHOT)
+        .containsEntry(commandChannel, TrafficClass.COMMAND)
+        .containsEntry(gossipChannel, TrafficClass.GOSSIP)
+        .hasSize(4);
+  }
+
+  @Test
+  void shouldReuseChannelOfTrafficClass() throws UnknownHostException {
+    // given
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var channel =
+        channelPool.getChannel(address, "raft-partition-partition-1-install").join();
+
+    // when
+    final var otherChannel =
+        channelPool.getChannel(address, "raft-partition-partition-2-install").join();
+
+    // then - there is only a single snapshot channel by default
+    assertThat(otherChannel).isSameAs(channel);
+  }
+
+  @Test
+  void shouldNotCreatePoolWithoutChannelsForTrafficClass() {
+    // given
+    final var channelsPerTrafficClass =
+        new HashMap<>(new MessagingConfig().getConnectionsPerTrafficClass());
+    channelsPerTrafficClass.remove(TrafficClass.GOSSIP);
+
+    // when - then
+    assertThatThrownBy(() -> new ChannelPool(factory, channelsPerTrafficClass))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("GOSSIP");
+  }
 }
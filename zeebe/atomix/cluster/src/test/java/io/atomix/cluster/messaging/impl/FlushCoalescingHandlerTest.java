@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class FlushCoalescingHandlerTest {
+
+  private final MessagingMetrics metrics = mock(MessagingMetrics.class);
+  private EmbeddedChannel channel;
+
+  @AfterEach
+  void tearDown() {
+    if (channel != null) {
+      channel.finishAndReleaseAll();
+    }
+  }
+
+  @Test
+  void shouldFlushMessagesWrittenInSameTickOnce() {
+    // given
+    channel = new EmbeddedChannel(new FlushCoalescingHandler(10, metrics));
+
+    // when
+    channel.writeAndFlush("a");
+    channel.writeAndFlush("b");
+    channel.writeAndFlush("c");
+
+    // then
+    assertThat(channel.outboundMessages()).isEmpty();
+    verifyNoInteractions(metrics);
+
+    channel.runPendingTasks();
+    assertThat(channel.outboundMessages()).containsExactly("a", "b", "c");
+    verify(metrics).observeMessagesPerFlush(3);
+  }
+
+  @Test
+  void shouldFlushWhenMaxMessagesPerFlushIsReached() {
+    // given
+    channel = new EmbeddedChannel(new FlushCoalescingHandler(2, metrics));
+
+    // when
+    channel.writeAndFlush("a");
+    channel.writeAndFlush("b");
+
+    // then
+    assertThat(channel.outboundMessages()).containsExactly("a", "b");
+    verify(metrics).observeMessagesPerFlush(2);
+  }
+
+  @Test
+  void shouldFlushMessagesWrittenWhileReadingOnReadComplete() {
+    // given
+    final var replyingHandler =
+        new ChannelInboundHandlerAdapter() {
+          @Override
+          public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
+            ctx.writeAndFlush(msg + "-1");
+            ctx.writeAndFlush(msg + "-2");
+          }
+        };
+    channel = new EmbeddedChannel(new FlushCoalescingHandler(10, metrics), replyingHandler);
+
+    // when
+    channel.writeInbound("request");
+
+    // then
+    assertThat(channel.outboundMessages()).containsExactly("request-1", "request-2");
+    verify(metrics).observeMessagesPerFlush(2);
+  }
+
+  @Test
+  void shouldFlushPendingMessagesOnClose() {
+    // given
+    channel = new EmbeddedChannel(new FlushCoalescingHandler(10, metrics));
+    channel.writeAndFlush("a");
+
+    // when
+    channel.close();
+
+    // then
+    assertThat(channel.outboundMessages()).containsExactly("a");
+    verify(metrics).observeMessagesPerFlush(1);
+  }
+}
@@ -82,7 +82,7 @@ final class NettyMessagingServiceTest {
         config,
         ProtocolVersion.V2,
         factory -> {
-          final var pool = new ChannelPool(factory, 8);
+          final var pool = new ChannelPool(factory, config.getConnectionsPerTrafficClass());
           poolRef.set(pool);
           return pool;
         });
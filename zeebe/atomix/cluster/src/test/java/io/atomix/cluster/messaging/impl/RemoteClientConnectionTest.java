@@ -186,5 +186,8 @@ public class RemoteClientConnectionTest {
       final Integer integer = inFlightRequestCount.computeIfAbsent(key, k -> 0);
       inFlightRequestCount.put(key, integer - 1);
     }
+
+    @Override
+    public void observeMessagesPerFlush(final int messageCount) {}
   }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.client.api.dto;
+
+import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchResponseDecoder;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Sends multiple commands for the same partition as a single request. The broker appends all
+ * commands with a single write, and responds once every command was processed. The response
+ * contains a {@link BrokerResponse} per command, in the order of the commands, so every command
+ * succeeds or fails on its own.
+ *
+ * @param <T> the response type of the commands
+ */
+public final class BrokerExecuteCommandBatch<T> extends BrokerRequest<List<BrokerResponse<T>>> {
+
+  public static final int MAX_BATCH_SIZE = ExecuteCommandBatchRequest.MAX_BATCH_SIZE;
+
+  private final ExecuteCommandBatchRequest request = new ExecuteCommandBatchRequest();
+  private final ExecuteCommandBatchResponse response = new ExecuteCommandBatchResponse();
+  private final List<BrokerExecuteCommand<T>> commands = new ArrayList<>();
+  private final String type;
+
+  public BrokerExecuteCommandBatch(final int partitionId, final String commandType) {
+    super(
+        ExecuteCommandBatchResponseDecoder.SCHEMA_ID,
+        ExecuteCommandBatchResponseDecoder.TEMPLATE_ID);
+    request.setPartitionId(partitionId);
+    type = commandType + "#BATCH";
+  }
+
+  public List<BrokerExecuteCommand<T>> getCommands() {
+    return commands;
+  }
+
+  public BrokerExecuteCommandBatch<T> addCommand(final BrokerExecuteCommand<T> command) {
+    command.setPartitionId(request.getPartitionId());
+    request.addCommand(command);
+    commands.add(command);
+    return this;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return request.getPartitionId();
+  }
+
+  @Override
+  public void setPartitionId(final int partitionId) {
+    request.setPartitionId(partitionId);
+    commands.forEach(command -> command.setPartitionId(partitionId));
+  }
+
+  @Override
+  public void setAuthorization(final String authorizationToken) {
+    commands.forEach(command -> command.setAuthorization(authorizationToken));
+  }
+
+  @Override
+  public boolean addressesSpecificPartition() {
+    return true;
+  }
+
+  @Override
+  public boolean requiresPartitionId() {
+    return true;
+  }
+
+  @Override
+  public BufferWriter getRequestWriter() {
+    return request;
+  }
+
+  @Override
+  public void serializeValue() {
+    commands.forEach(BrokerRequest::serializeValue);
+  }
+
+  @Override
+  protected void setSerializedValue(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected the commands of a batch to be serialized on their own, but got a batch value");
+  }
+
+  @Override
+  protected void wrapResponse(final DirectBuffer buffer) {
+    response.wrap(buffer, 0, buffer.capacity());
+  }
+
+  @Override
+  protected BrokerResponse<List<BrokerResponse<T>>> readResponse() {
+    final var responses = response.getResponses();
+    if (responses.size() != commands.size()) {
+      throw new IllegalBrokerResponseException(
+          "Expected a response for each of the %d commands of the batch, but got %d"
+              .formatted(commands.size(), responses.size()));
+    }
+
+    final List<BrokerResponse<T>> commandResponses = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      commandResponses.add(commands.get(i).getResponse(responses.get(i)));
+    }
+
+    return new BrokerResponse<>(commandResponses, response.getPartitionId(), -1);
+  }
+
+  @Override
+  protected List<BrokerResponse<T>> toResponseDto(final DirectBuffer buffer) {
+    throw new UnsupportedOperationException(
+        "Expected the responses of a batch to be read per command, but got a batch value");
+  }
+
+  @Override
+  public String getType() {
+    return type;
+  }
+
+  @Override
+  public RequestType getRequestType() {
+    return RequestType.COMMAND;
+  }
+
+  @Override
+  public int getLength() {
+    return request.getLength();
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    request.write(buffer, offset);
+  }
+}
@@ -41,6 +41,7 @@ import io.camunda.zeebe.broker.system.partitions.impl.steps.QueryServicePartitio
 import io.camunda.zeebe.broker.system.partitions.impl.steps.RockDbMetricExporterPartitionStartupStep;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.SnapshotDirectorPartitionTransitionStep;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.StreamProcessorTransitionStep;
+import io.camunda.zeebe.broker.system.partitions.impl.steps.WriteRateMonitorTransitionStep;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.ZeebeDbPartitionTransitionStep;
 import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
 import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
@@ -82,7 +83,8 @@ public final class ZeebePartitionFactory {
           new SnapshotDirectorPartitionTransitionStep(),
           new ExporterDirectorPartitionTransitionStep(),
           new BackupApiRequestHandlerStep(),
-          new AdminApiRequestHandlerStep());
+          new AdminApiRequestHandlerStep(),
+          new WriteRateMonitorTransitionStep());
 
   private final ActorSchedulingService actorSchedulingService;
   private final BrokerCfg brokerCfg;
@@ -151,6 +153,7 @@ public final class ZeebePartitionFactory {
             brokerCfg,
             commandApiService::newCommandResponseWriter,
             () -> commandApiService.getOnProcessedListener(partitionId),
+            factor -> commandApiService.setWriteRateFactor(partitionId, factor),
             snapshotStore,
             stateController,
             typedRecordProcessorsFactory,
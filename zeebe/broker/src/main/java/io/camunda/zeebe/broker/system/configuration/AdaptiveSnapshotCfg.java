@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import static io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector.MINIMUM_SNAPSHOT_PERIOD;
+
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy;
+import java.time.Duration;
+
+/**
+ * Configures when snapshots are taken if the adaptive snapshot policy is enabled. A snapshot is
+ * then taken as soon as the log since the last snapshot exceeds one of the thresholds, but not
+ * before the {@link #minPeriod} has passed, and at the latest after the {@link
+ * DataCfg#getSnapshotPeriod() snapshot period}. No snapshot is taken if nothing was processed
+ * since the last one.
+ */
+public final class AdaptiveSnapshotCfg implements ConfigurationEntry {
+
+  private static final Duration DEFAULT_MIN_PERIOD = Duration.ofMinutes(1);
+  private static final long DEFAULT_MAX_RECORDS = 1_000_000;
+  private static final Duration DEFAULT_MAX_REPLAY_DURATION = Duration.ofMinutes(1);
+  private static final long DEFAULT_REPLAY_RATE = 10_000;
+
+  private boolean enabled = false;
+  private Duration minPeriod = DEFAULT_MIN_PERIOD;
+  private long maxRecords = DEFAULT_MAX_RECORDS;
+  private Duration maxReplayDuration = DEFAULT_MAX_REPLAY_DURATION;
+  private long replayRate = DEFAULT_REPLAY_RATE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (!enabled) {
+      return;
+    }
+
+    final var snapshotPeriod = globalConfig.getData().getSnapshotPeriod();
+    if (minPeriod.compareTo(MINIMUM_SNAPSHOT_PERIOD) < 0
+        || minPeriod.compareTo(snapshotPeriod) > 0) {
+      throw new IllegalArgumentException(
+          "minPeriod must be >= %s and <= the snapshot period %s, but was %s"
+              .formatted(MINIMUM_SNAPSHOT_PERIOD, snapshotPeriod, minPeriod));
+    }
+    if (maxRecords < 1) {
+      throw new IllegalArgumentException(
+          "maxRecords must be >= 1 but was %s".formatted(maxRecords));
+    }
+    if (maxReplayDuration.isNegative() || maxReplayDuration.isZero()) {
+      throw new IllegalArgumentException(
+          "maxReplayDuration must be positive but was %s".formatted(maxReplayDuration));
+    }
+    if (replayRate < 1) {
+      throw new IllegalArgumentException(
+          "replayRate must be >= 1 but was %s".formatted(replayRate));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getMinPeriod() {
+    return minPeriod;
+  }
+
+  public void setMinPeriod(final Duration minPeriod) {
+    this.minPeriod = minPeriod;
+  }
+
+  public long getMaxRecords() {
+    return maxRecords;
+  }
+
+  public void setMaxRecords(final long maxRecords) {
+    this.maxRecords = maxRecords;
+  }
+
+  public Duration getMaxReplayDuration() {
+    return maxReplayDuration;
+  }
+
+  public void setMaxReplayDuration(final Duration maxReplayDuration) {
+    this.maxReplayDuration = maxReplayDuration;
+  }
+
+  public long getReplayRate() {
+    return replayRate;
+  }
+
+  public void setReplayRate(final long replayRate) {
+    this.replayRate = replayRate;
+  }
+
+  /**
+   * @param snapshotPeriod the configured snapshot period, which is the maximum period between two
+   *     snapshots
+   * @return the adaptive snapshot policy
+   */
+  public AdaptiveSnapshotPolicy createPolicy(final Duration snapshotPeriod) {
+    return new AdaptiveSnapshotPolicy(
+        minPeriod, snapshotPeriod, maxRecords, maxReplayDuration, replayRate);
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveSnapshotCfg{"
+        + "enabled="
+        + enabled
+        + ", minPeriod="
+        + minPeriod
+        + ", maxRecords="
+        + maxRecords
+        + ", maxReplayDuration="
+        + maxReplayDuration
+        + ", replayRate="
+        + replayRate
+        + '}';
+  }
+}
@@ -29,6 +29,8 @@ public final class DataCfg implements ConfigurationEntry {
 
   private Duration snapshotPeriod = Duration.ofMinutes(5);
 
+  private AdaptiveSnapshotCfg adaptiveSnapshot = new AdaptiveSnapshotCfg();
+
   private int logIndexDensity = 100;
 
   // diskUsageMonitoring and watermark configs are deprecated and replaced by DiskCfg
@@ -47,6 +49,7 @@ public final class DataCfg implements ConfigurationEntry {
     }
 
     backup.init(globalConfig, brokerBase);
+    adaptiveSnapshot.init(globalConfig, brokerBase);
 
     overrideDiskConfig();
     disk.init(globalConfig, brokerBase);
@@ -124,6 +127,14 @@ public final class DataCfg implements ConfigurationEntry {
     this.snapshotPeriod = snapshotPeriod;
   }
 
+  public AdaptiveSnapshotCfg getAdaptiveSnapshot() {
+    return adaptiveSnapshot;
+  }
+
+  public void setAdaptiveSnapshot(final AdaptiveSnapshotCfg adaptiveSnapshot) {
+    this.adaptiveSnapshot = adaptiveSnapshot;
+  }
+
   public int getLogIndexDensity() {
     return logIndexDensity;
   }
@@ -177,6 +188,8 @@ public final class DataCfg implements ConfigurationEntry {
         + logSegmentSize
         + ", snapshotPeriod="
         + snapshotPeriod
+        + ", adaptiveSnapshot="
+        + adaptiveSnapshot
         + ", logIndexDensity="
         + logIndexDensity
         + ", diskUsageMonitoringEnabled="
@@ -32,6 +32,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private QueryApiCfg queryApi = new QueryApiCfg();
   private ConsistencyCheckCfg consistencyChecks = new ConsistencyCheckCfg();
   private EngineCfg engine = new EngineCfg();
+  private InterPartitionBatchingCfg interPartitionBatching = new InterPartitionBatchingCfg();
 
   private FeatureFlagsCfg features = new FeatureFlagsCfg();
 
@@ -40,6 +41,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
     rocksdb.init(globalConfig, brokerBase);
     raft.init(globalConfig, brokerBase);
     engine.init(globalConfig, brokerBase);
+    interPartitionBatching.init(globalConfig, brokerBase);
   }
 
   public int getMaxAppendsPerFollower() {
@@ -129,6 +131,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.engine = engine;
   }
 
+  public InterPartitionBatchingCfg getInterPartitionBatching() {
+    return interPartitionBatching;
+  }
+
+  public void setInterPartitionBatching(final InterPartitionBatchingCfg interPartitionBatching) {
+    this.interPartitionBatching = interPartitionBatching;
+  }
+
   public FeatureFlagsCfg getFeatures() {
     return features;
   }
@@ -156,6 +166,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + consistencyChecks
         + ", engineCfg="
         + engine
+        + ", interPartitionBatching="
+        + interPartitionBatching
         + ", features="
         + features
         + '}';
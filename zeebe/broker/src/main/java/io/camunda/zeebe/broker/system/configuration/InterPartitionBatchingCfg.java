@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration;
+
+import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandBatching;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configures whether commands which are sent to the same partition, e.g. message subscription or
+ * deployment distribution commands, are batched and appended to the receiving partition's log
+ * together. Brokers which don't support batching ignore batches, so it must only be enabled once
+ * all brokers in the cluster are updated.
+ */
+public final class InterPartitionBatchingCfg implements ConfigurationEntry {
+
+  private static final boolean DEFAULT_ENABLED = false;
+  private static final Duration DEFAULT_LINGER = Duration.ofMillis(5);
+  private static final int DEFAULT_MAX_COMMANDS = 100;
+  private static final DataSize DEFAULT_MAX_SIZE = DataSize.ofKilobytes(64);
+
+  private boolean enabled = DEFAULT_ENABLED;
+  private Duration linger = DEFAULT_LINGER;
+  private int maxCommands = DEFAULT_MAX_COMMANDS;
+  private DataSize maxSize = DEFAULT_MAX_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (linger.isNegative() || linger.isZero()) {
+      throw new IllegalArgumentException("linger must be positive but was %s".formatted(linger));
+    }
+    if (maxCommands < 1) {
+      throw new IllegalArgumentException(
+          "maxCommands must be >= 1 but was %s".formatted(maxCommands));
+    }
+    if (maxSize.toBytes() < 1 || maxSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "maxSize must be >= 1B and <= %sB but was %s"
+              .formatted(Integer.MAX_VALUE, maxSize));
+    }
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getLinger() {
+    return linger;
+  }
+
+  public void setLinger(final Duration linger) {
+    this.linger = linger;
+  }
+
+  public int getMaxCommands() {
+    return maxCommands;
+  }
+
+  public void setMaxCommands(final int maxCommands) {
+    this.maxCommands = maxCommands;
+  }
+
+  public DataSize getMaxSize() {
+    return maxSize;
+  }
+
+  public void setMaxSize(final DataSize maxSize) {
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * @return the batching settings, or an empty optional if batching is disabled
+   */
+  public Optional<InterPartitionCommandBatching> getBatching() {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    return Optional.of(
+        new InterPartitionCommandBatching(linger, maxCommands, (int) maxSize.toBytes()));
+  }
+
+  @Override
+  public String toString() {
+    return "InterPartitionBatchingCfg{"
+        + "enabled="
+        + enabled
+        + ", linger="
+        + linger
+        + ", maxCommands="
+        + maxCommands
+        + ", maxSize="
+        + maxSize
+        + '}';
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.broker.system.configuration.backpressure;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 
 public final class BackpressureCfg implements ConfigurationEntry {
@@ -14,11 +17,18 @@ public final class BackpressureCfg implements ConfigurationEntry {
   private boolean enabled = true;
   private boolean useWindowed = true;
   private LimitAlgorithm algorithm = LimitAlgorithm.AIMD;
+  private double lowPriorityLimitRatio = 0.8;
   private final AIMDCfg aimd = new AIMDCfg();
   private final FixedCfg fixed = new FixedCfg();
   private final VegasCfg vegas = new VegasCfg();
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
+  private final WriteRateCfg writeRate = new WriteRateCfg();
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    writeRate.init(globalConfig, brokerBase);
+  }
 
   public boolean isEnabled() {
     return enabled;
@@ -45,6 +55,18 @@ public final class BackpressureCfg implements ConfigurationEntry {
     this.algorithm = LimitAlgorithm.valueOf(algorithm.toUpperCase());
   }
 
+  public double getLowPriorityLimitRatio() {
+    return lowPriorityLimitRatio;
+  }
+
+  public void setLowPriorityLimitRatio(final double lowPriorityLimitRatio) {
+    checkArgument(
+        lowPriorityLimitRatio > 0 && lowPriorityLimitRatio <= 1,
+        "Expected lowPriorityLimitRatio to be in (0, 1], but found %s",
+        lowPriorityLimitRatio);
+    this.lowPriorityLimitRatio = lowPriorityLimitRatio;
+  }
+
   public AIMDCfg getAimd() {
     return aimd;
   }
@@ -65,6 +87,10 @@ public final class BackpressureCfg implements ConfigurationEntry {
     return gradient2;
   }
 
+  public WriteRateCfg getWriteRate() {
+    return writeRate;
+  }
+
   @Override
   public String toString() {
     return "BackpressureCfg{"
@@ -75,6 +101,8 @@ public final class BackpressureCfg implements ConfigurationEntry {
         + ", algorithm='"
         + algorithm
         + '\''
+        + ", lowPriorityLimitRatio="
+        + lowPriorityLimitRatio
         + ", aimd="
         + aimd
         + ", fixed="
@@ -85,6 +113,8 @@ public final class BackpressureCfg implements ConfigurationEntry {
         + gradient
         + ", gradient2="
         + gradient2
+        + ", writeRate="
+        + writeRate
         + '}';
   }
 
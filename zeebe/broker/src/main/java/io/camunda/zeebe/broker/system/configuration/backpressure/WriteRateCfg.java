@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.backpressure;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRatePolicy;
+import java.time.Duration;
+
+/**
+ * Configures the write rate, which reduces the limit of user commands while the log is written
+ * faster than it can be exported or compacted. The lag is measured in positions: the exporter lag
+ * is the distance between the last written and the lowest exported position, the compaction lag is
+ * the distance between the last written position and the position up to which the latest snapshot
+ * allows the log to be compacted.
+ */
+public final class WriteRateCfg implements ConfigurationEntry {
+
+  private boolean enabled = false;
+  private Duration checkInterval = Duration.ofSeconds(1);
+  private long exporterLagThreshold = 100_000;
+  private long maxExporterLag = 1_000_000;
+  private long compactionLagThreshold = 1_000_000;
+  private long maxCompactionLag = 10_000_000;
+  private double minFactor = 0.1;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    // the thresholds and the maximum lags are set independently, so they are validated together
+    checkArgument(
+        maxExporterLag >= exporterLagThreshold,
+        "Expected maxExporterLag to be >= exporterLagThreshold (%s), but found %s",
+        exporterLagThreshold,
+        maxExporterLag);
+    checkArgument(
+        maxCompactionLag >= compactionLagThreshold,
+        "Expected maxCompactionLag to be >= compactionLagThreshold (%s), but found %s",
+        compactionLagThreshold,
+        maxCompactionLag);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public Duration getCheckInterval() {
+    return checkInterval;
+  }
+
+  public void setCheckInterval(final Duration checkInterval) {
+    checkArgument(
+        !checkInterval.isNegative() && !checkInterval.isZero(),
+        "Expected checkInterval to be > 0, but found %s",
+        checkInterval);
+    this.checkInterval = checkInterval;
+  }
+
+  public long getExporterLagThreshold() {
+    return exporterLagThreshold;
+  }
+
+  public void setExporterLagThreshold(final long exporterLagThreshold) {
+    checkArgument(
+        exporterLagThreshold > 0,
+        "Expected exporterLagThreshold to be > 0, but found %s",
+        exporterLagThreshold);
+    this.exporterLagThreshold = exporterLagThreshold;
+  }
+
+  public long getMaxExporterLag() {
+    return maxExporterLag;
+  }
+
+  public void setMaxExporterLag(final long maxExporterLag) {
+    checkArgument(
+        maxExporterLag > 0, "Expected maxExporterLag to be > 0, but found %s", maxExporterLag);
+    this.maxExporterLag = maxExporterLag;
+  }
+
+  public long getCompactionLagThreshold() {
+    return compactionLagThreshold;
+  }
+
+  public void setCompactionLagThreshold(final long compactionLagThreshold) {
+    checkArgument(
+        compactionLagThreshold > 0,
+        "Expected compactionLagThreshold to be > 0, but found %s",
+        compactionLagThreshold);
+    this.compactionLagThreshold = compactionLagThreshold;
+  }
+
+  public long getMaxCompactionLag() {
+    return maxCompactionLag;
+  }
+
+  public void setMaxCompactionLag(final long maxCompactionLag) {
+    checkArgument(
+        maxCompactionLag > 0,
+        "Expected maxCompactionLag to be > 0, but found %s",
+        maxCompactionLag);
+    this.maxCompactionLag = maxCompactionLag;
+  }
+
+  public double getMinFactor() {
+    return minFactor;
+  }
+
+  public void setMinFactor(final double minFactor) {
+    checkArgument(
+        minFactor > 0 && minFactor <= 1,
+        "Expected minFactor to be in the range (0, 1], but found %s",
+        minFactor);
+    this.minFactor = minFactor;
+  }
+
+  /**
+   * @return the policy which decides how much the limit is reduced
+   */
+  public WriteRatePolicy createPolicy() {
+    return new WriteRatePolicy(
+        exporterLagThreshold, maxExporterLag, compactionLagThreshold, maxCompactionLag, minFactor);
+  }
+
+  @Override
+  public String toString() {
+    return "WriteRateCfg{"
+        + "enabled="
+        + enabled
+        + ", checkInterval="
+        + checkInterval
+        + ", exporterLagThreshold="
+        + exporterLagThreshold
+        + ", maxExporterLag="
+        + maxExporterLag
+        + ", compactionLagThreshold="
+        + compactionLagThreshold
+        + ", maxCompactionLag="
+        + maxCompactionLag
+        + ", minFactor="
+        + minFactor
+        + '}';
+  }
+}
@@ -12,6 +12,10 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 
 public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
+  private int decisionEvaluationCacheCapacity =
+      EngineConfiguration.DEFAULT_DECISION_EVALUATION_CACHE_CAPACITY;
+  private int warmUpLimit = EngineConfiguration.DEFAULT_CACHE_WARM_UP_LIMIT;
+  private int warmUpThreads = EngineConfiguration.DEFAULT_CACHE_WARM_UP_THREADS;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -21,8 +25,41 @@ public final class CachesCfg implements ConfigurationEntry {
     this.drgCacheCapacity = drgCacheCapacity;
   }
 
+  public int getDecisionEvaluationCacheCapacity() {
+    return decisionEvaluationCacheCapacity;
+  }
+
+  public void setDecisionEvaluationCacheCapacity(final int decisionEvaluationCacheCapacity) {
+    this.decisionEvaluationCacheCapacity = decisionEvaluationCacheCapacity;
+  }
+
+  public int getWarmUpLimit() {
+    return warmUpLimit;
+  }
+
+  public void setWarmUpLimit(final int warmUpLimit) {
+    this.warmUpLimit = warmUpLimit;
+  }
+
+  public int getWarmUpThreads() {
+    return warmUpThreads;
+  }
+
+  public void setWarmUpThreads(final int warmUpThreads) {
+    this.warmUpThreads = warmUpThreads;
+  }
+
   @Override
   public String toString() {
-    return "CachesCfg{" + "drgCacheCapacity=" + drgCacheCapacity + '}';
+    return "CachesCfg{"
+        + "drgCacheCapacity="
+        + drgCacheCapacity
+        + ", decisionEvaluationCacheCapacity="
+        + decisionEvaluationCacheCapacity
+        + ", warmUpLimit="
+        + warmUpLimit
+        + ", warmUpThreads="
+        + warmUpThreads
+        + '}';
   }
 }
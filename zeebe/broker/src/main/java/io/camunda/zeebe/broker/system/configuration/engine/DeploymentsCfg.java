@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.configuration.engine;
+
+import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
+import io.camunda.zeebe.engine.EngineConfiguration;
+
+public final class DeploymentsCfg implements ConfigurationEntry {
+  private int transformationThreads = EngineConfiguration.DEFAULT_DEPLOYMENT_TRANSFORMATION_THREADS;
+
+  public int getTransformationThreads() {
+    return transformationThreads;
+  }
+
+  public void setTransformationThreads(final int transformationThreads) {
+    this.transformationThreads = transformationThreads;
+  }
+
+  @Override
+  public String toString() {
+    return "DeploymentsCfg{" + "transformationThreads=" + transformationThreads + '}';
+  }
+}
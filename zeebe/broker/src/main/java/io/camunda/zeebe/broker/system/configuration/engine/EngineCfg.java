@@ -15,11 +15,13 @@ public final class EngineCfg implements ConfigurationEntry {
 
   private MessagesCfg messages = new MessagesCfg();
   private CachesCfg caches = new CachesCfg();
+  private DeploymentsCfg deployments = new DeploymentsCfg();
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     messages.init(globalConfig, brokerBase);
     caches.init(globalConfig, brokerBase);
+    deployments.init(globalConfig, brokerBase);
   }
 
   public MessagesCfg getMessages() {
@@ -38,15 +40,36 @@ public final class EngineCfg implements ConfigurationEntry {
     this.caches = caches;
   }
 
+  public DeploymentsCfg getDeployments() {
+    return deployments;
+  }
+
+  public void setDeployments(final DeploymentsCfg deployments) {
+    this.deployments = deployments;
+  }
+
   @Override
   public String toString() {
-    return "EngineCfg{" + "messages=" + messages + ", caches=" + caches + '}';
+    return "EngineCfg{"
+        + "messages="
+        + messages
+        + ", caches="
+        + caches
+        + ", deployments="
+        + deployments
+        + '}';
   }
 
   public EngineConfiguration createEngineConfiguration() {
     return new EngineConfiguration()
         .setMessagesTtlCheckerBatchLimit(messages.getTtlCheckerBatchLimit())
         .setMessagesTtlCheckerInterval(messages.getTtlCheckerInterval())
-        .setDrgCacheCapacity(caches.getDrgCacheCapacity());
+        .setMessagesTtlCheckerTimeBudget(messages.getTtlCheckerTimeBudget())
+        .setMessagesTtlCheckerBatchExpiry(messages.isTtlCheckerBatchExpiry())
+        .setDrgCacheCapacity(caches.getDrgCacheCapacity())
+        .setDecisionEvaluationCacheCapacity(caches.getDecisionEvaluationCacheCapacity())
+        .setCacheWarmUpLimit(caches.getWarmUpLimit())
+        .setCacheWarmUpThreads(caches.getWarmUpThreads())
+        .setDeploymentTransformationThreads(deployments.getTransformationThreads());
   }
 }
@@ -15,6 +15,10 @@ public final class MessagesCfg implements ConfigurationEntry {
 
   private int ttlCheckerBatchLimit = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration ttlCheckerInterval = EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private Duration ttlCheckerTimeBudget =
+      EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_TIME_BUDGET;
+  private boolean ttlCheckerBatchExpiry =
+      EngineConfiguration.DEFAULT_MESSAGES_TTL_CHECKER_BATCH_EXPIRY;
 
   public int getTtlCheckerBatchLimit() {
     return ttlCheckerBatchLimit;
@@ -32,6 +36,22 @@ public final class MessagesCfg implements ConfigurationEntry {
     this.ttlCheckerInterval = ttlCheckerInterval;
   }
 
+  public Duration getTtlCheckerTimeBudget() {
+    return ttlCheckerTimeBudget;
+  }
+
+  public void setTtlCheckerTimeBudget(final Duration ttlCheckerTimeBudget) {
+    this.ttlCheckerTimeBudget = ttlCheckerTimeBudget;
+  }
+
+  public boolean isTtlCheckerBatchExpiry() {
+    return ttlCheckerBatchExpiry;
+  }
+
+  public void setTtlCheckerBatchExpiry(final boolean ttlCheckerBatchExpiry) {
+    this.ttlCheckerBatchExpiry = ttlCheckerBatchExpiry;
+  }
+
   @Override
   public String toString() {
     return "MessagesCfg{"
@@ -39,6 +59,10 @@ public final class MessagesCfg implements ConfigurationEntry {
         + ttlCheckerBatchLimit
         + ", ttlCheckerInterval="
         + ttlCheckerInterval
+        + ", ttlCheckerTimeBudget="
+        + ttlCheckerTimeBudget
+        + ", ttlCheckerBatchExpiry="
+        + ttlCheckerBatchExpiry
         + '}';
   }
 }
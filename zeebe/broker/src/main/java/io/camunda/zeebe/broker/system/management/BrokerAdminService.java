@@ -7,7 +7,9 @@
  */
 package io.camunda.zeebe.broker.system.management;
 
+import io.camunda.zeebe.engine.state.query.StateQueries;
 import java.util.Map;
+import java.util.Optional;
 
 public interface BrokerAdminService {
 
@@ -42,4 +44,13 @@ public interface BrokerAdminService {
    * @return a map of partition id and partition status
    */
   Map<Integer, PartitionStatus> getPartitionStatus();
+
+  /**
+   * Returns the queries of the state of a partition which is running on this broker, regardless of
+   * whether the broker is the leader or a follower of the partition.
+   *
+   * @param partitionId the id of the partition
+   * @return the queries, or an empty optional if the partition's state can't be queried here
+   */
+  Optional<StateQueries> getStateQueries(int partitionId);
 }
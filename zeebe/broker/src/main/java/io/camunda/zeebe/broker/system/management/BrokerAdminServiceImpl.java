@@ -13,6 +13,7 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
 import io.camunda.zeebe.broker.partitioning.PartitionAdminAccess;
 import io.camunda.zeebe.broker.partitioning.PartitionManagerImpl;
 import io.camunda.zeebe.broker.system.partitions.ZeebePartition;
+import io.camunda.zeebe.engine.state.query.StateQueries;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.ActorFutureCollector;
@@ -110,6 +111,24 @@ public final class BrokerAdminServiceImpl extends Actor implements BrokerAdminSe
     }
   }
 
+  @Override
+  public Optional<StateQueries> getStateQueries(final int partitionId) {
+    final var partition =
+        partitionManager.getZeebePartitions().stream()
+            .filter(p -> p.getPartitionId() == partitionId)
+            .findFirst();
+    if (partition.isEmpty()) {
+      return Optional.empty();
+    }
+
+    try {
+      return partition.get().getStateQueries().get(5, TimeUnit.SECONDS);
+    } catch (final Exception e) {
+      LOG.warn("Error when looking up the state queries of partition {}", partitionId, e);
+      return Optional.empty();
+    }
+  }
+
   private CompletableFuture<PartitionStatus> getPartitionStatus(final ZeebePartition partition) {
     final CompletableFuture<PartitionStatus> partitionStatus = new CompletableFuture<>();
     final var currentRoleFuture = partition.getCurrentRole();
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.management;
+
+import io.camunda.zeebe.broker.SpringBrokerBridge;
+import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import io.camunda.zeebe.engine.state.query.StateQueries;
+import io.camunda.zeebe.engine.state.query.StateQueries.QueriedValue;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * Answers point lookups in the state of the partitions which run on this broker, e.g. {@code GET
+ * /actuator/state/1/jobs/2251799813685249}. The state is read from the broker's own database, so
+ * the lookups can be sent to a follower instead of the leader, and are never written to the log.
+ * On a follower, the state may lag behind the leader's. Like the other management endpoints, it
+ * must be enabled via {@code management.endpoint.state.enabled}.
+ */
+@Component
+@WebEndpoint(id = "state")
+public final class StateQueryEndpoint {
+
+  static final String ELEMENT_INSTANCES = "element-instances";
+  static final String VARIABLES = "variables";
+  static final String INCIDENTS = "incidents";
+  static final String JOBS = "jobs";
+
+  private final SpringBrokerBridge springBrokerBridge;
+
+  @Autowired
+  public StateQueryEndpoint(final SpringBrokerBridge springBrokerBridge) {
+    this.springBrokerBridge = springBrokerBridge;
+  }
+
+  @ReadOperation
+  public WebEndpointResponse<?> query(
+      @Selector final int partitionId, @Selector final String type, @Selector final long key) {
+    final var stateQueries =
+        springBrokerBridge.getAdminService().flatMap(admin -> admin.getStateQueries(partitionId));
+    if (stateQueries.isEmpty()) {
+      return new WebEndpointResponse<>(
+          new ErrorResponse(
+              "Expected to query the state of partition %d, but it is not running on this broker"
+                  .formatted(partitionId)),
+          WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+
+    try {
+      return query(stateQueries.get(), type, key);
+    } catch (final ClosedServiceException e) {
+      // the partition is transitioning, e.g. a follower which receives a new snapshot
+      return new WebEndpointResponse<>(
+          new ErrorResponse(
+              "Expected to query the state of partition %d, but it is currently being replaced"
+                  .formatted(partitionId)),
+          WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+    }
+  }
+
+  private WebEndpointResponse<?> query(
+      final StateQueries stateQueries, final String type, final long key) {
+    return switch (type) {
+      case ELEMENT_INSTANCES -> toResponse(type, key, stateQueries.getElementInstance(key));
+      case VARIABLES -> new WebEndpointResponse<>(stateQueries.getVariables(key));
+      case INCIDENTS -> toResponse(type, key, stateQueries.getIncident(key));
+      case JOBS -> toResponse(type, key, stateQueries.getJob(key));
+      default ->
+          new WebEndpointResponse<>(
+              new ErrorResponse(
+                  "Expected to query one of %s, but got '%s'"
+                      .formatted(
+                          List.of(ELEMENT_INSTANCES, VARIABLES, INCIDENTS, JOBS), type)),
+              WebEndpointResponse.STATUS_BAD_REQUEST);
+    };
+  }
+
+  private static WebEndpointResponse<?> toResponse(
+      final String type, final long key, final Optional<QueriedValue> value) {
+    return value
+        .<WebEndpointResponse<?>>map(found -> new WebEndpointResponse<>(found))
+        .orElseGet(
+            () ->
+                new WebEndpointResponse<>(
+                    new ErrorResponse(
+                        "Expected to find a value of type '%s' with key %d, but none was found"
+                            .formatted(type, key)),
+                    WebEndpointResponse.STATUS_NOT_FOUND));
+  }
+
+  record ErrorResponse(String message) {}
+}
@@ -25,6 +25,7 @@ import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.broker.system.partitions.impl.PartitionProcessingState;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRateMonitor;
 import io.camunda.zeebe.broker.transport.adminapi.AdminApiRequestHandler;
 import io.camunda.zeebe.broker.transport.backupapi.BackupApiRequestHandler;
 import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandReceiverActor;
@@ -48,6 +49,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -70,6 +72,7 @@ public class PartitionStartupAndTransitionContextImpl
   private final TypedRecordProcessorsFactory typedRecordProcessorsFactory;
   private final Supplier<CommandResponseWriter> commandResponseWriterSupplier;
   private final Supplier<Consumer<TypedRecord<?>>> onProcessedListenerSupplier;
+  private final DoubleConsumer writeRateFactorListener;
   private final PersistedSnapshotStore persistedSnapshotStore;
   private final Integer partitionId;
   private final int maxFragmentSize;
@@ -100,6 +103,7 @@ public class PartitionStartupAndTransitionContextImpl
   private BackupStore backupStore;
   private AdminApiRequestHandler adminApiService;
   private PartitionAdminAccess adminAccess;
+  private WriteRateMonitor writeRateMonitor;
 
   public PartitionStartupAndTransitionContextImpl(
       final int nodeId,
@@ -112,6 +116,7 @@ public class PartitionStartupAndTransitionContextImpl
       final BrokerCfg brokerCfg,
       final Supplier<CommandResponseWriter> commandResponseWriterSupplier,
       final Supplier<Consumer<TypedRecord<?>>> onProcessedListenerSupplier,
+      final DoubleConsumer writeRateFactorListener,
       final PersistedSnapshotStore persistedSnapshotStore,
       final StateController stateController,
       final TypedRecordProcessorsFactory typedRecordProcessorsFactory,
@@ -129,6 +134,7 @@ public class PartitionStartupAndTransitionContextImpl
     this.typedRecordProcessorsFactory = typedRecordProcessorsFactory;
     this.onProcessedListenerSupplier = onProcessedListenerSupplier;
     this.commandResponseWriterSupplier = commandResponseWriterSupplier;
+    this.writeRateFactorListener = writeRateFactorListener;
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.partitionListeners = Collections.unmodifiableList(partitionListeners);
     this.partitionRaftListeners = Collections.unmodifiableList(partitionRaftListeners);
@@ -350,6 +356,21 @@ public class PartitionStartupAndTransitionContextImpl
     this.backupStore = backupStore;
   }
 
+  @Override
+  public DoubleConsumer getWriteRateFactorListener() {
+    return writeRateFactorListener;
+  }
+
+  @Override
+  public WriteRateMonitor getWriteRateMonitor() {
+    return writeRateMonitor;
+  }
+
+  @Override
+  public void setWriteRateMonitor(final WriteRateMonitor writeRateMonitor) {
+    this.writeRateMonitor = writeRateMonitor;
+  }
+
   @Override
   public boolean shouldProcess() {
     return partitionProcessingState.shouldProcess();
@@ -19,6 +19,7 @@ import io.camunda.zeebe.broker.logstreams.AtomixLogStorage;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRateMonitor;
 import io.camunda.zeebe.broker.transport.backupapi.BackupApiRequestHandler;
 import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandReceiverActor;
 import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderService;
@@ -36,6 +37,7 @@ import io.camunda.zeebe.transport.impl.AtomixServerTransport;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 public interface PartitionTransitionContext extends PartitionContext {
 
@@ -128,4 +130,10 @@ public interface PartitionTransitionContext extends PartitionContext {
   BackupStore getBackupStore();
 
   void setBackupStore(BackupStore backupStore);
+
+  DoubleConsumer getWriteRateFactorListener();
+
+  WriteRateMonitor getWriteRateMonitor();
+
+  void setWriteRateMonitor(WriteRateMonitor writeRateMonitor);
 }
@@ -22,6 +22,15 @@ public interface StateController extends AutoCloseable {
    */
   ActorFuture<TransientSnapshot> takeTransientSnapshot(long lowerBoundSnapshotPosition);
 
+  /**
+   * Reads the lowest position which was exported by all exporters from the state, which is the
+   * exported position a snapshot taken now would have.
+   *
+   * @return a future with the exported position, which is {@link Long#MAX_VALUE} if there are no
+   *     exporters
+   */
+  ActorFuture<Long> getExportedPosition();
+
   /**
    * Recovers the state from the snapshot and opens the database
    *
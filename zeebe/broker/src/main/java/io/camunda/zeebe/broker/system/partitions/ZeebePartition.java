@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.partitioning.PartitionAdminAccess;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.system.monitoring.HealthMetrics;
 import io.camunda.zeebe.broker.system.partitions.impl.RecoverablePartitionTransitionException;
+import io.camunda.zeebe.engine.state.query.StateQueries;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
@@ -470,6 +471,18 @@ public final class ZeebePartition extends Actor
     return actor.call(() -> Optional.ofNullable(context.getExporterDirector()));
   }
 
+  /**
+   * Returns the queries of the partition's state, which are installed on the leader and on the
+   * followers. The queries are answered by the caller's thread.
+   */
+  public ActorFuture<Optional<StateQueries>> getStateQueries() {
+    return actor.call(
+        () ->
+            context.getQueryService() instanceof final StateQueries stateQueries
+                ? Optional.of(stateQueries)
+                : Optional.empty());
+  }
+
   @Override
   public void onSnapshotReplicationStarted() {
     // When a snapshot is received, the follower stream processor and exporter should
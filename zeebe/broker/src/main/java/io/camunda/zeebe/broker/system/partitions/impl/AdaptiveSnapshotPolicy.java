@@ -0,0 +1,145 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import io.camunda.zeebe.snapshots.SnapshotMetadata;
+import java.time.Duration;
+
+/**
+ * Decides whether to take a snapshot based on the log which was processed since the last snapshot,
+ * instead of taking one at a fixed rate. The more records are processed since the last snapshot,
+ * the more log is kept and the longer it takes to recover the state by replaying them. A snapshot
+ * is therefore taken as soon as there are too many records since the last one, or replaying them
+ * would take too long. If the disk space is running out, a snapshot is taken to compact the log.
+ *
+ * <p>Snapshots are taken at most once per {@code minPeriod} and at least once per {@code
+ * maxPeriod}, unless a new snapshot would neither shorten the replay nor allow compacting more of
+ * the log than the last one.
+ */
+public final class AdaptiveSnapshotPolicy {
+
+  private final Duration minPeriod;
+  private final Duration maxPeriod;
+  private final long maxRecords;
+  private final Duration maxReplayDuration;
+  private final long replayRate;
+
+  /**
+   * @param minPeriod the minimum period between two snapshots
+   * @param maxPeriod the maximum period between two snapshots
+   * @param maxRecords the number of records after which a snapshot is taken
+   * @param maxReplayDuration the estimated replay duration after which a snapshot is taken
+   * @param replayRate the estimated number of records which are replayed per second
+   */
+  public AdaptiveSnapshotPolicy(
+      final Duration minPeriod,
+      final Duration maxPeriod,
+      final long maxRecords,
+      final Duration maxReplayDuration,
+      final long replayRate) {
+    if (replayRate <= 0) {
+      throw new IllegalArgumentException(
+          "Expected the replay rate to be positive, but was " + replayRate);
+    }
+
+    this.minPeriod = minPeriod;
+    this.maxPeriod = maxPeriod;
+    this.maxRecords = maxRecords;
+    this.maxReplayDuration = maxReplayDuration;
+    this.replayRate = replayRate;
+  }
+
+  /**
+   * Measures the records since the last snapshot. A snapshot allows compacting the log up to the
+   * lower of its processed and exported position, so a snapshot which was taken while the exporters
+   * lagged behind keeps more log than it replays. The records are therefore the larger of the
+   * processed records and the records by which a new snapshot would move this compaction bound,
+   * e.g. once the exporters caught up on an idle partition.
+   *
+   * @param lastSnapshot the metadata of the last snapshot, or null if there is none
+   * @param processedPosition the last processed position
+   * @param exportedPosition the lowest position exported by all exporters, as the state reports it
+   * @return the number of records since the last snapshot
+   */
+  public long recordsSinceSnapshot(
+      final SnapshotMetadata lastSnapshot,
+      final long processedPosition,
+      final long exportedPosition) {
+    final long snapshotProcessedPosition;
+    final long snapshotCompactionBound;
+    if (lastSnapshot == null) {
+      snapshotProcessedPosition = 0;
+      snapshotCompactionBound = 0;
+    } else {
+      snapshotProcessedPosition = lastSnapshot.processedPosition();
+      snapshotCompactionBound =
+          compactionBound(lastSnapshot.processedPosition(), lastSnapshot.exportedPosition());
+    }
+
+    final long processedRecords = processedPosition - snapshotProcessedPosition;
+    final long compactableRecords =
+        compactionBound(processedPosition, exportedPosition) - snapshotCompactionBound;
+    return Math.max(Math.max(processedRecords, compactableRecords), 0);
+  }
+
+  /**
+   * @param sinceLastSnapshot the time which passed since the last snapshot
+   * @param recordsSinceLastSnapshot the number of records processed since the last snapshot
+   * @param diskSpaceAvailable false if the disk space is running out, otherwise true
+   * @return the reason to take a snapshot now, or {@link Trigger#NONE} if no snapshot is needed
+   */
+  public Trigger evaluate(
+      final Duration sinceLastSnapshot,
+      final long recordsSinceLastSnapshot,
+      final boolean diskSpaceAvailable) {
+    if (recordsSinceLastSnapshot <= 0 || sinceLastSnapshot.compareTo(minPeriod) < 0) {
+      return Trigger.NONE;
+    } else if (!diskSpaceAvailable) {
+      return Trigger.DISK_SPACE;
+    } else if (sinceLastSnapshot.compareTo(maxPeriod) >= 0) {
+      return Trigger.MAX_PERIOD;
+    } else if (recordsSinceLastSnapshot >= maxRecords) {
+      return Trigger.RECORDS;
+    } else if (estimateReplayDuration(recordsSinceLastSnapshot).compareTo(maxReplayDuration)
+        >= 0) {
+      return Trigger.REPLAY_DURATION;
+    }
+    return Trigger.NONE;
+  }
+
+  /**
+   * @param records the number of records to replay
+   * @return the estimated time it takes to replay the records on recovery
+   */
+  public Duration estimateReplayDuration(final long records) {
+    return Duration.ofMillis(Math.max(records, 0) * 1000 / replayRate);
+  }
+
+  private static long compactionBound(final long processedPosition, final long exportedPosition) {
+    // without any exported record the snapshot is taken at position 0, as in StateControllerImpl
+    return Math.min(processedPosition, Math.max(exportedPosition, 0));
+  }
+
+  public enum Trigger {
+    NONE("none"),
+    DISK_SPACE("disk_space"),
+    MAX_PERIOD("max_period"),
+    RECORDS("records"),
+    REPLAY_DURATION("replay_duration");
+
+    private final String label;
+
+    Trigger(final String label) {
+      this.label = label;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+  }
+}
@@ -8,13 +8,17 @@
 package io.camunda.zeebe.broker.system.partitions.impl;
 
 import io.atomix.raft.RaftApplicationEntryCommittedPositionListener;
+import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.camunda.zeebe.broker.system.partitions.NoEntryAtSnapshotPosition;
 import io.camunda.zeebe.broker.system.partitions.StateController;
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.Trigger;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.snapshots.SnapshotException;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
@@ -26,6 +30,7 @@ import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
@@ -35,9 +40,12 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 
 public final class AsyncSnapshotDirector extends Actor
-    implements RaftApplicationEntryCommittedPositionListener, HealthMonitorable {
+    implements RaftApplicationEntryCommittedPositionListener,
+        HealthMonitorable,
+        DiskSpaceUsageListener {
 
   public static final Duration MINIMUM_SNAPSHOT_PERIOD = Duration.ofMinutes(1);
+  public static final Duration ADAPTIVE_SNAPSHOT_CHECK_INTERVAL = Duration.ofSeconds(10);
 
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
   private static final String LOG_MSG_WAIT_UNTIL_COMMITTED =
@@ -59,7 +67,14 @@ public final class AsyncSnapshotDirector extends Actor
   private final Set<FailureListener> listeners = new HashSet<>();
   private final int partitionId;
   private final TreeMap<Long, ActorFuture<Void>> commitAwaiters = new TreeMap<>();
+  // null if snapshots are taken at a fixed rate
+  private final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy;
+  private final PersistedSnapshotStore snapshotStore;
+  private final SnapshotDirectorMetrics metrics;
   private CompletableActorFuture<PersistedSnapshot> ongoingSnapshotFuture;
+  private boolean diskSpaceAvailable = true;
+  private String lastSnapshotId;
+  private long lastSnapshotTime;
 
   @SuppressWarnings("java:S3077") // allow volatile here, health is immutable
   private volatile HealthReport healthReport = HealthReport.healthy(this);
@@ -72,7 +87,9 @@ public final class AsyncSnapshotDirector extends Actor
       final StateController stateController,
       final Duration snapshotRate,
       final StreamProcessorMode streamProcessorMode,
-      final Callable<CompletableFuture<Void>> flushLog) {
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy,
+      final PersistedSnapshotStore snapshotStore) {
     this.streamProcessor = streamProcessor;
     this.stateController = stateController;
     processorName = streamProcessor.getName();
@@ -81,6 +98,9 @@ public final class AsyncSnapshotDirector extends Actor
     actorName = buildActorName("SnapshotDirector", this.partitionId);
     this.streamProcessorMode = streamProcessorMode;
     this.flushLog = flushLog;
+    this.adaptiveSnapshotPolicy = adaptiveSnapshotPolicy;
+    this.snapshotStore = snapshotStore;
+    metrics = new SnapshotDirectorMetrics(partitionId);
   }
 
   @Override
@@ -97,6 +117,12 @@ public final class AsyncSnapshotDirector extends Actor
 
   @Override
   protected void onActorStarting() {
+    if (adaptiveSnapshotPolicy != null) {
+      lastSnapshotTime = ActorClock.currentTimeMillis();
+      actor.runAtFixedRate(ADAPTIVE_SNAPSHOT_CHECK_INTERVAL, this::trySnapshotOnPolicy);
+      return;
+    }
+
     final var firstSnapshotTime =
         RandomDuration.getRandomDurationMinuteBased(MINIMUM_SNAPSHOT_PERIOD, snapshotRate);
     actor.schedule(firstSnapshotTime, this::scheduleSnapshotOnRate);
@@ -151,7 +177,43 @@ public final class AsyncSnapshotDirector extends Actor
         stateController,
         snapshotRate,
         StreamProcessorMode.REPLAY,
-        flushLog);
+        flushLog,
+        null,
+        null);
+  }
+
+  /**
+   * Create an AsyncSnapshotDirector that can take snapshot when the StreamProcessor is in
+   * continuous replay mode. Snapshots are taken when the given policy triggers them, instead of at
+   * a fixed rate.
+   *
+   * @param nodeId id of this broker
+   * @param partitionId partition id
+   * @param streamProcessor stream processor for the partition
+   * @param stateController state controller that manages state
+   * @param snapshotRate maximum period between two snapshots
+   * @param adaptiveSnapshotPolicy policy which decides when to take a snapshot
+   * @param snapshotStore store which contains the latest snapshot
+   * @return snapshot director
+   */
+  public static AsyncSnapshotDirector ofReplayMode(
+      final int nodeId,
+      final int partitionId,
+      final StreamProcessor streamProcessor,
+      final StateController stateController,
+      final Duration snapshotRate,
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy,
+      final PersistedSnapshotStore snapshotStore) {
+    return new AsyncSnapshotDirector(
+        partitionId,
+        streamProcessor,
+        stateController,
+        snapshotRate,
+        StreamProcessorMode.REPLAY,
+        flushLog,
+        Objects.requireNonNull(adaptiveSnapshotPolicy),
+        Objects.requireNonNull(snapshotStore));
   }
 
   /**
@@ -178,7 +240,43 @@ public final class AsyncSnapshotDirector extends Actor
         stateController,
         snapshotRate,
         StreamProcessorMode.PROCESSING,
-        flushLog);
+        flushLog,
+        null,
+        null);
+  }
+
+  /**
+   * Create an AsyncSnapshotDirector that can take snapshot when the StreamProcessor is in
+   * processing mode. Snapshots are taken when the given policy triggers them, instead of at a
+   * fixed rate.
+   *
+   * @param nodeId id of this broker
+   * @param partitionId partition id
+   * @param streamProcessor stream processor for the partition
+   * @param stateController state controller that manages state
+   * @param snapshotRate maximum period between two snapshots
+   * @param adaptiveSnapshotPolicy policy which decides when to take a snapshot
+   * @param snapshotStore store which contains the latest snapshot
+   * @return snapshot director
+   */
+  public static AsyncSnapshotDirector ofProcessingMode(
+      final int nodeId,
+      final int partitionId,
+      final StreamProcessor streamProcessor,
+      final StateController stateController,
+      final Duration snapshotRate,
+      final Callable<CompletableFuture<Void>> flushLog,
+      final AdaptiveSnapshotPolicy adaptiveSnapshotPolicy,
+      final PersistedSnapshotStore snapshotStore) {
+    return new AsyncSnapshotDirector(
+        partitionId,
+        streamProcessor,
+        stateController,
+        snapshotRate,
+        StreamProcessorMode.PROCESSING,
+        flushLog,
+        Objects.requireNonNull(adaptiveSnapshotPolicy),
+        Objects.requireNonNull(snapshotStore));
   }
 
   private void scheduleSnapshotOnRate() {
@@ -186,6 +284,76 @@ public final class AsyncSnapshotDirector extends Actor
     trySnapshot();
   }
 
+  private void trySnapshotOnPolicy() {
+    if (ongoingSnapshotFuture != null) {
+      return;
+    }
+
+    streamProcessor
+        .getLastProcessedPositionAsync()
+        .onComplete(
+            (position, error) -> {
+              if (error != null) {
+                LOG.debug(
+                    "Failed to resolve the last processed position, will retry in {}",
+                    ADAPTIVE_SNAPSHOT_CHECK_INTERVAL,
+                    error);
+              } else if (position != StreamProcessor.UNSET_POSITION) {
+                trySnapshotOnPolicy(position);
+              }
+            });
+  }
+
+  private void trySnapshotOnPolicy(final long lastProcessedPosition) {
+    stateController
+        .getExportedPosition()
+        .onComplete(
+            (exportedPosition, error) -> {
+              if (error != null) {
+                LOG.debug(
+                    "Failed to resolve the exported position, will retry in {}",
+                    ADAPTIVE_SNAPSHOT_CHECK_INTERVAL,
+                    error);
+              } else {
+                trySnapshotOnPolicy(lastProcessedPosition, exportedPosition);
+              }
+            });
+  }
+
+  private void trySnapshotOnPolicy(final long lastProcessedPosition, final long exportedPosition) {
+    final var now = ActorClock.currentTimeMillis();
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    final var latestSnapshotId = latestSnapshot.map(PersistedSnapshot::getId).orElse(null);
+    if (!Objects.equals(latestSnapshotId, lastSnapshotId)) {
+      // a snapshot was taken or received since the last check
+      lastSnapshotId = latestSnapshotId;
+      lastSnapshotTime = now;
+    }
+
+    final var recordsSinceSnapshot =
+        adaptiveSnapshotPolicy.recordsSinceSnapshot(
+            latestSnapshot.map(PersistedSnapshot::getMetadata).orElse(null),
+            lastProcessedPosition,
+            exportedPosition);
+    metrics.observeLogSinceSnapshot(
+        recordsSinceSnapshot,
+        adaptiveSnapshotPolicy.estimateReplayDuration(recordsSinceSnapshot));
+
+    final var trigger =
+        adaptiveSnapshotPolicy.evaluate(
+            Duration.ofMillis(now - lastSnapshotTime), recordsSinceSnapshot, diskSpaceAvailable);
+    if (trigger != Trigger.NONE) {
+      LOG.debug(
+          "Taking snapshot triggered by {}, {} records were written since the last snapshot",
+          trigger,
+          recordsSinceSnapshot);
+      metrics.snapshotTriggered(trigger);
+      // don't retry before the minimum period passed, even if taking the snapshot fails
+      lastSnapshotTime = now;
+      trySnapshot();
+    }
+  }
+
   /**
    * Directly take a snapshot, independently of the scheduled snapshots.
    *
@@ -405,6 +573,16 @@ public final class AsyncSnapshotDirector extends Actor
     }
   }
 
+  @Override
+  public void onDiskSpaceNotAvailable() {
+    actor.run(() -> diskSpaceAvailable = false);
+  }
+
+  @Override
+  public void onDiskSpaceAvailable() {
+    actor.run(() -> diskSpaceAvailable = true);
+  }
+
   @Override
   public void onCommit(final long committedPosition) {
     newPositionCommitted(committedPosition);
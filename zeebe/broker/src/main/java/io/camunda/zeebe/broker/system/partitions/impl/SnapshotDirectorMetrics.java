@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.Trigger;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import java.time.Duration;
+
+final class SnapshotDirectorMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Gauge RECORDS_SINCE_SNAPSHOT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("snapshot_records_since_last_snapshot")
+          .help("Number of records processed since the last snapshot")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Gauge PREDICTED_RECOVERY_TIME =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("snapshot_predicted_recovery_time")
+          .help(
+              "Estimated time to replay the records processed since the last snapshot on recovery"
+                  + " (in seconds)")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter TRIGGERED_SNAPSHOTS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("snapshot_triggered_total")
+          .help("Number of snapshots triggered by the adaptive snapshot policy, by trigger")
+          .labelNames(PARTITION_LABEL, "trigger")
+          .register();
+
+  private final String partitionIdLabel;
+  private final Gauge.Child recordsSinceSnapshot;
+  private final Gauge.Child predictedRecoveryTime;
+
+  SnapshotDirectorMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+    recordsSinceSnapshot = RECORDS_SINCE_SNAPSHOT.labels(partitionIdLabel);
+    predictedRecoveryTime = PREDICTED_RECOVERY_TIME.labels(partitionIdLabel);
+  }
+
+  void observeLogSinceSnapshot(final long records, final Duration predictedReplayDuration) {
+    recordsSinceSnapshot.set(records);
+    predictedRecoveryTime.set(predictedReplayDuration.toMillis() / 1000.0);
+  }
+
+  void snapshotTriggered(final Trigger trigger) {
+    TRIGGERED_SNAPSHOTS.labels(partitionIdLabel, trigger.getLabel()).inc();
+  }
+}
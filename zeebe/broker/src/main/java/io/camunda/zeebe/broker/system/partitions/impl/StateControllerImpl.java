@@ -70,6 +70,23 @@ public class StateControllerImpl implements StateController {
     return future;
   }
 
+  @Override
+  public ActorFuture<Long> getExportedPosition() {
+    final ActorFuture<Long> future = concurrencyControl.createFuture();
+    concurrencyControl.run(
+        () -> {
+          if (!isDbOpened()) {
+            future.completeExceptionally(
+                new StateClosedException(
+                    "Expected to read the exported position, but database was closed."));
+            return;
+          }
+
+          future.complete(exporterPositionSupplier.applyAsLong(db));
+        });
+    return future;
+  }
+
   @Override
   public ActorFuture<ZeebeDb> recover() {
     final ActorFuture<ZeebeDb> future = concurrencyControl.createFuture();
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
+import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
+import io.camunda.zeebe.snapshots.SnapshotMetadata;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+import org.slf4j.Logger;
+
+/**
+ * Periodically measures how far the exporters and the compaction of the log are behind the last
+ * written position of the leader, and reduces the limit of user commands according to the {@link
+ * WriteRatePolicy}. The limit is restored when the monitor is closed.
+ */
+public final class WriteRateMonitor extends Actor {
+
+  private static final Logger LOG = Loggers.SYSTEM_LOGGER;
+
+  private final int partitionId;
+  private final String actorName;
+  private final Duration checkInterval;
+  private final WriteRatePolicy policy;
+  private final StreamProcessor streamProcessor;
+  // null if the partition has no exporter director
+  private final ExporterDirector exporterDirector;
+  private final PersistedSnapshotStore snapshotStore;
+  private final DoubleConsumer writeRateFactorListener;
+  private final BackpressureMetrics metrics = new BackpressureMetrics();
+
+  public WriteRateMonitor(
+      final int partitionId,
+      final Duration checkInterval,
+      final WriteRatePolicy policy,
+      final StreamProcessor streamProcessor,
+      final ExporterDirector exporterDirector,
+      final PersistedSnapshotStore snapshotStore,
+      final DoubleConsumer writeRateFactorListener) {
+    this.partitionId = partitionId;
+    this.checkInterval = checkInterval;
+    this.policy = policy;
+    this.streamProcessor = streamProcessor;
+    this.exporterDirector = exporterDirector;
+    this.snapshotStore = snapshotStore;
+    this.writeRateFactorListener = writeRateFactorListener;
+    actorName = buildActorName("WriteRateMonitor", partitionId);
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  @Override
+  protected void onActorStarted() {
+    actor.runAtFixedRate(checkInterval, this::check);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    writeRateFactorListener.accept(1.0);
+  }
+
+  private void check() {
+    streamProcessor
+        .getLastWrittenPositionAsync()
+        .onComplete(
+            (lastWrittenPosition, error) -> {
+              if (error != null) {
+                LOG.debug(
+                    "Failed to resolve the last written position, will retry in {}",
+                    checkInterval,
+                    error);
+              } else if (lastWrittenPosition != StreamProcessor.UNSET_POSITION) {
+                checkExporterPosition(lastWrittenPosition);
+              }
+            });
+  }
+
+  private void checkExporterPosition(final long lastWrittenPosition) {
+    if (exporterDirector == null) {
+      update(lastWrittenPosition, 0);
+      return;
+    }
+
+    exporterDirector
+        .getLowestPosition()
+        .onComplete(
+            (exportedPosition, error) -> {
+              if (error != null) {
+                LOG.debug(
+                    "Failed to resolve the lowest exported position, will retry in {}",
+                    checkInterval,
+                    error);
+              } else {
+                // without any exported position, a stuck exporter still shows in the compaction
+                // lag, as the log can only be compacted up to the exported position
+                final var exporterLag =
+                    exportedPosition < 0 ? 0 : Math.max(lastWrittenPosition - exportedPosition, 0);
+                update(lastWrittenPosition, exporterLag);
+              }
+            });
+  }
+
+  private void update(final long lastWrittenPosition, final long exporterLag) {
+    final var compactablePosition =
+        snapshotStore
+            .getLatestSnapshot()
+            .map(snapshot -> getCompactablePosition(snapshot.getMetadata()))
+            .orElse(0L);
+    final var compactionLag = Math.max(lastWrittenPosition - compactablePosition, 0);
+
+    final var writeRateFactor = policy.evaluate(exporterLag, compactionLag);
+    metrics.setExporterLag(partitionId, exporterLag);
+    metrics.setCompactionLag(partitionId, compactionLag);
+    writeRateFactorListener.accept(writeRateFactor);
+  }
+
+  private static long getCompactablePosition(final SnapshotMetadata metadata) {
+    // the log is compacted up to the snapshot, which only covers what was processed and exported
+    return Math.min(metadata.processedPosition(), metadata.exportedPosition());
+  }
+}
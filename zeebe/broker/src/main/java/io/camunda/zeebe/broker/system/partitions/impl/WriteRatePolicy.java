@@ -0,0 +1,81 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+/**
+ * Decides how much the limit of user commands is reduced, based on how far the exporters and the
+ * compaction of the log are behind the last written position. If either lag grows faster than it
+ * can be reduced, the log keeps growing until the disk runs full; slowing down the writes gives
+ * the exporters and the snapshots a chance to catch up.
+ *
+ * <p>Below its threshold, a lag doesn't reduce the limit. Between the threshold and its maximum,
+ * the factor decreases linearly from 1 to {@code minFactor}; beyond the maximum, it stays at {@code
+ * minFactor}. If both lags are above their threshold, the lower factor applies.
+ */
+public final class WriteRatePolicy {
+
+  private final long exporterLagThreshold;
+  private final long maxExporterLag;
+  private final long compactionLagThreshold;
+  private final long maxCompactionLag;
+  private final double minFactor;
+
+  /**
+   * @param exporterLagThreshold the exporter lag above which the limit is reduced
+   * @param maxExporterLag the exporter lag at which the limit is reduced to the minimum
+   * @param compactionLagThreshold the compaction lag above which the limit is reduced
+   * @param maxCompactionLag the compaction lag at which the limit is reduced to the minimum
+   * @param minFactor the lowest factor by which the limit is reduced
+   */
+  public WriteRatePolicy(
+      final long exporterLagThreshold,
+      final long maxExporterLag,
+      final long compactionLagThreshold,
+      final long maxCompactionLag,
+      final double minFactor) {
+    if (maxExporterLag < exporterLagThreshold || maxCompactionLag < compactionLagThreshold) {
+      throw new IllegalArgumentException(
+          "Expected the maximum lags to be at least the thresholds, but the exporter lag was [%d, %d] and the compaction lag was [%d, %d]"
+              .formatted(
+                  exporterLagThreshold, maxExporterLag, compactionLagThreshold, maxCompactionLag));
+    }
+    if (minFactor <= 0 || minFactor > 1) {
+      throw new IllegalArgumentException(
+          "Expected the minimum factor to be in (0, 1], but was " + minFactor);
+    }
+
+    this.exporterLagThreshold = exporterLagThreshold;
+    this.maxExporterLag = maxExporterLag;
+    this.compactionLagThreshold = compactionLagThreshold;
+    this.maxCompactionLag = maxCompactionLag;
+    this.minFactor = minFactor;
+  }
+
+  /**
+   * @param exporterLag the number of positions which were written but not yet exported
+   * @param compactionLag the number of positions which were written since the position up to
+   *     which the log can be compacted
+   * @return the factor by which the limit is reduced, between {@code minFactor} and 1
+   */
+  public double evaluate(final long exporterLag, final long compactionLag) {
+    return Math.min(
+        factor(exporterLag, exporterLagThreshold, maxExporterLag),
+        factor(compactionLag, compactionLagThreshold, maxCompactionLag));
+  }
+
+  private double factor(final long lag, final long threshold, final long maxLag) {
+    if (lag <= threshold) {
+      return 1.0;
+    } else if (lag >= maxLag) {
+      return minFactor;
+    }
+
+    final double overThreshold = (double) (lag - threshold) / (maxLag - threshold);
+    return 1.0 - overThreshold * (1.0 - minFactor);
+  }
+}
@@ -111,9 +111,13 @@ public final class InterPartitionCommandServiceStep implements PartitionTransiti
   private ActorFuture<Void> installSender(final PartitionTransitionContext context) {
     final ActorFuture<Void> future = context.getConcurrencyControl().createFuture();
 
+    final var batching =
+        context.getBrokerCfg().getExperimental().getInterPartitionBatching().getBatching();
     final var sender =
         new InterPartitionCommandSenderService(
-            context.getClusterCommunicationService(), context.getPartitionId());
+            context.getClusterCommunicationService(),
+            context.getPartitionId(),
+            batching.orElse(null));
     final var actorStarted = context.getActorSchedulingService().submitActor(sender);
     actorStarted.onComplete(
         (ignore, error) -> {
@@ -30,6 +30,7 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
       final var director = context.getSnapshotDirector();
       context.getComponentHealthMonitor().removeComponent(director.getName());
       context.getRaftPartition().getServer().removeCommittedEntryListener(director);
+      context.getDiskSpaceUsageMonitor().removeDiskUsageListener(director);
       final ActorFuture<Void> future = director.closeAsync();
       future.onComplete(
           (ok, error) -> {
@@ -51,9 +52,12 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
       final var server = context.getRaftPartition().getServer();
       final Callable<CompletableFuture<Void>> flushLog = server::flushLog;
 
-      final Duration snapshotPeriod = context.getBrokerCfg().getData().getSnapshotPeriod();
+      final var dataCfg = context.getBrokerCfg().getData();
+      final Duration snapshotPeriod = dataCfg.getSnapshotPeriod();
       final AsyncSnapshotDirector director;
-      if (targetRole == Role.LEADER) {
+      if (dataCfg.getAdaptiveSnapshot().isEnabled()) {
+        director = createAdaptiveSnapshotDirector(context, targetRole, snapshotPeriod, flushLog);
+      } else if (targetRole == Role.LEADER) {
         director =
             AsyncSnapshotDirector.ofProcessingMode(
                 context.getNodeId(),
@@ -83,6 +87,7 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
               if (targetRole == Role.LEADER) {
                 server.addCommittedEntryListener(director);
               }
+              context.getDiskSpaceUsageMonitor().addDiskUsageListener(director);
             }
           });
       return future;
@@ -97,6 +102,36 @@ public final class SnapshotDirectorPartitionTransitionStep implements PartitionT
     return "SnapshotDirector";
   }
 
+  private AsyncSnapshotDirector createAdaptiveSnapshotDirector(
+      final PartitionTransitionContext context,
+      final Role targetRole,
+      final Duration snapshotPeriod,
+      final Callable<CompletableFuture<Void>> flushLog) {
+    final var policy =
+        context.getBrokerCfg().getData().getAdaptiveSnapshot().createPolicy(snapshotPeriod);
+    if (targetRole == Role.LEADER) {
+      return AsyncSnapshotDirector.ofProcessingMode(
+          context.getNodeId(),
+          context.getPartitionId(),
+          context.getStreamProcessor(),
+          context.getStateController(),
+          snapshotPeriod,
+          flushLog,
+          policy,
+          context.getPersistedSnapshotStore());
+    } else {
+      return AsyncSnapshotDirector.ofReplayMode(
+          context.getNodeId(),
+          context.getPartitionId(),
+          context.getStreamProcessor(),
+          context.getStateController(),
+          snapshotPeriod,
+          flushLog,
+          policy,
+          context.getPersistedSnapshotStore());
+    }
+  }
+
   private boolean shouldInstallOnTransition(final Role newRole, final Role currentRole) {
     return newRole == Role.LEADER
         || (newRole == Role.FOLLOWER && currentRole != Role.CANDIDATE)
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl.steps;
+
+import io.atomix.raft.RaftServer.Role;
+import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
+import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRateMonitor;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+
+/** Installs the {@link WriteRateMonitor} on the leader, if the write rate is enabled. */
+public final class WriteRateMonitorTransitionStep implements PartitionTransitionStep {
+
+  @Override
+  public ActorFuture<Void> prepareTransition(
+      final PartitionTransitionContext context, final long term, final Role targetRole) {
+    final var monitor = context.getWriteRateMonitor();
+    if (monitor == null) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    // the monitor depends on the stream processor and the exporter director, which are replaced
+    // on every transition
+    final ActorFuture<Void> future = monitor.closeAsync();
+    future.onComplete(
+        (ok, error) -> {
+          if (error == null) {
+            context.setWriteRateMonitor(null);
+          }
+        });
+    return future;
+  }
+
+  @Override
+  public ActorFuture<Void> transitionTo(
+      final PartitionTransitionContext context, final long term, final Role targetRole) {
+    final var backpressureCfg = context.getBrokerCfg().getBackpressure();
+    final var writeRateCfg = backpressureCfg.getWriteRate();
+    if (targetRole != Role.LEADER
+        || !backpressureCfg.isEnabled()
+        || !writeRateCfg.isEnabled()
+        || context.getWriteRateMonitor() != null) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    final var monitor =
+        new WriteRateMonitor(
+            context.getPartitionId(),
+            writeRateCfg.getCheckInterval(),
+            writeRateCfg.createPolicy(),
+            context.getStreamProcessor(),
+            context.getExporterDirector(),
+            context.getPersistedSnapshotStore(),
+            context.getWriteRateFactorListener());
+    final var future = context.getActorSchedulingService().submitActor(monitor);
+    future.onComplete(
+        (ok, error) -> {
+          if (error == null) {
+            context.setWriteRateMonitor(monitor);
+          }
+        });
+    return future;
+  }
+
+  @Override
+  public String getName() {
+    return "WriteRateMonitor";
+  }
+}
@@ -28,6 +28,22 @@ public final class BackpressureMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Counter DROPPED_REQUEST_COUNT_PER_PRIORITY =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_dropped_request_count_total")
+          .help("Number of requests dropped due to backpressure, by the priority of the command")
+          .labelNames("partition", "priority")
+          .register();
+
+  private static final Counter TOTAL_REQUEST_COUNT_PER_PRIORITY =
+      Counter.build()
+          .namespace("zeebe")
+          .name("backpressure_received_request_count_total")
+          .help("Number of requests received by the rate limiter, by the priority of the command")
+          .labelNames("partition", "priority")
+          .register();
+
   private static final Gauge CURRENT_INFLIGHT =
       Gauge.build()
           .namespace("zeebe")
@@ -44,6 +60,30 @@ public final class BackpressureMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge WRITE_RATE_FACTOR =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_write_rate_factor")
+          .help("Current factor by which the limit is reduced due to exporter or compaction lag")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge EXPORTER_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_exporter_lag")
+          .help("Number of positions written but not yet exported, as seen by the write rate")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge COMPACTION_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("backpressure_compaction_lag")
+          .help("Number of positions written since the latest snapshot, as seen by the write rate")
+          .labelNames("partition")
+          .register();
+
   public void dropped(final int partitionId) {
     DROPPED_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
@@ -52,6 +92,14 @@ public final class BackpressureMetrics {
     TOTAL_REQUEST_COUNT.labels(String.valueOf(partitionId)).inc();
   }
 
+  public void dropped(final int partitionId, final CommandPriority priority) {
+    DROPPED_REQUEST_COUNT_PER_PRIORITY.labels(String.valueOf(partitionId), priority.name()).inc();
+  }
+
+  public void receivedRequest(final int partitionId, final CommandPriority priority) {
+    TOTAL_REQUEST_COUNT_PER_PRIORITY.labels(String.valueOf(partitionId), priority.name()).inc();
+  }
+
   public void incInflight(final int partitionId) {
     CURRENT_INFLIGHT.labels(String.valueOf(partitionId)).inc();
   }
@@ -67,4 +115,16 @@ public final class BackpressureMetrics {
   public void setInflight(final int partitionId, final int count) {
     CURRENT_INFLIGHT.labels(String.valueOf(partitionId)).set(0);
   }
+
+  public void setWriteRateFactor(final int partitionId, final double writeRateFactor) {
+    WRITE_RATE_FACTOR.labels(String.valueOf(partitionId)).set(writeRateFactor);
+  }
+
+  public void setExporterLag(final int partitionId, final long exporterLag) {
+    EXPORTER_LAG.labels(String.valueOf(partitionId)).set(exporterLag);
+  }
+
+  public void setCompactionLag(final int partitionId, final long compactionLag) {
+    COMPACTION_LAG.labels(String.valueOf(partitionId)).set(compactionLag);
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.backpressure;
+
+import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
+import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import java.util.Set;
+
+/**
+ * The priority with which a command is admitted by the {@link CommandRateLimiter} under load. The
+ * commands which finish work, and so reduce the load of the partition, are admitted before the
+ * commands which start new work.
+ */
+public enum CommandPriority {
+  /** Commands which finish work or must not be dropped; they are always admitted. */
+  HIGH,
+  /** Commands which are admitted while the number of inflight requests is below the limit. */
+  NORMAL,
+  /**
+   * Commands which start new work; they are admitted while the number of inflight requests is
+   * below a share of the limit, which leaves room for the other commands.
+   */
+  LOW;
+
+  private static final Set<? extends Intent> HIGH_PRIORITY_COMMANDS =
+      Set.of(
+          JobIntent.COMPLETE,
+          JobIntent.FAIL,
+          JobIntent.THROW_ERROR,
+          ProcessInstanceIntent.CANCEL,
+          DeploymentIntent.CREATE,
+          DeploymentIntent.DISTRIBUTE,
+          DeploymentDistributionIntent.COMPLETE,
+          CommandDistributionIntent.ACKNOWLEDGE);
+
+  private static final Set<? extends Intent> LOW_PRIORITY_COMMANDS =
+      Set.of(
+          ProcessInstanceCreationIntent.CREATE,
+          ProcessInstanceCreationIntent.CREATE_WITH_AWAITING_RESULT);
+
+  public static CommandPriority of(final Intent intent) {
+    if (HIGH_PRIORITY_COMMANDS.contains(intent)) {
+      return HIGH;
+    } else if (LOW_PRIORITY_COMMANDS.contains(intent)) {
+      return LOW;
+    } else {
+      return NORMAL;
+    }
+  }
+}
@@ -9,16 +9,10 @@ package io.camunda.zeebe.broker.transport.backpressure;
 
 import com.netflix.concurrency.limits.limiter.AbstractLimiter;
 import io.camunda.zeebe.broker.Loggers;
-import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
-import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
-import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
-import io.camunda.zeebe.protocol.record.intent.JobIntent;
-import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,35 +22,47 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
 
   private static final Logger LOG =
       LoggerFactory.getLogger("io.camunda.zeebe.broker.transport.backpressure");
-  private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
-      Set.of(
-          JobIntent.COMPLETE,
-          JobIntent.FAIL,
-          ProcessInstanceIntent.CANCEL,
-          DeploymentIntent.CREATE,
-          DeploymentIntent.DISTRIBUTE,
-          DeploymentDistributionIntent.COMPLETE,
-          CommandDistributionIntent.ACKNOWLEDGE);
   private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
   private final int partitionId;
+  private final double lowPriorityLimitRatio;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private volatile double writeRateFactor = 1.0;
 
   protected CommandRateLimiter(final CommandRateLimiterBuilder builder, final int partitionId) {
     super(builder);
     this.partitionId = partitionId;
+    lowPriorityLimitRatio = builder.lowPriorityLimitRatio;
     metrics.setInflight(partitionId, 0);
     metrics.setNewLimit(partitionId, getLimit());
+    metrics.setWriteRateFactor(partitionId, writeRateFactor);
   }
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    final var priority = CommandPriority.of(intent);
+    metrics.receivedRequest(partitionId, priority);
+
+    if (!isAdmitted(priority)) {
+      metrics.dropped(partitionId, priority);
       return createRejectedListener();
     }
     final Listener listener = createListener();
     return Optional.of(listener);
   }
 
+  private boolean isAdmitted(final CommandPriority priority) {
+    return switch (priority) {
+      case HIGH -> true;
+      case NORMAL -> getInflight() < getEffectiveLimit(1.0);
+      // the remaining share of the limit is reserved for the commands with a higher priority
+      case LOW -> getInflight() < getEffectiveLimit(lowPriorityLimitRatio);
+    };
+  }
+
+  private int getEffectiveLimit(final double ratio) {
+    return Math.max(1, (int) (getLimit() * writeRateFactor * ratio));
+  }
+
   private void registerListener(final int streamId, final long requestId, final Listener listener) {
     // assumes the pair <streamId, requestId> is unique.
     responseListeners.put(new ListenerId(streamId, requestId), listener);
@@ -113,6 +119,16 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
     return getInflight();
   }
 
+  @Override
+  public void setWriteRateFactor(final double writeRateFactor) {
+    if (writeRateFactor <= 0 || writeRateFactor > 1) {
+      throw new IllegalArgumentException(
+          "Expected the write rate factor to be in (0, 1], but was %s".formatted(writeRateFactor));
+    }
+    this.writeRateFactor = writeRateFactor;
+    metrics.setWriteRateFactor(partitionId, writeRateFactor);
+  }
+
   @Override
   protected void onNewLimit(final int newLimit) {
     super.onNewLimit(newLimit);
@@ -126,6 +142,25 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   public static class CommandRateLimiterBuilder
       extends AbstractLimiter.Builder<CommandRateLimiterBuilder> {
 
+    private double lowPriorityLimitRatio = 1.0;
+
+    /**
+     * Sets the share of the limit up to which {@link CommandPriority#LOW low priority} commands are
+     * admitted. By default, they are admitted up to the full limit, like normal commands.
+     *
+     * @param lowPriorityLimitRatio the share of the limit, between 0 (exclusive) and 1 (inclusive)
+     * @return this builder
+     */
+    public CommandRateLimiterBuilder lowPriorityLimitRatio(final double lowPriorityLimitRatio) {
+      if (lowPriorityLimitRatio <= 0 || lowPriorityLimitRatio > 1) {
+        throw new IllegalArgumentException(
+            "Expected the low priority limit ratio to be in (0, 1], but was %s"
+                .formatted(lowPriorityLimitRatio));
+      }
+      this.lowPriorityLimitRatio = lowPriorityLimitRatio;
+      return this;
+    }
+
     @Override
     protected CommandRateLimiterBuilder self() {
       return this;
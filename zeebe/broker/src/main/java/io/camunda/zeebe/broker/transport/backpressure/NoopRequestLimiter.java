@@ -29,4 +29,7 @@ public final class NoopRequestLimiter<ContextT> implements RequestLimiter<Contex
   public int getInflightCount() {
     return 0;
   }
+
+  @Override
+  public void setWriteRateFactor(final double writeRateFactor) {}
 }
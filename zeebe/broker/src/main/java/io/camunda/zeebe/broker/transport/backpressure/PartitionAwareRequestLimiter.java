@@ -40,8 +40,14 @@ public final class PartitionAwareRequestLimiter {
     limiterSupplier = i -> new NoopRequestLimiter<>();
   }
 
-  private PartitionAwareRequestLimiter(final Supplier<Limit> limitSupplier) {
-    limiterSupplier = i -> CommandRateLimiter.builder().limit(limitSupplier.get()).build(i);
+  private PartitionAwareRequestLimiter(
+      final Supplier<Limit> limitSupplier, final double lowPriorityLimitRatio) {
+    limiterSupplier =
+        i ->
+            CommandRateLimiter.builder()
+                .limit(limitSupplier.get())
+                .lowPriorityLimitRatio(lowPriorityLimitRatio)
+                .build(i);
   }
 
   public static PartitionAwareRequestLimiter newNoopLimiter() {
@@ -80,10 +86,12 @@ public final class PartitionAwareRequestLimiter {
         limit = () -> getVegasLimit(backpressureCfg.getVegas());
     }
 
+    final double lowPriorityLimitRatio = backpressureCfg.getLowPriorityLimitRatio();
     if (backpressureCfg.useWindowed()) {
-      return new PartitionAwareRequestLimiter(() -> WindowedLimit.newBuilder().build(limit.get()));
+      return new PartitionAwareRequestLimiter(
+          () -> WindowedLimit.newBuilder().build(limit.get()), lowPriorityLimitRatio);
     } else {
-      return new PartitionAwareRequestLimiter(limit);
+      return new PartitionAwareRequestLimiter(limit, lowPriorityLimitRatio);
     }
   }
 
@@ -135,6 +143,17 @@ public final class PartitionAwareRequestLimiter {
     }
   }
 
+  /**
+   * Scales the limit of the given partition, if it has a limiter. See {@link
+   * RequestLimiter#setWriteRateFactor(double)}.
+   */
+  public void setWriteRateFactor(final int partitionId, final double writeRateFactor) {
+    final RequestLimiter<Intent> limiter = partitionLimiters.get(partitionId);
+    if (limiter != null) {
+      limiter.setWriteRateFactor(writeRateFactor);
+    }
+  }
+
   public void addPartition(final int partitionId) {
     removePartition(partitionId);
     getOrCreateLimiter(partitionId);
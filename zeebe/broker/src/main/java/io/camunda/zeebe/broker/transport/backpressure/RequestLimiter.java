@@ -40,4 +40,14 @@ public interface RequestLimiter<C> {
   int getLimit();
 
   int getInflightCount();
+
+  /**
+   * Scales the limit of the requests which are not always admitted, e.g. to slow down the writes
+   * while the log can't be exported or compacted fast enough. The limit itself is still adjusted
+   * by the limit algorithm; the factor only applies when deciding whether a request is admitted.
+   *
+   * @param writeRateFactor the factor, between 0 (exclusive) and 1 (inclusive), where 1 means
+   *     that the limit is not reduced
+   */
+  void setWriteRateFactor(double writeRateFactor);
 }
@@ -12,6 +12,7 @@ import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
 import io.camunda.zeebe.broker.transport.backpressure.BackpressureMetrics;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.broker.transport.commandapi.CommandBatchResponseCollector.PendingBatch;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -23,6 +24,8 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
@@ -34,10 +37,12 @@ final class CommandApiRequestHandler
   private final Int2ObjectHashMap<RequestLimiter<Intent>> partitionLimiters =
       new Int2ObjectHashMap<>();
   private final BackpressureMetrics metrics = new BackpressureMetrics();
+  private final CommandBatchResponseCollector batchResponses;
   private boolean isDiskSpaceAvailable = true;
 
-  CommandApiRequestHandler() {
+  CommandApiRequestHandler(final CommandBatchResponseCollector batchResponses) {
     super(CommandApiRequestReader::new, CommandApiResponseWriter::new);
+    this.batchResponses = batchResponses;
   }
 
   @Override
@@ -57,6 +62,11 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader requestReader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    if (requestReader.isBatch()) {
+      return handleExecuteCommandBatchRequest(
+          partitionId, requestId, requestReader, responseWriter, errorWriter);
+    }
+
     return handleExecuteCommandRequest(
         partitionId, requestId, requestReader, responseWriter, errorWriter);
   }
@@ -79,13 +89,7 @@ final class CommandApiRequestHandler
     final var valueType = command.valueType();
     final var intent = Intent.fromProtocolValue(valueType, command.intent());
     final var value = reader.value();
-    final var metadata = reader.metadata();
-
-    metadata.requestId(requestId);
-    metadata.requestStreamId(partitionId);
-    metadata.recordType(RecordType.COMMAND);
-    metadata.intent(intent);
-    metadata.valueType(valueType);
+    final var metadata = prepareMetadata(partitionId, requestId, reader);
 
     if (logStreamWriter == null) {
       errorWriter.partitionLeaderMismatch(partitionId);
@@ -129,6 +133,153 @@ final class CommandApiRequestHandler
     }
   }
 
+  /**
+   * Writes all commands of a batch with a single append, so they end up in the same log batch.
+   * Every command is answered on its own by the engine; these responses are collected by the
+   * {@link CommandBatchResponseCollector} and sent back as one response. Commands which can't be
+   * accepted, e.g. because of backpressure, are answered right away with an error, without failing
+   * the rest of the batch.
+   */
+  private Either<ErrorResponseWriter, CommandApiResponseWriter> handleExecuteCommandBatchRequest(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final CommandApiResponseWriter responseWriter,
+      final ErrorResponseWriter errorWriter) {
+
+    if (!isDiskSpaceAvailable) {
+      return Either.left(errorWriter.outOfDiskSpace(partitionId));
+    }
+
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    if (logStreamWriter == null) {
+      errorWriter.partitionLeaderMismatch(partitionId);
+      return Either.left(errorWriter);
+    }
+
+    final int batchSize = reader.batchSize();
+    if (batchSize == 0) {
+      return Either.left(
+          errorWriter
+              .errorCode(ErrorCode.MALFORMED_REQUEST)
+              .errorMessage("Expected batch request to contain commands, but it was empty."));
+    }
+
+    final var limiter = partitionLimiters.get(partitionId);
+    final var batch = batchResponses.register(partitionId, requestId, batchSize);
+    final var appendEntries = new ArrayList<LogAppendEntry>(batchSize);
+    final var acceptedRequestIds = new ArrayList<Long>(batchSize);
+    final var commandErrorWriter = new ErrorResponseWriter(batchResponses);
+    int batchLength = 0;
+
+    for (int i = 0; i < batchSize; i++) {
+      final var commandReader = reader.wrapBatchedCommand(i);
+      final var commandRequestId = batch.commandRequestId(i);
+      final var command = commandReader.getMessageDecoder();
+      final var metadata = prepareMetadata(partitionId, commandRequestId, commandReader);
+
+      if (commandReader.isBatch() || commandReader.value() == null) {
+        commandErrorWriter
+            .unsupportedMessage(
+                commandReader.isBatch() ? "BATCH" : command.valueType().name(),
+                CommandApiRequestReader.RECORDS_BY_TYPE.keySet().toArray())
+            .tryWriteResponse(partitionId, commandRequestId);
+        continue;
+      }
+
+      metrics.receivedRequest(partitionId);
+      if (!limiter.tryAcquire(partitionId, commandRequestId, metadata.getIntent())) {
+        metrics.dropped(partitionId);
+        commandErrorWriter.resourceExhausted().tryWriteResponse(partitionId, commandRequestId);
+        continue;
+      }
+
+      // the reader and its metadata are reused for the next command, while the entries are only
+      // written once the whole batch was read
+      final var appendEntry =
+          toAppendEntry(command.key(), copyMetadata(metadata), commandReader.value());
+      appendEntries.add(appendEntry);
+      acceptedRequestIds.add(commandRequestId);
+      batchLength += appendEntry.getLength();
+    }
+
+    if (appendEntries.isEmpty()) {
+      // every command was already answered with an error
+      return Either.right(responseWriter);
+    }
+
+    final Either<ErrorResponseWriter, Boolean> result;
+    if (!logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      result =
+          Either.left(
+              errorWriter
+                  .errorCode(ErrorCode.MALFORMED_REQUEST)
+                  .errorMessage("Request size is above configured maxMessageSize."));
+    } else {
+      result = tryWriteBatch(partitionId, appendEntries, logStreamWriter, errorWriter);
+    }
+
+    if (result.isLeft()) {
+      acceptedRequestIds.forEach(id -> limiter.onIgnore(partitionId, id));
+      batchResponses.discard(batch);
+    }
+
+    return result.map(b -> responseWriter);
+  }
+
+  private Either<ErrorResponseWriter, Boolean> tryWriteBatch(
+      final int partitionId,
+      final List<LogAppendEntry> appendEntries,
+      final LogStreamWriter logStreamWriter,
+      final ErrorResponseWriter errorWriter) {
+    try {
+      return logStreamWriter
+          .tryWrite(appendEntries)
+          .map(ignore -> true)
+          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+    } catch (final Exception error) {
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return Either.left(errorWriter.internalError(errorMessage));
+    }
+  }
+
+  private RecordMetadata prepareMetadata(
+      final int partitionId, final long requestId, final CommandApiRequestReader reader) {
+    final var command = reader.getMessageDecoder();
+    final var valueType = command.valueType();
+    final var metadata = reader.metadata();
+
+    metadata.requestId(requestId);
+    metadata.requestStreamId(partitionId);
+    metadata.recordType(RecordType.COMMAND);
+    metadata.intent(Intent.fromProtocolValue(valueType, command.intent()));
+    metadata.valueType(valueType);
+
+    return metadata;
+  }
+
+  private RecordMetadata copyMetadata(final RecordMetadata metadata) {
+    return new RecordMetadata()
+        .requestId(metadata.getRequestId())
+        .requestStreamId(metadata.getRequestStreamId())
+        .protocolVersion(metadata.getProtocolVersion())
+        .recordType(metadata.getRecordType())
+        .valueType(metadata.getValueType())
+        .intent(metadata.getIntent())
+        .authorization(metadata.getAuthorization());
+  }
+
+  private LogAppendEntry toAppendEntry(
+      final long key, final RecordMetadata metadata, final UnifiedRecordValue value) {
+    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+      return LogAppendEntry.of(key, metadata, value);
+    } else {
+      return LogAppendEntry.of(metadata, value);
+    }
+  }
+
   private Either<ErrorResponseWriter, Boolean> writeCommand(
       final long key,
       final RecordMetadata metadata,
@@ -136,12 +287,7 @@ final class CommandApiRequestHandler
       final LogStreamWriter logStreamWriter,
       final ErrorResponseWriter errorWriter,
       final int partitionId) {
-    final LogAppendEntry appendEntry;
-    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      appendEntry = LogAppendEntry.of(key, metadata, value);
-    } else {
-      appendEntry = LogAppendEntry.of(metadata, value);
-    }
+    final LogAppendEntry appendEntry = toAppendEntry(key, metadata, value);
 
     if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
       return logStreamWriter
@@ -172,6 +318,7 @@ final class CommandApiRequestHandler
         () -> {
           leadingStreams.remove(partitionId);
           partitionLimiters.remove(partitionId);
+          batchResponses.removePartition(partitionId);
         });
   }
 
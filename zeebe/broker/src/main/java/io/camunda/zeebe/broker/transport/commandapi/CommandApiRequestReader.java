@@ -32,6 +32,8 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestDecoder.CommandsDecoder;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.protocol.record.ValueType;
@@ -39,6 +41,8 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.IntArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequestDecoder> {
   static final Map<ValueType, Supplier<UnifiedRecordValue>> RECORDS_BY_TYPE =
@@ -72,6 +76,14 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
   private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
   private final ExecuteCommandRequestDecoder commandRequestDecoder =
       new ExecuteCommandRequestDecoder();
+  private final ExecuteCommandBatchRequestDecoder batchRequestDecoder =
+      new ExecuteCommandBatchRequestDecoder();
+  private final IntArrayList batchedCommandOffsets = new IntArrayList();
+  private final IntArrayList batchedCommandLengths = new IntArrayList();
+  private final UnsafeBuffer batchedCommandBuffer = new UnsafeBuffer(0, 0);
+  private CommandApiRequestReader batchedCommandReader;
+  private DirectBuffer batchBuffer;
+  private boolean isBatch;
 
   @Override
   public void reset() {
@@ -79,6 +91,10 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
       value.reset();
     }
     metadata.reset();
+    batchedCommandOffsets.clear();
+    batchedCommandLengths.clear();
+    batchBuffer = null;
+    isBatch = false;
   }
 
   @Override
@@ -91,6 +107,11 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     messageHeaderDecoder.wrap(buffer, offset);
 
     final int templateId = messageHeaderDecoder.templateId();
+    if (templateId == ExecuteCommandBatchRequestDecoder.TEMPLATE_ID) {
+      wrapBatch(buffer, offset);
+      return;
+    }
+
     if (TEMPLATE_ID != templateId) {
       throw new RequestReaderException.InvalidTemplateException(
           messageHeaderDecoder.templateId(), templateId);
@@ -121,6 +142,72 @@ public class CommandApiRequestReader implements RequestReader<ExecuteCommandRequ
     }
   }
 
+  private void wrapBatch(final DirectBuffer buffer, final int offset) {
+    isBatch = true;
+    batchBuffer = buffer;
+    batchRequestDecoder.wrap(
+        buffer,
+        offset + MessageHeaderDecoder.ENCODED_LENGTH,
+        messageHeaderDecoder.blockLength(),
+        messageHeaderDecoder.version());
+
+    // only the position of each command is remembered here; the commands are decoded one at a
+    // time by #wrapBatchedCommand, so a batch doesn't need a reader per command
+    final CommandsDecoder commandsDecoder = batchRequestDecoder.commands();
+    while (commandsDecoder.hasNext()) {
+      commandsDecoder.next();
+
+      final int commandLength = commandsDecoder.commandLength();
+      batchedCommandOffsets.addInt(
+          batchRequestDecoder.limit() + CommandsDecoder.commandHeaderLength());
+      batchedCommandLengths.addInt(commandLength);
+      commandsDecoder.skipCommand();
+    }
+  }
+
+  /**
+   * @return true if the request is an {@link ExecuteCommandBatchRequestDecoder batch request}, in
+   *     which case the commands are available via {@link #wrapBatchedCommand(int)}
+   */
+  public boolean isBatch() {
+    return isBatch;
+  }
+
+  /**
+   * @return the number of commands of a batch request
+   */
+  public int batchSize() {
+    return batchedCommandOffsets.size();
+  }
+
+  /**
+   * Wraps the command with the given index of a batch request. The returned reader is shared by
+   * all commands of the batch, so it is only valid until the next call. The {@link #value() value}
+   * of a command is not reused, but the {@link #metadata() metadata} is.
+   *
+   * @param index the index of the command, in the order of the request
+   * @return a reader for the command
+   */
+  public CommandApiRequestReader wrapBatchedCommand(final int index) {
+    if (batchedCommandReader == null) {
+      batchedCommandReader = new CommandApiRequestReader();
+    }
+
+    // the value of the previous command may still be referenced, so it must not be reset
+    batchedCommandReader.value = null;
+    batchedCommandReader.metadata.reset();
+    batchedCommandReader.batchedCommandOffsets.clear();
+    batchedCommandReader.batchedCommandLengths.clear();
+    batchedCommandReader.isBatch = false;
+
+    // each command is a complete request; wrapping it in its own buffer keeps the capacity
+    // check for the optional authorization working
+    final int length = batchedCommandLengths.getInt(index);
+    batchedCommandBuffer.wrap(batchBuffer, batchedCommandOffsets.getInt(index), length);
+    batchedCommandReader.wrap(batchedCommandBuffer, 0, length);
+    return batchedCommandReader;
+  }
+
   public UnifiedRecordValue value() {
     return value;
   }
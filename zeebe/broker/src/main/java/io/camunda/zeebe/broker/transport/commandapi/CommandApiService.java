@@ -16,4 +16,12 @@ public interface CommandApiService {
   CommandResponseWriter newCommandResponseWriter();
 
   Consumer<TypedRecord<?>> getOnProcessedListener(int partitionId);
+
+  /**
+   * Scales the limit of the user commands which are admitted for the given partition.
+   *
+   * @param partitionId the partition
+   * @param writeRateFactor the factor, between 0 (exclusive) and 1 (inclusive)
+   */
+  void setWriteRateFactor(int partitionId, double writeRateFactor);
 }
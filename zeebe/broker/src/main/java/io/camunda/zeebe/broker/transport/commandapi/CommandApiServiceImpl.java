@@ -36,6 +36,7 @@ public final class CommandApiServiceImpl extends Actor
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
   private final CommandApiRequestHandler commandHandler;
+  private final CommandBatchResponseCollector batchResponses;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
@@ -49,7 +50,8 @@ public final class CommandApiServiceImpl extends Actor
     this.serverTransport = serverTransport;
     this.limiter = limiter;
     this.scheduler = scheduler;
-    commandHandler = new CommandApiRequestHandler();
+    batchResponses = new CommandBatchResponseCollector(serverTransport);
+    commandHandler = new CommandApiRequestHandler(batchResponses);
     queryHandler = new QueryApiRequestHandler(queryApiCfg);
   }
 
@@ -155,7 +157,7 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(batchResponses);
   }
 
   @Override
@@ -168,6 +170,11 @@ public final class CommandApiServiceImpl extends Actor
     };
   }
 
+  @Override
+  public void setWriteRateFactor(final int partitionId, final double writeRateFactor) {
+    limiter.setWriteRateFactor(partitionId, writeRateFactor);
+  }
+
   @Override
   public void onDiskSpaceNotAvailable() {
     actor.run(commandHandler::onDiskSpaceNotAvailable);
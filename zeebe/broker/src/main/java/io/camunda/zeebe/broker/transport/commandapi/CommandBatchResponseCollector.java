@@ -0,0 +1,135 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Collects the responses to the commands of a batch request and sends them back as a single
+ * response once every command was answered.
+ *
+ * <p>Every command of a batch is written to the log with its own synthetic request id. These ids
+ * are negative, so they can't collide with the ids assigned by the server transport, and skip
+ * {@code -1} which marks a record without request metadata. Responses for synthetic ids are kept
+ * back here, all other responses are passed through to the underlying {@link ServerOutput}.
+ *
+ * <p>Responses are sent from the stream processors of different partitions, so this class is
+ * thread safe.
+ */
+final class CommandBatchResponseCollector implements ServerOutput {
+
+  private final ServerOutput output;
+  private final Map<Long, PendingBatch> pendingCommands = new ConcurrentHashMap<>();
+  private final AtomicLong nextCommandRequestId = new AtomicLong(-2);
+
+  CommandBatchResponseCollector(final ServerOutput output) {
+    this.output = output;
+  }
+
+  @Override
+  public void sendResponse(final ServerResponse response) {
+    final var batch = pendingCommands.remove(response.getRequestId());
+    if (batch == null) {
+      output.sendResponse(response);
+      return;
+    }
+
+    // the response is reused by its writer, so it has to be copied before returning
+    final var bytes = new byte[response.getLength()];
+    response.write(new UnsafeBuffer(bytes), 0);
+    batch.onResponse(response.getRequestId(), bytes);
+  }
+
+  /**
+   * Registers a new batch request. Responses to the returned {@link PendingBatch#commandRequestId
+   * command request ids} are collected until all commands are answered.
+   *
+   * @param partitionId the partition on which the batch was received
+   * @param requestId the request id of the batch request
+   * @param size the number of commands in the batch
+   * @return the registered batch
+   */
+  PendingBatch register(final int partitionId, final long requestId, final int size) {
+    final long firstCommandRequestId = nextCommandRequestId.getAndAdd(-size);
+    final var batch = new PendingBatch(partitionId, requestId, firstCommandRequestId, size);
+    for (int i = 0; i < size; i++) {
+      pendingCommands.put(batch.commandRequestId(i), batch);
+    }
+
+    return batch;
+  }
+
+  /** Drops a batch, e.g. because its commands couldn't be written. No response is sent for it. */
+  void discard(final PendingBatch batch) {
+    for (int i = 0; i < batch.responses.length; i++) {
+      pendingCommands.remove(batch.commandRequestId(i));
+    }
+  }
+
+  /**
+   * Drops all batches received on the given partition. The server transport drops the open
+   * requests of the partition as well, so their responses could not be sent anymore.
+   */
+  void removePartition(final int partitionId) {
+    pendingCommands.values().removeIf(batch -> batch.partitionId == partitionId);
+  }
+
+  final class PendingBatch {
+    private final int partitionId;
+    private final long requestId;
+    private final long firstCommandRequestId;
+    private final byte[][] responses;
+    private final AtomicInteger remaining;
+
+    private PendingBatch(
+        final int partitionId,
+        final long requestId,
+        final long firstCommandRequestId,
+        final int size) {
+      this.partitionId = partitionId;
+      this.requestId = requestId;
+      this.firstCommandRequestId = firstCommandRequestId;
+      responses = new byte[size][];
+      remaining = new AtomicInteger(size);
+    }
+
+    long commandRequestId(final int index) {
+      return firstCommandRequestId - index;
+    }
+
+    private void onResponse(final long commandRequestId, final byte[] response) {
+      // every command id is removed from the pending commands exactly once, so each slot is
+      // written by a single thread; the counter publishes the slots to the completing thread
+      responses[(int) (firstCommandRequestId - commandRequestId)] = response;
+      if (remaining.decrementAndGet() == 0) {
+        sendBatchResponse();
+      }
+    }
+
+    private void sendBatchResponse() {
+      final var batchResponse = new ExecuteCommandBatchResponse().setPartitionId(partitionId);
+      for (final byte[] response : responses) {
+        batchResponse.addResponse(new UnsafeBuffer(response));
+      }
+
+      output.sendResponse(
+          new ServerResponseImpl()
+              .setPartitionId(partitionId)
+              .setRequestId(requestId)
+              .writer(batchResponse));
+    }
+  }
+}
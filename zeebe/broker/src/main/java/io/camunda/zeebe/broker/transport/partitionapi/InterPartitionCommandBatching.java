@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import java.time.Duration;
+
+/**
+ * Configures how commands for the same partition are batched by the {@link
+ * InterPartitionCommandSenderService}. A batch is sent once it contains {@code maxCommands}
+ * commands or {@code maxSize} bytes, or at the latest after the {@code linger} time since its first
+ * command was added.
+ *
+ * @param linger the maximum time a command waits for more commands before it is sent
+ * @param maxCommands the maximum number of commands in a batch
+ * @param maxSize the maximum size of the encoded commands of a batch in bytes
+ */
+public record InterPartitionCommandBatching(Duration linger, int maxCommands, int maxSize) {
+
+  public InterPartitionCommandBatching {
+    if (linger.isNegative() || linger.isZero()) {
+      throw new IllegalArgumentException(
+          "Expected linger to be positive, but was %s".formatted(linger));
+    }
+    if (maxCommands < 1) {
+      throw new IllegalArgumentException(
+          "Expected maxCommands to be >= 1, but was %d".formatted(maxCommands));
+    }
+    if (maxSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected maxSize to be >= 1, but was %d".formatted(maxSize));
+    }
+  }
+}
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.transport.partitionapi;
 import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchDecoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageDecoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderDecoder;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
@@ -25,6 +26,8 @@ import io.camunda.zeebe.protocol.record.intent.management.CheckpointIntent;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
@@ -44,7 +47,62 @@ final class InterPartitionCommandReceiverImpl {
     LOG.trace("Received message from {}", memberId);
 
     final var decoded = decoder.decodeMessage(message);
+    handleMessage(memberId, decoded);
+  }
+
+  /**
+   * Appends all commands of the batch to the log at once, preceded by checkpoint commands where a
+   * command was sent after a newer checkpoint. If the batch is too big to be appended at once, each
+   * command is appended on its own instead.
+   */
+  void handleBatch(final MemberId memberId, final byte[] batch) {
+    final var messages = decoder.decodeBatch(batch);
+    LOG.trace("Received batch of {} messages from {}", messages.size(), memberId);
 
+    if (!diskSpaceAvailable) {
+      LOG.warn(
+          "Ignoring batch of {} commands from {}, no disk space available",
+          messages.size(),
+          memberId);
+      return;
+    }
+
+    final var appendEntries = new ArrayList<LogAppendEntry>(messages.size() + 1);
+    long batchCheckpointId = checkpointId;
+    for (final var decoded : messages) {
+      if (decoded.checkpointId > batchCheckpointId) {
+        // the checkpoint must be created before the commands which were sent after it
+        batchCheckpointId = decoded.checkpointId;
+        appendEntries.add(createCheckpointEntry(batchCheckpointId));
+      }
+      appendEntries.add(createCommandEntry(decoded));
+    }
+    int batchLength = 0;
+    for (final var appendEntry : appendEntries) {
+      batchLength += appendEntry.getLength();
+    }
+
+    if (!logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      LOG.debug(
+          "Batch of {} commands from {} is too big to be written at once, writing each command",
+          messages.size(),
+          memberId);
+      messages.forEach(decoded -> handleMessage(memberId, decoded));
+      return;
+    }
+
+    logStreamWriter
+        .tryWrite(appendEntries)
+        .ifLeft(
+            failure ->
+                LOG.warn(
+                    "Failed to write batch of {} commands from {} to logstream (error = {})",
+                    messages.size(),
+                    memberId,
+                    failure));
+  }
+
+  private void handleMessage(final MemberId memberId, final DecodedMessage decoded) {
     if (!diskSpaceAvailable) {
       LOG.warn(
           "Ignoring command {} {} from {}, checkpoint {}, no disk space available",
@@ -99,23 +157,28 @@ final class InterPartitionCommandReceiverImpl {
         "Received command with checkpoint {}, current checkpoint is {}",
         decoded.checkpointId,
         checkpointId);
+    return logStreamWriter.tryWrite(createCheckpointEntry(decoded.checkpointId));
+  }
+
+  private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
+    return logStreamWriter.tryWrite(createCommandEntry(decoded));
+  }
+
+  private LogAppendEntry createCheckpointEntry(final long checkpointId) {
     final var metadata =
         new RecordMetadata()
             .recordType(RecordType.COMMAND)
             .intent(CheckpointIntent.CREATE)
             .valueType(ValueType.CHECKPOINT);
-    final var checkpointRecord = new CheckpointRecord().setCheckpointId(decoded.checkpointId);
-    return logStreamWriter.tryWrite(LogAppendEntry.of(metadata, checkpointRecord));
+    final var checkpointRecord = new CheckpointRecord().setCheckpointId(checkpointId);
+    return LogAppendEntry.of(metadata, checkpointRecord);
   }
 
-  private Either<WriteFailure, Long> writeCommand(final DecodedMessage decoded) {
-    final var appendEntry =
-        decoded
-            .recordKey()
-            .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
-            .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
-
-    return logStreamWriter.tryWrite(appendEntry);
+  private LogAppendEntry createCommandEntry(final DecodedMessage decoded) {
+    return decoded
+        .recordKey()
+        .map(key -> LogAppendEntry.of(key, decoded.metadata(), decoded.command()))
+        .orElseGet(() -> LogAppendEntry.of(decoded.metadata(), decoded.command()));
   }
 
   void setDiskSpaceAvailable(final boolean available) {
@@ -134,8 +197,26 @@ final class InterPartitionCommandReceiverImpl {
 
   private static final class Decoder {
     private final InterPartitionMessageDecoder messageDecoder = new InterPartitionMessageDecoder();
+    private final InterPartitionMessageBatchDecoder batchDecoder =
+        new InterPartitionMessageBatchDecoder();
     private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
 
+    List<DecodedMessage> decodeBatch(final byte[] batch) {
+      batchDecoder.wrapAndApplyHeader(new UnsafeBuffer(batch), 0, headerDecoder);
+
+      final var messagesDecoder = batchDecoder.messages();
+      final var messages = new ArrayList<DecodedMessage>(messagesDecoder.count());
+      while (messagesDecoder.hasNext()) {
+        messagesDecoder.next();
+        // each decoded command wraps its own message, so that it can be used after the next one is
+        // decoded
+        final var message = new byte[messagesDecoder.messageLength()];
+        messagesDecoder.getMessage(message, 0, message.length);
+        messages.add(decodeMessage(message));
+      }
+      return messages;
+    }
+
     DecodedMessage decodeMessage(final byte[] message) {
       final var messageBuffer = new UnsafeBuffer();
       final var recordMetadata = new RecordMetadata();
@@ -12,30 +12,57 @@ import io.atomix.cluster.messaging.ClusterCommunicationService;
 import io.atomix.utils.serializer.serializers.DefaultSerializers;
 import io.camunda.zeebe.backup.processing.state.CheckpointState;
 import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder;
+import io.camunda.zeebe.broker.protocol.InterPartitionMessageBatchEncoder.MessagesEncoder;
 import io.camunda.zeebe.broker.protocol.InterPartitionMessageEncoder;
 import io.camunda.zeebe.broker.protocol.MessageHeaderEncoder;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import org.agrona.collections.Int2IntHashMap;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 final class InterPartitionCommandSenderImpl implements InterPartitionCommandSender {
 
   public static final String TOPIC_PREFIX = "inter-partition-";
+  public static final String BATCH_TOPIC_PREFIX = "inter-partition-batch-";
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private final ClusterCommunicationService communicationService;
+  private final InterPartitionCommandBatching batching;
+  private final ConcurrencyControl concurrencyControl;
 
   private final Int2IntHashMap partitionLeaders = new Int2IntHashMap(-1);
+  private final Int2ObjectHashMap<PendingBatch> pendingBatches = new Int2ObjectHashMap<>();
   private long checkpointId = CheckpointState.NO_CHECKPOINT;
 
   public InterPartitionCommandSenderImpl(final ClusterCommunicationService communicationService) {
+    this(communicationService, null, null);
+  }
+
+  /**
+   * Creates a sender which batches the commands for each receiving partition, if batching is
+   * configured. Otherwise, each command is sent immediately.
+   *
+   * @param batching the batching settings, or null to send each command immediately
+   * @param concurrencyControl used to send pending batches once their linger time has passed
+   */
+  public InterPartitionCommandSenderImpl(
+      final ClusterCommunicationService communicationService,
+      final InterPartitionCommandBatching batching,
+      final ConcurrencyControl concurrencyControl) {
     this.communicationService = communicationService;
+    this.batching = batching;
+    this.concurrencyControl = concurrencyControl;
   }
 
   @Override
@@ -74,8 +101,73 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
     final var message =
         Encoder.encode(checkpointId, receiverPartitionId, valueType, intent, recordKey, command);
 
+    if (batching == null) {
+      send(TOPIC_PREFIX, receiverPartitionId, message);
+    } else {
+      addToBatch(receiverPartitionId, message);
+    }
+  }
+
+  /** Sends all pending batches immediately, e.g. before the sender is closed. */
+  void flush() {
+    pendingBatches.values().forEach(this::flush);
+  }
+
+  private void addToBatch(final int receiverPartitionId, final byte[] message) {
+    final var batch = pendingBatches.computeIfAbsent(receiverPartitionId, PendingBatch::new);
+    if (!batch.messages.isEmpty() && batch.size + message.length > batching.maxSize()) {
+      flush(batch);
+    }
+
+    batch.add(message);
+
+    if (batch.messages.size() >= batching.maxCommands() || batch.size >= batching.maxSize()) {
+      flush(batch);
+    } else if (batch.timer == null) {
+      batch.timer =
+          concurrencyControl.schedule(
+              batching.linger(),
+              () -> {
+                batch.timer = null;
+                flush(batch);
+              });
+    }
+  }
+
+  private void flush(final PendingBatch batch) {
+    if (batch.timer != null) {
+      batch.timer.cancel();
+      batch.timer = null;
+    }
+
+    // a single command is sent as a batch too, as the commands sent on different topics may be
+    // received out of order
+    if (!batch.messages.isEmpty()) {
+      LOG.trace(
+          "Sending batch of {} commands to partition {}",
+          batch.messages.size(),
+          batch.receiverPartitionId);
+      send(
+          BATCH_TOPIC_PREFIX,
+          batch.receiverPartitionId,
+          Encoder.encodeBatch(batch.receiverPartitionId, batch.messages, batch.size));
+    }
+
+    batch.clear();
+  }
+
+  private void send(final String topicPrefix, final int receiverPartitionId, final byte[] message) {
+    // the leader may have changed since a batched command was added to the batch
+    final int partitionLeader = partitionLeaders.get(receiverPartitionId);
+    if (partitionLeader == partitionLeaders.missingValue()) {
+      LOG.warn(
+          "Not sending commands to partition {}, no known leader for this partition",
+          receiverPartitionId);
+      return;
+    }
+
     communicationService.unicast(
-        TOPIC_PREFIX + receiverPartitionId,
+        topicPrefix + receiverPartitionId,
         message,
         DefaultSerializers.BASIC::encode,
         MemberId.from("" + partitionLeader),
@@ -124,5 +216,50 @@ final class InterPartitionCommandSenderImpl implements InterPartitionCommandSend
 
       return messageBuffer.byteArray();
     }
+
+    private static byte[] encodeBatch(
+        final int receiverPartitionId, final List<byte[]> messages, final int messagesSize) {
+      final var batchLength =
+          MessageHeaderEncoder.ENCODED_LENGTH
+              + InterPartitionMessageBatchEncoder.BLOCK_LENGTH
+              + MessagesEncoder.sbeHeaderSize()
+              + messages.size() * MessagesEncoder.messageHeaderLength()
+              + messagesSize;
+
+      final var headerEncoder = new MessageHeaderEncoder();
+      final var bodyEncoder = new InterPartitionMessageBatchEncoder();
+      final var batchBuffer = new UnsafeBuffer(new byte[batchLength]);
+      final var messagesEncoder =
+          bodyEncoder
+              .wrapAndApplyHeader(batchBuffer, 0, headerEncoder)
+              .receiverPartitionId(receiverPartitionId)
+              .messagesCount(messages.size());
+      for (final var message : messages) {
+        messagesEncoder.next().putMessage(message, 0, message.length);
+      }
+
+      return batchBuffer.byteArray();
+    }
+  }
+
+  private static final class PendingBatch {
+    private final int receiverPartitionId;
+    private final List<byte[]> messages = new ArrayList<>();
+    private int size;
+    private ScheduledTimer timer;
+
+    private PendingBatch(final int receiverPartitionId) {
+      this.receiverPartitionId = receiverPartitionId;
+    }
+
+    private void add(final byte[] message) {
+      messages.add(message);
+      size += message.length;
+    }
+
+    private void clear() {
+      messages.clear();
+      size = 0;
+    }
   }
 }
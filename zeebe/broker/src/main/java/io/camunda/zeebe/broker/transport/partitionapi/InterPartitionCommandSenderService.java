@@ -25,10 +25,26 @@ public final class InterPartitionCommandSenderService extends Actor
 
   public InterPartitionCommandSenderService(
       final ClusterCommunicationService communicationService, final int partitionId) {
-    commandSender = new InterPartitionCommandSenderImpl(communicationService);
+    this(communicationService, partitionId, null);
+  }
+
+  /**
+   * @param batching the settings to batch the commands for each receiving partition, or null to
+   *     send each command immediately
+   */
+  public InterPartitionCommandSenderService(
+      final ClusterCommunicationService communicationService,
+      final int partitionId,
+      final InterPartitionCommandBatching batching) {
+    commandSender = new InterPartitionCommandSenderImpl(communicationService, batching, actor);
     this.partitionId = partitionId;
   }
 
+  @Override
+  protected void onActorClosing() {
+    commandSender.flush();
+  }
+
   @Override
   public void onNewCheckpointCreated(final long checkpointId) {
     actor.submit(() -> commandSender.setCheckpointId(checkpointId));
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.broker.system.configuration.backpressure.BackpressureCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.BackpressureCfg.LimitAlgorithm;
@@ -15,6 +16,7 @@ import io.camunda.zeebe.broker.system.configuration.backpressure.FixedCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.Gradient2Cfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.GradientCfg;
 import io.camunda.zeebe.broker.system.configuration.backpressure.VegasCfg;
+import io.camunda.zeebe.broker.system.configuration.backpressure.WriteRateCfg;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +36,27 @@ public final class BackpressureCfgTest {
     assertThat(backpressure.isEnabled()).isTrue();
     assertThat(backpressure.useWindowed()).isFalse();
     assertThat(backpressure.getAlgorithm()).isEqualTo(LimitAlgorithm.GRADIENT);
+    assertThat(backpressure.getLowPriorityLimitRatio()).isEqualTo(0.6);
+  }
+
+  @Test
+  public void shouldReserveShareOfLimitByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-fixed-cfg", environment);
+
+    // then
+    assertThat(cfg.getBackpressure().getLowPriorityLimitRatio()).isEqualTo(0.8);
+  }
+
+  @Test
+  public void shouldRejectLowPriorityLimitRatioOutOfRange() {
+    // given
+    environment.put("zeebe.broker.backpressure.lowPriorityLimitRatio", "1.5");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("backpressure-fixed-cfg", environment))
+        .hasRootCauseInstanceOf(IllegalArgumentException.class)
+        .hasRootCauseMessage("Expected lowPriorityLimitRatio to be in (0, 1], but found 1.5");
   }
 
   @Test
@@ -99,6 +122,53 @@ public final class BackpressureCfgTest {
     assertThat(gradient2Cfg.getLongWindow()).isEqualTo(300);
   }
 
+  @Test
+  public void shouldSetWriteRateCfg() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-cfg", environment);
+    final WriteRateCfg writeRateCfg = cfg.getBackpressure().getWriteRate();
+
+    // then
+    assertThat(writeRateCfg.isEnabled()).isTrue();
+    assertThat(writeRateCfg.getCheckInterval()).isEqualTo(Duration.ofSeconds(5));
+    assertThat(writeRateCfg.getExporterLagThreshold()).isEqualTo(1000);
+    assertThat(writeRateCfg.getMaxExporterLag()).isEqualTo(5000);
+    assertThat(writeRateCfg.getCompactionLagThreshold()).isEqualTo(2000);
+    assertThat(writeRateCfg.getMaxCompactionLag()).isEqualTo(8000);
+    assertThat(writeRateCfg.getMinFactor()).isEqualTo(0.25);
+  }
+
+  @Test
+  public void shouldDisableWriteRateByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-fixed-cfg", environment);
+
+    // then
+    assertThat(cfg.getBackpressure().getWriteRate().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldRejectExporterLagThresholdAboveMaxExporterLag() {
+    // given
+    environment.put("zeebe.broker.backpressure.writeRate.exporterLagThreshold", "2000000");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("backpressure-fixed-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected maxExporterLag to be >= exporterLagThreshold");
+  }
+
+  @Test
+  public void shouldRejectCompactionLagThresholdAboveMaxCompactionLag() {
+    // given
+    environment.put("zeebe.broker.backpressure.writeRate.maxCompactionLag", "1000");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("backpressure-fixed-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Expected maxCompactionLag to be >= compactionLagThreshold");
+  }
+
   @Test
   public void shouldUseConfiguredBackpressureAlgorithms() {
 
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.Duration;
 import org.junit.Test;
@@ -39,4 +40,29 @@ public class DataCfgTest {
     assertThat(dataCfg.getDisk().getMonitoringInterval()).isEqualTo(Duration.ofMinutes(5));
     assertThat(dataCfg.getDisk().isEnableMonitoring()).isFalse();
   }
+
+  @Test
+  public void shouldDisableAdaptiveSnapshotsByDefault() {
+    // when
+    final DataCfg dataCfg = new DataCfg();
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getAdaptiveSnapshot().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldRejectAdaptiveSnapshotMinPeriodLargerThanSnapshotPeriod() {
+    // given
+    final BrokerCfg brokerCfg = new BrokerCfg();
+    final DataCfg dataCfg = brokerCfg.getData();
+    dataCfg.setSnapshotPeriod(Duration.ofMinutes(5));
+    dataCfg.getAdaptiveSnapshot().setEnabled(true);
+    dataCfg.getAdaptiveSnapshot().setMinPeriod(Duration.ofMinutes(10));
+
+    // when - then
+    assertThatThrownBy(() -> dataCfg.init(brokerCfg, "/base"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("minPeriod");
+  }
 }
@@ -29,7 +29,13 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofMinutes(1));
+    assertThat(configuration.getMessagesTtlCheckerTimeBudget()).isEqualTo(Duration.ofMillis(100));
+    assertThat(configuration.isMessagesTtlCheckerBatchExpiry()).isFalse();
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(1000L);
+    assertThat(configuration.getDecisionEvaluationCacheCapacity()).isEqualTo(32);
+    assertThat(configuration.getCacheWarmUpLimit()).isEqualTo(100);
+    assertThat(configuration.getCacheWarmUpThreads()).isEqualTo(2);
+    assertThat(configuration.getDeploymentTransformationThreads()).isEqualTo(2);
   }
 
   @Test
@@ -43,6 +49,12 @@ final class EngineCfgTest {
     // then
     assertThat(configuration.getMessagesTtlCheckerBatchLimit()).isEqualTo(1000);
     assertThat(configuration.getMessagesTtlCheckerInterval()).isEqualTo(Duration.ofSeconds(15));
+    assertThat(configuration.getMessagesTtlCheckerTimeBudget()).isEqualTo(Duration.ofMillis(50));
+    assertThat(configuration.isMessagesTtlCheckerBatchExpiry()).isTrue();
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getDecisionEvaluationCacheCapacity()).isEqualTo(500);
+    assertThat(configuration.getCacheWarmUpLimit()).isEqualTo(20);
+    assertThat(configuration.getCacheWarmUpThreads()).isEqualTo(4);
+    assertThat(configuration.getDeploymentTransformationThreads()).isEqualTo(4);
   }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandBatching;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -181,4 +182,28 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetInterPartitionBatchingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var batching = cfg.getExperimental().getInterPartitionBatching().getBatching();
+
+    // then
+    assertThat(batching)
+        .hasValue(new InterPartitionCommandBatching(Duration.ofMillis(10), 50, 32 * 1024));
+  }
+
+  @Test
+  void shouldDisableInterPartitionBatchingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.interPartitionBatching.enabled", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var batching = cfg.getExperimental().getInterPartitionBatching().getBatching();
+
+    // then
+    assertThat(batching).isEmpty();
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.broker.SpringBrokerBridge;
+import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import io.camunda.zeebe.engine.state.query.StateQueries;
+import io.camunda.zeebe.engine.state.query.StateQueries.QueriedValue;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+@ExtendWith(MockitoExtension.class)
+final class StateQueryEndpointTest {
+
+  private final SpringBrokerBridge bridge = new SpringBrokerBridge();
+  private final StateQueryEndpoint endpoint = new StateQueryEndpoint(bridge);
+
+  @Mock private BrokerAdminService adminService;
+  @Mock private StateQueries stateQueries;
+
+  @BeforeEach
+  void setup() {
+    bridge.registerBrokerAdminServiceSupplier(() -> adminService);
+  }
+
+  @Test
+  void shouldReturnJob() {
+    // given
+    final var job = new QueriedValue(2L, "ACTIVATABLE", Map.of("type", "test"));
+    when(adminService.getStateQueries(1)).thenReturn(Optional.of(stateQueries));
+    when(stateQueries.getJob(2L)).thenReturn(Optional.of(job));
+
+    // when
+    final var response = endpoint.query(1, StateQueryEndpoint.JOBS, 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+    assertThat(response.getBody()).isEqualTo(job);
+  }
+
+  @Test
+  void shouldReturnVariables() {
+    // given
+    when(adminService.getStateQueries(1)).thenReturn(Optional.of(stateQueries));
+    when(stateQueries.getVariables(2L)).thenReturn(Map.of("foo", "bar"));
+
+    // when
+    final var response = endpoint.query(1, StateQueryEndpoint.VARIABLES, 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+    assertThat(response.getBody()).isEqualTo(Map.of("foo", "bar"));
+  }
+
+  @Test
+  void shouldReturnNotFoundIfValueDoesNotExist() {
+    // given
+    when(adminService.getStateQueries(1)).thenReturn(Optional.of(stateQueries));
+    when(stateQueries.getElementInstance(2L)).thenReturn(Optional.empty());
+
+    // when
+    final var response = endpoint.query(1, StateQueryEndpoint.ELEMENT_INSTANCES, 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+  }
+
+  @Test
+  void shouldRejectUnknownType() {
+    // given
+    when(adminService.getStateQueries(1)).thenReturn(Optional.of(stateQueries));
+
+    // when
+    final var response = endpoint.query(1, "timers", 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+  }
+
+  @Test
+  void shouldBeUnavailableIfPartitionIsNotRunning() {
+    // given
+    when(adminService.getStateQueries(1)).thenReturn(Optional.empty());
+
+    // when
+    final var response = endpoint.query(1, StateQueryEndpoint.INCIDENTS, 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void shouldBeUnavailableIfQueriesAreClosed() {
+    // given
+    when(adminService.getStateQueries(1)).thenReturn(Optional.of(stateQueries));
+    when(stateQueries.getIncident(2L)).thenThrow(new ClosedServiceException());
+
+    // when
+    final var response = endpoint.query(1, StateQueryEndpoint.INCIDENTS, 2L);
+
+    // then
+    assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+  }
+}
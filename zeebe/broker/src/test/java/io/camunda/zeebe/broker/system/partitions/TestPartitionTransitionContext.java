@@ -23,6 +23,7 @@ import io.camunda.zeebe.broker.partitioning.topology.TopologyManager;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRateMonitor;
 import io.camunda.zeebe.broker.transport.adminapi.AdminApiRequestHandler;
 import io.camunda.zeebe.broker.transport.backupapi.BackupApiRequestHandler;
 import io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandReceiverActor;
@@ -45,6 +46,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 public class TestPartitionTransitionContext implements PartitionTransitionContext {
 
@@ -67,11 +69,14 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private ConcurrencyControl concurrencyControl;
   private InterPartitionCommandReceiverActor interPartitionCommandReceiver;
   private DiskSpaceUsageMonitor diskSpaceUsageMonitor;
+  private PersistedSnapshotStore persistedSnapshotStore;
   private AtomixServerTransport gatewayBrokerTransport;
   private BackupApiRequestHandler backupApiRequestHandler;
   private BackupManager backupManager;
   private CheckpointRecordsProcessor checkpointRecordsProcessor;
   private BackupStore backupStore;
+  private DoubleConsumer writeRateFactorListener = factor -> {};
+  private WriteRateMonitor writeRateMonitor;
 
   @Override
   public int getPartitionId() {
@@ -279,6 +284,25 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
     this.backupStore = backupStore;
   }
 
+  @Override
+  public DoubleConsumer getWriteRateFactorListener() {
+    return writeRateFactorListener;
+  }
+
+  public void setWriteRateFactorListener(final DoubleConsumer writeRateFactorListener) {
+    this.writeRateFactorListener = writeRateFactorListener;
+  }
+
+  @Override
+  public WriteRateMonitor getWriteRateMonitor() {
+    return writeRateMonitor;
+  }
+
+  @Override
+  public void setWriteRateMonitor(final WriteRateMonitor writeRateMonitor) {
+    this.writeRateMonitor = writeRateMonitor;
+  }
+
   public void setGatewayBrokerTransport(final AtomixServerTransport gatewayBrokerTransport) {
     this.gatewayBrokerTransport = gatewayBrokerTransport;
   }
@@ -399,7 +423,11 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
 
   @Override
   public PersistedSnapshotStore getPersistedSnapshotStore() {
-    return null;
+    return persistedSnapshotStore;
+  }
+
+  public void setPersistedSnapshotStore(final PersistedSnapshotStore persistedSnapshotStore) {
+    this.persistedSnapshotStore = persistedSnapshotStore;
   }
 
   @Override
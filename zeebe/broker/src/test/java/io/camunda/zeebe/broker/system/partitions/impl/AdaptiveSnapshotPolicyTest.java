@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.system.partitions.impl.AdaptiveSnapshotPolicy.Trigger;
+import io.camunda.zeebe.snapshots.impl.FileBasedSnapshotMetadata;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveSnapshotPolicyTest {
+
+  private static final Duration MIN_PERIOD = Duration.ofMinutes(1);
+  private static final Duration MAX_PERIOD = Duration.ofMinutes(15);
+
+  private final AdaptiveSnapshotPolicy policy =
+      new AdaptiveSnapshotPolicy(MIN_PERIOD, MAX_PERIOD, 100_000, Duration.ofSeconds(30), 1_000);
+
+  @Test
+  void shouldNotTriggerIfNothingWasProcessed() {
+    // when
+    final var trigger = policy.evaluate(MAX_PERIOD.multipliedBy(2), 0, false);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.NONE);
+  }
+
+  @Test
+  void shouldNotTriggerBeforeMinPeriod() {
+    // when
+    final var trigger = policy.evaluate(MIN_PERIOD.minusSeconds(1), 1_000_000, false);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.NONE);
+  }
+
+  @Test
+  void shouldNotTriggerIfBelowThresholds() {
+    // when
+    final var trigger = policy.evaluate(MIN_PERIOD, 1_000, true);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.NONE);
+  }
+
+  @Test
+  void shouldTriggerAfterMaxPeriod() {
+    // when
+    final var trigger = policy.evaluate(MAX_PERIOD, 1, true);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.MAX_PERIOD);
+  }
+
+  @Test
+  void shouldTriggerIfDiskSpaceIsNotAvailable() {
+    // when
+    final var trigger = policy.evaluate(MIN_PERIOD, 1, false);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.DISK_SPACE);
+  }
+
+  @Test
+  void shouldTriggerOnNumberOfRecords() {
+    // given
+    final var fastReplayPolicy =
+        new AdaptiveSnapshotPolicy(MIN_PERIOD, MAX_PERIOD, 100_000, Duration.ofHours(1), 1_000_000);
+
+    // when
+    final var trigger = fastReplayPolicy.evaluate(MIN_PERIOD, 100_000, true);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.RECORDS);
+  }
+
+  @Test
+  void shouldTriggerOnEstimatedReplayDuration() {
+    // when
+    final var trigger = policy.evaluate(MIN_PERIOD, 30_000, true);
+
+    // then
+    assertThat(trigger).isEqualTo(Trigger.REPLAY_DURATION);
+  }
+
+  @Test
+  void shouldEstimateReplayDuration() {
+    // when
+    final var replayDuration = policy.estimateReplayDuration(2_500);
+
+    // then
+    assertThat(replayDuration).isEqualTo(Duration.ofMillis(2_500));
+  }
+
+  @Test
+  void shouldTriggerOnIdlePartitionOnceExportersCaughtUp() {
+    // given - the snapshot was taken while the exporters lagged behind
+    final var snapshot = new FileBasedSnapshotMetadata(1, 1_000, 400, 1_000);
+
+    // when - nothing was processed since, but the exporters caught up
+    final var records = policy.recordsSinceSnapshot(snapshot, 1_000, 1_000);
+    final var trigger = policy.evaluate(MAX_PERIOD, records, true);
+
+    // then
+    assertThat(records).isEqualTo(600);
+    assertThat(trigger).isEqualTo(Trigger.MAX_PERIOD);
+  }
+
+  @Test
+  void shouldNotCountRecordsIfNothingWasProcessedOrExported() {
+    // given
+    final var snapshot = new FileBasedSnapshotMetadata(1, 1_000, 400, 1_000);
+
+    // when
+    final var records = policy.recordsSinceSnapshot(snapshot, 1_000, 400);
+
+    // then
+    assertThat(records).isZero();
+  }
+
+  @Test
+  void shouldCountProcessedRecordsIfExportersLagBehind() {
+    // given
+    final var snapshot = new FileBasedSnapshotMetadata(1, 1_000, 400, 1_000);
+
+    // when
+    final var records = policy.recordsSinceSnapshot(snapshot, 2_500, 500);
+
+    // then
+    assertThat(records).isEqualTo(1_500);
+  }
+
+  @Test
+  void shouldCountProcessedRecordsWithoutExporters() {
+    // given
+    final var snapshot = new FileBasedSnapshotMetadata(1, 1_000, Long.MAX_VALUE, 1_000);
+
+    // when
+    final var records = policy.recordsSinceSnapshot(snapshot, 2_500, Long.MAX_VALUE);
+
+    // then
+    assertThat(records).isEqualTo(1_500);
+  }
+
+  @Test
+  void shouldCountRecordsSinceStartWithoutSnapshot() {
+    // when
+    final var records = policy.recordsSinceSnapshot(null, 2_500, 100);
+
+    // then
+    assertThat(records).isEqualTo(2_500);
+  }
+}
@@ -450,6 +450,11 @@ public class RandomizedPartitionTransitionTest {
       throw new IllegalStateException("Not implemented");
     }
 
+    @Override
+    public ActorFuture<Long> getExportedPosition() {
+      throw new IllegalStateException("Not implemented");
+    }
+
     @Override
     public ActorFuture<ZeebeDb> recover() {
       zeebeDb = mock(ZeebeDb.class);
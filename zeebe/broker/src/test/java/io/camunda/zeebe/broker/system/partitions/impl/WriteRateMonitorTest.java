@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
+import io.camunda.zeebe.snapshots.SnapshotMetadata;
+import io.camunda.zeebe.stream.impl.StreamProcessor;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.DoubleConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class WriteRateMonitorTest {
+
+  private static final Duration CHECK_INTERVAL = Duration.ofSeconds(1);
+
+  @RegisterExtension
+  final ControlledActorSchedulerExtension scheduler = new ControlledActorSchedulerExtension();
+
+  @Mock WriteRatePolicy policy;
+  @Mock StreamProcessor streamProcessor;
+  @Mock ExporterDirector exporterDirector;
+  @Mock PersistedSnapshotStore snapshotStore;
+  @Mock PersistedSnapshot snapshot;
+  @Mock SnapshotMetadata snapshotMetadata;
+  @Mock DoubleConsumer writeRateFactorListener;
+
+  @BeforeEach
+  void setup() {
+    when(streamProcessor.getLastWrittenPositionAsync())
+        .thenReturn(CompletableActorFuture.completed(10_000L));
+  }
+
+  @Test
+  void shouldEvaluateLags() {
+    // given
+    when(exporterDirector.getLowestPosition()).thenReturn(CompletableActorFuture.completed(7_000L));
+    givenSnapshot(9_000, 8_000);
+    when(policy.evaluate(3_000, 2_000)).thenReturn(0.5);
+
+    // when
+    check(exporterDirector);
+
+    // then
+    verify(policy).evaluate(3_000, 2_000);
+    verify(writeRateFactorListener).accept(0.5);
+  }
+
+  @Test
+  void shouldNotHaveExporterLagWithoutExporter() {
+    // given
+    givenSnapshot(9_000, 8_000);
+
+    // when
+    check(null);
+
+    // then
+    verify(policy).evaluate(0, 2_000);
+  }
+
+  @Test
+  void shouldNotHaveExporterLagWithoutExportedPosition() {
+    // given
+    when(exporterDirector.getLowestPosition()).thenReturn(CompletableActorFuture.completed(-1L));
+    givenSnapshot(9_000, 8_000);
+
+    // when
+    check(exporterDirector);
+
+    // then
+    verify(policy).evaluate(0, 2_000);
+  }
+
+  @Test
+  void shouldHaveWholeLogAsCompactionLagWithoutSnapshot() {
+    // given
+    when(exporterDirector.getLowestPosition()).thenReturn(CompletableActorFuture.completed(7_000L));
+    when(snapshotStore.getLatestSnapshot()).thenReturn(Optional.empty());
+
+    // when
+    check(exporterDirector);
+
+    // then
+    verify(policy).evaluate(3_000, 10_000);
+  }
+
+  private void givenSnapshot(final long processedPosition, final long exportedPosition) {
+    when(snapshotMetadata.processedPosition()).thenReturn(processedPosition);
+    when(snapshotMetadata.exportedPosition()).thenReturn(exportedPosition);
+    when(snapshot.getMetadata()).thenReturn(snapshotMetadata);
+    when(snapshotStore.getLatestSnapshot()).thenReturn(Optional.of(snapshot));
+  }
+
+  private void check(final ExporterDirector exporterDirector) {
+    final var monitor =
+        new WriteRateMonitor(
+            1,
+            CHECK_INTERVAL,
+            policy,
+            streamProcessor,
+            exporterDirector,
+            snapshotStore,
+            writeRateFactorListener);
+    scheduler.submitActor(monitor);
+    scheduler.workUntilDone();
+
+    scheduler.updateClock(CHECK_INTERVAL);
+    scheduler.workUntilDone();
+  }
+}
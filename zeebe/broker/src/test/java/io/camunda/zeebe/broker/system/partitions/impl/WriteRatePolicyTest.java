@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Test;
+
+final class WriteRatePolicyTest {
+
+  private final WriteRatePolicy policy = new WriteRatePolicy(1_000, 2_000, 10_000, 20_000, 0.2);
+
+  @Test
+  void shouldNotReduceBelowThresholds() {
+    // when
+    final var factor = policy.evaluate(1_000, 10_000);
+
+    // then
+    assertThat(factor).isEqualTo(1.0);
+  }
+
+  @Test
+  void shouldReduceLinearlyWithExporterLag() {
+    // when
+    final var factor = policy.evaluate(1_500, 0);
+
+    // then
+    assertThat(factor).isCloseTo(0.6, within(0.0001));
+  }
+
+  @Test
+  void shouldReduceLinearlyWithCompactionLag() {
+    // when
+    final var factor = policy.evaluate(0, 17_500);
+
+    // then
+    assertThat(factor).isCloseTo(0.4, within(0.0001));
+  }
+
+  @Test
+  void shouldNotReduceBelowMinFactor() {
+    // when
+    final var factor = policy.evaluate(1_000_000, 1_000_000);
+
+    // then
+    assertThat(factor).isEqualTo(0.2);
+  }
+
+  @Test
+  void shouldApplyLowestFactor() {
+    // when
+    final var factor = policy.evaluate(1_250, 15_000);
+
+    // then
+    assertThat(factor).isCloseTo(0.6, within(0.0001));
+  }
+
+  @Test
+  void shouldRejectMaxLagBelowThreshold() {
+    // when - then
+    assertThatThrownBy(() -> new WriteRatePolicy(2_000, 1_000, 10_000, 20_000, 0.2))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectInvalidMinFactor() {
+    // when - then
+    assertThatThrownBy(() -> new WriteRatePolicy(1_000, 2_000, 10_000, 20_000, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
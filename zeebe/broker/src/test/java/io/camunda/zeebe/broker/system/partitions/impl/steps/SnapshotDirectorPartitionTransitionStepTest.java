@@ -17,6 +17,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageMonitor;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.impl.AsyncSnapshotDirector;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldCloseService;
@@ -24,6 +25,7 @@ import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionT
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldInstallService;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
+import io.camunda.zeebe.snapshots.PersistedSnapshotStore;
 import io.camunda.zeebe.stream.impl.StreamProcessor;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,6 +49,7 @@ class SnapshotDirectorPartitionTransitionStepTest {
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
     transitionContext.setStreamProcessor(mock(StreamProcessor.class));
     transitionContext.setBrokerCfg(new BrokerCfg());
+    transitionContext.setDiskSpaceUsageMonitor(mock(DiskSpaceUsageMonitor.class));
 
     when(raftPartition.getServer()).thenReturn(raftServer);
     transitionContext.setRaftPartition(raftPartition);
@@ -120,6 +123,25 @@ class SnapshotDirectorPartitionTransitionStepTest {
     assertThat(transitionContext.getSnapshotDirector()).isNull();
   }
 
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"FOLLOWER", "LEADER"})
+  void shouldInstallAdaptiveSnapshotDirector(final Role targetRole) {
+    // given
+    transitionContext.getBrokerCfg().getData().getAdaptiveSnapshot().setEnabled(true);
+    transitionContext.setPersistedSnapshotStore(mock(PersistedSnapshotStore.class));
+    initializeContext(null);
+
+    // when
+    transitionTo(targetRole);
+
+    // then
+    final var director = transitionContext.getSnapshotDirector();
+    assertThat(director).isNotNull();
+    verify(transitionContext.getDiskSpaceUsageMonitor()).addDiskUsageListener(director);
+  }
+
   private void initializeContext(final Role currentRole) {
     transitionContext.setCurrentRole(currentRole);
     if (currentRole != null && currentRole != Role.INACTIVE) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.system.partitions.impl.steps;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.RaftServer.Role;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
+import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
+import io.camunda.zeebe.broker.system.partitions.impl.WriteRateMonitor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.testing.TestActorFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class WriteRateMonitorTransitionStepTest {
+
+  @Mock ActorSchedulingService actorSchedulingService;
+
+  private final BrokerCfg brokerCfg = new BrokerCfg();
+  private final TestPartitionTransitionContext transitionContext =
+      new TestPartitionTransitionContext();
+  private final WriteRateMonitorTransitionStep step = new WriteRateMonitorTransitionStep();
+
+  @BeforeEach
+  void setup() {
+    brokerCfg.getBackpressure().getWriteRate().setEnabled(true);
+    transitionContext.setActorSchedulingService(actorSchedulingService);
+    transitionContext.setBrokerCfg(brokerCfg);
+  }
+
+  @Test
+  void shouldInstallMonitorOnLeader() {
+    // given
+    when(actorSchedulingService.submitActor(any()))
+        .thenReturn(TestActorFuture.completedFuture(null));
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    assertThat(transitionContext.getWriteRateMonitor()).isNotNull();
+  }
+
+  @Test
+  void shouldNotInstallMonitorIfDisabled() {
+    // given
+    brokerCfg.getBackpressure().getWriteRate().setEnabled(false);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    assertThat(transitionContext.getWriteRateMonitor()).isNull();
+    verifyNoInteractions(actorSchedulingService);
+  }
+
+  @Test
+  void shouldNotInstallMonitorIfBackpressureIsDisabled() {
+    // given
+    brokerCfg.getBackpressure().setEnabled(false);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    assertThat(transitionContext.getWriteRateMonitor()).isNull();
+    verifyNoInteractions(actorSchedulingService);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"FOLLOWER", "CANDIDATE", "INACTIVE"})
+  void shouldNotInstallMonitorOnOtherRoles(final Role targetRole) {
+    // when
+    transitionTo(targetRole);
+
+    // then
+    assertThat(transitionContext.getWriteRateMonitor()).isNull();
+    verifyNoInteractions(actorSchedulingService);
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"FOLLOWER", "CANDIDATE", "INACTIVE"})
+  void shouldCloseMonitor(final Role targetRole, @Mock final WriteRateMonitor monitorFromPrevRole) {
+    // given
+    when(monitorFromPrevRole.closeAsync()).thenReturn(TestActorFuture.completedFuture(null));
+    transitionContext.setWriteRateMonitor(monitorFromPrevRole);
+
+    // when
+    transitionTo(targetRole);
+
+    // then
+    assertThat(transitionContext.getWriteRateMonitor()).isNull();
+    verify(monitorFromPrevRole).closeAsync();
+  }
+
+  private void transitionTo(final Role role) {
+    step.prepareTransition(transitionContext, 1, role).join();
+    step.transitionTo(transitionContext, 1, role).join();
+    transitionContext.setCurrentRole(role);
+  }
+}
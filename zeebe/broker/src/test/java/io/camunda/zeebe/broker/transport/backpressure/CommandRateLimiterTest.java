@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.transport.backpressure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.netflix.concurrency.limits.limit.SettableLimit;
 import io.camunda.zeebe.protocol.record.intent.CommandDistributionIntent;
@@ -17,6 +18,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableDocumentIntent;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
@@ -99,10 +101,106 @@ class CommandRateLimiterTest {
     assertThat(rateLimiter.tryAcquire(0, 1, intent)).isTrue();
   }
 
+  @Test
+  void shouldReserveShareOfLimitForHigherPriorities() {
+    // given
+    final var limiter =
+        CommandRateLimiter.builder().limit(limit).lowPriorityLimitRatio(0.6).build(0);
+    IntStream.range(0, 3).forEach(i -> assertThat(limiter.tryAcquire(0, i, context)).isTrue());
+
+    // when
+    final var lowPriorityAcquired = limiter.tryAcquire(0, 3, context);
+
+    // then
+    assertThat(lowPriorityAcquired).isFalse();
+    assertThat(limiter.tryAcquire(0, 3, VariableDocumentIntent.UPDATE)).isTrue();
+    assertThat(limiter.tryAcquire(0, 4, VariableDocumentIntent.UPDATE)).isTrue();
+    assertThat(limiter.tryAcquire(0, 5, VariableDocumentIntent.UPDATE)).isFalse();
+    assertThat(limiter.tryAcquire(0, 5, JobIntent.COMPLETE)).isTrue();
+  }
+
+  @Test
+  void shouldAdmitLowPriorityCommandAgainAfterResponse() {
+    // given
+    final var limiter =
+        CommandRateLimiter.builder().limit(limit).lowPriorityLimitRatio(0.6).build(0);
+    IntStream.range(0, 3).forEach(i -> limiter.tryAcquire(0, i, context));
+    assertThat(limiter.tryAcquire(0, 3, context)).isFalse();
+
+    // when
+    limiter.onResponse(0, 0);
+
+    // then
+    assertThat(limiter.tryAcquire(0, 3, context)).isTrue();
+  }
+
+  @Test
+  void shouldAdmitAtLeastOneLowPriorityCommand() {
+    // given
+    final var limiter =
+        CommandRateLimiter.builder()
+            .limit(new SettableLimit(1))
+            .lowPriorityLimitRatio(0.1)
+            .build(0);
+
+    // when - then
+    assertThat(limiter.tryAcquire(0, 1, context)).isTrue();
+    assertThat(limiter.tryAcquire(0, 2, context)).isFalse();
+  }
+
+  @Test
+  void shouldRejectInvalidLowPriorityLimitRatio() {
+    // when - then
+    assertThatThrownBy(() -> CommandRateLimiter.builder().lowPriorityLimitRatio(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> CommandRateLimiter.builder().lowPriorityLimitRatio(1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldReduceLimitByWriteRateFactor() {
+    // given
+    rateLimiter.setWriteRateFactor(0.4);
+    IntStream.range(0, 2)
+        .forEach(
+            i -> assertThat(rateLimiter.tryAcquire(0, i, VariableDocumentIntent.UPDATE)).isTrue());
+
+    // when
+    final var acquired = rateLimiter.tryAcquire(0, 2, VariableDocumentIntent.UPDATE);
+
+    // then
+    assertThat(acquired).isFalse();
+    assertThat(rateLimiter.tryAcquire(0, 2, JobIntent.COMPLETE)).isTrue();
+  }
+
+  @Test
+  void shouldRestoreLimitWhenWriteRateFactorIsReset() {
+    // given
+    rateLimiter.setWriteRateFactor(0.4);
+    IntStream.range(0, 2).forEach(i -> rateLimiter.tryAcquire(0, i, context));
+    assertThat(rateLimiter.tryAcquire(0, 2, context)).isFalse();
+
+    // when
+    rateLimiter.setWriteRateFactor(1.0);
+
+    // then
+    assertThat(rateLimiter.tryAcquire(0, 2, context)).isTrue();
+  }
+
+  @Test
+  void shouldRejectInvalidWriteRateFactor() {
+    // when - then
+    assertThatThrownBy(() -> rateLimiter.setWriteRateFactor(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> rateLimiter.setWriteRateFactor(1.5))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
   private static Stream<Arguments> provideWhitelistedIntents() {
     return Stream.of(
         Arguments.of(JobIntent.COMPLETE),
         Arguments.of(JobIntent.FAIL),
+        Arguments.of(JobIntent.THROW_ERROR),
         Arguments.of(ProcessInstanceIntent.CANCEL),
         Arguments.of(DeploymentIntent.CREATE),
         Arguments.of(DeploymentIntent.DISTRIBUTE),
@@ -17,24 +17,35 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.broker.transport.backpressure.NoopRequestLimiter;
 import io.camunda.zeebe.broker.transport.backpressure.RequestLimiter;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
+import io.camunda.zeebe.msgpack.value.DocumentValue;
 import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchRequest;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.MessageIntent;
 import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerRule;
 import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
@@ -44,7 +55,11 @@ import org.mockito.Mockito;
 
 public class CommandApiRequestHandlerTest {
   @Rule public final ControlledActorSchedulerRule scheduler = new ControlledActorSchedulerRule();
-  final CommandApiRequestHandler handler = new CommandApiRequestHandler();
+  private final AtomicReference<ServerOutput> batchOutput = new AtomicReference<>();
+  final CommandApiRequestHandler handler =
+      new CommandApiRequestHandler(
+          new CommandBatchResponseCollector(
+              response -> batchOutput.get().sendResponse(response)));
   private LogStreamWriter logStreamWriter;
 
   @Before
@@ -220,6 +235,131 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteBatchToLogWithSingleAppend() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(Mockito.<List<LogAppendEntry>>any())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    final var firstCommand =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    final var secondCommand =
+        new BrokerPublishMessageRequest("test", "2").setMessageId("2").setTimeToLive(0);
+    firstCommand.serializeValue();
+    secondCommand.serializeValue();
+    final var request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(0)
+            .addCommand(firstCommand)
+            .addCommand(secondCommand);
+
+    // when
+    handleBatchRequest(request);
+
+    // then
+    verify(logWriter)
+        .tryWrite(Mockito.<List<LogAppendEntry>>argThat(entries -> entries.size() == 2));
+  }
+
+  @Test
+  public void shouldKeepMetadataAndValuePerCommandOfBatch() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    final var writtenEntries = new ArrayList<LogAppendEntry>();
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(Mockito.<List<LogAppendEntry>>any()))
+        .thenAnswer(
+            invocation -> {
+              writtenEntries.addAll(invocation.getArgument(0));
+              return Either.right(1L);
+            });
+    handler.addPartition(0, logWriter, new NoopRequestLimiter<>());
+    scheduler.workUntilDone();
+
+    final var firstCommand =
+        new BrokerPublishMessageRequest("first", "1").setMessageId("1").setTimeToLive(0);
+    final var secondCommand = new BrokerCompleteJobRequest(123L, DocumentValue.EMPTY_DOCUMENT);
+    firstCommand.serializeValue();
+    secondCommand.serializeValue();
+    final var request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(0)
+            .addCommand(firstCommand)
+            .addCommand(secondCommand);
+
+    // when
+    handleBatchRequest(request);
+
+    // then
+    assertThat(writtenEntries).hasSize(2);
+    assertThat(writtenEntries.get(0).recordMetadata().getIntent())
+        .isEqualTo(MessageIntent.PUBLISH);
+    assertThat(((MessageRecord) writtenEntries.get(0).recordValue()).getName())
+        .isEqualTo("first");
+    assertThat(writtenEntries.get(1).recordMetadata().getIntent()).isEqualTo(JobIntent.COMPLETE);
+    assertThat(writtenEntries.get(1).key()).isEqualTo(123L);
+    assertThat(writtenEntries.get(0).recordMetadata().getRequestId())
+        .isNotEqualTo(writtenEntries.get(1).recordMetadata().getRequestId());
+  }
+
+  @Test
+  public void shouldRespondToBatchWithErrorPerRejectedCommand() {
+    // given
+    final var limiter = mock(RequestLimiter.class);
+    when(limiter.tryAcquire(anyInt(), anyLong(), any())).thenReturn(false);
+    handler.addPartition(0, logStreamWriter, limiter);
+    scheduler.workUntilDone();
+
+    final var unsupportedCommand = new ExecuteCommandRequest();
+    unsupportedCommand.setValueType(ValueType.ERROR);
+    final var exhaustedCommand =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    exhaustedCommand.serializeValue();
+    final var request =
+        new ExecuteCommandBatchRequest()
+            .setPartitionId(0)
+            .addCommand(unsupportedCommand)
+            .addCommand(exhaustedCommand);
+
+    // when
+    final var responseFuture = handleBatchRequest(request);
+
+    // then
+    assertThat(responseFuture).succeedsWithin(Duration.ofMinutes(1));
+    assertThat(responseFuture.join().getResponses())
+        .extracting(this::readErrorCode)
+        .containsExactly(ErrorCode.UNSUPPORTED_MESSAGE, ErrorCode.RESOURCE_EXHAUSTED);
+  }
+
+  private ErrorCode readErrorCode(final DirectBuffer buffer) {
+    final var error = new ErrorResponse();
+    error.wrap(buffer, 0, buffer.capacity());
+    return error.getErrorCode();
+  }
+
+  private CompletableFuture<ExecuteCommandBatchResponse> handleBatchRequest(
+      final BufferWriter request) {
+    final var future = new CompletableFuture<ExecuteCommandBatchResponse>();
+    final ServerOutput serverOutput =
+        serverResponse -> {
+          final var buffer = new UnsafeBuffer(new byte[serverResponse.getLength()]);
+          serverResponse.write(buffer, 0);
+          final var response = new ExecuteCommandBatchResponse();
+          response.wrap(buffer, 0, buffer.capacity());
+          future.complete(response);
+        };
+    batchOutput.set(serverOutput);
+
+    final var requestBuffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(requestBuffer, 0);
+    handler.onRequest(serverOutput, 0, 0, requestBuffer, 0, request.getLength());
+    scheduler.workUntilDone();
+    return future;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
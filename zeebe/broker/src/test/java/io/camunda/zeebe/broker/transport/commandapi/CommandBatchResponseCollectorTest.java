@@ -0,0 +1,142 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.commandapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandBatchResponse;
+import io.camunda.zeebe.transport.ServerResponse;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class CommandBatchResponseCollectorTest {
+
+  private final List<ServerResponse> sentResponses = new ArrayList<>();
+  private final CommandBatchResponseCollector collector =
+      new CommandBatchResponseCollector(this::copyResponse);
+
+  @Test
+  void shouldSendBatchResponseOnceAllCommandsAreAnswered() {
+    // given
+    final var batch = collector.register(1, 10, 3);
+
+    // when
+    collector.sendResponse(response(1, batch.commandRequestId(2), "third"));
+    collector.sendResponse(response(1, batch.commandRequestId(0), "first"));
+    final var sentBeforeLastResponse = sentResponses.size();
+    collector.sendResponse(response(1, batch.commandRequestId(1), "second"));
+
+    // then
+    assertThat(sentBeforeLastResponse).isZero();
+    assertThat(sentResponses)
+        .singleElement()
+        .satisfies(
+            response -> {
+              assertThat(response.getPartitionId()).isEqualTo(1);
+              assertThat(response.getRequestId()).isEqualTo(10);
+            });
+    assertThat(readBatchResponse(sentResponses.get(0)).getResponses())
+        .extracting(BufferUtil::bufferAsString)
+        .containsExactly("first", "second", "third");
+  }
+
+  @Test
+  void shouldCollectBatchesIndependently() {
+    // given
+    final var firstBatch = collector.register(1, 10, 1);
+    final var secondBatch = collector.register(2, 20, 1);
+
+    // when
+    collector.sendResponse(response(2, secondBatch.commandRequestId(0), "second"));
+    collector.sendResponse(response(1, firstBatch.commandRequestId(0), "first"));
+
+    // then
+    assertThat(sentResponses).extracting(ServerResponse::getRequestId).containsExactly(20L, 10L);
+    assertThat(firstBatch.commandRequestId(0)).isNotEqualTo(secondBatch.commandRequestId(0));
+  }
+
+  @Test
+  void shouldPassThroughResponsesOfOtherRequests() {
+    // given
+    collector.register(1, 10, 1);
+
+    // when
+    collector.sendResponse(response(1, 5, "single"));
+
+    // then
+    assertThat(sentResponses)
+        .singleElement()
+        .extracting(ServerResponse::getRequestId)
+        .isEqualTo(5L);
+  }
+
+  @Test
+  void shouldNotSendResponseForDiscardedBatch() {
+    // given
+    final var batch = collector.register(1, 10, 2);
+    collector.sendResponse(response(1, batch.commandRequestId(0), "first"));
+
+    // when
+    collector.discard(batch);
+    collector.sendResponse(response(1, batch.commandRequestId(1), "second"));
+
+    // then
+    assertThat(sentResponses)
+        .extracting(ServerResponse::getRequestId)
+        .doesNotContain(10L)
+        .containsExactly(batch.commandRequestId(1));
+  }
+
+  @Test
+  void shouldNotSendResponsesForBatchesOfRemovedPartition() {
+    // given
+    final var removedBatch = collector.register(1, 10, 1);
+    final var otherBatch = collector.register(2, 20, 1);
+
+    // when
+    collector.removePartition(1);
+    collector.sendResponse(response(1, removedBatch.commandRequestId(0), "removed"));
+    collector.sendResponse(response(2, otherBatch.commandRequestId(0), "other"));
+
+    // then
+    assertThat(sentResponses)
+        .extracting(ServerResponse::getRequestId)
+        .doesNotContain(10L)
+        .containsExactly(removedBatch.commandRequestId(0), 20L);
+  }
+
+  private ServerResponse response(final int partitionId, final long requestId, final String body) {
+    return new ServerResponseImpl()
+        .setPartitionId(partitionId)
+        .setRequestId(requestId)
+        .buffer(BufferUtil.wrapString(body));
+  }
+
+  private void copyResponse(final ServerResponse response) {
+    // responses are reused by their writers, so keep a copy
+    final var buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+    sentResponses.add(
+        new ServerResponseImpl()
+            .setPartitionId(response.getPartitionId())
+            .setRequestId(response.getRequestId())
+            .buffer(buffer));
+  }
+
+  private ExecuteCommandBatchResponse readBatchResponse(final ServerResponse response) {
+    final var buffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(buffer, 0);
+    final var batchResponse = new ExecuteCommandBatchResponse();
+    batchResponse.wrap(buffer, 0, buffer.capacity());
+    return batchResponse;
+  }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.transport.partitionapi;
+
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.BATCH_TOPIC_PREFIX;
+import static io.camunda.zeebe.broker.transport.partitionapi.InterPartitionCommandSenderImpl.TOPIC_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.log.LogStreamWriter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.management.CheckpointRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ConcurrencyControl;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.util.Either;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+final class InterPartitionCommandBatchTest {
+
+  private static final int RECEIVER_PARTITION_ID = 1;
+  private static final Duration LINGER = Duration.ofMillis(5);
+
+  private final ClusterCommunicationService communicationService;
+  private final ConcurrencyControl concurrencyControl;
+  private final ScheduledTimer timer;
+  private final LogStreamWriter logStreamWriter;
+  private final InterPartitionCommandReceiverImpl receiver;
+
+  InterPartitionCommandBatchTest(
+      @Mock final ClusterCommunicationService communicationService,
+      @Mock final ConcurrencyControl concurrencyControl,
+      @Mock final ScheduledTimer timer,
+      @Mock(answer = Answers.RETURNS_SELF) final LogStreamWriter logStreamWriter) {
+    this.communicationService = communicationService;
+    this.concurrencyControl = concurrencyControl;
+    this.timer = timer;
+    this.logStreamWriter = logStreamWriter;
+
+    receiver = new InterPartitionCommandReceiverImpl(logStreamWriter);
+  }
+
+  @Test
+  void shouldSendBatchOnceMaxCommandsAreAdded() {
+    // given
+    final var sender = createSender(3, 1024 * 1024);
+    when(concurrencyControl.schedule(eq(LINGER), any())).thenReturn(timer);
+
+    // when
+    sendCommands(sender, 3);
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+    verify(timer).cancel();
+  }
+
+  @Test
+  void shouldSendBatchAfterLinger() {
+    // given
+    final var sender = createSender(100, 1024 * 1024);
+    final var lingerTask = ArgumentCaptor.forClass(Runnable.class);
+    when(concurrencyControl.schedule(eq(LINGER), lingerTask.capture())).thenReturn(timer);
+    sendCommands(sender, 2);
+    verifyNoInteractions(communicationService);
+
+    // when
+    lingerTask.getValue().run();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendSingleCommandAsBatch() {
+    // given
+    final var sender = createSender(100, 1024 * 1024);
+    final var lingerTask = ArgumentCaptor.forClass(Runnable.class);
+    when(concurrencyControl.schedule(eq(LINGER), lingerTask.capture())).thenReturn(timer);
+    sendCommands(sender, 1);
+
+    // when
+    lingerTask.getValue().run();
+
+    // then - the same topic is used for all commands, so that they are received in order
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+    verify(communicationService, never())
+        .unicast(eq(TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+  }
+
+  @Test
+  void shouldSendBatchBeforeItExceedsMaxSize() {
+    // given - only one command fits into a batch
+    final var sender = createSender(100, 1);
+
+    // when
+    sendCommands(sender, 2);
+
+    // then
+    verify(communicationService, times(2))
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+    verifyNoInteractions(concurrencyControl);
+  }
+
+  @Test
+  void shouldNotSendBatchIfLeaderIsUnknown() {
+    // given
+    final var sender = createSender(100, 1024 * 1024);
+    when(concurrencyControl.schedule(eq(LINGER), any())).thenReturn(timer);
+    sendCommands(sender, 2);
+
+    // when
+    sender.setCurrentLeader(RECEIVER_PARTITION_ID, -1);
+    sender.flush();
+
+    // then
+    verifyNoInteractions(communicationService);
+  }
+
+  @Test
+  void shouldSendPendingBatchOnFlush() {
+    // given
+    final var sender = createSender(100, 1024 * 1024);
+    when(concurrencyControl.schedule(eq(LINGER), any())).thenReturn(timer);
+    sendCommands(sender, 2);
+
+    // when
+    sender.flush();
+
+    // then
+    verify(communicationService)
+        .unicast(eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID), any(), any(), any(), eq(true));
+    verify(timer).cancel();
+  }
+
+  @Test
+  void shouldWriteBatchAtOnce() {
+    // given
+    final var batch = sendBatch(createSender(3, 1024 * 1024), 3);
+    when(logStreamWriter.canWriteEvents(eq(3), anyInt())).thenReturn(true);
+    when(logStreamWriter.tryWrite(Mockito.<List<LogAppendEntry>>any()))
+        .thenReturn(Either.right(1L));
+
+    // when
+    receiver.handleBatch(new MemberId("0"), batch);
+
+    // then
+    final var entries = captureWrittenEntries();
+    assertThat(entries)
+        .extracting(entry -> ((JobRecord) entry.recordValue()).getType())
+        .containsExactly("type-0", "type-1", "type-2");
+  }
+
+  @Test
+  void shouldWriteCheckpointBeforeCommandsOfNewerCheckpoint() {
+    // given
+    final var sender = createSender(2, 1024 * 1024);
+    when(concurrencyControl.schedule(eq(LINGER), any())).thenReturn(timer);
+    sender.setCheckpointId(5);
+    sendCommands(sender, 1);
+    sender.setCheckpointId(6);
+    sendCommands(sender, 1);
+    final var batch = captureBatch();
+
+    receiver.setCheckpointId(5);
+    when(logStreamWriter.canWriteEvents(eq(3), anyInt())).thenReturn(true);
+    when(logStreamWriter.tryWrite(Mockito.<List<LogAppendEntry>>any()))
+        .thenReturn(Either.right(1L));
+
+    // when
+    receiver.handleBatch(new MemberId("0"), batch);
+
+    // then
+    final var entries = captureWrittenEntries();
+    assertThat(entries).hasSize(3);
+    assertThat(entries.get(0).recordValue()).isInstanceOf(JobRecord.class);
+    assertThat(entries.get(1).recordValue())
+        .isInstanceOfSatisfying(
+            CheckpointRecord.class,
+            checkpoint -> assertThat(checkpoint.getCheckpointId()).isEqualTo(6));
+    assertThat(entries.get(2).recordValue()).isInstanceOf(JobRecord.class);
+  }
+
+  @Test
+  void shouldWriteCommandsOneByOneIfBatchCannotBeWrittenAtOnce() {
+    // given
+    final var batch = sendBatch(createSender(2, 1024 * 1024), 2);
+    when(logStreamWriter.canWriteEvents(eq(2), anyInt())).thenReturn(false);
+    when(logStreamWriter.tryWrite(any(LogAppendEntry.class))).thenReturn(Either.right(1L));
+
+    // when
+    receiver.handleBatch(new MemberId("0"), batch);
+
+    // then
+    verify(logStreamWriter, times(2)).tryWrite(any(LogAppendEntry.class));
+    verify(logStreamWriter, never()).tryWrite(Mockito.<List<LogAppendEntry>>any());
+  }
+
+  @Test
+  void shouldNotWriteBatchIfNoDiskSpaceAvailable() {
+    // given
+    final var batch = sendBatch(createSender(2, 1024 * 1024), 2);
+    receiver.setDiskSpaceAvailable(false);
+
+    // when
+    receiver.handleBatch(new MemberId("0"), batch);
+
+    // then
+    verifyNoInteractions(logStreamWriter);
+  }
+
+  private InterPartitionCommandSenderImpl createSender(final int maxCommands, final int maxSize) {
+    final var sender =
+        new InterPartitionCommandSenderImpl(
+            communicationService,
+            new InterPartitionCommandBatching(LINGER, maxCommands, maxSize),
+            concurrencyControl);
+    sender.setCurrentLeader(RECEIVER_PARTITION_ID, 2);
+    return sender;
+  }
+
+  private void sendCommands(final InterPartitionCommandSenderImpl sender, final int count) {
+    for (int i = 0; i < count; i++) {
+      sender.sendCommand(
+          RECEIVER_PARTITION_ID,
+          ValueType.JOB,
+          JobIntent.COMPLETE,
+          new JobRecord().setType("type-" + i));
+    }
+  }
+
+  private byte[] sendBatch(final InterPartitionCommandSenderImpl sender, final int count) {
+    when(concurrencyControl.schedule(eq(LINGER), any())).thenReturn(timer);
+    sendCommands(sender, count);
+    return captureBatch();
+  }
+
+  private byte[] captureBatch() {
+    final var batchCaptor = ArgumentCaptor.forClass(byte[].class);
+    verify(communicationService)
+        .unicast(
+            eq(BATCH_TOPIC_PREFIX + RECEIVER_PARTITION_ID),
+            batchCaptor.capture(),
+            any(),
+            any(),
+            eq(true));
+    return batchCaptor.getValue();
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<LogAppendEntry> captureWrittenEntries() {
+    final ArgumentCaptor<List<LogAppendEntry>> entriesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamWriter).tryWrite(entriesCaptor.capture());
+    return entriesCaptor.getValue();
+  }
+}
@@ -241,6 +241,34 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics);
 
+    /**
+     * Opt-in feature flag to execute every job on its own virtual thread, instead of on the job
+     * worker threads of the client (see {@link
+     * io.camunda.zeebe.client.ZeebeClientBuilder#numJobWorkerExecutionThreads(int)}). This allows
+     * I/O bound job handlers, which block e.g. while waiting for the completion of a job, to work
+     * on up to {@code maxJobsActive} jobs concurrently, without having to configure a large number
+     * of threads.
+     *
+     * <p>Virtual threads are only available in Java 21 or newer. If the JVM doesn't support them,
+     * the jobs are executed on the job worker threads of the client.
+     *
+     * @param isVirtualThreadsEnabled true to execute the jobs on virtual threads
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 virtualThreadsEnabled(boolean isVirtualThreadsEnabled);
+
+    /**
+     * Opt-in feature flag to batch the complete commands which the job handlers send through the
+     * {@link JobClient} of this worker. While a complete request is in flight, the commands of
+     * other handlers are collected and then sent together, so that many concurrently handled jobs
+     * are completed with fewer requests. If the gateway doesn't support batched completion, every
+     * command is sent on its own.
+     *
+     * @param isCompletionBatchingEnabled true to batch the complete commands of this worker
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 completionBatchingEnabled(boolean isCompletionBatchingEnabled);
+
     /**
      * Open the worker and start to work on available tasks.
      *
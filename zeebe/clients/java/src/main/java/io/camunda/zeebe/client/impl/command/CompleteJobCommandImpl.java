@@ -22,6 +22,7 @@ import io.camunda.zeebe.client.api.command.FinalCommandStep;
 import io.camunda.zeebe.client.api.response.CompleteJobResponse;
 import io.camunda.zeebe.client.impl.RetriableClientFutureImpl;
 import io.camunda.zeebe.client.impl.response.CompleteJobResponseImpl;
+import io.camunda.zeebe.client.impl.worker.BatchingJobCompleter;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
@@ -37,6 +38,7 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private final GatewayStub asyncStub;
   private final Builder builder;
   private final Predicate<Throwable> retryPredicate;
+  private final BatchingJobCompleter jobCompleter;
   private Duration requestTimeout;
 
   public CompleteJobCommandImpl(
@@ -45,10 +47,25 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
       final long key,
       final Duration requestTimeout,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, jsonMapper, key, requestTimeout, retryPredicate, null);
+  }
+
+  /**
+   * @param jobCompleter if not null, the command is sent through this completer, which may batch it
+   *     together with other complete commands
+   */
+  public CompleteJobCommandImpl(
+      final GatewayStub asyncStub,
+      final JsonMapper jsonMapper,
+      final long key,
+      final Duration requestTimeout,
+      final Predicate<Throwable> retryPredicate,
+      final BatchingJobCompleter jobCompleter) {
     super(jsonMapper);
     this.asyncStub = asyncStub;
     this.requestTimeout = requestTimeout;
     this.retryPredicate = retryPredicate;
+    this.jobCompleter = jobCompleter;
     builder = CompleteJobRequest.newBuilder();
     builder.setJobKey(key);
   }
@@ -77,6 +94,11 @@ public final class CompleteJobCommandImpl extends CommandWithVariables<CompleteJ
   private void send(
       final CompleteJobRequest request,
       final StreamObserver<GatewayOuterClass.CompleteJobResponse> streamObserver) {
+    if (jobCompleter != null) {
+      jobCompleter.complete(request, requestTimeout, streamObserver);
+      return;
+    }
+
     asyncStub
         .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
         .completeJob(request, streamObserver);
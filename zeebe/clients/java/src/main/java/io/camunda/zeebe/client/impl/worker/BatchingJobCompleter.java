@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import io.camunda.zeebe.client.impl.Loggers;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.grpc.Status;
+import io.grpc.Status.Code;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+
+/**
+ * Coalesces the complete commands of a job worker into fewer {@code CompleteJobs} requests. As long
+ * as no request is in flight, a command is sent right away. Otherwise, it is queued until the
+ * request in flight is answered, and then sent together with all other queued commands. This way,
+ * commands are not delayed while the gateway keeps up, and the more they are batched the busier it
+ * is.
+ *
+ * <p>If the gateway doesn't support batched completion, or after the completer is closed, every
+ * command is sent on its own. The latter allows jobs, which are still handled when the worker is
+ * closed, to be completed.
+ */
+public final class BatchingJobCompleter implements AutoCloseable {
+
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
+
+  private final GatewayStub asyncStub;
+  private final int maxBatchSize;
+  private final Queue<PendingCompletion> queuedCompletions = new ArrayDeque<>();
+  private boolean isRequestInFlight;
+  private volatile boolean isBatching = true;
+
+  public BatchingJobCompleter(final GatewayStub asyncStub, final int maxBatchSize) {
+    this.asyncStub = asyncStub;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Completes a job, possibly together with the jobs of other commands.
+   *
+   * @param request the request to complete the job
+   * @param requestTimeout the timeout of the request; a batch uses the longest timeout of its
+   *     commands
+   * @param responseObserver notified of the response or the error of this request only
+   */
+  public void complete(
+      final CompleteJobRequest request,
+      final Duration requestTimeout,
+      final StreamObserver<CompleteJobResponse> responseObserver) {
+    final PendingCompletion completion =
+        new PendingCompletion(request, requestTimeout, responseObserver);
+    if (!isBatching) {
+      sendSingle(completion, () -> {});
+      return;
+    }
+
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      queuedCompletions.add(completion);
+      if (isRequestInFlight) {
+        return;
+      }
+
+      isRequestInFlight = true;
+      batch = drainBatch();
+    }
+
+    send(batch);
+  }
+
+  @Override
+  public void close() {
+    isBatching = false;
+  }
+
+  private void onRequestDone() {
+    final List<PendingCompletion> batch;
+    synchronized (this) {
+      if (queuedCompletions.isEmpty()) {
+        isRequestInFlight = false;
+        return;
+      }
+
+      batch = drainBatch();
+    }
+
+    send(batch);
+  }
+
+  private List<PendingCompletion> drainBatch() {
+    final List<PendingCompletion> batch = new ArrayList<>();
+    while (!queuedCompletions.isEmpty() && batch.size() < maxBatchSize) {
+      batch.add(queuedCompletions.poll());
+    }
+    return batch;
+  }
+
+  private void send(final List<PendingCompletion> batch) {
+    if (batch.size() == 1) {
+      sendSingle(batch.get(0), this::onRequestDone);
+    } else if (!isBatching) {
+      batch.forEach(completion -> sendSingle(completion, () -> {}));
+      onRequestDone();
+    } else {
+      sendBatch(batch);
+    }
+  }
+
+  private void sendSingle(final PendingCompletion completion, final Runnable onDone) {
+    asyncStub
+        .withDeadlineAfter(completion.requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .completeJob(
+            completion.request,
+            new StreamObserver<CompleteJobResponse>() {
+              @Override
+              public void onNext(final CompleteJobResponse response) {
+                completion.responseObserver.onNext(response);
+              }
+
+              @Override
+              public void onError(final Throwable error) {
+                completion.responseObserver.onError(error);
+                onDone.run();
+              }
+
+              @Override
+              public void onCompleted() {
+                completion.responseObserver.onCompleted();
+                onDone.run();
+              }
+            });
+  }
+
+  private void sendBatch(final List<PendingCompletion> batch) {
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    long requestTimeout = 0;
+    for (final PendingCompletion completion : batch) {
+      request.addRequests(completion.request);
+      requestTimeout = Math.max(requestTimeout, completion.requestTimeout.toMillis());
+    }
+
+    asyncStub
+        .withDeadlineAfter(requestTimeout, TimeUnit.MILLISECONDS)
+        .completeJobs(
+            request.build(),
+            new StreamObserver<CompleteJobsResponse>() {
+              @Override
+              public void onNext(final CompleteJobsResponse response) {
+                handleResponse(batch, response);
+              }
+
+              @Override
+              public void onError(final Throwable error) {
+                handleError(batch, error);
+                onRequestDone();
+              }
+
+              @Override
+              public void onCompleted() {
+                onRequestDone();
+              }
+            });
+  }
+
+  private void handleResponse(
+      final List<PendingCompletion> batch, final CompleteJobsResponse response) {
+    for (int i = 0; i < batch.size(); i++) {
+      final StreamObserver<CompleteJobResponse> responseObserver = batch.get(i).responseObserver;
+      if (i >= response.getResultsCount()) {
+        responseObserver.onError(
+            Status.INTERNAL
+                .withDescription(
+                    String.format(
+                        "Expected a result for each of the %d completed jobs, but got only %d",
+                        batch.size(), response.getResultsCount()))
+                .asRuntimeException());
+        continue;
+      }
+
+      final CompleteJobsResult result = response.getResults(i);
+      if (result.hasResponse()) {
+        responseObserver.onNext(result.getResponse());
+        responseObserver.onCompleted();
+      } else {
+        final BatchItemError error = result.getError();
+        responseObserver.onError(
+            Status.fromCodeValue(error.getCode())
+                .withDescription(error.getMessage())
+                .asRuntimeException());
+      }
+    }
+  }
+
+  private void handleError(final List<PendingCompletion> batch, final Throwable error) {
+    if (Status.fromThrowable(error).getCode() == Code.UNIMPLEMENTED) {
+      LOG.warn(
+          "Expected to complete jobs in batches, but the gateway doesn't support it; "
+              + "completing each job on its own instead");
+      isBatching = false;
+      batch.forEach(completion -> sendSingle(completion, () -> {}));
+      return;
+    }
+
+    batch.forEach(completion -> completion.responseObserver.onError(error));
+  }
+
+  private static final class PendingCompletion {
+    private final CompleteJobRequest request;
+    private final Duration requestTimeout;
+    private final StreamObserver<CompleteJobResponse> responseObserver;
+
+    private PendingCompletion(
+        final CompleteJobRequest request,
+        final Duration requestTimeout,
+        final StreamObserver<CompleteJobResponse> responseObserver) {
+      this.request = request;
+      this.requestTimeout = requestTimeout;
+      this.responseObserver = responseObserver;
+    }
+  }
+}
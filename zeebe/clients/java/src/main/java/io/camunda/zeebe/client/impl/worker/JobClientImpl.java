@@ -38,22 +38,56 @@ public final class JobClientImpl implements JobClient {
   private final ZeebeClientConfiguration config;
   private final JsonMapper jsonMapper;
   private final Predicate<Throwable> retryPredicate;
+  private final BatchingJobCompleter jobCompleter;
 
   public JobClientImpl(
       final GatewayStub asyncStub,
       final ZeebeClientConfiguration config,
       final JsonMapper jsonMapper,
       final Predicate<Throwable> retryPredicate) {
+    this(asyncStub, config, jsonMapper, retryPredicate, null);
+  }
+
+  private JobClientImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration config,
+      final JsonMapper jsonMapper,
+      final Predicate<Throwable> retryPredicate,
+      final BatchingJobCompleter jobCompleter) {
     this.asyncStub = asyncStub;
     this.config = config;
     this.jsonMapper = jsonMapper;
     this.retryPredicate = retryPredicate;
+    this.jobCompleter = jobCompleter;
+  }
+
+  /**
+   * Creates a completer which batches the complete commands sent through it.
+   *
+   * @param maxBatchSize the maximum number of jobs completed with a single request
+   * @return the new completer
+   */
+  public BatchingJobCompleter newBatchingJobCompleter(final int maxBatchSize) {
+    return new BatchingJobCompleter(asyncStub, maxBatchSize);
+  }
+
+  /**
+   * @param jobCompleter the completer through which the jobs are completed
+   * @return a job client which sends its complete commands through the given completer
+   */
+  public JobClientImpl withJobCompleter(final BatchingJobCompleter jobCompleter) {
+    return new JobClientImpl(asyncStub, config, jsonMapper, retryPredicate, jobCompleter);
   }
 
   @Override
   public CompleteJobCommandStep1 newCompleteCommand(final long jobKey) {
     return new CompleteJobCommandImpl(
-        asyncStub, jsonMapper, jobKey, config.getDefaultRequestTimeout(), retryPredicate);
+        asyncStub,
+        jsonMapper,
+        jobKey,
+        config.getDefaultRequestTimeout(),
+        retryPredicate,
+        jobCompleter);
   }
 
   @Override
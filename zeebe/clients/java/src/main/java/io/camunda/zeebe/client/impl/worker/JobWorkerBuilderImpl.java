@@ -29,13 +29,17 @@ import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.api.worker.JobWorkerMetrics;
+import io.camunda.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import org.slf4j.Logger;
 
 public final class JobWorkerBuilderImpl
     implements JobWorkerBuilderStep1, JobWorkerBuilderStep2, JobWorkerBuilderStep3 {
@@ -43,6 +47,7 @@ public final class JobWorkerBuilderImpl
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
   public static final Duration DEFAULT_STREAMING_TIMEOUT = Duration.ofHours(8);
+  private static final Logger LOG = Loggers.JOB_WORKER_LOGGER;
   private final JobClient jobClient;
   private final ScheduledExecutorService executorService;
   private final List<Closeable> closeables;
@@ -60,6 +65,8 @@ public final class JobWorkerBuilderImpl
   private boolean enableStreaming;
   private Duration streamingTimeout;
   private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
+  private boolean enableVirtualThreads;
+  private boolean enableCompletionBatching;
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -164,6 +171,19 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 virtualThreadsEnabled(final boolean isVirtualThreadsEnabled) {
+    enableVirtualThreads = isVirtualThreadsEnabled;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 completionBatchingEnabled(
+      final boolean isCompletionBatchingEnabled) {
+    enableCompletionBatching = isCompletionBatchingEnabled;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -173,7 +193,13 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
 
     final JobStreamer jobStreamer;
-    final JobRunnableFactory jobRunnableFactory = new JobRunnableFactoryImpl(jobClient, handler);
+    final Optional<BatchingJobCompleter> jobCompleter = createJobCompleter();
+    final JobClient handlerJobClient =
+        jobCompleter
+            .<JobClient>map(completer -> ((JobClientImpl) jobClient).withJobCompleter(completer))
+            .orElse(jobClient);
+    final JobRunnableFactory jobRunnableFactory =
+        new JobRunnableFactoryImpl(handlerJobClient, handler);
     final JobPoller jobPoller =
         new JobPollerImpl(
             jobClient,
@@ -185,6 +211,9 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
+    final Optional<ExecutorService> virtualThreadExecutor = createVirtualThreadExecutor();
+    final Executor handlerExecutor =
+        virtualThreadExecutor.<Executor>map(executor -> executor).orElse(executorService);
     final Executor jobExecutor;
     if (enableStreaming) {
       if (streamingTimeout != null) {
@@ -202,10 +231,10 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               executorService);
-      jobExecutor = new BlockingExecutor(executorService, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(handlerExecutor, maxJobsActive, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
-      jobExecutor = executorService;
+      jobExecutor = handlerExecutor;
     }
 
     final JobWorkerImpl jobWorker =
@@ -218,7 +247,12 @@ public final class JobWorkerBuilderImpl
             jobStreamer,
             backoffSupplier,
             metrics,
-            jobExecutor);
+            jobExecutor,
+            // the jobs which are still executed when the worker is closed are allowed to finish
+            () -> {
+              virtualThreadExecutor.ifPresent(ExecutorService::shutdown);
+              jobCompleter.ifPresent(BatchingJobCompleter::close);
+            });
     closeables.add(jobWorker);
     return jobWorker;
   }
@@ -241,6 +275,43 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  private Optional<ExecutorService> createVirtualThreadExecutor() {
+    if (!enableVirtualThreads) {
+      return Optional.empty();
+    }
+
+    // the number of concurrently executed jobs is still limited by maxJobsActive, as the worker
+    // only activates as many jobs as it can handle
+    final Optional<ExecutorService> virtualThreadExecutor =
+        VirtualThreads.newVirtualThreadPerTaskExecutor();
+    if (!virtualThreadExecutor.isPresent()) {
+      LOG.warn(
+          "Expected to execute the jobs of worker {} on virtual threads, but they are not "
+              + "supported by the running JVM (requires Java 21 or newer); executing the jobs on "
+              + "the job worker threads instead",
+          workerName);
+    }
+
+    return virtualThreadExecutor;
+  }
+
+  private Optional<BatchingJobCompleter> createJobCompleter() {
+    if (!enableCompletionBatching) {
+      return Optional.empty();
+    }
+
+    if (!(jobClient instanceof JobClientImpl)) {
+      LOG.warn(
+          "Expected to batch the complete commands of worker {}, but its job client doesn't "
+              + "support it; sending each complete command on its own instead",
+          workerName);
+      return Optional.empty();
+    }
+
+    // a worker never has more than maxJobsActive jobs to complete at the same time
+    return Optional.of(((JobClientImpl) jobClient).newBatchingJobCompleter(maxJobsActive));
+  }
+
   private List<String> getTenantIds() {
     return customTenantIds.isEmpty() ? defaultTenantIds : customTenantIds;
   }
@@ -73,6 +73,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private final JobStreamer jobStreamer;
   private final BackoffSupplier backoffSupplier;
   private final JobWorkerMetrics metrics;
+  private final Runnable closeCallback;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
@@ -92,6 +93,34 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final BackoffSupplier backoffSupplier,
       final JobWorkerMetrics metrics,
       final Executor jobExecutor) {
+    this(
+        maxJobsActive,
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics,
+        jobExecutor,
+        () -> {});
+  }
+
+  /**
+   * @param closeCallback called when the worker is closed, to release the resources which only
+   *     this worker uses; it must not prevent jobs which are still handled from finishing
+   */
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics,
+      final Executor jobExecutor,
+      final Runnable closeCallback) {
     this.maxJobsActive = maxJobsActive;
     activationThreshold = Math.round(maxJobsActive * 0.3f);
     remainingJobs = new AtomicInteger(0);
@@ -103,6 +132,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
     this.metrics = metrics;
+    this.closeCallback = closeCallback;
 
     claimableJobPoller = new AtomicReference<>(jobPoller);
     this.pollInterval = initialPollInterval;
@@ -129,6 +159,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   public void close() {
     acquiringJobs.set(false);
     jobStreamer.close();
+    closeCallback.run();
   }
 
   /**
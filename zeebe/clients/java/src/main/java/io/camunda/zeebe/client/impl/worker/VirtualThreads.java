@@ -0,0 +1,72 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Gives access to virtual threads, which are only available in Java 21 or newer. As the client is
+ * compiled for older Java versions, they are looked up reflectively from the running JVM.
+ */
+final class VirtualThreads {
+
+  private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+      lookupNewVirtualThreadPerTaskExecutor();
+
+  private VirtualThreads() {}
+
+  /**
+   * @return true if the running JVM supports virtual threads, otherwise false
+   */
+  static boolean isSupported() {
+    return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+  }
+
+  /**
+   * Creates an executor which starts a new virtual thread for each task. The executor must be shut
+   * down once it is no longer used.
+   *
+   * @return the executor, or an empty optional if the running JVM doesn't support virtual threads
+   */
+  static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    if (!isSupported()) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke());
+    } catch (final Throwable e) {
+      throw new IllegalStateException("Expected to create a virtual thread executor", e);
+    }
+  }
+
+  private static MethodHandle lookupNewVirtualThreadPerTaskExecutor() {
+    try {
+      return MethodHandles.publicLookup()
+          .findStatic(
+              Executors.class,
+              "newVirtualThreadPerTaskExecutor",
+              MethodType.methodType(ExecutorService.class));
+    } catch (final NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+}
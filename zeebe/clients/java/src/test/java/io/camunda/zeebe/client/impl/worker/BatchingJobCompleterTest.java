@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import io.camunda.zeebe.client.api.ZeebeFuture;
+import io.camunda.zeebe.client.api.command.ClientStatusException;
+import io.camunda.zeebe.client.api.response.CompleteJobResponse;
+import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
+import io.camunda.zeebe.client.impl.ZeebeObjectMapper;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
+import io.camunda.zeebe.gateway.protocol.GatewayGrpc.GatewayImplBase;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.grpc.ManagedChannel;
+import io.grpc.Status.Code;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.grpc.testing.GrpcCleanupRule;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.migrationsupport.rules.ExternalResourceSupport;
+
+@ExtendWith(ExternalResourceSupport.class)
+final class BatchingJobCompleterTest {
+  @Rule
+  public final GrpcCleanupRule grpcRule =
+      new GrpcCleanupRule().setTimeout(1, TimeUnit.MILLISECONDS);
+
+  private final Service service = new Service();
+  private BatchingJobCompleter jobCompleter;
+  private JobClientImpl client;
+
+  @BeforeEach
+  void beforeEach() throws IOException {
+    final String name = InProcessServerBuilder.generateName();
+    final ManagedChannel clientChannel =
+        grpcRule.register(InProcessChannelBuilder.forName(name).directExecutor().build());
+    grpcRule.register(
+        InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start());
+
+    final JobClientImpl jobClient =
+        new JobClientImpl(
+            GatewayGrpc.newStub(clientChannel),
+            new ZeebeClientBuilderImpl(),
+            new ZeebeObjectMapper(),
+            ignored -> false);
+    jobCompleter = jobClient.newBatchingJobCompleter(3);
+    client = jobClient.withJobCompleter(jobCompleter);
+  }
+
+  @Test
+  void shouldSendFirstCommandRightAway() {
+    // given
+    final ZeebeFuture<CompleteJobResponse> future = client.newCompleteCommand(1).send();
+
+    // when
+    service.respondToSingle(0);
+
+    // then
+    assertThat(service.singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L);
+    assertThat(service.batchRequests).isEmpty();
+    assertThat(future.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldBatchCommandsWhileRequestIsInFlight() {
+    // given
+    final ZeebeFuture<CompleteJobResponse> first = client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> second = client.newCompleteCommand(2).send();
+    final ZeebeFuture<CompleteJobResponse> third =
+        client.newCompleteCommand(3).variables("{\"foo\":\"bar\"}").send();
+
+    // when
+    service.respondToSingle(0);
+    service.respondToBatch(0);
+
+    // then
+    assertThat(service.singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L);
+    assertThat(service.batchRequests).hasSize(1);
+    assertThat(service.batchRequests.get(0).getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey, CompleteJobRequest::getVariables)
+        .containsExactly(tuple(2L, ""), tuple(3L, "{\"foo\":\"bar\"}"));
+    assertThat(first.toCompletableFuture()).isCompleted();
+    assertThat(second.toCompletableFuture()).isCompleted();
+    assertThat(third.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldLimitBatchSize() {
+    // given
+    client.newCompleteCommand(1).send();
+    for (int i = 2; i <= 6; i++) {
+      client.newCompleteCommand(i).send();
+    }
+
+    // when
+    service.respondToSingle(0);
+
+    // then
+    assertThat(service.batchRequests).hasSize(1);
+    assertThat(service.batchRequests.get(0).getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(2L, 3L, 4L);
+
+    // when
+    service.respondToBatch(0);
+
+    // then
+    assertThat(service.batchRequests).hasSize(2);
+    assertThat(service.batchRequests.get(1).getRequestsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(5L, 6L);
+  }
+
+  @Test
+  void shouldFailOnlyCommandsWhichFailedInBatch() {
+    // given
+    client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> completed = client.newCompleteCommand(2).send();
+    final ZeebeFuture<CompleteJobResponse> failed = client.newCompleteCommand(3).send();
+    service.respondToSingle(0);
+
+    // when
+    service.batchObservers
+        .get(0)
+        .onNext(
+            CompleteJobsResponse.newBuilder()
+                .addResults(
+                    CompleteJobsResult.newBuilder()
+                        .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance()))
+                .addResults(
+                    CompleteJobsResult.newBuilder()
+                        .setError(
+                            BatchItemError.newBuilder()
+                                .setCode(Code.NOT_FOUND.value())
+                                .setMessage("no such job")))
+                .build());
+    service.batchObservers.get(0).onCompleted();
+
+    // then
+    assertThat(completed.toCompletableFuture()).isCompleted();
+    assertThatThrownBy(failed::join)
+        .isInstanceOf(ClientStatusException.class)
+        .hasMessage("no such job")
+        .extracting(error -> ((ClientStatusException) error).getStatusCode())
+        .isEqualTo(Code.NOT_FOUND);
+  }
+
+  @Test
+  void shouldCompleteEachJobOnItsOwnIfGatewayDoesNotSupportBatches() {
+    // given
+    service.isBatchingSupported = false;
+    client.newCompleteCommand(1).send();
+    final ZeebeFuture<CompleteJobResponse> second = client.newCompleteCommand(2).send();
+    final ZeebeFuture<CompleteJobResponse> third = client.newCompleteCommand(3).send();
+
+    // when
+    service.respondToSingle(0);
+    service.respondToSingle(1);
+    service.respondToSingle(2);
+    client.newCompleteCommand(4).send();
+
+    // then
+    assertThat(service.singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L, 3L, 4L);
+    assertThat(second.toCompletableFuture()).isCompleted();
+    assertThat(third.toCompletableFuture()).isCompleted();
+  }
+
+  @Test
+  void shouldCompleteEachJobOnItsOwnWhenClosed() {
+    // given
+    client.newCompleteCommand(1).send();
+
+    // when
+    jobCompleter.close();
+    client.newCompleteCommand(2).send();
+
+    // then
+    assertThat(service.singleRequests)
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(1L, 2L);
+    assertThat(service.batchRequests).isEmpty();
+  }
+
+  private static final class Service extends GatewayImplBase {
+    private final List<CompleteJobRequest> singleRequests = new ArrayList<>();
+    private final List<StreamObserver<GatewayOuterClass.CompleteJobResponse>> singleObservers =
+        new ArrayList<>();
+    private final List<CompleteJobsRequest> batchRequests = new ArrayList<>();
+    private final List<StreamObserver<CompleteJobsResponse>> batchObservers = new ArrayList<>();
+    private boolean isBatchingSupported = true;
+
+    @Override
+    public void completeJob(
+        final CompleteJobRequest request,
+        final StreamObserver<GatewayOuterClass.CompleteJobResponse> responseObserver) {
+      singleRequests.add(request);
+      singleObservers.add(responseObserver);
+    }
+
+    @Override
+    public void completeJobs(
+        final CompleteJobsRequest request,
+        final StreamObserver<CompleteJobsResponse> responseObserver) {
+      if (!isBatchingSupported) {
+        super.completeJobs(request, responseObserver);
+        return;
+      }
+
+      batchRequests.add(request);
+      batchObservers.add(responseObserver);
+    }
+
+    private void respondToSingle(final int index) {
+      singleObservers
+          .get(index)
+          .onNext(GatewayOuterClass.CompleteJobResponse.getDefaultInstance());
+      singleObservers.get(index).onCompleted();
+    }
+
+    private void respondToBatch(final int index) {
+      final CompleteJobsResult result =
+          CompleteJobsResult.newBuilder()
+              .setResponse(GatewayOuterClass.CompleteJobResponse.getDefaultInstance())
+              .build();
+      final CompleteJobsResponse.Builder response = CompleteJobsResponse.newBuilder();
+      batchRequests.get(index).getRequestsList().forEach(request -> response.addResults(result));
+      batchObservers.get(index).onNext(response.build());
+      batchObservers.get(index).onCompleted();
+    }
+  }
+}
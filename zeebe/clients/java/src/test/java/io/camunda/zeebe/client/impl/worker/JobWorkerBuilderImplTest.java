@@ -31,7 +31,9 @@ import io.camunda.zeebe.client.api.ZeebeFuture;
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1.ActivateJobsCommandStep3;
 import io.camunda.zeebe.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
 import io.camunda.zeebe.client.api.response.ActivateJobsResponse;
+import io.camunda.zeebe.client.api.response.ActivatedJob;
 import io.camunda.zeebe.client.api.worker.JobClient;
+import io.camunda.zeebe.client.api.worker.JobWorker;
 import io.camunda.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
 import io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl;
 import java.io.Closeable;
@@ -42,9 +44,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ThrowingRunnable;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Answers;
@@ -308,6 +314,84 @@ class JobWorkerBuilderImplTest {
         () -> assertThat(tenantIdCaptor.getValue()).containsExactlyInAnyOrder("1", "2", "3", "4"));
   }
 
+  @Test
+  void shouldExecuteJobsOnVirtualThreadsIfOptedIn() {
+    // given
+    Assumptions.assumeTrue(VirtualThreads.isSupported(), "requires virtual threads");
+    final StreamJobsCommandStep3 lastStep = Mockito.mock(Answers.RETURNS_SELF);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Consumer<ActivatedJob>> consumerCaptor =
+        ArgumentCaptor.forClass(Consumer.class);
+    Mockito.when(
+            jobClient
+                .newStreamJobsCommand()
+                .jobType(anyString())
+                .consumer(consumerCaptor.capture()))
+        .thenReturn(lastStep);
+    Mockito.when(lastStep.send()).thenReturn(Mockito.mock());
+    final AtomicReference<Thread> handlerThread = new AtomicReference<>();
+    jobWorkerBuilder
+        .jobType("type")
+        .handler((c, j) -> handlerThread.set(Thread.currentThread()))
+        .timeout(Duration.ofSeconds(5))
+        .name("test")
+        .maxJobsActive(30)
+        .streamEnabled(true)
+        .virtualThreadsEnabled(true)
+        .open();
+
+    // when
+    await(() -> assertThat(consumerCaptor.getAllValues()).isNotEmpty());
+    consumerCaptor.getValue().accept(mock(ActivatedJob.class));
+
+    // then
+    await(() -> assertThat(isVirtual(handlerThread.get())).isTrue());
+  }
+
+  @Test
+  void shouldShutDownVirtualThreadExecutorWhenClosed() {
+    // given
+    Assumptions.assumeTrue(VirtualThreads.isSupported(), "requires virtual threads");
+    final StreamJobsCommandStep3 lastStep = Mockito.mock(Answers.RETURNS_SELF);
+    @SuppressWarnings("unchecked")
+    final ArgumentCaptor<Consumer<ActivatedJob>> consumerCaptor =
+        ArgumentCaptor.forClass(Consumer.class);
+    Mockito.when(
+            jobClient
+                .newStreamJobsCommand()
+                .jobType(anyString())
+                .consumer(consumerCaptor.capture()))
+        .thenReturn(lastStep);
+    Mockito.when(lastStep.send()).thenReturn(Mockito.mock());
+    final AtomicInteger handledJobs = new AtomicInteger();
+    final JobWorker jobWorker =
+        jobWorkerBuilder
+            .jobType("type")
+            .handler((c, j) -> handledJobs.incrementAndGet())
+            .timeout(Duration.ofSeconds(5))
+            .name("test")
+            .maxJobsActive(30)
+            .streamEnabled(true)
+            .virtualThreadsEnabled(true)
+            .open();
+    await(() -> assertThat(consumerCaptor.getAllValues()).isNotEmpty());
+
+    // when - the worker is closed on its own, not together with the client
+    jobWorker.close();
+    consumerCaptor.getValue().accept(mock(ActivatedJob.class));
+
+    // then - the executor of its virtual threads is shut down as well
+    Awaitility.await()
+        .during(Duration.ofMillis(100))
+        .atMost(Duration.ofSeconds(1))
+        .untilAsserted(() -> assertThat(handledJobs).hasValue(0));
+  }
+
+  private static boolean isVirtual(final Thread thread) throws Exception {
+    // the client is compiled for Java 8, where Thread#isVirtual doesn't exist
+    return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+  }
+
   private void await(final ThrowingRunnable throwingRunnable) {
     Awaitility.await()
         .ignoreExceptions()
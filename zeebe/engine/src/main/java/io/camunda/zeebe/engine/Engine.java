@@ -101,6 +101,9 @@ public class Engine implements RecordProcessor {
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      // values derived from the variables are only reused within a single command
+      processingState.getVariableState().invalidateDerivedValues();
+
       TypedRecordProcessor<?> currentProcessor = null;
 
       final var typedCommand = (TypedRecord<?>) record;
@@ -126,6 +129,8 @@ public class Engine implements RecordProcessor {
       if (noBanCheckNeeded || !processingState.getBannedInstanceState().isBanned(typedCommand)) {
         currentProcessor.processRecord(record);
       }
+
+      commitCorrelationFilterChangesOnCommit(processingResultBuilder);
     }
     return processingResultBuilder.build();
   }
@@ -136,6 +141,9 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      // the variables and subscriptions written while processing the record were rolled back
+      processingState.getVariableState().clearCache();
+      processingState.getMessageSubscriptionState().rollbackCorrelationFilterChanges();
 
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
@@ -158,10 +166,32 @@ public class Engine implements RecordProcessor {
         final var errorRecord = getRejectionRecord(record);
         handleUnexpectedError(processingException, errorRecord);
       }
+
+      commitCorrelationFilterChangesOnCommit(processingResultBuilder);
     }
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onProcessingRollback() {
+    // the variables and subscriptions written while processing the batch were rolled back
+    processingState.getVariableState().clearCache();
+    processingState.getMessageSubscriptionState().rollbackCorrelationFilterChanges();
+  }
+
+  private void commitCorrelationFilterChangesOnCommit(
+      final ProcessingResultBuilder processingResultBuilder) {
+    final var messageSubscriptionState = processingState.getMessageSubscriptionState();
+    if (messageSubscriptionState.hasUncommittedCorrelationFilterChanges()) {
+      // appended after every command with changes, as the commands of a batch share one transaction
+      processingResultBuilder.appendPostCommitTask(
+          () -> {
+            messageSubscriptionState.commitCorrelationFilterChanges();
+            return true;
+          });
+    }
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
@@ -13,6 +13,10 @@ public final class EngineConfiguration {
 
   public static final int DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
   public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL = Duration.ofMinutes(1);
+  public static final Duration DEFAULT_MESSAGES_TTL_CHECKER_TIME_BUDGET = Duration.ofMillis(100);
+  // expiring messages in batches writes a different event, which consumers of the records may not
+  // expect yet, so it's only done if enabled explicitly
+  public static final boolean DEFAULT_MESSAGES_TTL_CHECKER_BATCH_EXPIRY = false;
 
   public static final int DEFAULT_MAX_ERROR_MESSAGE_SIZE = 10000;
 
@@ -21,10 +25,27 @@ public final class EngineConfiguration {
   public static final int BATCH_SIZE_CALCULATION_BUFFER = 1024 * 8;
 
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
+  // the results are cached per DRG, so with the default DRG cache capacity at most 32,000 results
+  // are kept; decisions are usually evaluated with few distinct inputs, e.g. a category or a
+  // region, which fit into the cache, while results for unique inputs, e.g. an amount, are evicted
+  public static final int DEFAULT_DECISION_EVALUATION_CACHE_CAPACITY = 32;
+  // the latest versions of this many processes and DRGs are loaded into the caches after a
+  // transition; 0 disables the warm-up
+  public static final int DEFAULT_CACHE_WARM_UP_LIMIT = 100;
+  public static final int DEFAULT_CACHE_WARM_UP_THREADS = 2;
+  // the resources of a deployment are parsed in parallel by this many threads; 1 parses them on
+  // the processing thread
+  public static final int DEFAULT_DEPLOYMENT_TRANSFORMATION_THREADS = 2;
 
   private int messagesTtlCheckerBatchLimit = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_LIMIT;
   private Duration messagesTtlCheckerInterval = DEFAULT_MESSAGES_TTL_CHECKER_INTERVAL;
+  private Duration messagesTtlCheckerTimeBudget = DEFAULT_MESSAGES_TTL_CHECKER_TIME_BUDGET;
+  private boolean messagesTtlCheckerBatchExpiry = DEFAULT_MESSAGES_TTL_CHECKER_BATCH_EXPIRY;
   private int drgCacheCapacity = DEFAULT_DRG_CACHE_CAPACITY;
+  private int decisionEvaluationCacheCapacity = DEFAULT_DECISION_EVALUATION_CACHE_CAPACITY;
+  private int cacheWarmUpLimit = DEFAULT_CACHE_WARM_UP_LIMIT;
+  private int cacheWarmUpThreads = DEFAULT_CACHE_WARM_UP_THREADS;
+  private int deploymentTransformationThreads = DEFAULT_DEPLOYMENT_TRANSFORMATION_THREADS;
 
   public int getMessagesTtlCheckerBatchLimit() {
     return messagesTtlCheckerBatchLimit;
@@ -46,6 +67,26 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public Duration getMessagesTtlCheckerTimeBudget() {
+    return messagesTtlCheckerTimeBudget;
+  }
+
+  public EngineConfiguration setMessagesTtlCheckerTimeBudget(
+      final Duration messagesTtlCheckerTimeBudget) {
+    this.messagesTtlCheckerTimeBudget = messagesTtlCheckerTimeBudget;
+    return this;
+  }
+
+  public boolean isMessagesTtlCheckerBatchExpiry() {
+    return messagesTtlCheckerBatchExpiry;
+  }
+
+  public EngineConfiguration setMessagesTtlCheckerBatchExpiry(
+      final boolean messagesTtlCheckerBatchExpiry) {
+    this.messagesTtlCheckerBatchExpiry = messagesTtlCheckerBatchExpiry;
+    return this;
+  }
+
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
   }
@@ -54,4 +95,42 @@ public final class EngineConfiguration {
     this.drgCacheCapacity = drgCacheCapacity;
     return this;
   }
+
+  public int getDecisionEvaluationCacheCapacity() {
+    return decisionEvaluationCacheCapacity;
+  }
+
+  public EngineConfiguration setDecisionEvaluationCacheCapacity(
+      final int decisionEvaluationCacheCapacity) {
+    this.decisionEvaluationCacheCapacity = decisionEvaluationCacheCapacity;
+    return this;
+  }
+
+  public int getCacheWarmUpLimit() {
+    return cacheWarmUpLimit;
+  }
+
+  public EngineConfiguration setCacheWarmUpLimit(final int cacheWarmUpLimit) {
+    this.cacheWarmUpLimit = cacheWarmUpLimit;
+    return this;
+  }
+
+  public int getCacheWarmUpThreads() {
+    return cacheWarmUpThreads;
+  }
+
+  public EngineConfiguration setCacheWarmUpThreads(final int cacheWarmUpThreads) {
+    this.cacheWarmUpThreads = cacheWarmUpThreads;
+    return this;
+  }
+
+  public int getDeploymentTransformationThreads() {
+    return deploymentTransformationThreads;
+  }
+
+  public EngineConfiguration setDeploymentTransformationThreads(
+      final int deploymentTransformationThreads) {
+    this.deploymentTransformationThreads = deploymentTransformationThreads;
+    return this;
+  }
 }
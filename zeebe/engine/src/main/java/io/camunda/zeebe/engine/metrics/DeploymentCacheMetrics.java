@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class DeploymentCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String CACHE_LABEL = "cache";
+
+  private static final Histogram WARM_UP_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_warm_up_duration")
+          .help("Time to load the deployments into the cache after a transition (in seconds)")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60)
+          .labelNames(PARTITION_LABEL, CACHE_LABEL)
+          .register();
+
+  private static final Counter WARM_UP_ENTRIES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_warm_up_entries_total")
+          .help("Number of deployments which were loaded into the cache after a transition")
+          .labelNames(PARTITION_LABEL, CACHE_LABEL)
+          .register();
+
+  private static final Histogram LOAD_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("deployment_cache_load_duration")
+          .help(
+              "Time the processing waited to load a deployment which was not in the cache, e.g."
+                  + " for the first command of a process after a transition (in seconds)")
+          .buckets(.001, .005, .01, .025, .05, .1, .25, .5, 1, 2.5, 5)
+          .labelNames(PARTITION_LABEL, CACHE_LABEL)
+          .register();
+
+  private final String partitionIdLabel;
+
+  public DeploymentCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void warmUpCompleted(final Cache cache, final int entries, final long durationNanos) {
+    WARM_UP_DURATION.labels(partitionIdLabel, cache.label).observe(durationNanos / 1e9);
+    WARM_UP_ENTRIES.labels(partitionIdLabel, cache.label).inc(entries);
+  }
+
+  public void loaded(final Cache cache, final long durationNanos) {
+    LOAD_DURATION.labels(partitionIdLabel, cache.label).observe(durationNanos / 1e9);
+  }
+
+  public enum Cache {
+    PROCESS("process"),
+    DRG("drg");
+
+    private final String label;
+
+    Cache(final String label) {
+      this.label = label;
+    }
+  }
+}
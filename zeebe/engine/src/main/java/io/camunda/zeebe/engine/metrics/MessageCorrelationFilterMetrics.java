@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+
+public final class MessageCorrelationFilterMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+  private static final String RESULT_LABEL = "result";
+
+  private static final Counter LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("message_correlation_filter_lookups_total")
+          .help(
+              "Number of lookups of message subscriptions by the correlation filter, by result: "
+                  + "'negative' if the state was not searched, 'hit' if a subscription was found, "
+                  + "'false_positive' if the state was searched but no subscription was found")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
+
+  private static final Counter REBUILDS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("message_correlation_filter_rebuilds_total")
+          .help("Number of times the correlation filter was rebuilt from the state")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Counter.Child negativeLookups;
+  private final Counter.Child hitLookups;
+  private final Counter.Child falsePositiveLookups;
+  private final Counter.Child rebuilds;
+
+  public MessageCorrelationFilterMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    negativeLookups = LOOKUPS.labels(partitionIdLabel, "negative");
+    hitLookups = LOOKUPS.labels(partitionIdLabel, "hit");
+    falsePositiveLookups = LOOKUPS.labels(partitionIdLabel, "false_positive");
+    rebuilds = REBUILDS.labels(partitionIdLabel);
+  }
+
+  public void negativeLookup() {
+    negativeLookups.inc();
+  }
+
+  public void hitLookup() {
+    hitLookups.inc();
+  }
+
+  public void falsePositiveLookup() {
+    falsePositiveLookups.inc();
+  }
+
+  public void rebuilt() {
+    rebuilds.inc();
+  }
+}
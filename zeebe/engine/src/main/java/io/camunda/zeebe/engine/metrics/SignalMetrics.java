@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+public final class SignalMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Histogram BROADCAST_FAN_OUT =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("signal_broadcast_fan_out")
+          .help("Number of subscriptions which were triggered by a signal broadcast")
+          .buckets(0, 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000)
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram BROADCAST_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("signal_broadcast_duration")
+          .help(
+              "Time between triggering the first and the last subscription of a signal broadcast"
+                  + " (in seconds)")
+          .buckets(.001, .01, .1, .5, 1, 5, 10, 30, 60, 300)
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter BROADCAST_CHUNKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("signal_broadcast_chunks_total")
+          .help("Number of chunks in which the subscriptions of signal broadcasts were triggered")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private final Histogram.Child broadcastFanOut;
+  private final Histogram.Child broadcastDuration;
+  private final Counter.Child broadcastChunks;
+
+  public SignalMetrics(final int partitionId) {
+    final String partitionIdLabel = String.valueOf(partitionId);
+    broadcastFanOut = BROADCAST_FAN_OUT.labels(partitionIdLabel);
+    broadcastDuration = BROADCAST_DURATION.labels(partitionIdLabel);
+    broadcastChunks = BROADCAST_CHUNKS.labels(partitionIdLabel);
+  }
+
+  public void chunkTriggered() {
+    broadcastChunks.inc();
+  }
+
+  public void broadcastCompleted(final long triggeredSubscriptions, final long durationMillis) {
+    broadcastFanOut.observe(triggeredSubscriptions);
+    broadcastDuration.observe(durationMillis / 1000d);
+  }
+}
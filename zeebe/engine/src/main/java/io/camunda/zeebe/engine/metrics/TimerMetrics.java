@@ -0,0 +1,32 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class TimerMetrics {
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("timer_trigger_lag")
+          .help("Time between the due date of a timer and the moment it is triggered (in seconds)")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60, 300)
+          .labelNames("partition")
+          .register();
+
+  private final Histogram.Child triggerLag;
+
+  public TimerMetrics(final int partitionId) {
+    triggerLag = TRIGGER_LAG.labels(String.valueOf(partitionId));
+  }
+
+  public void timerTriggered(final long dueDate, final long triggeredAt) {
+    triggerLag.observe(Math.max(triggeredAt - dueDate, 0) / 1000d);
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviorsImpl;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
@@ -28,10 +29,11 @@ import io.camunda.zeebe.engine.processing.distribution.CommandRedistributor;
 import io.camunda.zeebe.engine.processing.dmn.DecisionEvaluationEvaluteProcessor;
 import io.camunda.zeebe.engine.processing.incident.IncidentEventProcessors;
 import io.camunda.zeebe.engine.processing.job.JobEventProcessors;
+import io.camunda.zeebe.engine.processing.job.JobTimeoutTrigger;
 import io.camunda.zeebe.engine.processing.message.MessageEventProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.resource.ResourceDeletionDeleteProcessor;
-import io.camunda.zeebe.engine.processing.signal.SignalBroadcastProcessor;
+import io.camunda.zeebe.engine.processing.signal.SignalEventProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessorContext;
@@ -49,7 +51,6 @@ import io.camunda.zeebe.protocol.record.intent.DecisionEvaluationIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentDistributionIntent;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.ResourceDeletionIntent;
-import io.camunda.zeebe.protocol.record.intent.SignalIntent;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.util.FeatureFlags;
@@ -80,9 +81,14 @@ public final class EngineProcessors {
     final var config = typedRecordProcessorContext.getConfig();
 
     final DueDateTimerChecker timerChecker =
-        new DueDateTimerChecker(scheduledTaskStateFactory.get().getTimerState(), featureFlags);
+        new DueDateTimerChecker(
+            scheduledTaskStateFactory.get().getTimerState(),
+            featureFlags,
+            new TimerMetrics(partitionId));
 
     final var jobMetrics = new JobMetrics(partitionId);
+    final var jobTimeoutTrigger =
+        new JobTimeoutTrigger(scheduledTaskStateFactory.get().getJobState());
     final var processEngineMetrics = new ProcessEngineMetrics(processingState.getPartitionId());
 
     subscriptionCommandSender.setWriters(writers);
@@ -99,6 +105,7 @@ public final class EngineProcessors {
             timerChecker,
             jobStreamer,
             jobMetrics,
+            jobTimeoutTrigger,
             decisionBehavior);
 
     final var commandDistributionBehavior =
@@ -120,7 +127,8 @@ public final class EngineProcessors {
         deploymentDistributionCommandSender,
         processingState.getKeyGenerator(),
         featureFlags,
-        commandDistributionBehavior);
+        commandDistributionBehavior,
+        config);
     addMessageProcessors(
         bpmnBehaviors,
         subscriptionCommandSender,
@@ -149,7 +157,8 @@ public final class EngineProcessors {
         scheduledTaskStateFactory,
         bpmnBehaviors,
         writers,
-        jobMetrics);
+        jobMetrics,
+        jobTimeoutTrigger);
 
     addIncidentProcessors(
         processingState,
@@ -163,7 +172,7 @@ public final class EngineProcessors {
         processingState,
         commandDistributionBehavior,
         bpmnBehaviors);
-    addSignalBroadcastProcessors(
+    SignalEventProcessors.addSignalProcessors(
         typedRecordProcessors,
         bpmnBehaviors,
         writers,
@@ -190,6 +199,7 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final JobStreamer jobStreamer,
       final JobMetrics jobMetrics,
+      final JobTimeoutTrigger jobTimeoutTrigger,
       final DecisionBehavior decisionBehavior) {
     return new BpmnBehaviorsImpl(
         processingState,
@@ -199,7 +209,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         partitionsCount,
         timerChecker,
-        jobStreamer);
+        jobStreamer,
+        jobTimeoutTrigger);
   }
 
   private static TypedRecordProcessor<ProcessInstanceRecord> addProcessProcessors(
@@ -229,7 +240,8 @@ public final class EngineProcessors {
       final DeploymentDistributionCommandSender deploymentDistributionCommandSender,
       final KeyGenerator keyGenerator,
       final FeatureFlags featureFlags,
-      final CommandDistributionBehavior distributionBehavior) {
+      final CommandDistributionBehavior distributionBehavior,
+      final EngineConfiguration config) {
 
     // on deployment partition CREATE Command is received and processed
     // it will cause a distribution to other partitions
@@ -240,8 +252,10 @@ public final class EngineProcessors {
             writers,
             keyGenerator,
             featureFlags,
-            distributionBehavior);
+            distributionBehavior,
+            config);
     typedRecordProcessors.onCommand(ValueType.DEPLOYMENT, CREATE, processor);
+    typedRecordProcessors.withListener(processor);
 
     // periodically retries deployment distribution
     final var deploymentRedistributor =
@@ -332,24 +346,6 @@ public final class EngineProcessors {
         ValueType.RESOURCE_DELETION, ResourceDeletionIntent.DELETE, resourceDeletionProcessor);
   }
 
-  private static void addSignalBroadcastProcessors(
-      final TypedRecordProcessors typedRecordProcessors,
-      final BpmnBehaviorsImpl bpmnBehaviors,
-      final Writers writers,
-      final MutableProcessingState processingState,
-      final CommandDistributionBehavior commandDistributionBehavior) {
-    final var signalBroadcastProcessor =
-        new SignalBroadcastProcessor(
-            writers,
-            processingState.getKeyGenerator(),
-            processingState,
-            bpmnBehaviors.stateBehavior(),
-            bpmnBehaviors.eventTriggerBehavior(),
-            commandDistributionBehavior);
-    typedRecordProcessors.onCommand(
-        ValueType.SIGNAL, SignalIntent.BROADCAST, signalBroadcastProcessor);
-  }
-
   private static void addCommandDistributionProcessors(
       final TypedRecordProcessors typedRecordProcessors,
       final Writers writers,
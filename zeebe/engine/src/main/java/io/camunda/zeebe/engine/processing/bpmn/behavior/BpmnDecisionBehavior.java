@@ -8,7 +8,6 @@
 package io.camunda.zeebe.engine.processing.bpmn.behavior;
 
 import io.camunda.zeebe.dmn.DecisionEvaluationResult;
-import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.processing.bpmn.BpmnElementContext;
 import io.camunda.zeebe.engine.processing.common.DecisionBehavior;
 import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
@@ -16,6 +15,7 @@ import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCalledDecision;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.state.deployment.DeployedDrg;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -74,9 +74,9 @@ public final class BpmnDecisionBehavior {
     final var decisionId = decisionIdOrFailure.get();
     final var decisionOrFailure =
         decisionBehavior.findDecisionByIdAndTenant(decisionId, context.getTenantId());
-    final Either<Failure, ParsedDecisionRequirementsGraph> drgOrFailure =
+    final Either<Failure, DeployedDrg> drgOrFailure =
         decisionOrFailure
-            .flatMap(decision -> decisionBehavior.findParsedDrgByDecision(decision))
+            .flatMap(decision -> decisionBehavior.findDrgByDecision(decision))
             // any failures above have the same error type and the correct scope
             // decisions invoked by business rule tasks have a different error type
             .mapLeft(
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.bpmn.behavior;
 
 import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.job.JobTimeoutTrigger;
 import io.camunda.zeebe.engine.processing.job.JobVariablesCollector;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer.JobStream;
@@ -43,16 +44,19 @@ public class BpmnJobActivationBehavior {
   private final SideEffectWriter sideEffectWriter;
   private final KeyGenerator keyGenerator;
   private final JobMetrics jobMetrics;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
 
   public BpmnJobActivationBehavior(
       final JobStreamer jobStreamer,
       final VariableState variableState,
       final Writers writers,
       final KeyGenerator keyGenerator,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobTimeoutTrigger jobTimeoutTrigger) {
     this.jobStreamer = jobStreamer;
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
     jobVariablesCollector = new JobVariablesCollector(variableState);
     stateWriter = writers.state();
     sideEffectWriter = writers.sideEffect();
@@ -79,6 +83,7 @@ public class BpmnJobActivationBehavior {
       appendJobToBatch(jobBatchRecord, jobKey, wrappedJobRecord);
       final var jobBatchKey = keyGenerator.nextKey();
       stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, jobBatchRecord);
+      jobTimeoutTrigger.scheduleTimeOut(wrappedJobRecord.getDeadline());
 
       jobVariablesCollector.setJobVariables(properties.fetchVariables(), wrappedJobRecord);
       final var pushableJobRecord = new JobRecord();
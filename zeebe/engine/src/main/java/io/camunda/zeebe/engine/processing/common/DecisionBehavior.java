@@ -66,10 +66,8 @@ public class DecisionBehavior {
         .mapLeft(failure -> formatDecisionLookupFailure(failure, decisionKey));
   }
 
-  public Either<Failure, ParsedDecisionRequirementsGraph> findParsedDrgByDecision(
-      final PersistedDecision persistedDecision) {
-    return findDrgByDecision(persistedDecision)
-        .map(DeployedDrg::getParsedDecisionRequirements)
+  public Either<Failure, DeployedDrg> findDrgByDecision(final PersistedDecision persistedDecision) {
+    return findDeployedDrgByDecision(persistedDecision)
         .mapLeft(
             failure ->
                 formatDecisionLookupFailure(
@@ -86,18 +84,29 @@ public class DecisionBehavior {
   }
 
   public DecisionEvaluationResult evaluateDecisionInDrg(
-      final ParsedDecisionRequirementsGraph drg,
-      final String decisionId,
-      final DirectBuffer variables) {
-    final var evaluationContext = new VariablesContext(MsgPackConverter.convertToMap(variables));
+      final DeployedDrg drg, final String decisionId, final DirectBuffer variables) {
     final var evaluationResult =
-        decisionEngine.evaluateDecisionById(drg, decisionId, evaluationContext);
+        drg.getEvaluationCache()
+            .getOrEvaluate(
+                decisionId,
+                variables,
+                () ->
+                    evaluateDecisionInDrg(
+                        drg.getParsedDecisionRequirements(), decisionId, variables));
 
     updateDecisionMetrics(evaluationResult);
 
     return evaluationResult;
   }
 
+  private DecisionEvaluationResult evaluateDecisionInDrg(
+      final ParsedDecisionRequirementsGraph drg,
+      final String decisionId,
+      final DirectBuffer variables) {
+    final var evaluationContext = new VariablesContext(MsgPackConverter.convertToMap(variables));
+    return decisionEngine.evaluateDecisionById(drg, decisionId, evaluationContext);
+  }
+
   public Tuple<DecisionEvaluationIntent, DecisionEvaluationRecord> createDecisionEvaluationEvent(
       final PersistedDecision decision, final DecisionEvaluationResult decisionResult) {
 
@@ -156,7 +165,7 @@ public class DecisionBehavior {
     }
   }
 
-  private Either<Failure, DeployedDrg> findDrgByDecision(final PersistedDecision decision) {
+  private Either<Failure, DeployedDrg> findDeployedDrgByDecision(final PersistedDecision decision) {
     final var key = decision.getDecisionRequirementsKey();
     final var id = decision.getDecisionRequirementsId();
     return Either.ofOptional(
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.deployment.model;
 
+import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.el.ExpressionLanguage;
 import io.camunda.zeebe.el.ExpressionLanguageFactory;
 import io.camunda.zeebe.engine.processing.bpmn.clock.ZeebeFeelEngineClock;
@@ -17,15 +18,32 @@ import io.camunda.zeebe.scheduler.clock.ActorClock;
 
 public final class BpmnFactory {
 
+  private static final EvaluationContext NO_VARIABLES = name -> null;
+
   public static BpmnTransformer createTransformer() {
-    return new BpmnTransformer(
-        createExpressionLanguage(new ZeebeFeelEngineClock(ActorClock.current())));
+    return createTransformer(ActorClock.current());
+  }
+
+  public static BpmnTransformer createTransformer(final ActorClock clock) {
+    return new BpmnTransformer(createExpressionLanguage(clock));
   }
 
-  public static BpmnValidator createValidator(final ExpressionProcessor expressionProcessor) {
+  /**
+   * Creates a validator which uses the given expression language and its own processor. The
+   * validator only evaluates static expressions, so its expression processor doesn't access the
+   * variables.
+   *
+   * @param expressionLanguage the expression language which is used to parse and evaluate the
+   *     expressions, e.g. one which is shared with a transformer
+   * @return the validator
+   */
+  public static BpmnValidator createValidator(final ExpressionLanguage expressionLanguage) {
     return new BpmnValidator(
-        createExpressionLanguage(new ZeebeFeelEngineClock(ActorClock.current())),
-        expressionProcessor);
+        expressionLanguage, new ExpressionProcessor(expressionLanguage, scopeKey -> NO_VARIABLES));
+  }
+
+  public static ExpressionLanguage createExpressionLanguage(final ActorClock clock) {
+    return createExpressionLanguage(new ZeebeFeelEngineClock(clock));
   }
 
   private static ExpressionLanguage createExpressionLanguage(
@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.el.ExpressionLanguage;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An expression language which remembers the expressions that it parsed, so that an expression
+ * which is parsed by the validator of a process is not parsed again by its transformer. The parsed
+ * expressions are immutable and can be shared between the validation and the transformation.
+ *
+ * <p>The cache is not thread-safe and grows with every new expression, so it should be used by a
+ * single thread and be {@link #clear() cleared} after each process resource.
+ */
+public final class CachingExpressionLanguage implements ExpressionLanguage {
+
+  private final Map<String, Expression> parsedExpressions = new HashMap<>();
+  private final ExpressionLanguage expressionLanguage;
+
+  public CachingExpressionLanguage(final ExpressionLanguage expressionLanguage) {
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  @Override
+  public Expression parseExpression(final String expression) {
+    return parsedExpressions.computeIfAbsent(expression, expressionLanguage::parseExpression);
+  }
+
+  @Override
+  public EvaluationResult evaluateExpression(
+      final Expression expression, final EvaluationContext context) {
+    return expressionLanguage.evaluateExpression(expression, context);
+  }
+
+  /** Removes all parsed expressions from the cache. */
+  public void clear() {
+    parsedExpressions.clear();
+  }
+
+  int size() {
+    return parsedExpressions.size();
+  }
+}
@@ -9,41 +9,52 @@ package io.camunda.zeebe.engine.processing.deployment.transform;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 
-import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
+import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.processing.common.Failure;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.CachingExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
 import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.StraightThroughProcessingLoopValidator;
 import io.camunda.zeebe.engine.processing.deployment.model.validation.UnsupportedMultiTenantFeaturesValidator;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.state.deployment.CompactBpmnResourceFormat;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
 import io.camunda.zeebe.engine.state.immutable.ProcessState;
-import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.impl.BpmnParser;
 import io.camunda.zeebe.model.bpmn.instance.BaseElement;
 import io.camunda.zeebe.model.bpmn.instance.Process;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessIntent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.agrona.io.DirectBufferInputStream;
 import org.camunda.bpm.model.xml.ModelParseException;
+import org.slf4j.Logger;
 
 public final class BpmnResourceTransformer implements DeploymentResourceTransformer {
 
-  private final BpmnTransformer bpmnTransformer = BpmnFactory.createTransformer();
+  private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
   private final Function<DeploymentResource, DirectBuffer> checksumGenerator;
 
-  private final BpmnValidator validator;
+  // the parser, the validator and the transformer are not shared between the threads which parse
+  // resources concurrently; the shared parser of Bpmn would parse one resource at a time
+  private final ThreadLocal<BpmnParser> parser = ThreadLocal.withInitial(BpmnParser::new);
+  private final ThreadLocal<ProcessTransformation> processTransformation;
+  // only used on the processing actor, when the events of the resources are written
+  private final CompactBpmnResourceFormat compactResourceFormat = new CompactBpmnResourceFormat();
   private final ProcessState processState;
   private final boolean enableStraightThroughProcessingLoopDetector;
 
@@ -52,48 +63,35 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final StateWriter stateWriter,
       final Function<DeploymentResource, DirectBuffer> checksumGenerator,
       final ProcessState processState,
-      final ExpressionProcessor expressionProcessor,
       final boolean enableStraightThroughProcessingLoopDetector) {
     this.keyGenerator = keyGenerator;
     this.stateWriter = stateWriter;
     this.checksumGenerator = checksumGenerator;
     this.processState = processState;
-    validator = BpmnFactory.createValidator(expressionProcessor);
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
+
+    // the clock of the processing actor is also used by the other threads
+    final var clock = ActorClock.current();
+    processTransformation = ThreadLocal.withInitial(() -> ProcessTransformation.create(clock));
   }
 
   @Override
-  public Either<Failure, Void> transformResource(
-      final DeploymentResource resource, final DeploymentRecord deployment) {
+  public Either<Failure, ResourceTransformation> parseResource(final DeploymentResource resource) {
 
     return readProcessDefinition(resource)
         .flatMap(
             definition -> {
-              final String validationError = validator.validate(definition);
+              final var transformation = processTransformation.get();
+              final String validationError = transformation.validate(definition);
 
               if (validationError == null) {
                 // transform the model to avoid unexpected failures that are not covered by the
                 // validator
-                final var executableProcesses = bpmnTransformer.transformDefinitions(definition);
-
-                return checkForDuplicateBpmnId(definition, resource, deployment)
-                    .flatMap(
-                        ok ->
-                            UnsupportedMultiTenantFeaturesValidator.validate(
-                                resource, executableProcesses, deployment.getTenantId()))
-                    .flatMap(
-                        ok -> {
-                          if (enableStraightThroughProcessingLoopDetector) {
-                            return StraightThroughProcessingLoopValidator.validate(
-                                resource, executableProcesses);
-                          }
-                          return Either.right(null);
-                        })
-                    .map(
-                        ok -> {
-                          transformProcessResource(deployment, resource, definition);
-                          return null;
-                        });
+                final var executableProcesses = transformation.transform(definition);
+
+                return Either.right(
+                    deployment ->
+                        transformResource(resource, definition, executableProcesses, deployment));
 
               } else {
                 final var failureMessage =
@@ -103,12 +101,37 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
             });
   }
 
+  private Either<Failure, Void> transformResource(
+      final DeploymentResource resource,
+      final BpmnModelInstance definition,
+      final List<ExecutableProcess> executableProcesses,
+      final DeploymentRecord deployment) {
+    return checkForDuplicateBpmnId(definition, resource, deployment)
+        .flatMap(
+            ok ->
+                UnsupportedMultiTenantFeaturesValidator.validate(
+                    resource, executableProcesses, deployment.getTenantId()))
+        .flatMap(
+            ok -> {
+              if (enableStraightThroughProcessingLoopDetector) {
+                return StraightThroughProcessingLoopValidator.validate(
+                    resource, executableProcesses);
+              }
+              return Either.right(null);
+            })
+        .map(
+            ok -> {
+              transformProcessResource(deployment, resource, definition);
+              return null;
+            });
+  }
+
   private Either<Failure, BpmnModelInstance> readProcessDefinition(
       final DeploymentResource deploymentResource) {
     try {
       final DirectBuffer resource = deploymentResource.getResourceBuffer();
       final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
-      return Either.right(Bpmn.readModelFromStream(resourceStream));
+      return Either.right(parser.get().parseModelFromStream(resourceStream));
     } catch (final ModelParseException e) {
       final var failureMessage =
           String.format(
@@ -147,6 +170,8 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
       final BpmnModelInstance definition) {
     final Collection<Process> processes =
         definition.getDefinitions().getChildElementsByType(Process.class);
+    // created for the first new process of the resource and shared by its other processes
+    DirectBuffer compactResource = null;
 
     for (final Process process : processes) {
       if (process.isExecutable()) {
@@ -181,15 +206,40 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
               .setKey(key)
               .setVersion(processState.getNextProcessVersion(bpmnProcessId, tenantId));
 
-          stateWriter.appendFollowUpEvent(
-              key,
-              ProcessIntent.CREATED,
-              new ProcessRecord().wrap(processMetadata, deploymentResource.getResource()));
+          if (compactResource == null) {
+            compactResource =
+                compactResourceFormat.compact(deploymentResource.getResourceBuffer()).orElse(null);
+          }
+
+          final var processRecord =
+              new ProcessRecord().wrap(processMetadata, deploymentResource.getResource());
+          if (compactResource != null) {
+            addCompactResource(deploymentEvent, processRecord, compactResource);
+          }
+          stateWriter.appendFollowUpEvent(key, ProcessIntent.CREATED, processRecord);
         }
       }
     }
   }
 
+  private void addCompactResource(
+      final DeploymentRecord deploymentEvent,
+      final ProcessRecord processRecord,
+      final DirectBuffer compactResource) {
+    final int length =
+        processRecord.getLength() + compactResource.capacity() + deploymentEvent.getLength();
+    if (stateWriter.canWriteEventOfLength(length)) {
+      processRecord.setCompactResource(CompactBpmnResourceFormat.VERSION, compactResource);
+    } else {
+      // without the compact resource, the process is transformed from the original resource on a
+      // cache miss, which takes longer for large processes
+      LOG.info(
+          "Expected to persist the compact resource of process '{}', but the deployment wouldn't fit into the batch with it ({} bytes). The process will be transformed from the original resource.",
+          processRecord.getBpmnProcessId(),
+          length);
+    }
+  }
+
   private boolean isDuplicateOfLatest(
       final DeploymentResource deploymentResource,
       final DirectBuffer resourceDigest,
@@ -200,4 +250,38 @@ public final class BpmnResourceTransformer implements DeploymentResourceTransfor
         && lastVersionDigest.equals(resourceDigest)
         && lastProcess.getResourceName().equals(deploymentResource.getResourceNameBuffer());
   }
+
+  /**
+   * Validates and transforms the processes of a resource. The validator and the transformer share
+   * an expression language which caches the parsed expressions, so that the expressions are parsed
+   * only once per resource. It must be used by a single thread.
+   */
+  private record ProcessTransformation(
+      CachingExpressionLanguage expressionLanguage,
+      BpmnValidator validator,
+      BpmnTransformer transformer) {
+
+    private static ProcessTransformation create(final ActorClock clock) {
+      final var expressionLanguage =
+          new CachingExpressionLanguage(BpmnFactory.createExpressionLanguage(clock));
+      return new ProcessTransformation(
+          expressionLanguage,
+          BpmnFactory.createValidator(expressionLanguage),
+          new BpmnTransformer(expressionLanguage));
+    }
+
+    private String validate(final BpmnModelInstance definition) {
+      // the expressions of a previous resource may remain if it was invalid
+      expressionLanguage.clear();
+      return validator.validate(definition);
+    }
+
+    private List<ExecutableProcess> transform(final BpmnModelInstance definition) {
+      try {
+        return transformer.transformDefinitions(definition);
+      } finally {
+        expressionLanguage.clear();
+      }
+    }
+  }
 }
@@ -36,9 +36,13 @@ public final class BpmnValidator {
     designTimeAspectValidator.reset();
     runtimeAspectValidator.reset();
 
+    // both aspects are validated in a single traversal of the model
     final ModelWalker walker = new ModelWalker(modelInstance);
-    walker.walk(designTimeAspectValidator);
-    walker.walk(runtimeAspectValidator);
+    walker.walk(
+        element -> {
+          designTimeAspectValidator.visit(element);
+          runtimeAspectValidator.visit(element);
+        });
 
     final ValidationResults results1 = designTimeAspectValidator.getValidationResult();
     final ValidationResults results2 = runtimeAspectValidator.getValidationResult();
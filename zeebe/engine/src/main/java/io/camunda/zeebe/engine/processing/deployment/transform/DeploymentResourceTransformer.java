@@ -15,13 +15,28 @@ import io.camunda.zeebe.util.Either;
 interface DeploymentResourceTransformer {
 
   /**
-   * Transform the given resource. As a result, the transformer should add the deployed resource to
-   * the deployment record and write an event for the resource (e.g. a process record).
+   * Parse and validate the given resource. This is the expensive part of the transformation, but it
+   * doesn't access the state or the deployment. So it may be called concurrently for the resources
+   * of a deployment, outside the processing actor.
    *
-   * @param resource the resource to transform
-   * @param deployment the deployment to add the deployed resource to
-   * @return either {@link Either.Right} if the resource is transformed successfully, or {@link
-   *     Either.Left} if the transformation failed
+   * @param resource the resource to parse
+   * @return either {@link Either.Right} with the transformation of the parsed resource, or {@link
+   *     Either.Left} if the resource is invalid
    */
-  Either<Failure, Void> transformResource(DeploymentResource resource, DeploymentRecord deployment);
+  Either<Failure, ResourceTransformation> parseResource(DeploymentResource resource);
+
+  /** The transformation of a parsed resource, which must be applied on the processing actor. */
+  @FunctionalInterface
+  interface ResourceTransformation {
+
+    /**
+     * Transform the parsed resource. As a result, the transformer should add the deployed resource
+     * to the deployment record and write an event for the resource (e.g. a process record).
+     *
+     * @param deployment the deployment to add the deployed resource to
+     * @return either {@link Either.Right} if the resource is transformed successfully, or {@link
+     *     Either.Left} if the transformation failed
+     */
+    Either<Failure, Void> transformResource(DeploymentRecord deployment);
+  }
 }
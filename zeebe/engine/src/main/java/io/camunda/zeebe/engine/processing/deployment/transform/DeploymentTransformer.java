@@ -11,8 +11,8 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
 import static java.util.Map.entry;
 
 import io.camunda.zeebe.engine.Loggers;
-import io.camunda.zeebe.engine.processing.common.ExpressionProcessor;
 import io.camunda.zeebe.engine.processing.common.Failure;
+import io.camunda.zeebe.engine.processing.deployment.transform.DeploymentResourceTransformer.ResourceTransformation;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
@@ -23,15 +23,29 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.FeatureFlags;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
+/**
+ * Transforms the resources of a deployment in two phases. First, the resources are parsed and
+ * validated. This doesn't access the state, so if the deployment contains multiple resources, they
+ * are parsed in parallel by a small pool of threads while the processing actor waits for the
+ * results. Afterward, the parsed resources are added to the deployment and their events are written
+ * one after another on the processing actor, in the order of the resources.
+ */
 public final class DeploymentTransformer {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
+  private static final long IDLE_THREAD_KEEP_ALIVE_SECONDS = 60;
 
   private static final DeploymentResourceTransformer UNKNOWN_RESOURCE =
       new UnknownResourceTransformer();
@@ -39,6 +53,8 @@ public final class DeploymentTransformer {
   private final Map<String, DeploymentResourceTransformer> resourceTransformers;
 
   private final MessageDigest digestGenerator;
+  // parses the resources of a deployment in parallel, null if they are parsed one after another
+  private final ExecutorService parsingExecutor;
   // internal changes during processing
   private RejectionType rejectionType;
   private String rejectionReason;
@@ -46,9 +62,9 @@ public final class DeploymentTransformer {
   public DeploymentTransformer(
       final StateWriter stateWriter,
       final ProcessingState processingState,
-      final ExpressionProcessor expressionProcessor,
       final KeyGenerator keyGenerator,
-      final FeatureFlags featureFlags) {
+      final FeatureFlags featureFlags,
+      final int parsingThreads) {
 
     try {
       // We get an alert by LGTM, since MD5 is a weak cryptographic hash function,
@@ -67,7 +83,6 @@ public final class DeploymentTransformer {
             stateWriter,
             this::getChecksum,
             processingState.getProcessState(),
-            expressionProcessor,
             featureFlags.enableStraightThroughProcessingLoopDetector());
     final var dmnResourceTransformer =
         new DmnResourceTransformer(
@@ -83,6 +98,29 @@ public final class DeploymentTransformer {
             entry(".xml", bpmnResourceTransformer),
             entry(".dmn", dmnResourceTransformer),
             entry(".form", formResourceTransformer));
+
+    parsingExecutor = parsingThreads > 1 ? createParsingExecutor(parsingThreads) : null;
+  }
+
+  private static ExecutorService createParsingExecutor(final int threads) {
+    // the threads are only kept while deployments are created, an idle partition holds none
+    final var executor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            IDLE_THREAD_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            Thread.ofPlatform().name("deployment-transformer-", 0).daemon().factory());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /** Stops the threads which parse the resources. The transformer can't be used afterward. */
+  public void close() {
+    if (parsingExecutor != null) {
+      parsingExecutor.shutdownNow();
+    }
   }
 
   private DirectBuffer getChecksum(final DeploymentResource resource) {
@@ -93,17 +131,19 @@ public final class DeploymentTransformer {
     final StringBuilder errors = new StringBuilder();
     boolean success = true;
 
-    final Iterator<DeploymentResource> resourceIterator = deploymentEvent.resources().iterator();
-    if (!resourceIterator.hasNext()) {
+    final List<DeploymentResource> resources = new ArrayList<>();
+    deploymentEvent.resources().forEach(resources::add);
+    if (resources.isEmpty()) {
       rejectionType = RejectionType.INVALID_ARGUMENT;
       rejectionReason = "Expected to deploy at least one resource, but none given";
 
       return Either.left(new Failure(rejectionReason));
     }
 
-    while (resourceIterator.hasNext()) {
-      final DeploymentResource deploymentResource = resourceIterator.next();
-      success &= transformResource(deploymentEvent, errors, deploymentResource);
+    final var parsedResources = parseResources(resources);
+    for (int i = 0; i < resources.size(); i++) {
+      success &=
+          transformResource(deploymentEvent, errors, resources.get(i), parsedResources.get(i));
     }
 
     if (!success) {
@@ -118,16 +158,45 @@ public final class DeploymentTransformer {
     return Either.right(null);
   }
 
+  private List<Either<Failure, ResourceTransformation>> parseResources(
+      final List<DeploymentResource> resources) {
+    if (parsingExecutor == null || resources.size() == 1) {
+      return resources.stream().map(this::parseResource).toList();
+    }
+
+    final var parsedResources =
+        resources.stream()
+            .map(
+                resource ->
+                    CompletableFuture.supplyAsync(() -> parseResource(resource), parsingExecutor))
+            .toList();
+    return parsedResources.stream().map(CompletableFuture::join).toList();
+  }
+
+  private Either<Failure, ResourceTransformation> parseResource(
+      final DeploymentResource deploymentResource) {
+    final String resourceName = deploymentResource.getResourceName();
+    final var transformer = getResourceTransformer(resourceName);
+
+    try {
+      return transformer.parseResource(deploymentResource);
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected error while processing resource '{}'", resourceName, e);
+      return Either.left(new Failure("'%s': %s".formatted(resourceName, e.getMessage())));
+    }
+  }
+
   private boolean transformResource(
       final DeploymentRecord deploymentEvent,
       final StringBuilder errors,
-      final DeploymentResource deploymentResource) {
+      final DeploymentResource deploymentResource,
+      final Either<Failure, ResourceTransformation> parsedResource) {
     final String resourceName = deploymentResource.getResourceName();
 
-    final var transformer = getResourceTransformer(resourceName);
-
     try {
-      final var result = transformer.transformResource(deploymentResource, deploymentEvent);
+      final var result =
+          parsedResource.flatMap(
+              transformation -> transformation.transformResource(deploymentEvent));
 
       if (result.isRight()) {
         return true;
@@ -163,8 +232,8 @@ public final class DeploymentTransformer {
   private static final class UnknownResourceTransformer implements DeploymentResourceTransformer {
 
     @Override
-    public Either<Failure, Void> transformResource(
-        final DeploymentResource resource, final DeploymentRecord deployment) {
+    public Either<Failure, ResourceTransformation> parseResource(
+        final DeploymentResource resource) {
 
       final var failureMessage =
           String.format("%n'%s': unknown resource type", resource.getResourceName());
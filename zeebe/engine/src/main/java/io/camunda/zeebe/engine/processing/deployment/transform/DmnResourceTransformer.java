@@ -45,7 +45,9 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
 
   private static final Either<Failure, Object> NO_DUPLICATES = Either.right(null);
 
-  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  // the decision engine isn't shared between the threads which parse resources concurrently
+  private final ThreadLocal<DecisionEngine> decisionEngine =
+      ThreadLocal.withInitial(DecisionEngineFactory::createDecisionEngine);
 
   private final KeyGenerator keyGenerator;
   private final StateWriter stateWriter;
@@ -64,20 +66,13 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
   }
 
   @Override
-  public Either<Failure, Void> transformResource(
-      final DeploymentResource resource, final DeploymentRecord deployment) {
+  public Either<Failure, ResourceTransformation> parseResource(final DeploymentResource resource) {
 
     final var dmnResource = new ByteArrayInputStream(resource.getResource());
-    final var parsedDrg = decisionEngine.parse(dmnResource);
+    final var parsedDrg = decisionEngine.get().parse(dmnResource);
 
     if (parsedDrg.isValid()) {
-      return checkForDuplicateIds(resource, parsedDrg, deployment)
-          .map(
-              noDuplicates -> {
-                final var drgKey = appendMetadataToDeploymentEvent(resource, parsedDrg, deployment);
-                writeRecords(deployment, resource, drgKey);
-                return null;
-              });
+      return Either.right(deployment -> transformResource(resource, parsedDrg, deployment));
 
     } else {
       final var failure = new Failure(parsedDrg.getFailureMessage());
@@ -85,6 +80,19 @@ public final class DmnResourceTransformer implements DeploymentResourceTransform
     }
   }
 
+  private Either<Failure, Void> transformResource(
+      final DeploymentResource resource,
+      final ParsedDecisionRequirementsGraph parsedDrg,
+      final DeploymentRecord deployment) {
+    return checkForDuplicateIds(resource, parsedDrg, deployment)
+        .map(
+            noDuplicates -> {
+              final var drgKey = appendMetadataToDeploymentEvent(resource, parsedDrg, deployment);
+              writeRecords(deployment, resource, drgKey);
+              return null;
+            });
+  }
+
   private Either<Failure, ?> checkForDuplicateIds(
       final DeploymentResource resource,
       final ParsedDecisionRequirementsGraph parsedDrg,
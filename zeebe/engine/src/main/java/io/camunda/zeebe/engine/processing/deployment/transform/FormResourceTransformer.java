@@ -52,22 +52,22 @@ public final class FormResourceTransformer implements DeploymentResourceTransfor
   }
 
   @Override
-  public Either<Failure, Void> transformResource(
-      final DeploymentResource resource, final DeploymentRecord deployment) {
-
+  public Either<Failure, ResourceTransformation> parseResource(final DeploymentResource resource) {
     return parseFormId(resource)
-        .flatMap(
-            formId ->
-                checkForDuplicateFormId(formId, resource, deployment)
-                    .map(
-                        noDuplicates -> {
-                          final FormMetadataRecord formRecord = deployment.formMetadata().add();
-                          appendMetadataToFormRecord(
-                              formRecord, formId, resource, deployment.getTenantId());
-                          writeFormRecord(formRecord, resource);
-
-                          return null;
-                        }));
+        .map(formId -> deployment -> transformResource(formId, resource, deployment));
+  }
+
+  private Either<Failure, Void> transformResource(
+      final String formId, final DeploymentResource resource, final DeploymentRecord deployment) {
+    return checkForDuplicateFormId(formId, resource, deployment)
+        .map(
+            noDuplicates -> {
+              final FormMetadataRecord formRecord = deployment.formMetadata().add();
+              appendMetadataToFormRecord(formRecord, formId, resource, deployment.getTenantId());
+              writeFormRecord(formRecord, resource);
+
+              return null;
+            });
   }
 
   private Either<Failure, String> parseFormId(final DeploymentResource resource) {
@@ -55,7 +55,7 @@ public class DecisionEvaluationEvaluteProcessor
     final Either<Failure, PersistedDecision> decisionOrFailure = getDecision(record);
 
     decisionOrFailure
-        .flatMap(decisionBehavior::findParsedDrgByDecision)
+        .flatMap(decisionBehavior::findDrgByDecision)
         .ifRightOrLeft(
             drg -> {
               final var decision = decisionOrFailure.get();
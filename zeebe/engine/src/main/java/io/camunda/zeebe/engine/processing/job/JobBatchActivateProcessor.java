@@ -38,12 +38,14 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
   private final JobBatchCollector jobBatchCollector;
   private final KeyGenerator keyGenerator;
   private final JobMetrics jobMetrics;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
 
   public JobBatchActivateProcessor(
       final Writers writers,
       final ProcessingState state,
       final KeyGenerator keyGenerator,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobTimeoutTrigger jobTimeoutTrigger) {
 
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
@@ -54,6 +56,7 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
 
     this.keyGenerator = keyGenerator;
     this.jobMetrics = jobMetrics;
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
   }
 
   @Override
@@ -125,6 +128,11 @@ public final class JobBatchActivateProcessor implements TypedRecordProcessor<Job
     stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.ACTIVATED, value);
     responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.ACTIVATED, value, record);
     jobMetrics.jobActivated(value.getType(), activatedCount);
+
+    if (activatedCount > 0) {
+      // all jobs of the batch share the same deadline, see JobBatchCollector
+      jobTimeoutTrigger.scheduleTimeOut(record.getTimestamp() + value.getTimeout());
+    }
   }
 
   private void raiseIncidentJobTooLargeForMessageSize(
@@ -27,7 +27,8 @@ public final class JobEventProcessors {
       final Supplier<ScheduledTaskState> scheduledTaskStateFactory,
       final BpmnBehaviors bpmnBehaviors,
       final Writers writers,
-      final JobMetrics jobMetrics) {
+      final JobMetrics jobMetrics,
+      final JobTimeoutTrigger jobTimeoutTrigger) {
 
     final var jobState = processingState.getJobState();
     final var keyGenerator = processingState.getKeyGenerator();
@@ -80,7 +81,7 @@ public final class JobEventProcessors {
         .onCommand(
             ValueType.JOB,
             JobIntent.UPDATE_TIMEOUT,
-            new JobUpdateTimeoutProcessor(processingState, writers))
+            new JobUpdateTimeoutProcessor(processingState, writers, jobTimeoutTrigger))
         .onCommand(
             ValueType.JOB, JobIntent.CANCEL, new JobCancelProcessor(processingState, jobMetrics))
         .onCommand(
@@ -91,8 +92,12 @@ public final class JobEventProcessors {
             ValueType.JOB_BATCH,
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
-                writers, processingState, processingState.getKeyGenerator(), jobMetrics))
-        .withListener(new JobTimeoutTrigger(scheduledTaskStateFactory.get().getJobState()))
+                writers,
+                processingState,
+                processingState.getKeyGenerator(),
+                jobMetrics,
+                jobTimeoutTrigger))
+        .withListener(jobTimeoutTrigger)
         .withListener(jobBackoffChecker);
   }
 }
@@ -7,82 +7,101 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
-import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
-
+import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
-import io.camunda.zeebe.stream.api.scheduling.Task;
-import io.camunda.zeebe.stream.api.scheduling.TaskResult;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 
+/**
+ * Times out activated jobs once their deadline has passed. The check is scheduled for the next
+ * deadline of all activated jobs, which is determined from the state on recovery and after each
+ * check, and updated whenever a job gets a new deadline. In addition, the jobs are checked at least
+ * every {@link #TIME_OUT_POLLING_INTERVAL}, in case a deadline was not scheduled.
+ */
 public final class JobTimeoutTrigger implements StreamProcessorLifecycleAware {
   public static final Duration TIME_OUT_POLLING_INTERVAL = Duration.ofSeconds(30);
+
+  static final long TIME_OUT_RESOLUTION = Duration.ofMillis(100).toMillis();
+
   private final JobState state;
+  private final DueDateChecker timeOutDueDateChecker;
 
-  private boolean shouldReschedule = false;
+  /** The deadline of the job to continue at in the next check, or -1 to start at the first job. */
+  private long resumeAtDeadline = -1L;
 
-  private ReadonlyStreamProcessorContext processingContext;
-  private final Task deactivateTimedOutJobs;
+  private long resumeAtJobKey = -1L;
 
   public JobTimeoutTrigger(final JobState state) {
     this.state = state;
-    deactivateTimedOutJobs = new DeactivateTimeOutJobs();
+    timeOutDueDateChecker =
+        new DueDateChecker(TIME_OUT_RESOLUTION, false, this::deactivateTimedOutJobs);
   }
 
-  @Override
-  public void onRecovered(final ReadonlyStreamProcessorContext processingContext) {
-    this.processingContext = processingContext;
-    shouldReschedule = true;
+  /**
+   * Schedules the check for timed out jobs, so that a job with the given deadline times out as soon
+   * as its deadline has passed.
+   *
+   * @param deadline the deadline of an activated job
+   */
+  public void scheduleTimeOut(final long deadline) {
+    // a job only times out after its deadline
+    timeOutDueDateChecker.schedule(deadline + 1);
+  }
 
-    scheduleDeactivateTimedOutJobsTask();
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    timeOutDueDateChecker.onRecovered(context);
   }
 
   @Override
   public void onClose() {
-    cancelTimer();
+    timeOutDueDateChecker.onClose();
   }
 
   @Override
   public void onFailed() {
-    cancelTimer();
+    timeOutDueDateChecker.onFailed();
   }
 
   @Override
   public void onPaused() {
-    cancelTimer();
+    timeOutDueDateChecker.onPaused();
   }
 
   @Override
   public void onResumed() {
-    shouldReschedule = true;
-    scheduleDeactivateTimedOutJobsTask();
-  }
-
-  private void scheduleDeactivateTimedOutJobsTask() {
-    processingContext
-        .getScheduleService()
-        .runDelayed(TIME_OUT_POLLING_INTERVAL, deactivateTimedOutJobs);
-  }
-
-  private void cancelTimer() {
-    shouldReschedule = false;
+    timeOutDueDateChecker.onResumed();
   }
 
-  private final class DeactivateTimeOutJobs implements Task {
-
-    @Override
-    public TaskResult execute(final TaskResultBuilder taskResultBuilder) {
-      final long now = currentTimeMillis();
-      state.forEachTimedOutEntry(
-          now,
-          (key, record) -> taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record));
-      if (shouldReschedule) {
-        scheduleDeactivateTimedOutJobsTask();
-      }
-      return taskResultBuilder.build();
-    }
+  long deactivateTimedOutJobs(final TaskResultBuilder taskResultBuilder) {
+    final long now = ActorClock.currentTimeMillis();
+    final long startAtDeadline = resumeAtDeadline;
+    final long startAtJobKey = resumeAtJobKey;
+    resumeAtDeadline = -1L;
+    resumeAtJobKey = -1L;
+
+    final long nextDeadline =
+        state.forEachTimedOutEntry(
+            now,
+            startAtDeadline,
+            startAtJobKey,
+            (key, record) -> {
+              if (taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record)) {
+                return true;
+              }
+
+              // the result is full; the jobs before this one are already pending a time out, so
+              // the next check continues at this job instead of timing them out again
+              resumeAtDeadline = record.getDeadline();
+              resumeAtJobKey = key;
+              return false;
+            });
+
+    final long nextPoll = now + TIME_OUT_POLLING_INTERVAL.toMillis();
+    return nextDeadline > 0 ? Math.min(nextDeadline + 1, nextPoll) : nextPoll;
   }
 }
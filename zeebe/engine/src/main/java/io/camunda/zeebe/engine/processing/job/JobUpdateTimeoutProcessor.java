@@ -32,8 +32,13 @@ public class JobUpdateTimeoutProcessor implements TypedRecordProcessor<JobRecord
   private final StateWriter stateWriter;
   private final TypedRejectionWriter rejectionWriter;
   private final TypedResponseWriter responseWriter;
+  private final JobTimeoutTrigger jobTimeoutTrigger;
 
-  public JobUpdateTimeoutProcessor(final ProcessingState state, final Writers writers) {
+  public JobUpdateTimeoutProcessor(
+      final ProcessingState state,
+      final Writers writers,
+      final JobTimeoutTrigger jobTimeoutTrigger) {
+    this.jobTimeoutTrigger = jobTimeoutTrigger;
     jobState = state.getJobState();
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
@@ -68,6 +73,7 @@ public class JobUpdateTimeoutProcessor implements TypedRecordProcessor<JobRecord
     job.setDeadline(newDeadline);
 
     stateWriter.appendFollowUpEvent(jobKey, JobIntent.TIMEOUT_UPDATED, job);
+    jobTimeoutTrigger.scheduleTimeOut(newDeadline);
     responseWriter.writeEventOnCommand(jobKey, JobIntent.TIMEOUT_UPDATED, job, command);
   }
 }
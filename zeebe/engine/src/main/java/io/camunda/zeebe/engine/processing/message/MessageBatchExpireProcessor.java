@@ -13,25 +13,43 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Expires the messages of a batch. By default, it writes an EXPIRED Message event for each of the
+ * messages. If batch expiry is enabled, it writes a single EXPIRED MessageBatch event with the keys
+ * of all messages instead, which is much smaller in the log and cheaper to export and apply.
+ */
 public final class MessageBatchExpireProcessor implements TypedRecordProcessor<MessageBatchRecord> {
 
   private static final Logger LOG = LoggerFactory.getLogger(MessageBatchExpireProcessor.class);
   private final StateWriter stateWriter;
+  private final KeyGenerator keyGenerator;
+  private final boolean batchExpiry;
 
   private final MessageRecord emptyDeleteMessageCommand =
       new MessageRecord().setName("").setCorrelationKey("").setTimeToLive(-1L);
 
-  public MessageBatchExpireProcessor(final StateWriter stateWriter) {
+  public MessageBatchExpireProcessor(
+      final StateWriter stateWriter, final KeyGenerator keyGenerator, final boolean batchExpiry) {
     this.stateWriter = stateWriter;
+    this.keyGenerator = keyGenerator;
+    this.batchExpiry = batchExpiry;
   }
 
   @Override
   public void processRecord(final TypedRecord<MessageBatchRecord> record) {
+    if (batchExpiry) {
+      // the event is about as large as the command, which already fits into a batch
+      stateWriter.appendFollowUpEvent(
+          keyGenerator.nextKey(), MessageBatchIntent.EXPIRED, record.getValue());
+      return;
+    }
 
     int expiredMessagesCount = 0;
     final int totalMessagesCount = record.getValue().getMessageKeys().size();
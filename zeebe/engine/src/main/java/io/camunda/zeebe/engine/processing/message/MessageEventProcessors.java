@@ -66,7 +66,8 @@ public final class MessageEventProcessors {
         .onCommand(
             ValueType.MESSAGE_BATCH,
             MessageBatchIntent.EXPIRE,
-            new MessageBatchExpireProcessor(writers.state()))
+            new MessageBatchExpireProcessor(
+                writers.state(), keyGenerator, config.isMessagesTtlCheckerBatchExpiry()))
         .onCommand(
             ValueType.MESSAGE, MessageIntent.EXPIRE, new MessageExpireProcessor(writers.state()))
         .onCommand(
@@ -105,6 +106,7 @@ public final class MessageEventProcessors {
                 subscriptionCommandSender,
                 config.getMessagesTtlCheckerInterval(),
                 config.getMessagesTtlCheckerBatchLimit(),
+                config.getMessagesTtlCheckerTimeBudget(),
                 featureFlags.enableMessageTTLCheckerAsync()));
   }
 }
@@ -24,6 +24,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
   private final Supplier<ScheduledTaskState> scheduledTaskStateFactory;
   private final PendingMessageSubscriptionState pendingState;
   private final int messagesTtlCheckerBatchLimit;
+  private final Duration messagesTtlCheckerTimeBudget;
   private final Duration messagesTtlCheckerInterval;
   private final boolean enableMessageTtlCheckerAsync;
 
@@ -33,12 +34,14 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
       final SubscriptionCommandSender subscriptionCommandSender,
       final Duration messagesTtlCheckerInterval,
       final int messagesTtlCheckerBatchLimit,
+      final Duration messagesTtlCheckerTimeBudget,
       final boolean enableMessageTtlCheckerAsync) {
     this.subscriptionCommandSender = subscriptionCommandSender;
     this.scheduledTaskStateFactory = scheduledTaskStateFactory;
     this.pendingState = pendingState;
     this.messagesTtlCheckerInterval = messagesTtlCheckerInterval;
     this.messagesTtlCheckerBatchLimit = messagesTtlCheckerBatchLimit;
+    this.messagesTtlCheckerTimeBudget = messagesTtlCheckerTimeBudget;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
   }
 
@@ -55,6 +58,7 @@ public final class MessageObserver implements StreamProcessorLifecycleAware {
         new MessageTimeToLiveChecker(
             messagesTtlCheckerInterval,
             messagesTtlCheckerBatchLimit,
+            messagesTtlCheckerTimeBudget,
             enableMessageTtlCheckerAsync,
             scheduleService,
             messageState);
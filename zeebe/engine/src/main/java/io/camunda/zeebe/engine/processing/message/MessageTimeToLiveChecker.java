@@ -24,7 +24,10 @@ import org.agrona.collections.MutableInteger;
  * EXPIRE Message command.
  *
  * <p>To prevent that it clogs the log stream with too many EXPIRE Message commands, it only writes
- * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}.
+ * a limited number of these commands in a single run of {@link #execute(TaskResultBuilder)}. To
+ * prevent that a single run blocks the stream processor for too long, e.g. if the deadlines of
+ * many messages need to be visited, a run also ends once it exceeded its {@link #timeBudget time
+ * budget}.
  *
  * <p>It determines whether to reschedule itself immediately, or after the configured {@link
  * #executionInterval interval}. If it reschedules itself immediately, then it will continue where
@@ -39,6 +42,9 @@ public final class MessageTimeToLiveChecker implements Task {
   /** This determines the maximum number of EXPIRE commands it will attempt to fit in the result. */
   private final int batchLimit;
 
+  /** This determines how long a single execution may visit expired message deadlines. */
+  private final Duration timeBudget;
+
   /** This determines whether to run this checker async or not. */
   private final boolean enableMessageTtlCheckerAsync;
 
@@ -54,11 +60,13 @@ public final class MessageTimeToLiveChecker implements Task {
   public MessageTimeToLiveChecker(
       final Duration executionInterval,
       final int batchLimit,
+      final Duration timeBudget,
       final boolean enableMessageTtlCheckerAsync,
       final ProcessingScheduleService scheduleService,
       final MessageState messageState) {
     this.executionInterval = executionInterval;
     this.batchLimit = batchLimit;
+    this.timeBudget = timeBudget;
     this.enableMessageTtlCheckerAsync = enableMessageTtlCheckerAsync;
     this.messageState = messageState;
     this.scheduleService = scheduleService;
@@ -71,6 +79,8 @@ public final class MessageTimeToLiveChecker implements Task {
       currentTimestamp = ActorClock.currentTimeMillis();
     }
 
+    final long startNanos = System.nanoTime();
+    final long timeBudgetNanos = timeBudget.toNanos();
     final var counter = new MutableInteger(0);
     final MessageBatchRecord messageBatchRecord = new MessageBatchRecord();
     final boolean shouldContinueWhereLeftOff =
@@ -88,7 +98,8 @@ public final class MessageTimeToLiveChecker implements Task {
               }
 
               messageBatchRecord.addMessageKey(expiredMessageKey);
-              return counter.incrementAndGet() < batchLimit;
+              return counter.incrementAndGet() < batchLimit
+                  && System.nanoTime() - startNanos < timeBudgetNanos;
             });
 
     if (!messageBatchRecord.isEmpty()) {
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.signal;
+
+import io.camunda.zeebe.engine.metrics.SignalMetrics;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
+import io.camunda.zeebe.engine.processing.common.CommandDistributionBehavior;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.SignalIntent;
+
+public final class SignalEventProcessors {
+
+  public static void addSignalProcessors(
+      final TypedRecordProcessors typedRecordProcessors,
+      final BpmnBehaviors bpmnBehaviors,
+      final Writers writers,
+      final MutableProcessingState processingState,
+      final CommandDistributionBehavior commandDistributionBehavior) {
+
+    final var keyGenerator = processingState.getKeyGenerator();
+    final var subscriptionTrigger =
+        new SignalSubscriptionTrigger(
+            writers,
+            keyGenerator,
+            processingState,
+            bpmnBehaviors.stateBehavior(),
+            bpmnBehaviors.eventTriggerBehavior(),
+            new SignalMetrics(processingState.getPartitionId()));
+
+    typedRecordProcessors
+        .onCommand(
+            ValueType.SIGNAL,
+            SignalIntent.BROADCAST,
+            new SignalBroadcastProcessor(
+                writers, keyGenerator, commandDistributionBehavior, subscriptionTrigger))
+        .onCommand(
+            ValueType.SIGNAL,
+            SignalIntent.TRIGGER_SUBSCRIPTIONS,
+            new SignalTriggerSubscriptionsProcessor(subscriptionTrigger));
+  }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.signal;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.SignalMetrics;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnStateBehavior;
+import io.camunda.zeebe.engine.processing.common.EventHandle;
+import io.camunda.zeebe.engine.processing.common.EventTriggerBehavior;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableCatchEvent;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.immutable.SignalSubscriptionState;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalSubscriptionRecord;
+import io.camunda.zeebe.protocol.record.intent.SignalIntent;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
+
+/**
+ * Triggers the subscriptions of a broadcast signal in chunks. A chunk ends after {@link
+ * #CHUNK_SIZE} subscriptions, or if the records of the next subscription may not fit into the
+ * current batch anymore. The remaining subscriptions are triggered by a TRIGGER_SUBSCRIPTIONS
+ * command, which continues at the first subscription that was not triggered yet. Other commands
+ * can be processed between the chunks, so that a signal with many subscriptions neither exceeds
+ * the batch size nor blocks the partition.
+ *
+ * <p>Only the subscriptions which existed when the signal was broadcast are triggered. A
+ * subscription is keyed by its element instance or process definition, whose keys are generated in
+ * ascending order. The first chunk generates a new key as a bound, which is higher than the keys of
+ * all existing subscriptions and lower than the keys of all subscriptions which are created
+ * afterward, e.g. by process instances which were started by the signal. The continuation commands
+ * stop at this bound.
+ *
+ * <p>The TRIGGER_SUBSCRIPTIONS command has the key of the broadcast. If the broadcast was
+ * distributed from another partition, the command is thereby recognized as distributed as well,
+ * and only triggers the catch events, but doesn't create process instances for start events.
+ */
+final class SignalSubscriptionTrigger {
+
+  static final int CHUNK_SIZE = 100;
+
+  private static final long NO_SUBSCRIPTION_KEY = -1L;
+
+  private final KeyGenerator keyGenerator;
+  private final TypedCommandWriter commandWriter;
+  private final SignalSubscriptionState signalSubscriptionState;
+  private final ProcessState processState;
+  private final ElementInstanceState elementInstanceState;
+  private final EventHandle eventHandle;
+  private final SignalMetrics signalMetrics;
+
+  private final SignalRecord continuationRecord = new SignalRecord();
+  // keyed by the broadcast key; only kept while the subscriptions are triggered in chunks
+  private final Long2LongHashMap broadcastStartTimes = new Long2LongHashMap(-1L);
+  private final Long2LongHashMap triggeredSubscriptions = new Long2LongHashMap(0L);
+
+  SignalSubscriptionTrigger(
+      final Writers writers,
+      final KeyGenerator keyGenerator,
+      final ProcessingState processingState,
+      final BpmnStateBehavior stateBehavior,
+      final EventTriggerBehavior eventTriggerBehavior,
+      final SignalMetrics signalMetrics) {
+    this.keyGenerator = keyGenerator;
+    this.signalMetrics = signalMetrics;
+    commandWriter = writers.command();
+    signalSubscriptionState = processingState.getSignalSubscriptionState();
+    processState = processingState.getProcessState();
+    elementInstanceState = processingState.getElementInstanceState();
+    eventHandle =
+        new EventHandle(
+            keyGenerator,
+            processingState.getEventScopeInstanceState(),
+            writers,
+            processState,
+            eventTriggerBehavior,
+            stateBehavior);
+  }
+
+  /**
+   * Triggers the next chunk of the signal's subscriptions, starting at the signal's subscription
+   * key, and writes a command to continue with the remaining subscriptions if there are any.
+   *
+   * @param broadcastKey the key of the broadcast, which is used for the continuation command
+   * @param signal the broadcast signal
+   * @param triggerStartEvents whether process instances should be created for start events
+   */
+  void triggerSubscriptions(
+      final long broadcastKey, final SignalRecord signal, final boolean triggerStartEvents) {
+    final var visitedSubscriptions = new MutableInteger();
+    final var nextSubscriptionKey = new MutableLong(NO_SUBSCRIPTION_KEY);
+    final long subscriptionKeyBound = getSubscriptionKeyBound(signal);
+
+    signalSubscriptionState.visitBySignalName(
+        signal.getSignalNameBuffer(),
+        signal.getTenantId(),
+        signal.getSubscriptionKey(),
+        subscription -> {
+          final var subscriptionRecord = subscription.getRecord();
+          if (subscriptionRecord.getSubscriptionKey() >= subscriptionKeyBound) {
+            // the subscription was created after the signal was broadcast
+            return false;
+          }
+
+          // always trigger at least one subscription per chunk, to make progress
+          if (visitedSubscriptions.get() > 0
+              && (visitedSubscriptions.get() >= CHUNK_SIZE
+                  || !canWriteRecordsOf(signal, subscriptionRecord))) {
+            nextSubscriptionKey.set(subscriptionRecord.getSubscriptionKey());
+            return false;
+          }
+
+          triggerSubscription(subscriptionRecord, signal, triggerStartEvents);
+          visitedSubscriptions.increment();
+          return true;
+        });
+
+    if (nextSubscriptionKey.get() != NO_SUBSCRIPTION_KEY) {
+      continuationRecord.reset();
+      continuationRecord.wrap(signal);
+      continuationRecord
+          .setSubscriptionKey(nextSubscriptionKey.get())
+          .setSubscriptionKeyBound(subscriptionKeyBound);
+      commandWriter.appendFollowUpCommand(
+          broadcastKey, SignalIntent.TRIGGER_SUBSCRIPTIONS, continuationRecord);
+    }
+
+    observeChunk(
+        broadcastKey,
+        signal.getSubscriptionKey() == NO_SUBSCRIPTION_KEY,
+        nextSubscriptionKey.get() == NO_SUBSCRIPTION_KEY,
+        visitedSubscriptions.get());
+  }
+
+  private long getSubscriptionKeyBound(final SignalRecord signal) {
+    if (signal.getSubscriptionKey() == NO_SUBSCRIPTION_KEY) {
+      // the keys are generated in ascending order, a new key is higher than all existing ones
+      return keyGenerator.nextKey();
+    }
+
+    final long subscriptionKeyBound = signal.getSubscriptionKeyBound();
+    // continuation commands which were written without a bound trigger all remaining subscriptions
+    return subscriptionKeyBound == NO_SUBSCRIPTION_KEY ? Long.MAX_VALUE : subscriptionKeyBound;
+  }
+
+  private boolean canWriteRecordsOf(
+      final SignalRecord signal, final SignalSubscriptionRecord subscription) {
+    // the variables of the signal are written for the subscription, and the signal is written
+    // again for the continuation command; the buffer accounts for the metadata and other records
+    final var expectedLength =
+        signal.getLength()
+            + subscription.getLength()
+            + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    return commandWriter.canWriteCommandOfLength(expectedLength);
+  }
+
+  private void triggerSubscription(
+      final SignalSubscriptionRecord subscription,
+      final SignalRecord signal,
+      final boolean triggerStartEvents) {
+    if (subscription.getCatchEventInstanceKey() != -1) {
+      activateElement(subscription, signal.getVariablesBuffer());
+    } else if (triggerStartEvents) {
+      eventHandle.activateProcessInstanceForStartEvent(
+          subscription.getProcessDefinitionKey(),
+          keyGenerator.nextKey(),
+          subscription.getCatchEventIdBuffer(),
+          signal.getVariablesBuffer(),
+          signal.getTenantId());
+    }
+  }
+
+  private void activateElement(
+      final SignalSubscriptionRecord subscription, final DirectBuffer variables) {
+    final var processDefinitionKey = subscription.getProcessDefinitionKey();
+    final var catchEventInstanceKey = subscription.getCatchEventInstanceKey();
+    final var catchEventId = subscription.getCatchEventIdBuffer();
+    final var catchEvent =
+        processState.getFlowElement(
+            processDefinitionKey,
+            subscription.getTenantId(),
+            catchEventId,
+            ExecutableCatchEvent.class);
+
+    final var elementInstance = elementInstanceState.getInstance(catchEventInstanceKey);
+    final var canTriggerElement = eventHandle.canTriggerElement(elementInstance, catchEventId);
+
+    if (canTriggerElement) {
+      eventHandle.activateElement(
+          catchEvent, catchEventInstanceKey, elementInstance.getValue(), variables);
+    }
+  }
+
+  private void observeChunk(
+      final long broadcastKey,
+      final boolean isFirstChunk,
+      final boolean isLastChunk,
+      final int chunkSubscriptions) {
+    final long now = ActorClock.currentTimeMillis();
+    signalMetrics.chunkTriggered();
+
+    if (isFirstChunk && isLastChunk) {
+      signalMetrics.broadcastCompleted(chunkSubscriptions, 0);
+      return;
+    }
+
+    // the progress is missing if the previous chunks were processed before a leader change
+    final long startTime = broadcastStartTimes.remove(broadcastKey);
+    final long totalSubscriptions =
+        triggeredSubscriptions.remove(broadcastKey) + chunkSubscriptions;
+    if (isLastChunk) {
+      signalMetrics.broadcastCompleted(
+          totalSubscriptions, startTime == -1L ? 0 : now - startTime);
+    } else {
+      broadcastStartTimes.put(broadcastKey, startTime == -1L ? now : startTime);
+      triggeredSubscriptions.put(broadcastKey, totalSubscriptions);
+    }
+  }
+}
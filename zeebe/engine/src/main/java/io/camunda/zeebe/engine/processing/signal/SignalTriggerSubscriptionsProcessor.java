@@ -0,0 +1,37 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.signal;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.DistributedTypedRecordProcessor;
+import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+
+/**
+ * Continues to trigger the subscriptions of a broadcast signal, which didn't fit into the chunks
+ * that were triggered before. See {@link SignalSubscriptionTrigger}.
+ */
+public final class SignalTriggerSubscriptionsProcessor
+    implements DistributedTypedRecordProcessor<SignalRecord> {
+
+  private final SignalSubscriptionTrigger subscriptionTrigger;
+
+  SignalTriggerSubscriptionsProcessor(final SignalSubscriptionTrigger subscriptionTrigger) {
+    this.subscriptionTrigger = subscriptionTrigger;
+  }
+
+  @Override
+  public void processNewCommand(final TypedRecord<SignalRecord> command) {
+    subscriptionTrigger.triggerSubscriptions(command.getKey(), command.getValue(), true);
+  }
+
+  @Override
+  public void processDistributedCommand(final TypedRecord<SignalRecord> command) {
+    // the broadcast was distributed from another partition, which created the process instances
+    subscriptionTrigger.triggerSubscriptions(command.getKey(), command.getValue(), false);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -25,16 +26,24 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
   private static final long TIMER_RESOLUTION = Duration.ofMillis(100).toMillis();
   private static final double GIVE_YIELD_FACTOR = 0.5;
+  // limits the number of commands a single run writes, so that they don't delay other commands
+  private static final int TRIGGER_BUDGET = 10_000;
   private final DueDateChecker dueDateChecker;
 
   public DueDateTimerChecker(
-      final TimerInstanceState timerInstanceState, final FeatureFlags featureFlags) {
+      final TimerInstanceState timerInstanceState,
+      final FeatureFlags featureFlags,
+      final TimerMetrics timerMetrics) {
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, ActorClock.current(), featureFlags.yieldingDueDateChecker()));
+                timerInstanceState,
+                ActorClock.current(),
+                featureFlags.yieldingDueDateChecker(),
+                TRIGGER_BUDGET,
+                timerMetrics));
   }
 
   public void scheduleTimer(final long dueDate) {
@@ -66,6 +75,15 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     dueDateChecker.onResumed();
   }
 
+  /**
+   * Triggers the due timers. A run ends when it yields, i.e. once it exceeded its time or its
+   * trigger budget, or when the result is full. The next run then seeks directly to the first timer
+   * which was not triggered, instead of iterating again over all timers which were triggered before
+   * but whose trigger commands may not have been processed yet. As many timers can have the same
+   * due date, the run continues at exactly this timer and not at its due date. Once a run
+   * has triggered all due timers, the next run starts at the earliest timer again, so that timers
+   * which were created with an earlier due date in the meantime are found as well.
+   */
   protected static final class TriggerTimersSideEffect
       implements Function<TaskResultBuilder, Long> {
 
@@ -73,14 +91,26 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final int triggerBudget;
+    private final TimerMetrics timerMetrics;
+
+    /** The due date of the timer to continue at in the next run, or -1 to start at the first. */
+    private long resumeAtDueDate = -1L;
+
+    private long resumeAtElementInstanceKey = -1L;
+    private long resumeAtTimerKey = -1L;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final ActorClock actorClock,
-        final boolean yieldControl) {
+        final boolean yieldControl,
+        final int triggerBudget,
+        final TimerMetrics timerMetrics) {
       this.timerInstanceState = timerInstanceState;
       this.actorClock = actorClock;
       this.yieldControl = yieldControl;
+      this.triggerBudget = triggerBudget;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -89,16 +119,39 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
       final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
 
-      final TimerVisitor timerVisitor;
+      TimerVisitor timerVisitor =
+          new TriggerBudgetDecorator(
+              triggerBudget,
+              new WriteTriggerTimerCommandVisitor(taskResultBuilder, now, timerMetrics));
       if (yieldControl) {
-        timerVisitor =
-            new YieldingDecorator(
-                actorClock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
-      } else {
-        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+        timerVisitor = new YieldingDecorator(actorClock, yieldAfter, timerVisitor);
       }
 
-      return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
+      final long startAtDueDate = resumeAtDueDate;
+      final long startAtElementInstanceKey = resumeAtElementInstanceKey;
+      final long startAtTimerKey = resumeAtTimerKey;
+      resumeAtDueDate = -1L;
+      resumeAtElementInstanceKey = -1L;
+      resumeAtTimerKey = -1L;
+
+      final TimerVisitor visitor = timerVisitor;
+      return timerInstanceState.processTimersWithDueDateBefore(
+          now,
+          startAtDueDate,
+          startAtElementInstanceKey,
+          startAtTimerKey,
+          timer -> {
+            if (visitor.visit(timer)) {
+              return true;
+            }
+
+            // the run yielded before triggering this timer; the timers before it are already
+            // pending a trigger, so the next run continues at this timer
+            resumeAtDueDate = timer.getDueDate();
+            resumeAtElementInstanceKey = timer.getElementInstanceKey();
+            resumeAtTimerKey = timer.getKey();
+            return false;
+          });
     }
   }
 
@@ -107,9 +160,16 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final TimerRecord timerRecord = new TimerRecord();
 
     private final TaskResultBuilder taskResultBuilder;
+    private final long now;
+    private final TimerMetrics timerMetrics;
 
-    public WriteTriggerTimerCommandVisitor(final TaskResultBuilder taskResultBuilder) {
+    public WriteTriggerTimerCommandVisitor(
+        final TaskResultBuilder taskResultBuilder,
+        final long now,
+        final TimerMetrics timerMetrics) {
       this.taskResultBuilder = taskResultBuilder;
+      this.now = now;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -124,8 +184,37 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
           .setProcessDefinitionKey(timer.getProcessDefinitionKey())
           .setTenantId(timer.getTenantId());
 
-      return taskResultBuilder.appendCommandRecord(
-          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      final boolean appended =
+          taskResultBuilder.appendCommandRecord(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      if (appended) {
+        timerMetrics.timerTriggered(timer.getDueDate(), now);
+      }
+      return appended;
+    }
+  }
+
+  protected static final class TriggerBudgetDecorator implements TimerVisitor {
+
+    private final TimerVisitor delegate;
+    private final int triggerBudget;
+    private int triggeredTimers;
+
+    public TriggerBudgetDecorator(final int triggerBudget, final TimerVisitor delegate) {
+      this.delegate = delegate;
+      this.triggerBudget = triggerBudget;
+    }
+
+    @Override
+    public boolean visit(final TimerInstance timer) {
+      if (triggeredTimers >= triggerBudget) {
+        return false;
+      }
+
+      final boolean triggered = delegate.visit(timer);
+      if (triggered) {
+        triggeredTimers++;
+      }
+      return triggered;
     }
   }
 
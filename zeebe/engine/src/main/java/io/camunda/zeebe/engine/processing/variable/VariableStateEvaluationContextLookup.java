@@ -13,14 +13,74 @@ import io.camunda.zeebe.el.EvaluationContext;
 import io.camunda.zeebe.engine.processing.common.ExpressionProcessor.EvaluationContextLookup;
 import io.camunda.zeebe.engine.state.immutable.VariableState;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 
-public record VariableStateEvaluationContextLookup(VariableState variableState)
-    implements EvaluationContextLookup {
+/**
+ * Looks up the variables of an evaluation context in the {@link VariableState}.
+ *
+ * <p>The variables are resolved through the scope hierarchy, which needs a state lookup per scope.
+ * Since a command usually evaluates many expressions on the same scope (e.g. input mappings,
+ * output mappings, conditions, job headers), the resolved values are cached by scope key and
+ * variable name. The cache is dropped as soon as the {@link VariableState#getVersion() version} of
+ * the variables changes, so a value is never read after the variable was modified. The engine
+ * changes the version before each command, so the values are never kept across commands.
+ *
+ * <p>A value is copied once when it is read from the state, and returned as is on a cache hit. The
+ * copies are bounded by {@link #MAX_CACHED_BYTES}, to limit the memory of commands which read many
+ * or large variables.
+ */
+public final class VariableStateEvaluationContextLookup implements EvaluationContextLookup {
+
+  /** Upper bound of the size of the cached values, after which the cache is dropped. */
+  static final int MAX_CACHED_BYTES = 1024 * 1024;
+
+  private static final DirectBuffer NO_VARIABLE = new UnsafeBuffer(0, 0);
+
+  private final Long2ObjectHashMap<Map<String, DirectBuffer>> cachedVariablesByScope =
+      new Long2ObjectHashMap<>();
+  private final VariableState variableState;
+  private long cachedVersion;
+  private int cachedBytes;
+
+  public VariableStateEvaluationContextLookup(final VariableState variableState) {
+    this.variableState = variableState;
+    cachedVersion = variableState.getVersion();
+  }
 
   @Override
   public EvaluationContext getContext(final long scopeKey) {
     ensureGreaterThan("variable scope key", scopeKey, 0);
 
-    return (name) -> variableState.getVariable(scopeKey, BufferUtil.wrapString(name));
+    return (name) -> getVariable(scopeKey, name);
+  }
+
+  private DirectBuffer getVariable(final long scopeKey, final String name) {
+    final long version = variableState.getVersion();
+    if (version != cachedVersion || cachedBytes >= MAX_CACHED_BYTES) {
+      cachedVariablesByScope.clear();
+      cachedBytes = 0;
+      cachedVersion = version;
+    }
+
+    final var scopeVariables =
+        cachedVariablesByScope.computeIfAbsent(scopeKey, key -> new HashMap<>());
+    DirectBuffer value = scopeVariables.get(name);
+    if (value == null) {
+      value = resolveVariable(scopeKey, name);
+      scopeVariables.put(name, value);
+      cachedBytes += name.length() + value.capacity();
+    }
+
+    return value == NO_VARIABLE ? null : value;
+  }
+
+  private DirectBuffer resolveVariable(final long scopeKey, final String name) {
+    final var value = variableState.getVariable(scopeKey, BufferUtil.wrapString(name));
+    // the state reuses the returned buffer, so the value must be copied to be cached
+    return value == null ? NO_VARIABLE : BufferUtil.cloneBuffer(value);
   }
 }
@@ -17,6 +17,7 @@ import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbFormState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
+import io.camunda.zeebe.engine.state.deployment.DeploymentCacheWarmUp;
 import io.camunda.zeebe.engine.state.distribution.DbDistributionState;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.PendingProcessMessageSubscriptionState;
@@ -88,6 +89,7 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableDistributionState distributionState;
   private final MutableUserTaskState userTaskState;
   private final MutableCompensationSubscriptionState compensationSubscriptionState;
+  private final DeploymentCacheWarmUp deploymentCacheWarmUp;
   private final int partitionId;
 
   public ProcessingDbState(
@@ -103,7 +105,8 @@ public class ProcessingDbState implements MutableProcessingState {
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
+    final var dbProcessState = new DbProcessState(zeebeDb, transactionContext, partitionId);
+    processState = dbProcessState;
     timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
@@ -113,7 +116,7 @@ public class ProcessingDbState implements MutableProcessingState {
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
-            zeebeDb, transactionContext, transientMessageSubscriptionState);
+            zeebeDb, transactionContext, partitionId, transientMessageSubscriptionState);
     messageStartEventSubscriptionState =
         new DbMessageStartEventSubscriptionState(zeebeDb, transactionContext);
     processMessageSubscriptionState =
@@ -121,7 +124,9 @@ public class ProcessingDbState implements MutableProcessingState {
             zeebeDb, transactionContext, transientProcessMessageSubscriptionState);
     incidentState = new DbIncidentState(zeebeDb, transactionContext, partitionId);
     bannedInstanceState = new DbBannedInstanceState(zeebeDb, transactionContext, partitionId);
-    decisionState = new DbDecisionState(zeebeDb, transactionContext, config);
+    final var dbDecisionState =
+        new DbDecisionState(zeebeDb, transactionContext, partitionId, config);
+    decisionState = dbDecisionState;
     formState = new DbFormState(zeebeDb, transactionContext);
     signalSubscriptionState = new DbSignalSubscriptionState(zeebeDb, transactionContext);
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
@@ -129,6 +134,13 @@ public class ProcessingDbState implements MutableProcessingState {
     userTaskState = new DbUserTaskState(zeebeDb, transactionContext);
     compensationSubscriptionState =
         new DbCompensationSubscriptionState(zeebeDb, transactionContext);
+    deploymentCacheWarmUp =
+        new DeploymentCacheWarmUp(
+            dbProcessState,
+            dbDecisionState,
+            config.getCacheWarmUpLimit(),
+            config.getCacheWarmUpThreads(),
+            partitionId);
   }
 
   @Override
@@ -137,6 +149,17 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    deploymentCacheWarmUp.start();
+  }
+
+  @Override
+  public void onClose() {
+    deploymentCacheWarmUp.stop();
+  }
+
+  @Override
+  public void onFailed() {
+    deploymentCacheWarmUp.stop();
   }
 
   @Override
@@ -54,7 +54,7 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     pendingMessageSubscriptionState =
         new DbMessageSubscriptionState(
-            zeebeDb, transactionContext, transientMessageSubscriptionState);
+            zeebeDb, transactionContext, partitionId, transientMessageSubscriptionState);
     pendingProcessMessageSubscriptionState =
         new DbProcessMessageSubscriptionState(
             zeebeDb, transactionContext, transientProcessMessageSubscriptionState);
@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.BPMNDI_NS;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.DC_NS;
+import static io.camunda.zeebe.model.bpmn.impl.BpmnModelConstants.DI_NS;
+
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.impl.BpmnParser;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.ProcessingInstruction;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.io.DirectBufferInputStream;
+import org.camunda.bpm.model.xml.instance.DomDocument;
+
+/**
+ * A compact form of a BPMN resource, which is created once when a process is deployed, persisted
+ * with the process and used to transform the process if it is not in the cache, e.g. after a
+ * restart or a leader change. It contains only the parts of the resource which are needed to
+ * transform the process: the diagram interchange (i.e. the graphical layout), comments and the
+ * whitespace between elements are removed. As the resource was validated when it was deployed, the
+ * compact form is parsed without validating it against the BPMN schema again.
+ *
+ * <p>The format is versioned. If the version of a persisted compact resource is not {@link
+ * #VERSION}, the original resource must be parsed instead.
+ */
+public final class CompactBpmnResourceFormat {
+
+  // version 1 didn't escape line breaks and tabs in attribute values, its resources are not used
+  public static final int VERSION = 2;
+
+  private static final Set<String> DIAGRAM_NAMESPACES = Set.of(BPMNDI_NS, DC_NS, DI_NS);
+
+  private final XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+  private final BpmnParser parser = new DeployedResourceParser();
+
+  public CompactBpmnResourceFormat() {
+    inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+  }
+
+  /**
+   * Creates the compact form of the given, already validated, BPMN resource.
+   *
+   * @param resource the BPMN resource
+   * @return the compact resource, or an empty optional if the resource can't be read as XML
+   */
+  public Optional<DirectBuffer> compact(final DirectBuffer resource) {
+    final var output = new ByteArrayOutputStream(resource.capacity());
+
+    try (final var input = new DirectBufferInputStream(resource);
+        final var writer = new OutputStreamWriter(output, StandardCharsets.UTF_8)) {
+      final XMLEventReader reader = inputFactory.createXMLEventReader(input);
+
+      int skippedDepth = 0;
+      while (reader.hasNext()) {
+        final XMLEvent event = reader.nextEvent();
+
+        if (skippedDepth > 0) {
+          if (event.isStartElement()) {
+            skippedDepth++;
+          } else if (event.isEndElement()) {
+            skippedDepth--;
+          }
+        } else if (event.isStartElement()
+            && DIAGRAM_NAMESPACES.contains(
+                event.asStartElement().getName().getNamespaceURI())) {
+          skippedDepth = 1;
+        } else if (!isIgnorable(event)) {
+          write(event, writer);
+        }
+      }
+
+      reader.close();
+    } catch (final XMLStreamException | IOException e) {
+      // the original resource is parsed instead
+      return Optional.empty();
+    }
+
+    return Optional.of(new UnsafeBuffer(output.toByteArray()));
+  }
+
+  /**
+   * Reads the model of a compact resource, which was created by {@link #compact(DirectBuffer)}
+   * with the current {@link #VERSION}.
+   *
+   * @param compactResource the compact resource
+   * @return the model of the resource
+   */
+  BpmnModelInstance parse(final DirectBuffer compactResource) {
+    try (final var input = new DirectBufferInputStream(compactResource)) {
+      return parser.parseModelFromStream(input);
+    }
+  }
+
+  /**
+   * Writes the event as XML. The events are not written by an {@link
+   * javax.xml.stream.XMLEventWriter}, as it writes line breaks and tabs in attribute values as
+   * they are, and the attribute value normalization would replace them by spaces when the compact
+   * resource is parsed. This would change e.g. multi-line expressions or task headers.
+   */
+  private static void write(final XMLEvent event, final Writer writer) throws IOException {
+    switch (event.getEventType()) {
+      case XMLEvent.START_DOCUMENT ->
+          // the compact resource is always written in UTF-8, regardless of the original encoding
+          writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+      case XMLEvent.START_ELEMENT -> writeStartElement(event.asStartElement(), writer);
+      case XMLEvent.END_ELEMENT -> {
+        writer.write("</");
+        writeName(event.asEndElement().getName(), writer);
+        writer.write('>');
+      }
+      case XMLEvent.CHARACTERS, XMLEvent.CDATA ->
+          writeEscaped(event.asCharacters().getData(), false, writer);
+      case XMLEvent.PROCESSING_INSTRUCTION -> {
+        final var instruction = (ProcessingInstruction) event;
+        writer.write("<?");
+        writer.write(instruction.getTarget());
+        if (instruction.getData() != null && !instruction.getData().isEmpty()) {
+          writer.write(' ');
+          writer.write(instruction.getData());
+        }
+        writer.write("?>");
+      }
+      default -> {
+        // the end of the document, and the parts which aren't needed to transform the process
+      }
+    }
+  }
+
+  private static void writeStartElement(final StartElement element, final Writer writer)
+      throws IOException {
+    writer.write('<');
+    writeName(element.getName(), writer);
+
+    final Iterator<Namespace> namespaces = element.getNamespaces();
+    while (namespaces.hasNext()) {
+      final Namespace namespace = namespaces.next();
+      writer.write(namespace.isDefaultNamespaceDeclaration() ? " xmlns" : " xmlns:");
+      writer.write(namespace.getPrefix());
+      writer.write("=\"");
+      writeEscaped(namespace.getNamespaceURI(), true, writer);
+      writer.write('"');
+    }
+
+    final Iterator<Attribute> attributes = element.getAttributes();
+    while (attributes.hasNext()) {
+      final Attribute attribute = attributes.next();
+      writer.write(' ');
+      writeName(attribute.getName(), writer);
+      writer.write("=\"");
+      writeEscaped(attribute.getValue(), true, writer);
+      writer.write('"');
+    }
+
+    writer.write('>');
+  }
+
+  private static void writeName(final QName name, final Writer writer) throws IOException {
+    if (!name.getPrefix().isEmpty()) {
+      writer.write(name.getPrefix());
+      writer.write(':');
+    }
+    writer.write(name.getLocalPart());
+  }
+
+  private static void writeEscaped(
+      final String value, final boolean isAttribute, final Writer writer) throws IOException {
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '&' -> writer.write("&amp;");
+        case '<' -> writer.write("&lt;");
+        case '>' -> writer.write("&gt;");
+        case '"' -> writer.write(isAttribute ? "&quot;" : "\"");
+        case '\r' -> writer.write("&#13;");
+        case '\n' -> writer.write(isAttribute ? "&#10;" : "\n");
+        case '\t' -> writer.write(isAttribute ? "&#9;" : "\t");
+        default -> writer.write(c);
+      }
+    }
+  }
+
+  private static boolean isIgnorable(final XMLEvent event) {
+    return switch (event.getEventType()) {
+      case XMLEvent.COMMENT, XMLEvent.SPACE -> true;
+      case XMLEvent.CHARACTERS -> event.asCharacters().isWhiteSpace();
+      default -> false;
+    };
+  }
+
+  /** Parses resources which were validated when they were deployed, without validating them. */
+  private static final class DeployedResourceParser extends BpmnParser {
+
+    @Override
+    protected void configureFactory(final DocumentBuilderFactory dbf) {
+      super.configureFactory(dbf);
+      dbf.setValidating(false);
+    }
+
+    @Override
+    public void validateModel(final DomDocument document) {
+      // the resource was validated when it was deployed
+    }
+  }
+}
@@ -25,6 +25,8 @@ import io.camunda.zeebe.dmn.DecisionEngine;
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics.Cache;
 import io.camunda.zeebe.engine.state.mutable.MutableDecisionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DecisionRecord;
@@ -33,16 +35,26 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import org.agrona.DirectBuffer;
 
 public final class DbDecisionState implements MutableDecisionState {
 
   private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+  private final ThreadLocal<DecisionEngine> warmUpDecisionEngine =
+      ThreadLocal.withInitial(DecisionEngineFactory::createDecisionEngine);
+  // DRGs which were parsed by the warm-up, but not yet added to the cache
+  private final Map<TenantIdAndDrgKey, ParsedDecisionRequirementsGraph> warmedUpDrgs =
+      new ConcurrentHashMap<>();
 
   private final DbString tenantIdKey;
   private final DbLong dbDecisionKey;
@@ -94,10 +106,13 @@ public final class DbDecisionState implements MutableDecisionState {
       decisionRequirementsKeyByIdAndVersion;
 
   private final LoadingCache<TenantIdAndDrgKey, DeployedDrg> drgCache;
+  private final int decisionEvaluationCacheCapacity;
+  private final DeploymentCacheMetrics metrics;
 
   public DbDecisionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
+      final int partitionId,
       final EngineConfiguration config) {
     tenantIdKey = new DbString();
     dbDecisionKey = new DbLong();
@@ -178,6 +193,8 @@ public final class DbDecisionState implements MutableDecisionState {
             tenantAwareDecisionRequirementsIdAndVersion,
             fkDecisionRequirements);
 
+    metrics = new DeploymentCacheMetrics(partitionId);
+    decisionEvaluationCacheCapacity = config.getDecisionEvaluationCacheCapacity();
     drgCache =
         CacheBuilder.newBuilder()
             .maximumSize(config.getDrgCacheCapacity())
@@ -253,6 +270,70 @@ public final class DbDecisionState implements MutableDecisionState {
   @Override
   public void clearCache() {
     drgCache.invalidateAll();
+    warmedUpDrgs.clear();
+  }
+
+  /**
+   * Parses the latest version of the up to {@code limit} most recently deployed DRGs, i.e. the ones
+   * with the highest keys, so that they don't need to be parsed when they are used for the first
+   * time, e.g. after a transition. The DRGs are read from the state on the calling thread, which
+   * must be the processing thread, and parsed by the given executor. A parsed DRG is added to the
+   * cache when it is looked up the next time, so that a DRG which is deleted in the meantime is not
+   * added to the cache.
+   *
+   * @param limit the maximum number of DRGs to parse
+   * @param executor the executor which parses the DRGs
+   * @return a future which is completed with the number of parsed DRGs
+   */
+  public CompletableFuture<Integer> warmUpCache(final int limit, final Executor executor) {
+    final List<CompletableFuture<?>> parsings = new ArrayList<>();
+    for (final PersistedDecisionRequirements drg : findLatestDecisionRequirements(limit)) {
+      final var drgKey = new TenantIdAndDrgKey(drg.getTenantId(), drg.getDecisionRequirementsKey());
+      final var resourceBytes = BufferUtil.bufferAsArray(drg.getResource());
+      parsings.add(
+          CompletableFuture.runAsync(
+              () ->
+                  warmedUpDrgs.put(
+                      drgKey,
+                      warmUpDecisionEngine.get().parse(new ByteArrayInputStream(resourceBytes))),
+              executor));
+    }
+
+    return CompletableFuture.allOf(parsings.toArray(CompletableFuture[]::new))
+        .thenApply(ok -> parsings.size());
+  }
+
+  /**
+   * Returns the latest version of the up to {@code limit} DRGs with the highest keys. The keys
+   * increase with each deployment, so these are the most recently deployed DRGs.
+   */
+  List<PersistedDecisionRequirements> findLatestDecisionRequirements(final int limit) {
+    final PriorityQueue<TenantIdAndDrgKey> latestDrgKeys =
+        new PriorityQueue<>(Comparator.comparingLong(TenantIdAndDrgKey::drgKey));
+    latestDecisionRequirementsKeysById.forEach(
+        (id, drgKey) -> {
+          final var tenantAwareDrgKey = drgKey.inner();
+          final long key = tenantAwareDrgKey.wrappedKey().getValue();
+          if (latestDrgKeys.size() < limit) {
+            latestDrgKeys.add(new TenantIdAndDrgKey(tenantAwareDrgKey.tenantKey().toString(), key));
+          } else if (!latestDrgKeys.isEmpty() && latestDrgKeys.peek().drgKey() < key) {
+            latestDrgKeys.poll();
+            latestDrgKeys.add(new TenantIdAndDrgKey(tenantAwareDrgKey.tenantKey().toString(), key));
+          }
+        });
+
+    final List<PersistedDecisionRequirements> latestDrgs = new ArrayList<>();
+    for (final TenantIdAndDrgKey drgKey : latestDrgKeys) {
+      tenantIdKey.wrapString(drgKey.tenantId());
+      dbDecisionRequirementsKey.wrapLong(drgKey.drgKey());
+
+      final PersistedDecisionRequirements persistedDrg =
+          decisionRequirementsByKey.get(tenantAwareDecisionRequirementsKey);
+      if (persistedDrg != null) {
+        latestDrgs.add(persistedDrg.copy());
+      }
+    }
+    return latestDrgs;
   }
 
   private DeployedDrg findAndParseDecisionRequirementsByKeyFromDb(
@@ -268,11 +349,18 @@ public final class DbDecisionState implements MutableDecisionState {
 
     final PersistedDecisionRequirements copiedDrg = persistedDrg.copy();
 
-    final var resourceBytes = BufferUtil.bufferAsArray(copiedDrg.getResource());
-    final ParsedDecisionRequirementsGraph parsedDrg =
-        decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+    ParsedDecisionRequirementsGraph parsedDrg =
+        warmedUpDrgs.remove(new TenantIdAndDrgKey(tenantId, decisionRequirementsKey));
+    if (parsedDrg == null) {
+      final long startNanos = System.nanoTime();
+      final var resourceBytes = BufferUtil.bufferAsArray(copiedDrg.getResource());
+      parsedDrg = decisionEngine.parse(new ByteArrayInputStream(resourceBytes));
+      metrics.loaded(Cache.DRG, System.nanoTime() - startNanos);
+    }
 
-    return new DeployedDrg(parsedDrg, copiedDrg);
+    final var evaluationCache =
+        DecisionEvaluationCache.of(decisionEvaluationCacheCapacity, copiedDrg.getResource());
+    return new DeployedDrg(parsedDrg, copiedDrg, evaluationCache);
   }
 
   private Optional<DeployedDrg> findDeployedDrg(
@@ -450,6 +538,8 @@ public final class DbDecisionState implements MutableDecisionState {
         tenantAwareDecisionRequirementsIdAndVersion);
     drgCache.invalidate(
         new TenantIdAndDrgKey(record.getTenantId(), record.getDecisionRequirementsKey()));
+    warmedUpDrgs.remove(
+        new TenantIdAndDrgKey(record.getTenantId(), record.getDecisionRequirementsKey()));
   }
 
   private void updateLatestDecisionVersion(final DecisionRecord record) {
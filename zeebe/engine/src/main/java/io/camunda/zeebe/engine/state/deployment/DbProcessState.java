@@ -19,6 +19,8 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics.Cache;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -33,11 +35,17 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
@@ -49,6 +57,13 @@ public final class DbProcessState implements MutableProcessState {
   private static final int DEFAULT_VERSION_VALUE = 0;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+  private final CompactBpmnResourceFormat compactResourceFormat = new CompactBpmnResourceFormat();
+  private final ThreadLocal<BpmnTransformer> warmUpTransformer =
+      ThreadLocal.withInitial(BpmnFactory::createTransformer);
+  private final ThreadLocal<CompactBpmnResourceFormat> warmUpResourceFormat =
+      ThreadLocal.withInitial(CompactBpmnResourceFormat::new);
+  // processes which were transformed by the warm-up, but not yet added to the cache
+  private final Map<Long, ExecutableProcess> warmedUpProcesses = new ConcurrentHashMap<>();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
   private final Map<String, Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>>
@@ -70,6 +85,13 @@ public final class DbProcessState implements MutableProcessState {
   private final DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>
       tenantAwareProcessIdAndVersionKey;
 
+  /** [tenant id | process id | version] => process definition key */
+  private final ColumnFamily<
+          DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>,
+          DbForeignKey<DbTenantAwareKey<DbLong>>>
+      processKeyByIdAndVersionColumnFamily;
+  private final DbForeignKey<DbTenantAwareKey<DbLong>> fkProcess;
+
   private final DbString processId;
   private final DbTenantAwareKey<DbString> tenantAwareProcessId;
   private final DbForeignKey<DbTenantAwareKey<DbString>> fkTenantAwareProcessId;
@@ -79,9 +101,12 @@ public final class DbProcessState implements MutableProcessState {
   private final Digest digest = new Digest();
 
   private final VersionManager versionManager;
+  private final DeploymentCacheMetrics metrics;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     tenantIdKey = new DbString();
@@ -106,6 +131,14 @@ public final class DbProcessState implements MutableProcessState {
             tenantAwareProcessIdAndVersionKey,
             persistedProcess);
 
+    fkProcess = new DbForeignKey<>(tenantAwareProcessDefinitionKey, ZbColumnFamilies.PROCESS_CACHE);
+    processKeyByIdAndVersionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION,
+            transactionContext,
+            tenantAwareProcessIdAndVersionKey,
+            fkProcess);
+
     tenantAwareProcessId = new DbTenantAwareKey<>(tenantIdKey, processId, PlacementType.PREFIX);
     fkTenantAwareProcessId =
         new DbForeignKey<>(
@@ -120,6 +153,7 @@ public final class DbProcessState implements MutableProcessState {
             digest);
 
     processByTenantAndKeyCache = new HashMap<>();
+    metrics = new DeploymentCacheMetrics(partitionId);
 
     versionManager =
         new VersionManager(
@@ -164,7 +198,17 @@ public final class DbProcessState implements MutableProcessState {
     final var process = processColumnFamily.get(tenantAwareProcessDefinitionKey);
     process.setState(state);
     processColumnFamily.update(tenantAwareProcessDefinitionKey, process);
-    updateInMemoryState(process);
+
+    final var cachedProcessesOfTenant = processByTenantAndKeyCache.get(process.getTenantId());
+    final DeployedProcess cachedProcess =
+        cachedProcessesOfTenant != null ? cachedProcessesOfTenant.get(process.getKey()) : null;
+    if (cachedProcess != null) {
+      // only the state changed, the process doesn't need to be transformed again
+      process.clearCompactResource();
+      addProcessToInMemoryState(new DeployedProcess(cachedProcess.getProcess(), copy(process)));
+    } else {
+      updateInMemoryState(process);
+    }
   }
 
   @Override
@@ -176,6 +220,7 @@ public final class DbProcessState implements MutableProcessState {
 
     processColumnFamily.deleteExisting(tenantAwareProcessDefinitionKey);
     processByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
+    processKeyByIdAndVersionColumnFamily.deleteExisting(tenantAwareProcessIdAndVersionKey);
 
     processesByTenantAndProcessIdAndVersionCache
         .getOrDefault(processRecord.getTenantId(), new HashMap<>())
@@ -183,6 +228,7 @@ public final class DbProcessState implements MutableProcessState {
     processByTenantAndKeyCache
         .getOrDefault(processRecord.getTenantId(), new Long2ObjectHashMap<>())
         .remove(processRecord.getProcessDefinitionKey());
+    warmedUpProcesses.remove(processRecord.getProcessDefinitionKey());
 
     final long latestVersion =
         versionManager.getLatestResourceVersion(
@@ -200,6 +246,7 @@ public final class DbProcessState implements MutableProcessState {
 
   private void persistProcess(final long processDefinitionKey, final ProcessRecord processRecord) {
     tenantIdKey.wrapString(processRecord.getTenantId());
+    // the compact resource was created when the process was deployed and is part of the record
     persistedProcess.wrap(processRecord, processDefinitionKey);
     this.processDefinitionKey.wrapLong(processDefinitionKey);
 
@@ -209,6 +256,7 @@ public final class DbProcessState implements MutableProcessState {
     processVersion.wrapLong(processRecord.getVersion());
 
     processByIdAndVersionColumnFamily.upsert(tenantAwareProcessIdAndVersionKey, persistedProcess);
+    processKeyByIdAndVersionColumnFamily.upsert(tenantAwareProcessIdAndVersionKey, fkProcess);
   }
 
   private void updateLatestVersion(final ProcessRecord processRecord) {
@@ -220,37 +268,64 @@ public final class DbProcessState implements MutableProcessState {
 
   // is called on getters, if process is not in memory
   private DeployedProcess updateInMemoryState(final PersistedProcess persistedProcess) {
+    ExecutableProcess executableProcess = warmedUpProcesses.remove(persistedProcess.getKey());
+    if (executableProcess == null) {
+      final long startNanos = System.nanoTime();
+      executableProcess = transformProcess(persistedProcess, transformer, compactResourceFormat);
+      metrics.loaded(Cache.PROCESS, System.nanoTime() - startNanos);
+    }
 
-    // we have to copy to store this in cache
-    final byte[] bytes = new byte[persistedProcess.getLength()];
-    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
-    persistedProcess.write(buffer, 0);
+    // the compact resource is only needed to transform the process, don't keep it in the cache
+    persistedProcess.clearCompactResource();
+    final DeployedProcess deployedProcess =
+        new DeployedProcess(executableProcess, copy(persistedProcess));
 
-    final PersistedProcess copiedProcess = new PersistedProcess();
-    copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
+    addProcessToInMemoryState(deployedProcess);
+
+    return deployedProcess;
+  }
 
+  private ExecutableProcess transformProcess(
+      final PersistedProcess persistedProcess,
+      final BpmnTransformer transformer,
+      final CompactBpmnResourceFormat compactResourceFormat) {
     final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
+        readModelInstance(persistedProcess, compactResourceFormat);
     final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
 
-    final ExecutableProcess executableProcess =
-        definitions.stream()
-            .filter(
-                process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
-            .findFirst()
-            .orElseThrow(
-                () ->
-                    new NoSuchElementException(
-                        String.format(
-                            "Expected to find executable process in persisted process with key '%s',"
-                                + " but after transformation no such executable process could be found.",
-                            persistedProcess.getKey())));
-
-    final DeployedProcess deployedProcess = new DeployedProcess(executableProcess, copiedProcess);
+    return definitions.stream()
+        .filter(process -> BufferUtil.equals(persistedProcess.getBpmnProcessId(), process.getId()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new NoSuchElementException(
+                    String.format(
+                        "Expected to find executable process in persisted process with key '%s',"
+                            + " but after transformation no such executable process could be found.",
+                        persistedProcess.getKey())));
+  }
 
-    addProcessToInMemoryState(deployedProcess);
+  private BpmnModelInstance readModelInstance(
+      final PersistedProcess persistedProcess,
+      final CompactBpmnResourceFormat compactResourceFormat) {
+    if (persistedProcess.getCompactResourceVersion() == CompactBpmnResourceFormat.VERSION) {
+      return compactResourceFormat.parse(persistedProcess.getCompactResource());
+    }
 
-    return deployedProcess;
+    // the process was deployed before the compact resource was persisted, or with another version
+    // of its format
+    return readModelInstanceFromBuffer(persistedProcess.getResource());
+  }
+
+  private PersistedProcess copy(final PersistedProcess persistedProcess) {
+    // we have to copy to store this in cache
+    final byte[] bytes = new byte[persistedProcess.getLength()];
+    final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
+    persistedProcess.write(buffer, 0);
+
+    final PersistedProcess copiedProcess = new PersistedProcess();
+    copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
+    return copiedProcess;
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -385,9 +460,95 @@ public final class DbProcessState implements MutableProcessState {
   public void clearCache() {
     processByTenantAndKeyCache.clear();
     processesByTenantAndProcessIdAndVersionCache.clear();
+    warmedUpProcesses.clear();
     versionManager.clear();
   }
 
+  /**
+   * Transforms the latest version of the up to {@code limit} most recently deployed processes, i.e.
+   * the ones with the highest keys, so that they don't need to be transformed when they are used
+   * for the first time, e.g. after a transition. The processes are read from the state on the
+   * calling thread, which must be the processing thread, and transformed by the given executor. A
+   * transformed process is added to the cache when it is looked up the next time, as the cache must
+   * only be accessed by the processing thread.
+   *
+   * @param limit the maximum number of processes to transform
+   * @param executor the executor which transforms the processes
+   * @return a future which is completed with the number of transformed processes
+   */
+  public CompletableFuture<Integer> warmUpCache(final int limit, final Executor executor) {
+    final List<PersistedProcess> latestProcesses = findLatestProcesses(limit);
+
+    final CompletableFuture<?>[] transformations =
+        latestProcesses.stream()
+            .map(
+                process ->
+                    CompletableFuture.runAsync(
+                        () ->
+                            warmedUpProcesses.put(
+                                process.getKey(),
+                                transformProcess(
+                                    process, warmUpTransformer.get(), warmUpResourceFormat.get())),
+                        executor))
+            .toArray(CompletableFuture[]::new);
+
+    return CompletableFuture.allOf(transformations).thenApply(ok -> transformations.length);
+  }
+
+  /**
+   * Returns the latest version of the up to {@code limit} processes with the highest keys. The
+   * keys increase with each deployment, so these are the most recently deployed processes. Only
+   * the keys are read for all processes, the processes themselves are only read for the selected
+   * keys.
+   */
+  List<PersistedProcess> findLatestProcesses(final int limit) {
+    final List<TenantAwareProcessId> processIds = new ArrayList<>();
+    digestByIdColumnFamily.forEach(
+        (key, latestDigest) -> {
+          final var tenantAwareKey = key.inner();
+          processIds.add(
+              new TenantAwareProcessId(
+                  tenantAwareKey.tenantKey().toString(),
+                  BufferUtil.cloneBuffer(tenantAwareKey.wrappedKey().getBuffer())));
+        });
+
+    final PriorityQueue<TenantIdAndProcessKey> latestProcessKeys =
+        new PriorityQueue<>(Comparator.comparingLong(TenantIdAndProcessKey::processKey));
+    for (final TenantAwareProcessId id : processIds) {
+      tenantIdKey.wrapString(id.tenantId());
+      processId.wrapBuffer(id.processId());
+      processVersion.wrapLong(
+          versionManager.getLatestResourceVersion(id.processId(), id.tenantId()));
+
+      final var processKey =
+          processKeyByIdAndVersionColumnFamily.get(tenantAwareProcessIdAndVersionKey);
+      if (processKey == null) {
+        continue;
+      }
+
+      final long key = processKey.inner().wrappedKey().getValue();
+      if (latestProcessKeys.size() < limit) {
+        latestProcessKeys.add(new TenantIdAndProcessKey(id.tenantId(), key));
+      } else if (!latestProcessKeys.isEmpty() && latestProcessKeys.peek().processKey() < key) {
+        latestProcessKeys.poll();
+        latestProcessKeys.add(new TenantIdAndProcessKey(id.tenantId(), key));
+      }
+    }
+
+    final List<PersistedProcess> latestProcesses = new ArrayList<>();
+    for (final TenantIdAndProcessKey processKey : latestProcessKeys) {
+      tenantIdKey.wrapString(processKey.tenantId());
+      processDefinitionKey.wrapLong(processKey.processKey());
+
+      final PersistedProcess latestProcess =
+          processColumnFamily.get(tenantAwareProcessDefinitionKey);
+      if (latestProcess != null) {
+        latestProcesses.add(copy(latestProcess));
+      }
+    }
+    return latestProcesses;
+  }
+
   private DeployedProcess lookupProcessByIdAndPersistedVersion(
       final long latestVersion, final String tenantId) {
     tenantIdKey.wrapString(tenantId);
@@ -444,4 +605,8 @@ public final class DbProcessState implements MutableProcessState {
     // does not exist in persistence and in memory state
     return null;
   }
+
+  private record TenantAwareProcessId(String tenantId, DirectBuffer processId) {}
+
+  private record TenantIdAndProcessKey(String tenantId, long processKey) {}
 }
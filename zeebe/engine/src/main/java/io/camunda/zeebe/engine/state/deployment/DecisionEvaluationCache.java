@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.engine.state.variable.DocumentEntry;
+import io.camunda.zeebe.engine.state.variable.IndexedDocument;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A bounded cache of the evaluation results of the decisions of a single DRG, keyed by the decision
+ * id and the variables the DRG references. It is kept together with the parsed DRG in the DRG
+ * cache, so it is dropped when the DRG is evicted.
+ *
+ * <p>The evaluation of a decision only depends on the variables it references, unless it uses a
+ * built-in function which returns a different value on each call, like {@code now()}. The results
+ * of DRGs which use such a function are never cached.
+ *
+ * <p>A variable is considered to be referenced if its name occurs anywhere in the DMN resource.
+ * This may include variables which are not used by the evaluated decision, but it never leaves out
+ * a variable which is used. Other variables of the scope, like a large payload, are not part of the
+ * key, so they neither prevent a cache hit nor take up memory in the cache.
+ *
+ * <p>The cached results are shared between evaluations, so they must not be modified.
+ */
+public final class DecisionEvaluationCache {
+
+  /** A cache which doesn't keep any result. */
+  public static final DecisionEvaluationCache DISABLED = new DecisionEvaluationCache(null, null);
+
+  private static final Pattern NON_DETERMINISTIC_FUNCTION =
+      Pattern.compile("\\b(now|today|random\\s+number)\\s*\\(");
+
+  /** Names with these characters are escaped in the XML, so they are always considered. */
+  private static final Pattern XML_ESCAPED_CHARACTERS = Pattern.compile("[&<>\"']");
+
+  private static final int REFERENCED_NAMES_CAPACITY = 1024;
+
+  private final Cache<EvaluationKey, DecisionEvaluationResult> results;
+  private final String resource;
+  private final Cache<String, Boolean> referencedNames;
+
+  private final IndexedDocument variablesDocument = new IndexedDocument();
+  private final TreeMap<String, DirectBuffer> referencedVariables = new TreeMap<>();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer inputsBuffer = new ExpandableArrayBuffer();
+  private final DirectBuffer inputsView = new UnsafeBuffer();
+
+  private DecisionEvaluationCache(
+      final Cache<EvaluationKey, DecisionEvaluationResult> results, final String resource) {
+    this.results = results;
+    this.resource = resource;
+    referencedNames = CacheBuilder.newBuilder().maximumSize(REFERENCED_NAMES_CAPACITY).build();
+  }
+
+  /**
+   * Creates a cache for the decisions of the given DRG.
+   *
+   * @param capacity the maximum number of cached results; if not positive, no result is cached
+   * @param resource the DMN resource of the DRG
+   * @return the cache for the DRG, or {@link #DISABLED} if the results can't be cached
+   */
+  public static DecisionEvaluationCache of(final int capacity, final DirectBuffer resource) {
+    if (capacity <= 0) {
+      return DISABLED;
+    }
+
+    final var resourceAsString = BufferUtil.bufferAsString(resource);
+    if (NON_DETERMINISTIC_FUNCTION.matcher(resourceAsString).find()) {
+      return DISABLED;
+    }
+
+    return new DecisionEvaluationCache(
+        CacheBuilder.newBuilder().maximumSize(capacity).build(), resourceAsString);
+  }
+
+  /**
+   * Returns the cached result of the decision for the referenced variables of the given ones, or
+   * evaluates it and caches the result.
+   *
+   * @param decisionId the id of the evaluated decision
+   * @param variables the MessagePack encoded variables to evaluate the decision with
+   * @param evaluation evaluates the decision if no result is cached
+   * @return the result of the evaluation
+   */
+  public DecisionEvaluationResult getOrEvaluate(
+      final String decisionId,
+      final DirectBuffer variables,
+      final Supplier<DecisionEvaluationResult> evaluation) {
+    if (results == null) {
+      return evaluation.get();
+    }
+
+    final var inputs = writeReferencedVariables(variables);
+    final var cachedResult = results.getIfPresent(new EvaluationKey(decisionId, inputs));
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+
+    final var result = evaluation.get();
+    // the inputs are a view on a reused buffer, so the key must own a copy
+    results.put(new EvaluationKey(decisionId, BufferUtil.cloneBuffer(inputs)), result);
+    return result;
+  }
+
+  public boolean isEnabled() {
+    return results != null;
+  }
+
+  /**
+   * Writes the referenced variables, ordered by their name, as a MessagePack document. The order
+   * makes the key independent of the order of the variables in the given document.
+   */
+  private DirectBuffer writeReferencedVariables(final DirectBuffer variables) {
+    referencedVariables.clear();
+    variablesDocument.index(variables);
+    for (final DocumentEntry variable : variablesDocument) {
+      final var name = BufferUtil.bufferAsString(variable.getName());
+      if (isReferenced(name)) {
+        // the entry is reused for the next variable, so keep a view of its value
+        referencedVariables.put(name, new UnsafeBuffer(variable.getValue()));
+      }
+    }
+
+    writer.wrap(inputsBuffer, 0);
+    writer.writeMapHeader(referencedVariables.size());
+    referencedVariables.forEach(
+        (name, value) -> {
+          writer.writeString(BufferUtil.wrapString(name));
+          writer.writeRaw(value);
+        });
+
+    inputsView.wrap(inputsBuffer, 0, writer.getOffset());
+    return inputsView;
+  }
+
+  private boolean isReferenced(final String name) {
+    var referenced = referencedNames.getIfPresent(name);
+    if (referenced == null) {
+      referenced = resource.contains(name) || XML_ESCAPED_CHARACTERS.matcher(name).find();
+      referencedNames.put(name, referenced);
+    }
+    return referenced;
+  }
+
+  private record EvaluationKey(String decisionId, DirectBuffer variables) {}
+}
@@ -19,11 +19,24 @@ public final class DeployedDrg {
 
   private final PersistedDecisionRequirements persistedDecisionRequirements;
 
+  private final DecisionEvaluationCache evaluationCache;
+
   public DeployedDrg(
       final ParsedDecisionRequirementsGraph parsedDecisionRequirements,
       final PersistedDecisionRequirements persistedDecisionRequirements) {
+    this(
+        parsedDecisionRequirements,
+        persistedDecisionRequirements,
+        DecisionEvaluationCache.DISABLED);
+  }
+
+  public DeployedDrg(
+      final ParsedDecisionRequirementsGraph parsedDecisionRequirements,
+      final PersistedDecisionRequirements persistedDecisionRequirements,
+      final DecisionEvaluationCache evaluationCache) {
     this.parsedDecisionRequirements = parsedDecisionRequirements;
     this.persistedDecisionRequirements = persistedDecisionRequirements;
+    this.evaluationCache = evaluationCache;
   }
 
   public ParsedDecisionRequirementsGraph getParsedDecisionRequirements() {
@@ -61,4 +74,8 @@ public final class DeployedDrg {
   public String getTenantId() {
     return persistedDecisionRequirements.getTenantId();
   }
+
+  public DecisionEvaluationCache getEvaluationCache() {
+    return evaluationCache;
+  }
 }
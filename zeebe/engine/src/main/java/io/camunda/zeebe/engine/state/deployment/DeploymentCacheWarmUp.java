@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics;
+import io.camunda.zeebe.engine.metrics.DeploymentCacheMetrics.Cache;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import org.slf4j.Logger;
+
+/**
+ * Loads the latest versions of the deployed processes and DRGs into the caches after a transition,
+ * so that the first commands which use them don't need to wait until they are transformed. The
+ * deployments are read from the state on the processing thread, but transformed in parallel by a
+ * small pool of threads, which is shut down once the warm-up is completed.
+ */
+public final class DeploymentCacheWarmUp {
+
+  private static final Logger LOG = Loggers.STREAM_PROCESSING;
+
+  private final DbProcessState processState;
+  private final DbDecisionState decisionState;
+  private final int limit;
+  private final int threads;
+  private final DeploymentCacheMetrics metrics;
+
+  private ExecutorService executor;
+
+  public DeploymentCacheWarmUp(
+      final DbProcessState processState,
+      final DbDecisionState decisionState,
+      final int limit,
+      final int threads,
+      final int partitionId) {
+    this.processState = processState;
+    this.decisionState = decisionState;
+    this.limit = limit;
+    this.threads = threads;
+    metrics = new DeploymentCacheMetrics(partitionId);
+  }
+
+  /** Starts the warm-up. Must be called on the processing thread. */
+  public void start() {
+    if (limit <= 0 || threads <= 0 || executor != null) {
+      return;
+    }
+
+    executor =
+        Executors.newFixedThreadPool(
+            threads, Thread.ofPlatform().name("deployment-cache-warm-up-", 0).daemon().factory());
+
+    final var processes = warmUp(Cache.PROCESS, processState::warmUpCache);
+    final var drgs = warmUp(Cache.DRG, decisionState::warmUpCache);
+
+    final ExecutorService warmUpExecutor = executor;
+    CompletableFuture.allOf(processes, drgs).whenComplete((ok, error) -> warmUpExecutor.shutdown());
+  }
+
+  /** Stops the warm-up if it is still running. */
+  public void stop() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private CompletableFuture<Integer> warmUp(
+      final Cache cache,
+      final BiFunction<Integer, ExecutorService, CompletableFuture<Integer>> warmUpCache) {
+    final long startNanos = System.nanoTime();
+    return warmUpCache
+        .apply(limit, executor)
+        .whenComplete(
+            (entries, error) -> {
+              if (error != null) {
+                // the deployments are loaded when they are used instead
+                LOG.warn("Failed to warm up the {} cache", cache, error);
+              } else {
+                metrics.warmUpCompleted(cache, entries, System.nanoTime() - startNanos);
+              }
+            });
+  }
+}
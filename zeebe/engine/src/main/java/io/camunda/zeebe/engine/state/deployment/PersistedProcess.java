@@ -19,6 +19,7 @@ import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class PersistedProcess extends UnpackedObject implements DbValue {
   private final IntegerProperty versionProp = new IntegerProperty("version", -1);
@@ -30,16 +31,22 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
       new EnumProperty<>("state", PersistedProcessState.class, PersistedProcessState.ACTIVE);
   private final StringProperty tenantIdProp =
       new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private final IntegerProperty compactResourceVersionProp =
+      new IntegerProperty("compactResourceVersion", 0);
+  private final BinaryProperty compactResourceProp =
+      new BinaryProperty("compactResource", new UnsafeBuffer());
 
   public PersistedProcess() {
-    super(7);
+    super(9);
     declareProperty(versionProp)
         .declareProperty(keyProp)
         .declareProperty(bpmnProcessIdProp)
         .declareProperty(resourceNameProp)
         .declareProperty(resourceProp)
         .declareProperty(stateProp)
-        .declareProperty(tenantIdProp);
+        .declareProperty(tenantIdProp)
+        .declareProperty(compactResourceVersionProp)
+        .declareProperty(compactResourceProp);
   }
 
   public void wrap(final ProcessRecord processRecord, final long processDefinitionKey) {
@@ -50,6 +57,8 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     versionProp.setValue(processRecord.getVersion());
     keyProp.setValue(processDefinitionKey);
     tenantIdProp.setValue(processRecord.getTenantId());
+    compactResourceVersionProp.setValue(processRecord.getCompactResourceVersion());
+    compactResourceProp.setValue(processRecord.getCompactResourceBuffer());
   }
 
   public int getVersion() {
@@ -90,6 +99,26 @@ public final class PersistedProcess extends UnpackedObject implements DbValue {
     return this;
   }
 
+  public int getCompactResourceVersion() {
+    return compactResourceVersionProp.getValue();
+  }
+
+  public DirectBuffer getCompactResource() {
+    return compactResourceProp.getValue();
+  }
+
+  public PersistedProcess setCompactResource(final int version, final DirectBuffer resource) {
+    compactResourceVersionProp.setValue(version);
+    compactResourceProp.setValue(resource);
+    return this;
+  }
+
+  public PersistedProcess clearCompactResource() {
+    compactResourceVersionProp.reset();
+    compactResourceProp.reset();
+    return this;
+  }
+
   public enum PersistedProcessState {
     ACTIVE(0),
     PENDING_DELETION(1);
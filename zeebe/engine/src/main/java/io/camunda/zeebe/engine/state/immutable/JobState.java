@@ -16,7 +16,35 @@ import org.agrona.DirectBuffer;
 
 public interface JobState {
 
-  void forEachTimedOutEntry(long upperBound, BiPredicate<Long, JobRecord> callback);
+  /**
+   * Visits the activated jobs whose deadline is before the given upper bound, in the order of their
+   * deadlines, until the callback returns {@code false}.
+   *
+   * @param upperBound the (exclusive) upper bound of the visited deadlines
+   * @param callback called for each visited job; if it returns {@code false}, the visiting stops
+   * @return the deadline of the first job which was not visited or not consumed by the callback,
+   *     or {@code -1} if there is no such job
+   */
+  long forEachTimedOutEntry(long upperBound, BiPredicate<Long, JobRecord> callback);
+
+  /**
+   * Visits the activated jobs whose deadline is before the given upper bound, like {@link
+   * #forEachTimedOutEntry(long, BiPredicate)}. As the jobs are ordered by their deadline and key,
+   * the iteration seeks directly to the given job, without visiting the jobs before it.
+   *
+   * @param upperBound the (exclusive) upper bound of the visited deadlines
+   * @param startAtDeadline the deadline of the job to start at, or {@code -1} to start at the first
+   *     job
+   * @param startAtJobKey the key of the job to start at
+   * @param callback called for each visited job; if it returns {@code false}, the visiting stops
+   * @return the deadline of the first job which was not visited or not consumed by the callback,
+   *     or {@code -1} if there is no such job
+   */
+  long forEachTimedOutEntry(
+      long upperBound,
+      long startAtDeadline,
+      long startAtJobKey,
+      BiPredicate<Long, JobRecord> callback);
 
   boolean exists(long jobKey);
 
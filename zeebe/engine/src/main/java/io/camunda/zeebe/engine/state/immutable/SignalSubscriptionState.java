@@ -18,6 +18,23 @@ public interface SignalSubscriptionState {
   void visitBySignalName(
       DirectBuffer signalName, String tenantId, SignalSubscriptionVisitor visitor);
 
+  /**
+   * Visit the subscriptions of the given signal, in the order of their subscription keys (see
+   * {@link SignalSubscriptionRecord#getSubscriptionKey()}), until the visitor stops the iteration.
+   *
+   * @param signalName the name of the signal
+   * @param tenantId the tenant the signal belongs to
+   * @param startAtSubscriptionKey the subscription key to start at, or {@code -1} to start at the
+   *     first subscription
+   * @param visitor the function that is called for each subscription, which returns {@code false}
+   *     to stop the iteration
+   */
+  void visitBySignalName(
+      DirectBuffer signalName,
+      String tenantId,
+      long startAtSubscriptionKey,
+      InterruptibleSignalSubscriptionVisitor visitor);
+
   /**
    * Visit all subscriptions with the given process definition key.
    *
@@ -39,4 +56,9 @@ public interface SignalSubscriptionState {
   interface SignalSubscriptionVisitor {
     void visit(SignalSubscription subscription);
   }
+
+  @FunctionalInterface
+  interface InterruptibleSignalSubscriptionVisitor {
+    boolean visit(SignalSubscription subscription);
+  }
 }
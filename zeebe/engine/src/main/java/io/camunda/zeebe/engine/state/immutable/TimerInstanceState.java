@@ -19,6 +19,25 @@ public interface TimerInstanceState {
    */
   long processTimersWithDueDateBefore(long timestamp, TimerVisitor consumer);
 
+  /**
+   * Finds timers with due date before {@code timestamp}, and presents them to the {@code consumer}.
+   * As the timers are ordered by their due date, element instance key and key, the iteration seeks
+   * directly to the given timer, without visiting the timers before it. If the given timer doesn't
+   * exist anymore, the iteration starts at the timer which follows it.
+   *
+   * @param startAtDueDate the due date of the timer to start at, or {@code -1} to start at the
+   *     first timer
+   * @param startAtElementInstanceKey the element instance key of the timer to start at
+   * @param startAtTimerKey the key of the timer to start at
+   * @return due date of the next scheduled timer (or {@code -1} if no succeeding timer exists)
+   */
+  long processTimersWithDueDateBefore(
+      long timestamp,
+      long startAtDueDate,
+      long startAtElementInstanceKey,
+      long startAtTimerKey,
+      TimerVisitor consumer);
+
   /**
    * NOTE: the timer instance given to the consumer is shared and will be mutated on the next
    * iteration.
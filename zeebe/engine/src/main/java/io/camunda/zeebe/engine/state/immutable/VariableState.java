@@ -50,6 +50,15 @@ public interface VariableState {
    */
   long getParentScopeKey(long childScopeKey);
 
+  /**
+   * Returns the current version of the variables. The version changes whenever a variable or a
+   * scope is modified, so it can be used to detect if a value derived from the variables, e.g. a
+   * cached variable value, is still up-to-date. The version is not persisted.
+   *
+   * @return the current version of the variables
+   */
+  long getVersion();
+
   /** Data wrapper for a variable. */
   record Variable(long key, long scopeKey, DirectBuffer name, DirectBuffer value) {}
 }
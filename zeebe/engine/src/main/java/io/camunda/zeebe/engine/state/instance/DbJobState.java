@@ -72,6 +72,7 @@ public final class DbJobState implements JobState, MutableJobState {
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
   private long nextBackOffDueDate;
+  private long nextDeadline;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -325,18 +326,43 @@ public final class DbJobState implements JobState, MutableJobState {
   }
 
   @Override
-  public void forEachTimedOutEntry(
+  public long forEachTimedOutEntry(
       final long upperBound, final BiPredicate<Long, JobRecord> callback) {
+    return forEachTimedOutEntry(upperBound, -1L, -1L, callback);
+  }
+
+  @Override
+  public long forEachTimedOutEntry(
+      final long upperBound,
+      final long startAtDeadline,
+      final long startAtJobKey,
+      final BiPredicate<Long, JobRecord> callback) {
+    nextDeadline = -1L;
+
+    final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
+    if (startAtDeadline > 0) {
+      deadlineKey.wrapLong(startAtDeadline);
+      jobKey.wrapLong(startAtJobKey);
+      startAtKey = deadlineJobKey;
+    } else {
+      startAtKey = null;
+    }
+
     deadlinesColumnFamily.whileTrue(
+        startAtKey,
         (key, value) -> {
           final long deadline = key.first().getValue();
-          final boolean isDue = deadline < upperBound;
-          if (isDue) {
+          boolean consumed = false;
+          if (deadline < upperBound) {
             final long jobKey1 = key.second().inner().getValue();
-            return visitJob(jobKey1, callback);
+            consumed = visitJob(jobKey1, callback);
           }
-          return false;
+          if (!consumed) {
+            nextDeadline = deadline;
+          }
+          return consumed;
         });
+    return nextDeadline;
   }
 
   @Override
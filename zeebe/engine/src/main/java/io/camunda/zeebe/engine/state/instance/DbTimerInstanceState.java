@@ -85,9 +85,30 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    return processTimersWithDueDateBefore(timestamp, -1L, -1L, -1L, consumer);
+  }
+
+  @Override
+  public long processTimersWithDueDateBefore(
+      final long timestamp,
+      final long startAtDueDate,
+      final long startAtElementInstanceKey,
+      final long startAtTimerKey,
+      final TimerVisitor consumer) {
     nextDueDate = -1L;
 
+    final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>> startAtKey;
+    if (startAtDueDate > 0) {
+      dueDate.wrapLong(startAtDueDate);
+      elementInstanceKey.inner().wrapLong(startAtElementInstanceKey);
+      timerKey.wrapLong(startAtTimerKey);
+      startAtKey = dueDateCompositeKey;
+    } else {
+      startAtKey = null;
+    }
+
     dueDateColumnFamily.whileTrue(
+        startAtKey,
         (key, nil) -> {
           final var dueDate = key.first().getValue();
           final var elementAndTimerKey = key.second();
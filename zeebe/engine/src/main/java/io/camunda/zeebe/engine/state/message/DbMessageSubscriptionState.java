@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
+import io.camunda.zeebe.engine.metrics.MessageCorrelationFilterMetrics;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState.PendingSubscription;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
@@ -56,9 +57,15 @@ public final class DbMessageSubscriptionState
 
   private final TransientPendingSubscriptionState transientState;
 
+  // filters the lookups of subscriptions by (tenant, messageName, correlationKey)
+  private final MessageCorrelationFilter correlationFilter = new MessageCorrelationFilter();
+  private final MessageCorrelationFilterMetrics correlationFilterMetrics;
+  private boolean visitedSubscription;
+
   public DbMessageSubscriptionState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
+      final int partitionId,
       final TransientPendingSubscriptionState transientState) {
 
     elementInstanceKey = new DbLong();
@@ -86,10 +93,15 @@ public final class DbMessageSubscriptionState
             tenantAwareNameCorrelationAndElementInstanceKey,
             DbNil.INSTANCE);
     this.transientState = transientState;
+    correlationFilterMetrics = new MessageCorrelationFilterMetrics(partitionId);
   }
 
   @Override
   public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    rebuildCorrelationFilter();
+    // the filter was built from the committed state only
+    correlationFilter.commit();
+
     subscriptionColumnFamily.forEach(
         subscription -> {
           if (subscription.isCorrelating()) {
@@ -115,15 +127,33 @@ public final class DbMessageSubscriptionState
       final DirectBuffer correlationKey,
       final MessageSubscriptionVisitor visitor) {
 
+    if (!correlationFilter.isValid()) {
+      rebuildCorrelationFilter();
+    }
+
     tenantIdKey.wrapString(tenantId);
     this.messageName.wrapBuffer(messageName);
     this.correlationKey.wrapBuffer(correlationKey);
 
+    if (!correlationFilter.mightContain(
+        tenantIdKey.getBuffer(), this.messageName.getBuffer(), this.correlationKey.getBuffer())) {
+      correlationFilterMetrics.negativeLookup();
+      return;
+    }
+
+    visitedSubscription = false;
     messageNameAndCorrelationKeyColumnFamily.whileEqualPrefix(
         tenantAwareNameAndCorrelationKey,
         (compositeKey, nil) -> {
+          visitedSubscription = true;
           return visitMessageSubscription(elementKeyAndMessageName, visitor);
         });
+
+    if (visitedSubscription) {
+      correlationFilterMetrics.hitLookup();
+    } else {
+      correlationFilterMetrics.falsePositiveLookup();
+    }
   }
 
   @Override
@@ -148,6 +178,9 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.insert(
         tenantAwareNameCorrelationAndElementInstanceKey, DbNil.INSTANCE);
+
+    correlationFilter.add(
+        tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
   }
 
   @Override
@@ -214,12 +247,38 @@ public final class DbMessageSubscriptionState
     correlationKey.wrapBuffer(record.getCorrelationKeyBuffer());
     messageNameAndCorrelationKeyColumnFamily.deleteExisting(
         tenantAwareNameCorrelationAndElementInstanceKey);
+    correlationFilter.remove(
+        tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer());
 
     transientState.remove(
         new PendingSubscription(
             elementInstanceKey.getValue(), messageName.toString(), tenantIdKey.toString()));
   }
 
+  @Override
+  public boolean hasUncommittedCorrelationFilterChanges() {
+    return correlationFilter.hasUncommittedChanges();
+  }
+
+  @Override
+  public void commitCorrelationFilterChanges() {
+    correlationFilter.commit();
+  }
+
+  @Override
+  public void rollbackCorrelationFilterChanges() {
+    correlationFilter.rollback();
+  }
+
+  private void rebuildCorrelationFilter() {
+    correlationFilter.reset(messageNameAndCorrelationKeyColumnFamily.count());
+    messageNameAndCorrelationKeyColumnFamily.forEach(
+        (key, nil) ->
+            correlationFilter.add(
+                tenantIdKey.getBuffer(), messageName.getBuffer(), correlationKey.getBuffer()));
+    correlationFilterMetrics.rebuilt();
+  }
+
   private void updateCorrelatingFlag(
       final MessageSubscription subscription, final boolean correlating) {
     final var record = subscription.getRecord();
@@ -0,0 +1,224 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import java.util.Arrays;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
+
+/**
+ * A counting Bloom filter over the tenant, message name and correlation key of the open message
+ * subscriptions. It tells whether a subscription may exist for a published message, so that the
+ * state only needs to be searched if it does. As long as every added entry is removed at most once,
+ * the filter has no false negatives; its false positive rate is about 2% while it holds less than
+ * {@code counters / 8} entries.
+ *
+ * <p>A filter is invalid until it is {@link #reset(long) reset}, and becomes invalid again if it
+ * holds too many entries for its size. An invalid filter ignores all modifications and must be
+ * rebuilt from the state before it is used.
+ *
+ * <p>The filter remembers the entries which were added and removed since the last {@link
+ * #commit() commit}, so that they can be {@link #rollback() rolled back} together with the
+ * transaction which changed the subscriptions.
+ */
+final class MessageCorrelationFilter {
+
+  static final int MIN_COUNTERS = 1 << 16;
+  static final int MAX_COUNTERS = 1 << 24;
+
+  private static final int HASH_FUNCTIONS = 4;
+  private static final int COUNTERS_PER_ENTRY = 8;
+  private static final int MAX_COUNT = 0xFF;
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private byte[] counters = new byte[0];
+  private long entries;
+  private boolean valid;
+
+  // the hashes of the entries added and removed since the last commit
+  private final LongArrayList uncommittedAdds = new LongArrayList();
+  private final LongArrayList uncommittedRemoves = new LongArrayList();
+  // whether the filter was reset since the last commit, i.e. it contains uncommitted entries which
+  // can't be rolled back
+  private boolean resetSinceCommit;
+
+  boolean isValid() {
+    return valid;
+  }
+
+  /**
+   * Removes all entries and sizes the filter for the given number of entries. The filter is valid
+   * afterward.
+   *
+   * @param expectedEntries the number of entries which will be added to the filter
+   */
+  void reset(final long expectedEntries) {
+    // leave room to add entries until the filter needs to grow again
+    final long requiredCounters = Math.max(expectedEntries, 1) * COUNTERS_PER_ENTRY * 2;
+    final int size =
+        (int) Math.min(MAX_COUNTERS, Math.max(MIN_COUNTERS, Long.highestOneBit(requiredCounters)));
+
+    if (counters.length == size) {
+      Arrays.fill(counters, (byte) 0);
+    } else {
+      counters = new byte[size];
+    }
+    entries = 0;
+    valid = true;
+
+    uncommittedAdds.clear();
+    uncommittedRemoves.clear();
+    resetSinceCommit = true;
+  }
+
+  /** Keeps the entries added and removed since the last commit, once they are committed. */
+  void commit() {
+    uncommittedAdds.clear();
+    uncommittedRemoves.clear();
+    resetSinceCommit = false;
+  }
+
+  /**
+   * Undoes the additions and removals since the last commit, once they are rolled back. If the
+   * filter was reset since then, it is invalidated instead, as it was built from uncommitted
+   * entries.
+   */
+  void rollback() {
+    if (resetSinceCommit) {
+      valid = false;
+    } else if (valid) {
+      for (int i = 0; i < uncommittedRemoves.size(); i++) {
+        increment(uncommittedRemoves.getLong(i));
+      }
+      for (int i = 0; i < uncommittedAdds.size(); i++) {
+        decrement(uncommittedAdds.getLong(i));
+      }
+      entries += uncommittedRemoves.size() - uncommittedAdds.size();
+    }
+
+    commit();
+  }
+
+  /**
+   * @return true if entries were added or removed since the last commit
+   */
+  boolean hasUncommittedChanges() {
+    return resetSinceCommit || !uncommittedAdds.isEmpty() || !uncommittedRemoves.isEmpty();
+  }
+
+  void add(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    if (!valid) {
+      return;
+    }
+
+    final long hash = hash(tenantId, messageName, correlationKey);
+    increment(hash);
+    uncommittedAdds.addLong(hash);
+
+    entries++;
+    if (entries * COUNTERS_PER_ENTRY > counters.length && counters.length < MAX_COUNTERS) {
+      // the false positive rate would increase, the filter needs to be rebuilt with more counters
+      valid = false;
+    }
+  }
+
+  void remove(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    if (!valid) {
+      return;
+    }
+
+    final long hash = hash(tenantId, messageName, correlationKey);
+    decrement(hash);
+    uncommittedRemoves.addLong(hash);
+
+    entries--;
+  }
+
+  /**
+   * Returns whether the filter may contain the given entry. Must only be called on a valid filter.
+   *
+   * @return false if the filter doesn't contain the entry, true if it probably contains it
+   */
+  boolean mightContain(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    final long hash = hash(tenantId, messageName, correlationKey);
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      if (counters[index(hash, i)] == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void increment(final long hash) {
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int index = index(hash, i);
+      final int count = counters[index] & MAX_COUNT;
+      if (count < MAX_COUNT) {
+        counters[index] = (byte) (count + 1);
+      }
+    }
+  }
+
+  private void decrement(final long hash) {
+    for (int i = 0; i < HASH_FUNCTIONS; i++) {
+      final int index = index(hash, i);
+      final int count = counters[index] & MAX_COUNT;
+      // a saturated counter is never decremented, as it may count more entries than it can hold
+      if (count > 0 && count < MAX_COUNT) {
+        counters[index] = (byte) (count - 1);
+      }
+    }
+  }
+
+  private int index(final long hash, final int function) {
+    // derive the hash functions from two halves of the hash (Kirsch-Mitzenmacher)
+    final int combinedHash = (int) hash + function * (int) (hash >>> 32);
+    return combinedHash & (counters.length - 1);
+  }
+
+  private static long hash(
+      final DirectBuffer tenantId,
+      final DirectBuffer messageName,
+      final DirectBuffer correlationKey) {
+    long hash = FNV_OFFSET_BASIS;
+    hash = hash(hash, tenantId);
+    hash = hash(hash, messageName);
+    hash = hash(hash, correlationKey);
+
+    // spread the bits of the FNV-1a hash over both halves (MurmurHash3 finalizer)
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+
+  private static long hash(final long initialHash, final DirectBuffer buffer) {
+    long hash = initialHash;
+    final int length = buffer.capacity();
+    for (int i = 0; i < length; i++) {
+      hash ^= buffer.getByte(i) & 0xFF;
+      hash *= FNV_PRIME;
+    }
+    // separate the parts, so that moving bytes between them changes the hash
+    hash ^= length;
+    hash *= FNV_PRIME;
+    return hash;
+  }
+}
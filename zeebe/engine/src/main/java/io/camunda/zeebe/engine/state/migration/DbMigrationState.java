@@ -32,6 +32,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_3.DbProcessMessageSubscripti
 import io.camunda.zeebe.engine.state.migration.to_8_3.DbProcessMigrationState;
 import io.camunda.zeebe.engine.state.migration.to_8_4.DbSignalSubscriptionMigrationState;
 import io.camunda.zeebe.engine.state.migration.to_8_5.DbColumnFamilyCorrectionMigrationState;
+import io.camunda.zeebe.engine.state.migration.to_8_5.DbProcessDefinitionKeyMigrationState;
 import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableEventScopeInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableMessageSubscriptionState;
@@ -127,6 +128,7 @@ public class DbMigrationState implements MutableMigrationState {
   private final DbString migratedByVersionValue = new DbString();
 
   private final DbColumnFamilyCorrectionMigrationState columnFamilyCorrectionMigrationState;
+  private final DbProcessDefinitionKeyMigrationState processDefinitionKeyMigrationState;
 
   public DbMigrationState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -284,6 +286,8 @@ public class DbMigrationState implements MutableMigrationState {
 
     columnFamilyCorrectionMigrationState =
         new DbColumnFamilyCorrectionMigrationState(zeebeDb, transactionContext);
+    processDefinitionKeyMigrationState =
+        new DbProcessDefinitionKeyMigrationState(zeebeDb, transactionContext);
   }
 
   @Override
@@ -501,4 +505,9 @@ public class DbMigrationState implements MutableMigrationState {
   public void correctColumnFamilyPrefix() {
     columnFamilyCorrectionMigrationState.correctColumnFamilyPrefix();
   }
+
+  @Override
+  public void migrateProcessDefinitionKeyByIdAndVersion() {
+    processDefinitionKeyMigrationState.migrateProcessDefinitionKeyByIdAndVersion();
+  }
 }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.engine.state.migration.to_8_3.MultiTenancyProcessStateMi
 import io.camunda.zeebe.engine.state.migration.to_8_3.ProcessInstanceByProcessDefinitionMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_4.MultiTenancySignalSubscriptionStateMigration;
 import io.camunda.zeebe.engine.state.migration.to_8_5.ColumnFamilyPrefixCorrectionMigration;
+import io.camunda.zeebe.engine.state.migration.to_8_5.ProcessDefinitionKeyByIdAndVersionMigration;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.util.VersionUtil;
 import java.util.ArrayList;
@@ -55,7 +56,8 @@ public class DbMigratorImpl implements DbMigrator {
           new MultiTenancyJobStateMigration(),
           new ColumnFamilyPrefixCorrectionMigration(),
           new MultiTenancySignalSubscriptionStateMigration(),
-          new JobBackoffRestoreMigration());
+          new JobBackoffRestoreMigration(),
+          new ProcessDefinitionKeyByIdAndVersionMigration());
   // Be mindful of https://github.com/camunda/zeebe/issues/7248. In particular, that issue
   // should be solved first, before adding any migration that can take a long time
 
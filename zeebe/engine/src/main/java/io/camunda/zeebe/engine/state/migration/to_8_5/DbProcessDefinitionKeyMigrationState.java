@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_5;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.deployment.PersistedProcess;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+public final class DbProcessDefinitionKeyMigrationState {
+
+  private final DbString tenantIdKey;
+  private final DbLong processDefinitionKey;
+  private final DbTenantAwareKey<DbLong> tenantAwareProcessDefinitionKey;
+  private final ColumnFamily<DbTenantAwareKey<DbLong>, PersistedProcess> processColumnFamily;
+
+  private final DbString processId;
+  private final DbLong processVersion;
+  private final DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>
+      tenantAwareProcessIdAndVersionKey;
+  private final DbForeignKey<DbTenantAwareKey<DbLong>> fkProcess;
+  private final ColumnFamily<
+          DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>,
+          DbForeignKey<DbTenantAwareKey<DbLong>>>
+      processKeyByIdAndVersionColumnFamily;
+
+  public DbProcessDefinitionKeyMigrationState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    tenantIdKey = new DbString();
+    processDefinitionKey = new DbLong();
+    tenantAwareProcessDefinitionKey =
+        new DbTenantAwareKey<>(tenantIdKey, processDefinitionKey, PlacementType.PREFIX);
+    processColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_CACHE,
+            transactionContext,
+            tenantAwareProcessDefinitionKey,
+            new PersistedProcess());
+
+    processId = new DbString();
+    processVersion = new DbLong();
+    tenantAwareProcessIdAndVersionKey =
+        new DbTenantAwareKey<>(
+            tenantIdKey, new DbCompositeKey<>(processId, processVersion), PlacementType.PREFIX);
+    fkProcess = new DbForeignKey<>(tenantAwareProcessDefinitionKey, ZbColumnFamilies.PROCESS_CACHE);
+    processKeyByIdAndVersionColumnFamily =
+        zeebeDb.createColumnFamily(
+            ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION,
+            transactionContext,
+            tenantAwareProcessIdAndVersionKey,
+            fkProcess);
+  }
+
+  public void migrateProcessDefinitionKeyByIdAndVersion() {
+    processColumnFamily.forEach(
+        (key, process) -> {
+          // the key was wrapped by the iteration, it only needs the id and version of the process
+          processId.wrapBuffer(process.getBpmnProcessId());
+          processVersion.wrapLong(process.getVersion());
+          processKeyByIdAndVersionColumnFamily.upsert(tenantAwareProcessIdAndVersionKey, fkProcess);
+        });
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_5;
+
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.migration.MigrationTask;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+
+/**
+ * This migration reads the processes in the PROCESS_CACHE ColumnFamily and populates the
+ * PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION ColumnFamily with their keys, which is used to
+ * find the most recently deployed processes without reading all of them.
+ */
+public class ProcessDefinitionKeyByIdAndVersionMigration implements MigrationTask {
+
+  @Override
+  public String getIdentifier() {
+    return getClass().getSimpleName();
+  }
+
+  @Override
+  public boolean needsToRun(final ProcessingState processingState) {
+    return processingState.isEmpty(
+            ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION)
+        && !processingState.isEmpty(ZbColumnFamilies.PROCESS_CACHE);
+  }
+
+  @Override
+  public void runMigration(final MutableProcessingState processingState) {
+    processingState.getMigrationState().migrateProcessDefinitionKeyByIdAndVersion();
+  }
+}
@@ -23,4 +23,23 @@ public interface MutableMessageSubscriptionState extends MessageSubscriptionStat
   boolean remove(long elementInstanceKey, DirectBuffer messageName);
 
   void remove(MessageSubscription subscription);
+
+  /**
+   * @return true if the in-memory filter over the correlation keys of the subscriptions changed
+   *     since its changes were last committed or rolled back
+   */
+  boolean hasUncommittedCorrelationFilterChanges();
+
+  /**
+   * Keeps the changes of the in-memory filter over the correlation keys of the subscriptions. Must
+   * be called after the transaction which changed the subscriptions was committed.
+   */
+  void commitCorrelationFilterChanges();
+
+  /**
+   * Undoes the changes of the in-memory filter over the correlation keys of the subscriptions, so
+   * that it matches the state again. Must be called after the transaction which changed the
+   * subscriptions was rolled back.
+   */
+  void rollbackCorrelationFilterChanges();
 }
@@ -61,4 +61,18 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Drops the cached variables of all scopes and invalidates all values derived from the variables
+   * by changing the {@link #getVersion() version}. Must be called if the variables changed without
+   * going through this state, e.g. when the transaction of a command was rolled back.
+   */
+  void clearCache();
+
+  /**
+   * Invalidates all values derived from the variables by changing the {@link #getVersion()
+   * version}, without dropping the cached variables of the scopes. Called before each command, so
+   * that such values are only reused within a single command.
+   */
+  void invalidateDerivedValues();
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.query;
+
+import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Read-only point lookups in the state of a partition. The queries read the last committed state
+ * of the partition's database directly, without writing to the log, so they can be answered by
+ * followers as well as by the leader. On a follower, the state is as recent as the replayed events.
+ *
+ * <p>The returned values are copies, which don't change when the state is modified afterward.
+ */
+public interface StateQueries {
+
+  /**
+   * Queries the state for an element instance, e.g. a process instance.
+   *
+   * @param key the key of the element instance
+   * @return the element instance with its current intent as state, if found
+   * @throws ClosedServiceException if the service is already closed
+   */
+  Optional<QueriedValue> getElementInstance(long key);
+
+  /**
+   * Queries the state for the local variables of a scope, e.g. of a process instance.
+   *
+   * @param scopeKey the key of the scope
+   * @return the variables by name, or an empty map if the scope has no variables
+   * @throws ClosedServiceException if the service is already closed
+   */
+  Map<String, Object> getVariables(long scopeKey);
+
+  /**
+   * Queries the state for an incident which isn't resolved yet.
+   *
+   * @param key the key of the incident
+   * @return the incident, if found
+   * @throws ClosedServiceException if the service is already closed
+   */
+  Optional<QueriedValue> getIncident(long key);
+
+  /**
+   * Queries the state for a job which isn't completed or canceled yet.
+   *
+   * @param key the key of the job
+   * @return the job with its current state, if found
+   * @throws ClosedServiceException if the service is already closed
+   */
+  Optional<QueriedValue> getJob(long key);
+
+  /**
+   * A value of the state.
+   *
+   * @param key the key of the value
+   * @param state the state of the value, e.g. the intent of an element instance
+   * @param value the properties of the record value
+   */
+  record QueriedValue(long key, String state, Map<String, Object> value) {}
+}
@@ -12,18 +12,29 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.deployment.DeployedProcess;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.engine.state.immutable.ProcessingState;
 import io.camunda.zeebe.engine.state.instance.ElementInstance;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Map;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 
-public final class StateQueryService implements QueryService {
+/**
+ * Answers queries from the state of a partition. It can be used by other threads than the one
+ * which processes or replays the partition's records. The queries are serialized, as they share
+ * the instances which read the state.
+ */
+public final class StateQueryService implements QueryService, StateQueries {
 
   private volatile boolean isClosed;
   private ProcessingState state;
@@ -34,12 +45,13 @@ public final class StateQueryService implements QueryService {
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
+    // waits for a running query, so that the database isn't closed while it is read
     isClosed = true;
   }
 
   @Override
-  public Optional<DirectBuffer> getBpmnProcessIdForProcess(final long key) {
+  public synchronized Optional<DirectBuffer> getBpmnProcessIdForProcess(final long key) {
     ensureServiceIsOpened();
 
     return Optional.ofNullable(
@@ -50,7 +62,7 @@ public final class StateQueryService implements QueryService {
   }
 
   @Override
-  public Optional<DirectBuffer> getBpmnProcessIdForProcessInstance(final long key) {
+  public synchronized Optional<DirectBuffer> getBpmnProcessIdForProcessInstance(final long key) {
     ensureServiceIsOpened();
 
     return Optional.ofNullable(state.getElementInstanceState().getInstance(key))
@@ -59,13 +71,60 @@ public final class StateQueryService implements QueryService {
   }
 
   @Override
-  public Optional<DirectBuffer> getBpmnProcessIdForJob(final long key) {
+  public synchronized Optional<DirectBuffer> getBpmnProcessIdForJob(final long key) {
     ensureServiceIsOpened();
 
     return Optional.ofNullable(state.getJobState().getJob(key))
         .map(JobRecord::getBpmnProcessIdBuffer);
   }
 
+  @Override
+  public synchronized Optional<QueriedValue> getElementInstance(final long key) {
+    ensureServiceIsOpened();
+
+    return Optional.ofNullable(state.getElementInstanceState().getInstance(key))
+        .map(
+            instance ->
+                new QueriedValue(key, instance.getState().name(), toMap(instance.getValue())));
+  }
+
+  @Override
+  public synchronized Map<String, Object> getVariables(final long scopeKey) {
+    ensureServiceIsOpened();
+
+    // the variables are read with a single iterator, which sees a consistent view of the state
+    return MsgPackConverter.convertToMap(
+        state.getVariableState().getVariablesLocalAsDocument(scopeKey));
+  }
+
+  @Override
+  public synchronized Optional<QueriedValue> getIncident(final long key) {
+    ensureServiceIsOpened();
+
+    return Optional.ofNullable(state.getIncidentState().getIncidentRecord(key))
+        .map(incident -> new QueriedValue(key, IncidentIntent.CREATED.name(), toMap(incident)));
+  }
+
+  @Override
+  public synchronized Optional<QueriedValue> getJob(final long key) {
+    ensureServiceIsOpened();
+
+    final var jobState = state.getJobState();
+    final var jobStatus = jobState.getState(key);
+    if (jobStatus == State.NOT_FOUND) {
+      return Optional.empty();
+    }
+
+    // the job may be removed concurrently, after its state was read
+    return Optional.ofNullable(jobState.getJob(key))
+        .map(job -> new QueriedValue(key, jobStatus.name(), toMap(job)));
+  }
+
+  private static Map<String, Object> toMap(final BufferWriter value) {
+    // copy the value, as the state reuses its instances
+    return MsgPackConverter.convertToMap(BufferUtil.createCopy(value));
+  }
+
   private void ensureServiceIsOpened() {
     if (isClosed) {
       throw new ClosedServiceException();
@@ -111,6 +111,27 @@ public final class DbSignalSubscriptionState implements MutableSignalSubscriptio
         });
   }
 
+  @Override
+  public void visitBySignalName(
+      final DirectBuffer signalName,
+      final String tenantId,
+      final long startAtSubscriptionKey,
+      final InterruptibleSignalSubscriptionVisitor visitor) {
+    tenantIdKey.wrapString(tenantId);
+    this.signalName.wrapBuffer(signalName);
+
+    final DbCompositeKey<DbTenantAwareKey<DbString>, DbLong> startAtKey;
+    if (startAtSubscriptionKey > 0) {
+      subscriptionKey.wrapLong(startAtSubscriptionKey);
+      startAtKey = tenantAwareSignalNameAndSubscriptionKey;
+    } else {
+      startAtKey = null;
+    }
+
+    signalNameAndSubscriptionKeyColumnFamily.whileEqualPrefix(
+        tenantAwareSignalName, startAtKey, (key, value) -> visitor.visit(value));
+  }
+
   @Override
   public void visitStartEventSubscriptionsByProcessDefinitionKey(
       final long processDefinitionKey, final SignalSubscriptionVisitor visitor) {
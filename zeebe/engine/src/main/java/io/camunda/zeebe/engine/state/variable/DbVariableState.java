@@ -15,6 +15,7 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.ScopeVariablesCache.ScopeVariables;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -26,8 +27,8 @@ import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
-import org.agrona.MutableDirectBuffer;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -56,6 +57,14 @@ public class DbVariableState implements MutableVariableState {
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
 
+  // changed on every modification, to invalidate values which are derived from the variables
+  private long version;
+
+  // the local variables of recently read scopes, to build documents without reading them again
+  private final ScopeVariablesCache scopeVariablesCache = new ScopeVariablesCache();
+  private final List<DirectBuffer> scopeVariableNames = new ArrayList<>();
+  private final List<DirectBuffer> scopeVariableValues = new ArrayList<>();
+
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
     childKey = new DbLong();
@@ -109,6 +118,8 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    scopeVariablesCache.invalidate(scopeKey);
+    version++;
   }
 
   @Override
@@ -117,6 +128,8 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    scopeVariablesCache.invalidate(childKey);
+    version++;
   }
 
   @Override
@@ -128,6 +141,8 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    scopeVariablesCache.invalidate(scopeKey);
+    version++;
   }
 
   @Override
@@ -137,6 +152,19 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    scopeVariablesCache.invalidate(scopeKey);
+    version++;
+  }
+
+  @Override
+  public void clearCache() {
+    scopeVariablesCache.clear();
+    version++;
+  }
+
+  @Override
+  public void invalidateDerivedValues() {
+    version++;
   }
 
   @Override
@@ -200,20 +228,20 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> !collectedVariables.contains(name.getBuffer()),
-        (name, value) -> {
-          final DirectBuffer variableNameBuffer = name.getBuffer();
-          writer.writeString(variableNameBuffer);
-          writer.writeRaw(value.getValue());
+    long currentScopeKey = scopeKey;
+    do {
+      final ScopeVariables scopeVariables = getScopeVariables(currentScopeKey);
+      final DirectBuffer[] scopeNames = scopeVariables.names();
+      for (int i = 0; i < scopeNames.length; i++) {
+        // the cached names are immutable, so we can keep them in the hashset
+        if (collectedVariables.add(scopeNames[i])) {
+          writer.writeString(scopeNames[i]);
+          writer.writeRaw(scopeVariables.values()[i]);
+        }
+      }
 
-          // must create a new name wrapper, because we keep them all in the hashset at the same
-          // time
-          final MutableDirectBuffer nameView = new UnsafeBuffer(variableNameBuffer);
-          collectedVariables.add(nameView);
-        },
-        () -> false);
+      currentScopeKey = scopeVariables.parentKey();
+    } while (currentScopeKey >= 0);
 
     writer.writeReservedMapHeader(0, collectedVariables.size());
 
@@ -232,16 +260,19 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
+    long currentScopeKey = scopeKey;
+    do {
+      final ScopeVariables scopeVariables = getScopeVariables(currentScopeKey);
+      final DirectBuffer[] scopeNames = scopeVariables.names();
+      for (int i = 0; i < scopeNames.length && !variablesToCollect.isEmpty(); i++) {
+        if (variablesToCollect.remove(scopeNames[i])) {
+          writer.writeString(scopeNames[i]);
+          writer.writeRaw(scopeVariables.values()[i]);
+        }
+      }
 
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+      currentScopeKey = scopeVariables.parentKey();
+    } while (!variablesToCollect.isEmpty() && currentScopeKey >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -307,33 +338,53 @@ public class DbVariableState implements MutableVariableState {
     return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
   }
 
-  private VariableInstance getVariableLocal(
-      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
-    this.scopeKey.wrapLong(scopeKey);
-    variableNameView.wrap(name, nameOffset, nameLength);
-    variableName.wrapBuffer(variableNameView);
-
-    return variablesColumnFamily.get(scopeKeyVariableNameKey);
+  @Override
+  public long getVersion() {
+    return version;
   }
 
   /**
-   * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
-   * the scope hierarchy.
+   * Returns the local variables of the given scope from the cache, or reads them from the state
+   * and caches them.
    */
-  private void visitVariables(
-      final long scopeKey,
-      final Predicate<DbString> filter,
-      final BiConsumer<DbString, VariableInstance> variableConsumer,
-      final BooleanSupplier completionCondition) {
-    long currentScope = scopeKey;
+  private ScopeVariables getScopeVariables(final long scopeKey) {
+    final ScopeVariables cachedScopeVariables = scopeVariablesCache.get(scopeKey);
+    if (cachedScopeVariables != null) {
+      return cachedScopeVariables;
+    }
 
-    boolean completed;
-    do {
-      completed = visitVariablesLocal(currentScope, filter, variableConsumer, completionCondition);
+    scopeVariableNames.clear();
+    scopeVariableValues.clear();
+    final MutableLong size = new MutableLong();
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, variable) -> {
+          final DirectBuffer nameCopy = BufferUtil.cloneBuffer(name.getBuffer());
+          final DirectBuffer valueCopy = BufferUtil.cloneBuffer(variable.getValue());
+          scopeVariableNames.add(nameCopy);
+          scopeVariableValues.add(valueCopy);
+          size.addAndGet(nameCopy.capacity() + valueCopy.capacity());
+        },
+        () -> false);
+
+    final var scopeVariables =
+        new ScopeVariables(
+            getParentScopeKey(scopeKey),
+            scopeVariableNames.toArray(DirectBuffer[]::new),
+            scopeVariableValues.toArray(DirectBuffer[]::new),
+            size.get());
+    scopeVariablesCache.put(scopeKey, scopeVariables);
+    return scopeVariables;
+  }
 
-      currentScope = getParentScopeKey(currentScope);
+  private VariableInstance getVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    this.scopeKey.wrapLong(scopeKey);
+    variableNameView.wrap(name, nameOffset, nameLength);
+    variableName.wrapBuffer(variableNameView);
 
-    } while (!completed && currentScope >= 0);
+    return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
   /**
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * Caches the local variables of variable scopes, together with the key of their parent scope. It
+ * allows to build the variable document of a scope without iterating over the variables of the
+ * scope and all its parent scopes in the state again, e.g. when many jobs of the same process
+ * instance are activated.
+ *
+ * <p>An entry must be invalidated whenever the variables of its scope are modified. The cache is
+ * bounded by the number of cached scopes and the total size of the cached variables; it is cleared
+ * when one of the bounds is exceeded.
+ */
+final class ScopeVariablesCache {
+
+  static final int MAX_CACHED_SCOPES = 1024;
+  static final long MAX_CACHED_SIZE = 16 * 1024 * 1024;
+
+  private final Long2ObjectHashMap<ScopeVariables> cachedScopes = new Long2ObjectHashMap<>();
+  private long cachedSize;
+
+  ScopeVariables get(final long scopeKey) {
+    return cachedScopes.get(scopeKey);
+  }
+
+  void put(final long scopeKey, final ScopeVariables scopeVariables) {
+    final long size = scopeVariables.size();
+    if (size > MAX_CACHED_SIZE) {
+      // caching it would evict all other scopes
+      return;
+    }
+
+    if (cachedScopes.size() >= MAX_CACHED_SCOPES || cachedSize + size > MAX_CACHED_SIZE) {
+      clear();
+    }
+
+    invalidate(scopeKey);
+    cachedScopes.put(scopeKey, scopeVariables);
+    cachedSize += size;
+  }
+
+  void invalidate(final long scopeKey) {
+    final var removed = cachedScopes.remove(scopeKey);
+    if (removed != null) {
+      cachedSize -= removed.size();
+    }
+  }
+
+  void clear() {
+    cachedScopes.clear();
+    cachedSize = 0;
+  }
+
+  /**
+   * The local variables of a scope. The buffers are owned by the cache and must not be modified.
+   *
+   * @param parentKey the key of the parent scope, or a negative value if it has no parent
+   * @param names the names of the variables
+   * @param values the MessagePack encoded values of the variables, in the same order as the names
+   * @param size the total length of the names and values
+   */
+  record ScopeVariables(long parentKey, DirectBuffer[] names, DirectBuffer[] values, long size) {}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorates a {@link ZeebeDbFactory} to count the reads and writes on all column families of the
+ * created databases. A read is any lookup or iteration (e.g. {@link ColumnFamily#get} or {@link
+ * ColumnFamily#whileEqualPrefix}), regardless of how many entries it visits; a write is any
+ * insert, update or delete.
+ */
+final class CountingZeebeDbFactory implements ZeebeDbFactory<ZbColumnFamilies> {
+
+  private static final Set<String> READ_METHODS =
+      Set.of(
+          "get",
+          "exists",
+          "forEach",
+          "whileTrue",
+          "whileEqualPrefix",
+          "isEmpty",
+          "count",
+          "countEqualPrefix");
+  private static final Set<String> WRITE_METHODS =
+      Set.of("insert", "update", "upsert", "deleteExisting", "deleteIfExists");
+
+  private final ZeebeDbFactory<ZbColumnFamilies> delegate;
+  private final LongAdder reads = new LongAdder();
+  private final LongAdder writes = new LongAdder();
+
+  CountingZeebeDbFactory(final ZeebeDbFactory<ZbColumnFamilies> delegate) {
+    this.delegate = delegate;
+  }
+
+  long reads() {
+    return reads.sum();
+  }
+
+  long writes() {
+    return writes.sum();
+  }
+
+  @Override
+  public ZeebeDb<ZbColumnFamilies> createDb(final File pathName) {
+    final var db = delegate.createDb(pathName);
+    return proxy(
+        ZeebeDb.class,
+        (proxy, method, args) -> {
+          final var result = invoke(db, method, args);
+          if ("createColumnFamily".equals(method.getName())) {
+            return countingColumnFamily((ColumnFamily<?, ?>) result);
+          }
+          return result;
+        });
+  }
+
+  @Override
+  public ZeebeDb<ZbColumnFamilies> openSnapshotOnlyDb(final File path) {
+    return delegate.openSnapshotOnlyDb(path);
+  }
+
+  private ColumnFamily<?, ?> countingColumnFamily(final ColumnFamily<?, ?> columnFamily) {
+    return proxy(
+        ColumnFamily.class,
+        (proxy, method, args) -> {
+          if (READ_METHODS.contains(method.getName())) {
+            reads.increment();
+          } else if (WRITE_METHODS.contains(method.getName())) {
+            writes.increment();
+          }
+          return invoke(columnFamily, method, args);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T proxy(final Class<?> type, final InvocationHandler handler) {
+    return (T)
+        Proxy.newProxyInstance(
+            CountingZeebeDbFactory.class.getClassLoader(), new Class<?>[] {type}, handler);
+  }
+
+  private static Object invoke(final Object target, final Method method, final Object[] args)
+      throws Throwable {
+    try {
+      return method.invoke(target, args);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
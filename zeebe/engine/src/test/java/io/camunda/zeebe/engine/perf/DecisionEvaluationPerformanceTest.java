@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.DecisionEngineFactory;
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.dmn.impl.VariablesContext;
+import io.camunda.zeebe.engine.state.deployment.DecisionEvaluationCache;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a large decision table can be evaluated, with and without caching the results
+ * of previous evaluations. The evaluated input only matches the last rule, so every rule of the
+ * table is checked by an uncached evaluation.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DecisionEvaluationPerformanceTest {
+  private static final String DECISION_ID = "decision";
+  private static final int RULE_COUNT = 2_000;
+
+  private final DecisionEngine decisionEngine = DecisionEngineFactory.createDecisionEngine();
+
+  private ParsedDecisionRequirementsGraph drg;
+  private DecisionEvaluationCache evaluationCache;
+  private DirectBuffer variables;
+
+  @Setup
+  public void setup() {
+    final var resource = createDecisionTable(RULE_COUNT);
+    drg = decisionEngine.parse(new ByteArrayInputStream(resource));
+    evaluationCache = DecisionEvaluationCache.of(100, BufferUtil.wrapArray(resource));
+    variables =
+        new UnsafeBuffer(
+            MsgPackConverter.convertToMsgPack(
+                "{\"key\":\"key-%d\"}".formatted(RULE_COUNT - 1)));
+  }
+
+  @Benchmark
+  public DecisionEvaluationResult measureDecisionEvaluation() {
+    return evaluate();
+  }
+
+  @Benchmark
+  public DecisionEvaluationResult measureCachedDecisionEvaluation() {
+    return evaluationCache.getOrEvaluate(DECISION_ID, variables, this::evaluate);
+  }
+
+  @JMHTest("measureCachedDecisionEvaluation")
+  void shouldEvaluateCachedFasterThanUncached(final JMHTestCase testCase) {
+    // given - the uncached evaluation on the same machine, which checks every rule of the table
+    final var uncachedResult =
+        JMHTestCase.of(DecisionEvaluationPerformanceTest.class, "measureDecisionEvaluation").run();
+
+    // when
+    final var cachedResult = testCase.run();
+
+    // then
+    cachedResult.isAtLeastFactorOf(uncachedResult, 10);
+  }
+
+  private DecisionEvaluationResult evaluate() {
+    final var context = new VariablesContext(MsgPackConverter.convertToMap(variables));
+    return decisionEngine.evaluateDecisionById(drg, DECISION_ID, context);
+  }
+
+  private static byte[] createDecisionTable(final int ruleCount) {
+    final var rules = new StringBuilder();
+    for (int i = 0; i < ruleCount; i++) {
+      rules.append(
+          """
+          <rule id="rule-%1$d">
+            <inputEntry id="input-entry-%1$d"><text>"key-%1$d"</text></inputEntry>
+            <outputEntry id="output-entry-%1$d"><text>%1$d</text></outputEntry>
+          </rule>
+          """
+              .formatted(i));
+    }
+
+    return """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <definitions xmlns="https://www.omg.org/spec/DMN/20191111/MODEL/"
+            id="drg" name="DRG" namespace="http://camunda.org/schema/1.0/dmn">
+          <decision id="%s" name="Large decision table">
+            <decisionTable id="decision-table">
+              <input id="input">
+                <inputExpression id="input-expression" typeRef="string">
+                  <text>key</text>
+                </inputExpression>
+              </input>
+              <output id="output" name="result" typeRef="number" />
+              %s
+            </decisionTable>
+          </decision>
+        </definitions>
+        """
+        .formatted(DECISION_ID, rules)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+}
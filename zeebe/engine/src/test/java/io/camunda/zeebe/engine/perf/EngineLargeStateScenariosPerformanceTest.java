@@ -0,0 +1,387 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.engine.perf.TestEngine.TestContext;
+import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.intent.TimerIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
+import io.camunda.zeebe.test.util.AutoCloseableRule;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.rules.TemporaryFolder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the execution of a process instance for different kinds of large states, like {@link
+ * EngineLargeStatePerformanceTest} does for a single service task. Each {@link Scenario} deploys
+ * its own process and builds up the state by creating instances of it, which stay in a wait state.
+ * The size of the state can be changed via the {@code stateSize} parameter, e.g. {@code -p
+ * stateSize=2000000} to correlate messages with millions of open subscriptions.
+ *
+ * <p>Next to the throughput, {@link #measureLatency(DbOperations)} reports the percentiles (incl.
+ * p99) of the time it takes to execute a single instance. Both benchmarks report the number of
+ * reads and writes on the column families as secondary results ({@code dbReads} and {@code
+ * dbWrites}).
+ *
+ * <p>Unlike {@link EngineLargeStatePerformanceTest}, the scenarios are not run as JUnit tests, as
+ * there are no measured reference scores to compare them against yet.
+ */
+@Warmup(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 20, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class EngineLargeStateScenariosPerformanceTest {
+  public static final Logger LOG =
+      LoggerFactory.getLogger(EngineLargeStateScenariosPerformanceTest.class.getName());
+
+  private static final String PROCESS_ID = "process";
+  private static final String JOB_TYPE = "task";
+
+  @Param({
+    "MESSAGE_CORRELATION",
+    "TIMERS",
+    "DEEP_NESTING",
+    "WIDE_PARALLEL_GATEWAY",
+    "MULTI_INSTANCE",
+    "LARGE_VARIABLES"
+  })
+  public Scenario scenario;
+
+  /** The number of elements in the state, e.g. open subscriptions, timers or jobs */
+  @Param("100000")
+  public int stateSize;
+
+  private long count;
+  private CountingZeebeDbFactory zeebeDbFactory;
+  private ProcessInstanceClient processInstanceClient;
+  private PublishMessageClient publishMessageClient;
+  private TestContext testContext;
+  private TestEngine singlePartitionEngine;
+
+  @Setup
+  public void setup() throws Throwable {
+    testContext = createTestContext();
+    zeebeDbFactory = new CountingZeebeDbFactory(DefaultZeebeDbFactory.defaultFactory());
+
+    singlePartitionEngine = TestEngine.createSinglePartitionEngine(testContext, zeebeDbFactory);
+    processInstanceClient = singlePartitionEngine.createProcessInstanceClient();
+    publishMessageClient = singlePartitionEngine.createPublishMessageClient();
+
+    setupState();
+  }
+
+  /** Will build up the state of the scenario */
+  private void setupState() {
+    singlePartitionEngine
+        .createDeploymentClient()
+        .withXmlResource(scenario.createProcess())
+        .deploy();
+
+    final int instanceCount = Math.max(1, stateSize / scenario.elementsPerInstance);
+    LOG.info(
+        "Starting {} process instances of scenario {}, please hold the line...",
+        instanceCount,
+        scenario);
+    for (int i = 0; i < instanceCount; i++) {
+      scenario.createInstance(processInstanceClient, count);
+      count++;
+      RecordingExporter.reset();
+
+      if ((i % 10000) == 0) {
+        LOG.info("\t{} process instances already started.", i);
+        singlePartitionEngine.reset();
+      }
+    }
+
+    LOG.info("Started {} process instances.", count);
+  }
+
+  private TestContext createTestContext() throws IOException {
+    final var autoCloseableRule = new AutoCloseableRule();
+    final var temporaryFolder = new TemporaryFolder();
+    temporaryFolder.create();
+
+    // scheduler
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setActorClock(new DefaultActorClock());
+
+    final var actorScheduler = builder.build();
+    autoCloseableRule.manage(actorScheduler);
+    actorScheduler.start();
+    return new TestContext(actorScheduler, temporaryFolder, autoCloseableRule);
+  }
+
+  @TearDown
+  public void tearDown() {
+    LOG.info("Started {} process instances", count);
+    testContext.autoCloseableRule().after();
+  }
+
+  @Benchmark
+  public Record<?> measureThroughput(final DbOperations dbOperations) {
+    return executeInstance(dbOperations);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public Record<?> measureLatency(final DbOperations dbOperations) {
+    return executeInstance(dbOperations);
+  }
+
+  private Record<?> executeInstance(final DbOperations dbOperations) {
+    final long reads = zeebeDbFactory.reads();
+    final long writes = zeebeDbFactory.writes();
+
+    final long processInstanceKey = scenario.createInstance(processInstanceClient, count);
+    final Record<?> record =
+        scenario.awaitExecution(publishMessageClient, processInstanceKey, count);
+
+    dbOperations.dbReads += zeebeDbFactory.reads() - reads;
+    dbOperations.dbWrites += zeebeDbFactory.writes() - writes;
+
+    count++;
+    singlePartitionEngine.reset();
+    return record;
+  }
+
+  /** Counts the reads and writes on the column families during the executed instances. */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(org.openjdk.jmh.annotations.Scope.Thread)
+  public static class DbOperations {
+    public long dbReads;
+    public long dbWrites;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      dbReads = 0;
+      dbWrites = 0;
+    }
+  }
+
+  public enum Scenario {
+    /** Correlates a message to an instance, while many other instances await a message. */
+    MESSAGE_CORRELATION(1) {
+      @Override
+      BpmnModelInstance createProcess() {
+        return Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .intermediateCatchEvent(
+                "message",
+                c -> c.message(m -> m.name("message").zeebeCorrelationKeyExpression("key")))
+            .endEvent()
+            .done();
+      }
+
+      @Override
+      long createInstance(final ProcessInstanceClient client, final long id) {
+        return client.ofBpmnProcessId(PROCESS_ID).withVariable("key", "key-" + id).create();
+      }
+
+      @Override
+      Record<?> awaitExecution(
+          final PublishMessageClient client, final long processInstanceKey, final long id) {
+        client.withName("message").withCorrelationKey("key-" + id).publish();
+        return RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+            .withProcessInstanceKey(processInstanceKey)
+            .withElementType(BpmnElementType.PROCESS)
+            .getFirst();
+      }
+    },
+
+    /** Creates a timer, while many other timers are not due yet. */
+    TIMERS(1) {
+      @Override
+      BpmnModelInstance createProcess() {
+        return Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .intermediateCatchEvent("timer", c -> c.timerWithDuration("PT1H"))
+            .endEvent()
+            .done();
+      }
+
+      @Override
+      Record<?> awaitExecution(
+          final PublishMessageClient client, final long processInstanceKey, final long id) {
+        return RecordingExporter.timerRecords(TimerIntent.CREATED)
+            .withProcessInstanceKey(processInstanceKey)
+            .getFirst();
+      }
+    },
+
+    /** Activates a job which is nested in many embedded sub-processes. */
+    DEEP_NESTING(Scenario.NESTING_DEPTH + 1) {
+      @Override
+      BpmnModelInstance createProcess() {
+        AbstractFlowNodeBuilder<?, ?> builder =
+            Bpmn.createExecutableProcess(PROCESS_ID).startEvent();
+        for (int i = 0; i < NESTING_DEPTH; i++) {
+          builder = builder.subProcess("subprocess-" + i).embeddedSubProcess().startEvent();
+        }
+
+        builder = builder.serviceTask("task", t -> t.zeebeJobType(JOB_TYPE));
+        for (int i = 0; i < NESTING_DEPTH; i++) {
+          builder = builder.endEvent().subProcessDone();
+        }
+        return builder.endEvent().done();
+      }
+    },
+
+    /** Forks into many parallel service tasks. */
+    WIDE_PARALLEL_GATEWAY(Scenario.FAN_OUT) {
+      @Override
+      BpmnModelInstance createProcess() {
+        AbstractFlowNodeBuilder<?, ?> builder =
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .parallelGateway("fork")
+                .serviceTask("task-0", t -> t.zeebeJobType(JOB_TYPE))
+                .parallelGateway("join");
+        for (int i = 1; i < FAN_OUT; i++) {
+          builder =
+              builder
+                  .moveToNode("fork")
+                  .serviceTask("task-" + i, t -> t.zeebeJobType(JOB_TYPE))
+                  .connectTo("join");
+        }
+        return builder.moveToNode("join").endEvent().done();
+      }
+
+      @Override
+      Record<?> awaitExecution(
+          final PublishMessageClient client, final long processInstanceKey, final long id) {
+        return awaitJobs(processInstanceKey, FAN_OUT);
+      }
+    },
+
+    /** Creates a job for each element of a large input collection. */
+    MULTI_INSTANCE(Scenario.FAN_OUT) {
+      @Override
+      BpmnModelInstance createProcess() {
+        return Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .serviceTask(
+                "task",
+                t ->
+                    t.zeebeJobType(JOB_TYPE)
+                        .multiInstance(
+                            m ->
+                                m.parallel()
+                                    .zeebeInputCollectionExpression("items")
+                                    .zeebeInputElement("item")))
+            .endEvent()
+            .done();
+      }
+
+      @Override
+      long createInstance(final ProcessInstanceClient client, final long id) {
+        return client
+            .ofBpmnProcessId(PROCESS_ID)
+            .withVariable("items", IntStream.range(0, FAN_OUT).boxed().toList())
+            .create();
+      }
+
+      @Override
+      Record<?> awaitExecution(
+          final PublishMessageClient client, final long processInstanceKey, final long id) {
+        return awaitJobs(processInstanceKey, FAN_OUT);
+      }
+    },
+
+    /** Activates a job of an instance with a large variable document. */
+    LARGE_VARIABLES(Scenario.LARGE_VARIABLES_WEIGHT) {
+      @Override
+      long createInstance(final ProcessInstanceClient client, final long id) {
+        return client.ofBpmnProcessId(PROCESS_ID).withVariables(LARGE_VARIABLES_DOCUMENT).create();
+      }
+    };
+
+    private static final int NESTING_DEPTH = 20;
+    private static final int FAN_OUT = 100;
+    private static final int LARGE_VARIABLES_WEIGHT = 10;
+    private static final Map<String, Object> LARGE_VARIABLES_DOCUMENT = createLargeVariables();
+
+    /** Used to scale the number of created instances to the size of the state */
+    private final int elementsPerInstance;
+
+    Scenario(final int elementsPerInstance) {
+      this.elementsPerInstance = elementsPerInstance;
+    }
+
+    BpmnModelInstance createProcess() {
+      return Bpmn.createExecutableProcess(PROCESS_ID)
+          .startEvent()
+          .serviceTask("task", t -> t.zeebeJobType(JOB_TYPE))
+          .endEvent()
+          .done();
+    }
+
+    long createInstance(final ProcessInstanceClient client, final long id) {
+      return client.ofBpmnProcessId(PROCESS_ID).create();
+    }
+
+    Record<?> awaitExecution(
+        final PublishMessageClient client, final long processInstanceKey, final long id) {
+      return awaitJobs(processInstanceKey, 1);
+    }
+
+    private static Record<?> awaitJobs(final long processInstanceKey, final int jobCount) {
+      return RecordingExporter.jobRecords(JobIntent.CREATED)
+          .withType(JOB_TYPE)
+          .withProcessInstanceKey(processInstanceKey)
+          .skip(jobCount - 1)
+          .getFirst();
+    }
+
+    private static Map<String, Object> createLargeVariables() {
+      // 100 variables with 1 KiB each
+      final var variables = new HashMap<String, Object>();
+      final String value = "x".repeat(1024);
+      for (int i = 0; i < 100; i++) {
+        variables.put("variable-" + i, value);
+      }
+      return variables;
+    }
+  }
+}
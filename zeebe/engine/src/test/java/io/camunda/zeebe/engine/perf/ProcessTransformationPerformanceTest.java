@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.perf;
+
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.CachingExpressionLanguage;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.engine.processing.deployment.transform.BpmnValidator;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.builder.AbstractFlowNodeBuilder;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast a large process can be validated and transformed when it is deployed, with and
+ * without sharing the parsed expressions between the validator and the transformer. Like most
+ * real-world processes, the tasks of the process use the same expressions over and over again.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ProcessTransformationPerformanceTest {
+  private static final int TASK_COUNT = 500;
+  private static final ControlledActorClock CLOCK = new ControlledActorClock();
+
+  private final CachingExpressionLanguage cachingExpressionLanguage =
+      new CachingExpressionLanguage(BpmnFactory.createExpressionLanguage(CLOCK));
+  private final BpmnValidator cachingValidator =
+      BpmnFactory.createValidator(cachingExpressionLanguage);
+  private final BpmnTransformer cachingTransformer =
+      new BpmnTransformer(cachingExpressionLanguage);
+
+  private BpmnValidator validator;
+  private BpmnTransformer transformer;
+  private BpmnModelInstance process;
+
+  @Setup
+  public void setup() {
+    final ExpressionLanguage expressionLanguage =
+        BpmnFactory.createExpressionLanguage(CLOCK);
+    validator = BpmnFactory.createValidator(expressionLanguage);
+    transformer = new BpmnTransformer(expressionLanguage);
+    process = createProcess(TASK_COUNT);
+  }
+
+  @Benchmark
+  public List<ExecutableProcess> measureProcessTransformation() {
+    validator.validate(process);
+    return transformer.transformDefinitions(process);
+  }
+
+  @Benchmark
+  public List<ExecutableProcess> measureCachedProcessTransformation() {
+    try {
+      cachingValidator.validate(process);
+      return cachingTransformer.transformDefinitions(process);
+    } finally {
+      cachingExpressionLanguage.clear();
+    }
+  }
+
+  @JMHTest("measureCachedProcessTransformation")
+  void shouldTransformCachedAtLeastAsFastAsUncached(final JMHTestCase testCase) {
+    // given - the uncached run on the same machine, which parses the expressions of every task in
+    // the validator and again in the transformer
+    final var uncachedResult =
+        JMHTestCase.of(ProcessTransformationPerformanceTest.class, "measureProcessTransformation")
+            .run();
+
+    // when
+    final var cachedResult = testCase.run();
+
+    // then - sharing the parsed expressions must not make the deployment slower
+    cachedResult.isAtLeastFactorOf(uncachedResult, 1);
+  }
+
+  private static BpmnModelInstance createProcess(final int taskCount) {
+    AbstractFlowNodeBuilder<?, ?> builder =
+        Bpmn.createExecutableProcess("process").startEvent("start");
+    for (int i = 0; i < taskCount; i++) {
+      builder =
+          builder.serviceTask(
+              "task-" + i,
+              t ->
+                  t.zeebeJobTypeExpression("\"task-\" + taskType")
+                      .zeebeJobRetriesExpression("retries")
+                      .zeebeInputExpression("order.id", "orderId")
+                      .zeebeInputExpression("order.items[amount > 100]", "largeItems")
+                      .zeebeOutputExpression("result.status", "status"));
+    }
+    return builder.endEvent("end").done();
+  }
+}
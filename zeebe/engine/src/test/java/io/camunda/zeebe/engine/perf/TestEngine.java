@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.perf;
 
+import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
@@ -17,6 +18,8 @@ import io.camunda.zeebe.engine.util.TestInterPartitionCommandSender;
 import io.camunda.zeebe.engine.util.TestStreams;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
+import io.camunda.zeebe.engine.util.client.PublishMessageClient;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
 import io.camunda.zeebe.test.util.AutoCloseableRule;
@@ -34,7 +37,10 @@ public final class TestEngine {
   private final int partitionCount;
 
   private TestEngine(
-      final int partitionId, final int partitionCount, final TestContext testContext) {
+      final int partitionId,
+      final int partitionCount,
+      final TestContext testContext,
+      final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
     this.partitionCount = partitionCount;
 
     testStreams =
@@ -56,7 +62,7 @@ public final class TestEngine {
         new StreamProcessingComposite(
             testStreams,
             partitionId,
-            DefaultZeebeDbFactory.defaultFactory(),
+            zeebeDbFactory,
             testContext.actorScheduler());
 
     final var interPartitionCommandSenders = new ArrayList<TestInterPartitionCommandSender>();
@@ -94,8 +100,17 @@ public final class TestEngine {
     return new ProcessInstanceClient(streamProcessingComposite);
   }
 
+  public PublishMessageClient createPublishMessageClient() {
+    return new PublishMessageClient(streamProcessingComposite, partitionCount);
+  }
+
   public static TestEngine createSinglePartitionEngine(final TestContext testContext) {
-    return new TestEngine(1, 1, testContext);
+    return createSinglePartitionEngine(testContext, DefaultZeebeDbFactory.defaultFactory());
+  }
+
+  public static TestEngine createSinglePartitionEngine(
+      final TestContext testContext, final ZeebeDbFactory<ZbColumnFamilies> zeebeDbFactory) {
+    return new TestEngine(1, 1, testContext, zeebeDbFactory);
   }
 
   public void reset() {
@@ -113,6 +113,30 @@ public class DeploymentRejectionTest {
         .hasRejectionType(RejectionType.INVALID_ARGUMENT);
   }
 
+  @Test
+  public void shouldRejectDeploymentWithFailuresOfAllInvalidResources() {
+    // given
+    final var validProcess = Bpmn.createExecutableProcess("valid").startEvent().done();
+    final var invalidProcess = Bpmn.createExecutableProcess("invalid").done();
+
+    // when
+    final Record<DeploymentRecordValue> rejectedDeployment =
+        ENGINE
+            .deployment()
+            .withXmlResource("invalid1.bpmn", invalidProcess)
+            .withXmlResource("valid.bpmn", validProcess)
+            .withXmlResource("invalid2.bpmn", invalidProcess)
+            .withXmlResource("text".getBytes(UTF_8), "invalid3.txt")
+            .expectRejection()
+            .deploy();
+
+    // then - the failures are reported in the order of the resources
+    final var rejectionReason = rejectedDeployment.getRejectionReason();
+    assertThat(rejectionReason)
+        .containsSubsequence("'invalid1.bpmn'", "'invalid2.bpmn'", "'invalid3.txt'")
+        .doesNotContain("'valid.bpmn'");
+  }
+
   @Test
   public void shouldRejectDeploymentIfNoResources() {
     // when
@@ -31,6 +31,7 @@ import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -227,6 +228,29 @@ public final class ProcessDeploymentTest {
             tuple(DeploymentIntent.CREATED, RecordType.EVENT));
   }
 
+  @Test
+  public void shouldCreateDeploymentWithManyResourcesInOrder() {
+    // given
+    final var deploymentClient = ENGINE.deployment();
+    final var processIds =
+        IntStream.range(0, 10).mapToObj(i -> Strings.newRandomValidBpmnId()).toList();
+    processIds.forEach(
+        id -> deploymentClient.withXmlResource(id + ".bpmn", createProcess(id, "start")));
+
+    // when
+    final Record<DeploymentRecordValue> deployment = deploymentClient.deploy();
+
+    // then - the resources are parsed in parallel, but transformed in their order
+    assertThat(deployment.getValue().getProcessesMetadata())
+        .extracting(ProcessMetadataValue::getBpmnProcessId)
+        .containsExactlyElementsOf(processIds);
+    assertThat(
+            RecordingExporter.processRecords(ProcessIntent.CREATED)
+                .limit(processIds.size())
+                .map(record -> record.getValue().getBpmnProcessId()))
+        .containsExactlyElementsOf(processIds);
+  }
+
   @Test
   public void shouldWriteProcessRecordsOnDeployment() {
     // given
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.Expression;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableJobWorkerTask;
+import io.camunda.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import org.junit.jupiter.api.Test;
+
+final class CachingExpressionLanguageTest {
+
+  private final CachingExpressionLanguage expressionLanguage =
+      new CachingExpressionLanguage(
+          BpmnFactory.createExpressionLanguage(new ControlledActorClock()));
+
+  @Test
+  void shouldReuseParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var reparsedExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(reparsedExpression).isSameAs(expression);
+    assertThat(expressionLanguage.size()).isOne();
+  }
+
+  @Test
+  void shouldCacheInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x +");
+
+    // when
+    final var reparsedExpression = expressionLanguage.parseExpression("=x +");
+
+    // then
+    assertThat(reparsedExpression).isSameAs(expression);
+    assertThat(reparsedExpression.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldParseExpressionAgainAfterClear() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    expressionLanguage.clear();
+
+    // then
+    assertThat(expressionLanguage.size()).isZero();
+    assertThat(expressionLanguage.parseExpression("=x + 1"))
+        .isNotSameAs(expression)
+        .extracting(Expression::getExpression)
+        .isEqualTo(expression.getExpression());
+  }
+
+  @Test
+  void shouldShareExpressionsBetweenValidatorAndTransformer() {
+    // given
+    final var validator = BpmnFactory.createValidator(expressionLanguage);
+    final var transformer = new BpmnTransformer(expressionLanguage);
+    final var process =
+        Bpmn.createExecutableProcess("process")
+            .startEvent()
+            .serviceTask("task", t -> t.zeebeJobTypeExpression("jobType"))
+            .endEvent()
+            .done();
+
+    assertThat(validator.validate(process)).isNull();
+    final var parsedExpressions = expressionLanguage.size();
+    final var jobType = expressionLanguage.parseExpression("=jobType");
+    assertThat(expressionLanguage.size())
+        .describedAs("Expected the validator to have parsed the job type")
+        .isEqualTo(parsedExpressions);
+
+    // when
+    final var executableProcess = transformer.transformDefinitions(process).get(0);
+
+    // then
+    assertThat(
+            executableProcess
+                .getElementById("task", ExecutableJobWorkerTask.class)
+                .getJobWorkerProperties()
+                .getType())
+        .isSameAs(jobType);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.deployment.transform;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.state.deployment.CompactBpmnResourceFormat;
+import io.camunda.zeebe.engine.state.immutable.ProcessState;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
+import io.camunda.zeebe.protocol.record.intent.ProcessIntent;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+final class BpmnResourceTransformerTest {
+
+  private static final long PROCESS_KEY = 1L;
+
+  private final KeyGenerator keyGenerator = mock(KeyGenerator.class);
+  private final StateWriter stateWriter = mock(StateWriter.class);
+  private final ProcessState processState = mock(ProcessState.class);
+  private final DeploymentRecord deployment = new DeploymentRecord();
+
+  private BpmnResourceTransformer transformer;
+
+  @BeforeEach
+  void setup() {
+    when(keyGenerator.nextKey()).thenReturn(PROCESS_KEY);
+    when(processState.getNextProcessVersion("process", deployment.getTenantId())).thenReturn(1);
+    transformer =
+        new BpmnResourceTransformer(
+            keyGenerator, stateWriter, resource -> wrapString("checksum"), processState, false);
+
+    deployment
+        .resources()
+        .add()
+        .setResourceName("process.bpmn")
+        .setResource(
+            Bpmn.convertToString(
+                    Bpmn.createExecutableProcess("process").startEvent().endEvent().done())
+                .getBytes());
+  }
+
+  @Test
+  void shouldAddCompactResourceToProcessRecord() {
+    // given
+    when(stateWriter.canWriteEventOfLength(anyInt())).thenReturn(true);
+
+    // when
+    transform();
+
+    // then
+    final var processRecord = createdProcessRecord();
+    assertThat(processRecord.getCompactResourceVersion())
+        .isEqualTo(CompactBpmnResourceFormat.VERSION);
+    assertThat(processRecord.getCompactResourceBuffer().capacity())
+        .isPositive()
+        .isLessThan(processRecord.getResourceBuffer().capacity());
+  }
+
+  @Test
+  void shouldLeaveOutCompactResourceIfDeploymentDoesNotFitIntoBatch() {
+    // given
+    when(stateWriter.canWriteEventOfLength(anyInt())).thenReturn(false);
+
+    // when
+    transform();
+
+    // then
+    final var processRecord = createdProcessRecord();
+    assertThat(processRecord.getCompactResourceVersion()).isZero();
+    assertThat(processRecord.getCompactResourceBuffer().capacity()).isZero();
+    assertThat(processRecord.getResourceBuffer())
+        .isEqualTo(deployment.resources().iterator().next().getResourceBuffer());
+  }
+
+  private void transform() {
+    final var resource = deployment.resources().iterator().next();
+    final var result =
+        transformer.parseResource(resource).flatMap(parsed -> parsed.transformResource(deployment));
+    assertThat(result.isRight()).describedAs("Expected transformation to succeed").isTrue();
+  }
+
+  private ProcessRecord createdProcessRecord() {
+    final var captor = ArgumentCaptor.forClass(ProcessRecord.class);
+    verify(stateWriter)
+        .appendFollowUpEvent(eq(PROCESS_KEY), eq(ProcessIntent.CREATED), captor.capture());
+    return captor.getValue();
+  }
+}
@@ -23,6 +23,7 @@ import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
 import io.camunda.zeebe.test.util.Strings;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
@@ -68,6 +69,20 @@ public final class JobTimeOutTest {
         .containsExactly(JobIntent.CREATED, JobIntent.TIME_OUT, JobIntent.TIMED_OUT);
   }
 
+  @Test
+  public void shouldTimeOutJobAtDeadline() {
+    // given
+    final long jobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final Duration timeout = Duration.ofSeconds(5);
+    ENGINE.jobs().withType(jobType).withTimeout(timeout.toMillis()).activate();
+
+    // when - well before the next polling interval
+    ENGINE.increaseTime(timeout.plusSeconds(1));
+
+    // then
+    assertThat(jobRecords(TIME_OUT).withRecordKey(jobKey).getFirst().getKey()).isEqualTo(jobKey);
+  }
+
   @Test
   public void shouldTimeOutAfterReprocessing() {
     // given
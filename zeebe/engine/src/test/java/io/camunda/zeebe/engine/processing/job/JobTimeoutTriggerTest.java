@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.util.function.BiPredicate;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+final class JobTimeoutTriggerTest {
+
+  private static final long FIRST_JOB_KEY = 1L;
+  private static final long SECOND_JOB_KEY = 2L;
+
+  private final JobRecord firstJob = new JobRecord().setDeadline(10L);
+  private final JobRecord secondJob = new JobRecord().setDeadline(20L);
+
+  @Test
+  void shouldContinueAtFirstJobWhichDidNotFitIntoTheResult() {
+    // given
+    final var jobState = mock(JobState.class);
+    when(jobState.forEachTimedOutEntry(anyLong(), anyLong(), anyLong(), any()))
+        .thenAnswer(visitJobs())
+        .thenAnswer(visitJobs(SECOND_JOB_KEY, secondJob))
+        .thenReturn(-1L);
+
+    final var taskResultBuilder = mock(TaskResultBuilder.class);
+    when(taskResultBuilder.appendCommandRecord(anyLong(), any(), any()))
+        .thenReturn(true)
+        .thenReturn(false)
+        .thenReturn(true);
+
+    final var trigger = new JobTimeoutTrigger(jobState);
+
+    // when
+    trigger.deactivateTimedOutJobs(taskResultBuilder);
+    trigger.deactivateTimedOutJobs(taskResultBuilder);
+    trigger.deactivateTimedOutJobs(taskResultBuilder);
+
+    // then
+    final var inOrder = inOrder(jobState);
+    inOrder.verify(jobState).forEachTimedOutEntry(anyLong(), eq(-1L), eq(-1L), any());
+    inOrder
+        .verify(jobState)
+        .forEachTimedOutEntry(anyLong(), eq(20L), eq(SECOND_JOB_KEY), any());
+    inOrder.verify(jobState).forEachTimedOutEntry(anyLong(), eq(-1L), eq(-1L), any());
+
+    verify(taskResultBuilder)
+        .appendCommandRecord(eq(FIRST_JOB_KEY), eq(JobIntent.TIME_OUT), eq(firstJob));
+    verify(taskResultBuilder, times(2))
+        .appendCommandRecord(eq(SECOND_JOB_KEY), eq(JobIntent.TIME_OUT), eq(secondJob));
+  }
+
+  @Test
+  void shouldCheckAgainSoonWhenResultIsFull() {
+    // given
+    final var jobState = mock(JobState.class);
+    when(jobState.forEachTimedOutEntry(anyLong(), anyLong(), anyLong(), any()))
+        .thenAnswer(visitJobs());
+
+    final var taskResultBuilder = mock(TaskResultBuilder.class);
+    when(taskResultBuilder.appendCommandRecord(anyLong(), any(), any()))
+        .thenReturn(true)
+        .thenReturn(false);
+
+    final var trigger = new JobTimeoutTrigger(jobState);
+
+    // when
+    final long nextCheck = trigger.deactivateTimedOutJobs(taskResultBuilder);
+
+    // then
+    assertThat(nextCheck).isEqualTo(secondJob.getDeadline() + 1);
+  }
+
+  /**
+   * Simulates the job state: visits the given jobs, or both jobs if none are given, until the
+   * callback returns false, and returns the deadline of the first job which was not consumed.
+   */
+  private Answer<Long> visitJobs(final Object... keysAndJobs) {
+    final Object[] jobs =
+        keysAndJobs.length > 0
+            ? keysAndJobs
+            : new Object[] {FIRST_JOB_KEY, firstJob, SECOND_JOB_KEY, secondJob};
+
+    return invocation -> {
+      final BiPredicate<Long, JobRecord> callback = invocation.getArgument(3);
+      for (int i = 0; i < jobs.length; i += 2) {
+        final var job = (JobRecord) jobs[i + 1];
+        if (!callback.test((Long) jobs[i], job)) {
+          return job.getDeadline();
+        }
+      }
+      return -1L;
+    };
+  }
+}
@@ -16,11 +16,14 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
 import io.camunda.zeebe.stream.impl.records.RecordBatchEntry;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
 import org.junit.Test;
@@ -29,8 +32,9 @@ import org.mockito.Mockito;
 public final class MessageBatchExpireProcessorTest {
 
   private final StateWriter stateWriter = Mockito.mock(StateWriter.class);
+  private final KeyGenerator keyGenerator = Mockito.mock(KeyGenerator.class);
   final MessageBatchExpireProcessor messageBatchExpireProcessor =
-      new MessageBatchExpireProcessor(stateWriter);
+      new MessageBatchExpireProcessor(stateWriter, keyGenerator, false);
 
   @Test
   public void shouldStopProcessingWhenExceedingBatchLimit() {
@@ -59,4 +63,22 @@ public final class MessageBatchExpireProcessorTest {
     // then
     verify(stateWriter, times(3)).appendFollowUpEvent(anyLong(), any(), any());
   }
+
+  @Test
+  public void shouldExpireMessagesWithSingleEventIfBatchExpiryIsEnabled() {
+    // given
+    final var batchExpireProcessor =
+        new MessageBatchExpireProcessor(stateWriter, keyGenerator, true);
+    final var messageBatchRecord =
+        new MessageBatchRecord().addMessageKey(1).addMessageKey(2).addMessageKey(3);
+    when(keyGenerator.nextKey()).thenReturn(10L);
+
+    // when
+    batchExpireProcessor.processRecord(
+        new UnwrittenRecord(-1, 1, messageBatchRecord, new RecordMetadata()));
+
+    // then
+    verify(stateWriter).appendFollowUpEvent(10L, MessageBatchIntent.EXPIRED, messageBatchRecord);
+    verify(stateWriter, times(1)).appendFollowUpEvent(anyLong(), any(), any());
+  }
 }
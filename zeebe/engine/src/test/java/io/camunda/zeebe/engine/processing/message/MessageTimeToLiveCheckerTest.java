@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.protocol.record.intent.MessageBatchIntent;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class MessageTimeToLiveCheckerTest {
+
+  private static final Duration EXECUTION_INTERVAL = Duration.ofMinutes(1);
+
+  private MutableProcessingState processingState;
+  private MutableMessageState messageState;
+
+  private final ProcessingScheduleService scheduleService = mock(ProcessingScheduleService.class);
+  private final TaskResultBuilder taskResultBuilder = mock(TaskResultBuilder.class);
+
+  @BeforeEach
+  void setup() {
+    messageState = processingState.getMessageState();
+    messageState.put(1L, createMessage("a", 1_000L));
+    messageState.put(2L, createMessage("b", 2_000L));
+    messageState.put(3L, createMessage("c", 3_000L));
+  }
+
+  @Test
+  void shouldExpireAllMessagesWithinBudget() {
+    // given
+    final var checker = createChecker(Duration.ofMinutes(1));
+
+    // when
+    checker.execute(taskResultBuilder);
+
+    // then
+    final var records = ArgumentCaptor.forClass(MessageBatchRecord.class);
+    verify(taskResultBuilder).appendCommandRecord(eq(MessageBatchIntent.EXPIRE), records.capture());
+    assertThat(records.getValue().getMessageKeys()).containsExactly(1L, 2L, 3L);
+    verify(scheduleService).runDelayed(EXECUTION_INTERVAL, checker);
+  }
+
+  @Test
+  void shouldContinueWhereLeftOffWhenBudgetIsExceeded() {
+    // given
+    // without any budget, each execution stops after the first expired message it visits
+    final var checker = createChecker(Duration.ZERO);
+
+    // when
+    checker.execute(taskResultBuilder);
+    checker.execute(taskResultBuilder);
+    checker.execute(taskResultBuilder);
+    checker.execute(taskResultBuilder);
+
+    // then
+    final var records = ArgumentCaptor.forClass(MessageBatchRecord.class);
+    verify(taskResultBuilder, times(3))
+        .appendCommandRecord(eq(MessageBatchIntent.EXPIRE), records.capture());
+    assertThat(records.getAllValues())
+        .extracting(MessageBatchRecord::getMessageKeys)
+        .containsExactly(List.of(1L), List.of(2L), List.of(3L));
+
+    final var inOrder = inOrder(scheduleService);
+    inOrder.verify(scheduleService, times(3)).runDelayed(Duration.ZERO, checker);
+    inOrder.verify(scheduleService).runDelayed(EXECUTION_INTERVAL, checker);
+  }
+
+  private MessageTimeToLiveChecker createChecker(final Duration timeBudget) {
+    return new MessageTimeToLiveChecker(
+        EXECUTION_INTERVAL, Integer.MAX_VALUE, timeBudget, false, scheduleService, messageState);
+  }
+
+  private MessageRecord createMessage(final String name, final long deadline) {
+    return new MessageRecord()
+        .setName(name)
+        .setCorrelationKey("correlationKey")
+        .setTimeToLive(10_000L)
+        .setDeadline(deadline);
+  }
+}
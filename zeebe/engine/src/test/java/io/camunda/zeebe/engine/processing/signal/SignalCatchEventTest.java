@@ -21,6 +21,7 @@ import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.intent.SignalSubscriptionIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.DeploymentRecordValue;
 import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
@@ -290,4 +291,92 @@ public class SignalCatchEventTest {
         .contains(
             "ERROR: Multiple signal event definitions with the same name 'signal' are not allowed.");
   }
+
+  @Test
+  public void shouldTriggerSubscriptionsInChunks() {
+    // given
+    final var process =
+        Bpmn.createExecutableProcess(PROCESS_ID)
+            .startEvent()
+            .intermediateCatchEvent(ELEMENT_ID)
+            .signal(SIGNAL_NAME)
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final int instances = SignalSubscriptionTrigger.CHUNK_SIZE * 2 + 1;
+    for (int i = 0; i < instances; i++) {
+      ENGINE.processInstance().ofBpmnProcessId(PROCESS_ID).create();
+    }
+
+    assertThat(
+            RecordingExporter.signalSubscriptionRecords(SignalSubscriptionIntent.CREATED)
+                .withSignalName(SIGNAL_NAME)
+                .limit(instances))
+        .hasSize(instances);
+
+    // when
+    signalClient.broadcast();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withBpmnProcessId(PROCESS_ID)
+                .withElementType(BpmnElementType.PROCESS)
+                .limit(instances))
+        .hasSize(instances);
+  }
+
+  @Test
+  public void shouldNotTriggerSubscriptionsOpenedDuringBroadcast() {
+    // given
+    final var signalName = "chunked-signal";
+    final var process =
+        Bpmn.createExecutableProcess("chunked-signal-process")
+            .startEvent()
+            .intermediateCatchEvent("first-catch")
+            .signal(signalName)
+            .intermediateCatchEvent("second-catch")
+            .signal(signalName)
+            .endEvent()
+            .done();
+
+    ENGINE.deployment().withXmlResource(process).deploy();
+
+    final int instances = SignalSubscriptionTrigger.CHUNK_SIZE * 4 + 1;
+    for (int i = 0; i < instances; i++) {
+      ENGINE.processInstance().ofBpmnProcessId("chunked-signal-process").create();
+    }
+
+    assertThat(
+            RecordingExporter.signalSubscriptionRecords(SignalSubscriptionIntent.CREATED)
+                .withSignalName(signalName)
+                .limit(instances))
+        .hasSize(instances);
+
+    // when
+    ENGINE.signal().withSignalName(signalName).broadcast();
+
+    // then
+    // the instances which were triggered by the first chunks open their second subscription
+    // while the broadcast continues with the remaining chunks
+    assertThat(
+            RecordingExporter.signalSubscriptionRecords(SignalSubscriptionIntent.CREATED)
+                .withSignalName(signalName)
+                .withCatchEventId("second-catch")
+                .limit(instances))
+        .hasSize(instances);
+
+    // deploy an empty deployment, so we can use the position to limit the recorded stream
+    final var position = ENGINE.deployment().expectRejection().deploy().getPosition();
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getPosition() >= position)
+                .processInstanceRecords()
+                .withElementId("second-catch")
+                .withIntent(ProcessInstanceIntent.ELEMENT_COMPLETED))
+        .describedAs("Expect that the subscriptions opened during the broadcast are not triggered")
+        .isEmpty();
+  }
 }
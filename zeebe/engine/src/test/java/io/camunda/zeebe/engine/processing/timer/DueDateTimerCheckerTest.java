@@ -17,6 +17,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
+import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerBudgetDecorator;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.TriggerTimersSideEffect;
 import io.camunda.zeebe.engine.processing.timer.DueDateTimerChecker.YieldingDecorator;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
@@ -27,6 +29,9 @@ import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -35,6 +40,9 @@ import org.mockito.Mockito;
 
 class DueDateTimerCheckerTest {
 
+  private static final int TRIGGER_BUDGET = Integer.MAX_VALUE;
+  private static final TimerMetrics TIMER_METRICS = new TimerMetrics(1);
+
   @Nested
   final class TriggerTimersSideEffectTest {
 
@@ -61,7 +69,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, testActorClock, true, TRIGGER_BUDGET, TIMER_METRICS);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -103,7 +113,9 @@ class DueDateTimerCheckerTest {
           new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
               mockTimer, testActorClock);
 
-      final var sut = new TriggerTimersSideEffect(testTimerInstanceState, testActorClock, true);
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, testActorClock, true, TRIGGER_BUDGET, TIMER_METRICS);
 
       // when
       sut.apply(mockTaskResultBuilder);
@@ -112,6 +124,118 @@ class DueDateTimerCheckerTest {
       verify(mockTaskResultBuilder, times(2))
           .appendCommandRecord(eq(timerKey), eq(TimerIntent.TRIGGER), any());
     }
+
+    @Test
+    void shouldAbortIterationWhenTriggerBudgetIsExhausted() {
+      // given
+      final var mockTaskResultBuilder = mock(TaskResultBuilder.class);
+      when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+      final var mockTimer = mock(TimerInstance.class, Mockito.RETURNS_DEEP_STUBS);
+      final var timerKey = 42L;
+      when(mockTimer.getKey()).thenReturn(timerKey);
+      when(mockTimer.getTenantId()).thenReturn(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+      final var testActorClock = new TestActorClock();
+
+      final var testTimerInstanceState =
+          new TestTimerInstanceStateThatSimulatesAnEndlessListOfDueTimers(
+              mockTimer, testActorClock);
+
+      final var sut =
+          new TriggerTimersSideEffect(
+              testTimerInstanceState, testActorClock, false, 3, TIMER_METRICS);
+
+      // when
+      sut.apply(mockTaskResultBuilder);
+
+      // then
+      verify(mockTaskResultBuilder, times(3))
+          .appendCommandRecord(eq(timerKey), eq(TimerIntent.TRIGGER), any());
+    }
+
+    @Test
+    void shouldContinueAtFirstTimerWhichWasNotTriggered() {
+      // given
+      final var mockTaskResultBuilder = mock(TaskResultBuilder.class);
+      when(mockTaskResultBuilder.appendCommandRecord(anyLong(), any(), any())).thenReturn(true);
+
+      final var testActorClock = new TestActorClock();
+      testActorClock.setTime(1000L);
+
+      // more timers with the same due date than a single run may trigger
+      final var triggerBudget = 2;
+      final var timerInstanceState = new TestTimerInstanceStateWithOrderedTimers();
+      for (long key = 1; key <= 5; key++) {
+        timerInstanceState.add(key, 500L);
+      }
+      timerInstanceState.add(6L, 2000L);
+
+      final var sut =
+          new TriggerTimersSideEffect(
+              timerInstanceState, testActorClock, false, triggerBudget, TIMER_METRICS);
+
+      // when
+      final var nextDueDates =
+          List.of(
+              sut.apply(mockTaskResultBuilder),
+              sut.apply(mockTaskResultBuilder),
+              sut.apply(mockTaskResultBuilder));
+
+      // then
+      assertThat(nextDueDates).containsExactly(500L, 500L, 2000L);
+      for (long key = 1; key <= 5; key++) {
+        verify(mockTaskResultBuilder).appendCommandRecord(eq(key), eq(TimerIntent.TRIGGER), any());
+      }
+      verify(mockTaskResultBuilder, times(5))
+          .appendCommandRecord(anyLong(), eq(TimerIntent.TRIGGER), any());
+    }
+  }
+
+  @Nested
+  final class TriggerBudgetDecoratorTest {
+
+    private TimerInstance mockTimer;
+    private TimerVisitor mockDelegate;
+
+    @BeforeEach
+    void setUpMocks() {
+      // given
+      mockTimer = mock(TimerInstance.class);
+
+      mockDelegate = mock(TimerVisitor.class);
+      when(mockDelegate.visit(any())).thenReturn(true);
+    }
+
+    @Test
+    void shouldNotForwardCallToDelegateWhenBudgetIsExhausted() {
+      // given
+      final var sut = new TriggerBudgetDecorator(2, mockDelegate);
+      sut.visit(mockTimer);
+      sut.visit(mockTimer);
+
+      // when
+      final var actual = sut.visit(mockTimer);
+
+      // then
+      assertThat(actual).isFalse();
+      verify(mockDelegate, times(2)).visit(mockTimer);
+    }
+
+    @Test
+    void shouldNotCountTimersWhichWereNotTriggered() {
+      // given
+      when(mockDelegate.visit(any())).thenReturn(false).thenReturn(true);
+      final var sut = new TriggerBudgetDecorator(1, mockDelegate);
+      sut.visit(mockTimer);
+
+      // when
+      final var actual = sut.visit(mockTimer);
+
+      // then
+      assertThat(actual).isTrue();
+      verify(mockDelegate, times(2)).visit(mockTimer);
+    }
   }
 
   @Nested
@@ -222,6 +346,16 @@ class DueDateTimerCheckerTest {
 
     @Override
     public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+      return processTimersWithDueDateBefore(timestamp, -1L, -1L, -1L, consumer);
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(
+        final long timestamp,
+        final long startAtDueDate,
+        final long startAtElementInstanceKey,
+        final long startAtTimerKey,
+        final TimerVisitor consumer) {
       var yield = false;
 
       while (!yield) {
@@ -240,4 +374,58 @@ class DueDateTimerCheckerTest {
       return null;
     }
   }
+
+  /** Keeps the timers ordered like the state, by their due date, element instance key and key. */
+  private static final class TestTimerInstanceStateWithOrderedTimers
+      implements TimerInstanceState {
+
+    private static final Comparator<TimerInstance> ORDER =
+        Comparator.comparingLong(TimerInstance::getDueDate)
+            .thenComparingLong(TimerInstance::getElementInstanceKey)
+            .thenComparingLong(TimerInstance::getKey);
+
+    private final TreeSet<TimerInstance> timers = new TreeSet<>(ORDER);
+
+    private void add(final long key, final long dueDate) {
+      final var timer = new TimerInstance();
+      timer.setKey(key);
+      timer.setElementInstanceKey(key);
+      timer.setDueDate(dueDate);
+      timers.add(timer);
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+      return processTimersWithDueDateBefore(timestamp, -1L, -1L, -1L, consumer);
+    }
+
+    @Override
+    public long processTimersWithDueDateBefore(
+        final long timestamp,
+        final long startAtDueDate,
+        final long startAtElementInstanceKey,
+        final long startAtTimerKey,
+        final TimerVisitor consumer) {
+      final var startAt = new TimerInstance();
+      startAt.setDueDate(startAtDueDate);
+      startAt.setElementInstanceKey(startAtElementInstanceKey);
+      startAt.setKey(startAtTimerKey);
+
+      for (final TimerInstance timer : timers.tailSet(startAt, true)) {
+        if (timer.getDueDate() > timestamp || !consumer.visit(timer)) {
+          return timer.getDueDate();
+        }
+      }
+      return -1L;
+    }
+
+    @Override
+    public void forEachTimerForElementInstance(
+        final long elementInstanceKey, final Consumer<TimerInstance> action) {}
+
+    @Override
+    public TimerInstance get(final long elementInstanceKey, final long timerKey) {
+      return null;
+    }
+  }
 }
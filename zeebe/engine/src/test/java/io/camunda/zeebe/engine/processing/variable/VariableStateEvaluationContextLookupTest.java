@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.variable;
+
+import static io.camunda.zeebe.engine.processing.variable.VariableStateEvaluationContextLookup.MAX_CACHED_BYTES;
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public final class VariableStateEvaluationContextLookupTest {
+
+  @ClassRule public static final ProcessingStateRule STATE_RULE = new ProcessingStateRule();
+  private static final AtomicLong KEY_GENERATOR = new AtomicLong();
+
+  private MutableVariableState variableState;
+  private VariableStateEvaluationContextLookup lookup;
+  private long parent;
+  private long child;
+
+  @Before
+  public void setUp() {
+    variableState = spy(STATE_RULE.getProcessingState().getVariableState());
+    lookup = new VariableStateEvaluationContextLookup(variableState);
+
+    parent = KEY_GENERATOR.incrementAndGet();
+    child = KEY_GENERATOR.incrementAndGet();
+    variableState.createScope(parent, -1);
+    variableState.createScope(child, parent);
+  }
+
+  @Test
+  public void shouldResolveVariableOfParentScope() {
+    // given
+    final DirectBuffer value = asMsgPack("\"foo\"");
+    setVariable(parent, "x", value);
+
+    // when
+    final var context = lookup.getContext(child);
+
+    // then
+    assertThat(context.getVariable("x")).isEqualTo(value);
+    assertThat(context.getVariable("y")).isNull();
+  }
+
+  @Test
+  public void shouldReturnValueWrittenAfterLookup() {
+    // given
+    setVariable(parent, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+    context.getVariable("y");
+
+    // when
+    setVariable(child, "x", asMsgPack("2"));
+    setVariable(parent, "y", asMsgPack("3"));
+
+    // then
+    assertThat(context.getVariable("x")).isEqualTo(asMsgPack("2"));
+    assertThat(context.getVariable("y")).isEqualTo(asMsgPack("3"));
+  }
+
+  @Test
+  public void shouldNotReturnValueOfRemovedScope() {
+    // given
+    setVariable(child, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(context.getVariable("x")).isNull();
+  }
+
+  @Test
+  public void shouldNotReadStateAgainOnCacheHit() {
+    // given
+    setVariable(child, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+
+    // when
+    final var value = context.getVariable("x");
+
+    // then
+    assertThat(value).isEqualTo(asMsgPack("1"));
+    verify(variableState, times(1)).getVariable(eq(child), any(DirectBuffer.class));
+  }
+
+  @Test
+  public void shouldReturnValueAfterCacheIsCleared() {
+    // given
+    setVariable(child, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+    final long version = variableState.getVersion();
+
+    // when
+    variableState.clearCache();
+
+    // then
+    assertThat(variableState.getVersion()).isNotEqualTo(version);
+    assertThat(context.getVariable("x")).isEqualTo(asMsgPack("1"));
+    verify(variableState, times(2)).getVariable(eq(child), any(DirectBuffer.class));
+  }
+
+  @Test
+  public void shouldNotKeepValuesForNextCommand() {
+    // given
+    setVariable(child, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+
+    // when
+    variableState.invalidateDerivedValues();
+
+    // then
+    assertThat(context.getVariable("x")).isEqualTo(asMsgPack("1"));
+    verify(variableState, times(2)).getVariable(eq(child), any(DirectBuffer.class));
+  }
+
+  @Test
+  public void shouldDropCacheWhenMaxSizeIsExceeded() {
+    // given
+    final var largeValue = asMsgPack("\"" + "x".repeat(MAX_CACHED_BYTES) + "\"");
+    setVariable(child, "large", largeValue);
+    setVariable(child, "x", asMsgPack("1"));
+    final var context = lookup.getContext(child);
+    context.getVariable("x");
+    context.getVariable("large");
+    clearInvocations(variableState);
+
+    // when
+    context.getVariable("x");
+
+    // then
+    verify(variableState).getVariable(eq(child), any(DirectBuffer.class));
+  }
+
+  private void setVariable(final long scopeKey, final String name, final DirectBuffer value) {
+    variableState.setVariableLocal(
+        KEY_GENERATOR.incrementAndGet(), scopeKey, 1L, wrapString(name), value);
+  }
+}
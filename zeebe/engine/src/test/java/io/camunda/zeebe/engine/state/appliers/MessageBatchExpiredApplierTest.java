@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.appliers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.mutable.MutableMessageState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class MessageBatchExpiredApplierTest {
+
+  private MutableProcessingState processingState;
+  private MutableMessageState messageState;
+  private MessageBatchExpiredApplier applier;
+
+  @BeforeEach
+  void setup() {
+    messageState = processingState.getMessageState();
+    applier = new MessageBatchExpiredApplier(messageState);
+  }
+
+  @Test
+  void shouldRemoveAllMessagesOfBatch() {
+    // given
+    messageState.put(1L, createMessage("a"));
+    messageState.put(2L, createMessage("b"));
+    messageState.put(3L, createMessage("c"));
+
+    // when
+    applier.applyState(4L, new MessageBatchRecord().addMessageKey(1L).addMessageKey(2L));
+
+    // then
+    assertThat(messageState.getMessage(1L)).isNull();
+    assertThat(messageState.getMessage(2L)).isNull();
+    assertThat(messageState.getMessage(3L)).isNotNull();
+  }
+
+  @Test
+  void shouldIgnoreAlreadyDeletedMessages() {
+    // given
+    messageState.put(1L, createMessage("a"));
+    messageState.put(2L, createMessage("b"));
+    messageState.remove(1L);
+
+    // when
+    applier.applyState(3L, new MessageBatchRecord().addMessageKey(1L).addMessageKey(2L));
+
+    // then
+    assertThat(messageState.getMessage(1L)).isNull();
+    assertThat(messageState.getMessage(2L)).isNull();
+    final List<Long> messagesWithDeadline = new ArrayList<>();
+    messageState.visitMessagesWithDeadlineBeforeTimestamp(
+        Long.MAX_VALUE, null, (deadline, messageKey) -> messagesWithDeadline.add(messageKey));
+    assertThat(messagesWithDeadline).isEmpty();
+  }
+
+  private MessageRecord createMessage(final String name) {
+    return new MessageRecord()
+        .setName(name)
+        .setCorrelationKey("correlationKey")
+        .setTimeToLive(10_000L)
+        .setDeadline(1_000L);
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
+import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableSequenceFlow;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.model.bpmn.BpmnModelInstance;
+import io.camunda.zeebe.model.bpmn.instance.ConditionExpression;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeHeader;
+import io.camunda.zeebe.model.bpmn.instance.zeebe.ZeebeInput;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.agrona.io.DirectBufferInputStream;
+import org.junit.jupiter.api.Test;
+
+final class CompactBpmnResourceFormatTest {
+
+  private static final String RESOURCE =
+      Bpmn.convertToString(
+          Bpmn.createExecutableProcess("process")
+              .startEvent("start")
+              .exclusiveGateway()
+              .conditionExpression("x > 1")
+              .serviceTask("task", t -> t.zeebeJobType("type").zeebeInputExpression("x", "y"))
+              .endEvent("end")
+              .done());
+
+  private final CompactBpmnResourceFormat format = new CompactBpmnResourceFormat();
+
+  @Test
+  void shouldRemoveDiagramInterchange() {
+    // when
+    final var compactResource = format.compact(wrapString(RESOURCE));
+
+    // then
+    assertThat(compactResource).isPresent();
+    assertThat(RESOURCE).contains("BPMNDiagram");
+    assertThat(bufferAsString(compactResource.get()))
+        .doesNotContain("BPMNDiagram")
+        .doesNotContain("BPMNShape");
+    assertThat(compactResource.get().capacity()).isLessThan(RESOURCE.length());
+  }
+
+  @Test
+  void shouldTransformCompactResourceToSameProcess() {
+    // given
+    final var compactResource = format.compact(wrapString(RESOURCE)).orElseThrow();
+
+    // when
+    final var modelInstance = format.parse(compactResource);
+
+    // then
+    final ExecutableProcess process =
+        BpmnFactory.createTransformer().transformDefinitions(modelInstance).get(0);
+    assertThat(process.getElementById(wrapString("task"))).isNotNull();
+    assertThat(process.getFlowElements())
+        .filteredOn(ExecutableSequenceFlow.class::isInstance)
+        .map(ExecutableSequenceFlow.class::cast)
+        .anySatisfy(flow -> assertThat(flow.getCondition().getExpression()).contains("x > 1"));
+  }
+
+  @Test
+  void shouldKeepLineBreaksAndTabsInAttributeValues() {
+    // given
+    final String resource =
+        """
+        <?xml version="1.0" encoding="UTF-8"?>
+        <bpmn:definitions xmlns:bpmn="http://www.omg.org/spec/BPMN/20100524/MODEL"
+            xmlns:zeebe="http://camunda.org/schema/zeebe/1.0"
+            xmlns:xsi="http://www.w3.org/2001/XMLSchema-instance"
+            id="definitions" targetNamespace="http://bpmn.io/schema/bpmn">
+          <bpmn:process id="process" isExecutable="true">
+            <bpmn:startEvent id="start" />
+            <bpmn:sequenceFlow id="toGateway" sourceRef="start" targetRef="gateway" />
+            <bpmn:exclusiveGateway id="gateway" default="toEnd" />
+            <bpmn:sequenceFlow id="toTask" sourceRef="gateway" targetRef="task">
+              <bpmn:conditionExpression xsi:type="bpmn:tFormalExpression">= x &lt; 1
+          and y = "a &amp; b"</bpmn:conditionExpression>
+            </bpmn:sequenceFlow>
+            <bpmn:sequenceFlow id="toEnd" sourceRef="gateway" targetRef="end" />
+            <bpmn:serviceTask id="task">
+              <bpmn:extensionElements>
+                <zeebe:taskDefinition type="type" />
+                <zeebe:taskHeaders>
+                  <zeebe:header key="multiLine" value="line 1&#10;line 2&#13;&#10;&#9;end" />
+                  <zeebe:header key="quoted" value="&quot;a&quot; &amp; &lt;b&gt;" />
+                </zeebe:taskHeaders>
+                <zeebe:ioMapping>
+                  <zeebe:input source="=&quot;a&quot;&#10;  + &quot;b&quot;" target="y" />
+                </zeebe:ioMapping>
+              </bpmn:extensionElements>
+            </bpmn:serviceTask>
+            <bpmn:sequenceFlow id="taskToEnd" sourceRef="task" targetRef="end" />
+            <bpmn:endEvent id="end" />
+          </bpmn:process>
+        </bpmn:definitions>
+        """;
+    final var originalModel =
+        Bpmn.readModelFromStream(new DirectBufferInputStream(wrapString(resource)));
+
+    // when
+    final var compactModel = format.parse(format.compact(wrapString(resource)).orElseThrow());
+
+    // then
+    assertThat(headers(compactModel))
+        .isEqualTo(headers(originalModel))
+        .containsEntry("multiLine", "line 1\nline 2\r\n\tend")
+        .containsEntry("quoted", "\"a\" & <b>");
+    assertThat(inputSources(compactModel))
+        .isEqualTo(inputSources(originalModel))
+        .containsExactly("=\"a\"\n  + \"b\"");
+    assertThat(conditions(compactModel))
+        .isEqualTo(conditions(originalModel))
+        .containsExactly("= x < 1\n  and y = \"a & b\"");
+
+    final ExecutableProcess process =
+        BpmnFactory.createTransformer().transformDefinitions(compactModel).get(0);
+    assertThat(process.getElementById(wrapString("task"))).isNotNull();
+  }
+
+  @Test
+  void shouldNotCompactInvalidXml() {
+    // when
+    final var compactResource = format.compact(wrapString("<definitions>"));
+
+    // then
+    assertThat(compactResource).isEmpty();
+  }
+
+  private static Map<String, String> headers(final BpmnModelInstance modelInstance) {
+    return modelInstance.getModelElementsByType(ZeebeHeader.class).stream()
+        .collect(Collectors.toMap(ZeebeHeader::getKey, ZeebeHeader::getValue));
+  }
+
+  private static List<String> inputSources(final BpmnModelInstance modelInstance) {
+    return modelInstance.getModelElementsByType(ZeebeInput.class).stream()
+        .map(ZeebeInput::getSource)
+        .toList();
+  }
+
+  private static List<String> conditions(final BpmnModelInstance modelInstance) {
+    return modelInstance.getModelElementsByType(ConditionExpression.class).stream()
+        .map(ConditionExpression::getTextContent)
+        .toList();
+  }
+}
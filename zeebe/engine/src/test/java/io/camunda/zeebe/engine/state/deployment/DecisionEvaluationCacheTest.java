@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.impl.EvaluationResult;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+
+final class DecisionEvaluationCacheTest {
+
+  private static final DirectBuffer RESOURCE =
+      wrapString("<decision id=\"decision\"><text>color</text><text>size</text></decision>");
+
+  private final AtomicInteger evaluations = new AtomicInteger();
+  private final Supplier<DecisionEvaluationResult> evaluation =
+      () -> {
+        evaluations.incrementAndGet();
+        return new EvaluationResult(asMsgPack("\"Jedi\""), List.of());
+      };
+
+  @Test
+  void shouldEvaluateDecisionOnlyOnceForSameVariables() {
+    // given
+    final var cache = DecisionEvaluationCache.of(10, RESOURCE);
+    final var first = cache.getOrEvaluate("decision", asMsgPack("color", "blue"), evaluation);
+
+    // when
+    final var second = cache.getOrEvaluate("decision", asMsgPack("color", "blue"), evaluation);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void shouldEvaluateDecisionForDifferentVariablesOrDecisions() {
+    // given
+    final var cache = DecisionEvaluationCache.of(10, RESOURCE);
+    cache.getOrEvaluate("decision", asMsgPack("color", "blue"), evaluation);
+
+    // when
+    cache.getOrEvaluate("decision", asMsgPack("color", "red"), evaluation);
+    cache.getOrEvaluate("other", asMsgPack("color", "blue"), evaluation);
+
+    // then
+    assertThat(evaluations).hasValue(3);
+  }
+
+  @Test
+  void shouldIgnoreVariablesWhichAreNotReferenced() {
+    // given
+    final var cache = DecisionEvaluationCache.of(10, RESOURCE);
+    final var first =
+        cache.getOrEvaluate(
+            "decision", asMsgPack("{'color': 'blue', 'order': {'id': 1}}"), evaluation);
+
+    // when
+    final var second =
+        cache.getOrEvaluate(
+            "decision", asMsgPack("{'color': 'blue', 'order': {'id': 2}}"), evaluation);
+
+    // then
+    assertThat(second).isSameAs(first);
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void shouldBeIndependentOfTheOrderOfTheVariables() {
+    // given
+    final var cache = DecisionEvaluationCache.of(10, RESOURCE);
+    cache.getOrEvaluate("decision", asMsgPack("{'color': 'blue', 'size': 3}"), evaluation);
+
+    // when
+    cache.getOrEvaluate("decision", asMsgPack("{'size': 3, 'color': 'blue'}"), evaluation);
+
+    // then
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotBeAffectedByModifiedVariablesBuffer() {
+    // given
+    final var cache = DecisionEvaluationCache.of(10, RESOURCE);
+    final var variables = asMsgPack("color", "blue");
+    final var buffer = new ExpandableArrayBuffer();
+    buffer.putBytes(0, variables, 0, variables.capacity());
+    cache.getOrEvaluate("decision", new UnsafeBuffer(buffer, 0, variables.capacity()), evaluation);
+
+    // when
+    buffer.setMemory(0, variables.capacity(), (byte) 0);
+    cache.getOrEvaluate("decision", variables, evaluation);
+
+    // then
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void shouldNotCacheIfDisabled() {
+    // given
+    final var cache = DecisionEvaluationCache.of(0, RESOURCE);
+
+    // when
+    cache.getOrEvaluate("decision", asMsgPack("color", "blue"), evaluation);
+    cache.getOrEvaluate("decision", asMsgPack("color", "blue"), evaluation);
+
+    // then
+    assertThat(cache.isEnabled()).isFalse();
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  void shouldNotCacheIfDecisionUsesCurrentTime() {
+    // given
+    final var resource = wrapString("<inputEntry><text>&lt; now()</text></inputEntry>");
+
+    // when
+    final var cache = DecisionEvaluationCache.of(10, resource);
+
+    // then
+    assertThat(cache.isEnabled()).isFalse();
+  }
+}
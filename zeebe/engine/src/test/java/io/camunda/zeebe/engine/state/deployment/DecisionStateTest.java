@@ -333,6 +333,81 @@ public final class DecisionStateTest {
         .isEqualTo(drg2.getDecisionRequirementsKey());
   }
 
+  @DisplayName("should warm up the cache with the latest DRGs")
+  @Test
+  void shouldWarmUpCacheWithLatestDrgs() {
+    // given
+    final var drg1 =
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("drg-1")
+            .setDecisionRequirementsKey(1L);
+    final var drg2 =
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("drg-2")
+            .setDecisionRequirementsKey(2L);
+    decisionState.storeDecisionRequirements(drg1);
+    decisionState.storeDecisionRequirements(drg2);
+    decisionState.clearCache();
+
+    // when
+    final int warmedUpDrgs =
+        ((DbDecisionState) decisionState).warmUpCache(10, Runnable::run).join();
+
+    // then
+    assertThat(warmedUpDrgs).isEqualTo(2);
+    assertThat(
+            decisionState.findDecisionRequirementsByTenantAndKey(
+                TENANT_ID, drg1.getDecisionRequirementsKey()))
+        .isNotEmpty();
+  }
+
+  @DisplayName("should warm up the cache with at most the given number of DRGs")
+  @Test
+  void shouldWarmUpCacheWithLimitedNumberOfDrgs() {
+    // given
+    decisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("drg-1")
+            .setDecisionRequirementsKey(1L));
+    decisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("drg-2")
+            .setDecisionRequirementsKey(2L));
+
+    // when
+    final int warmedUpDrgs =
+        ((DbDecisionState) decisionState).warmUpCache(1, Runnable::run).join();
+
+    // then
+    assertThat(warmedUpDrgs).isEqualTo(1);
+  }
+
+  @DisplayName("should warm up the cache with the most recently deployed DRGs")
+  @Test
+  void shouldWarmUpCacheWithMostRecentlyDeployedDrgs() {
+    // given
+    decisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("z-drg")
+            .setDecisionRequirementsKey(1L));
+    decisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("a-drg")
+            .setDecisionRequirementsKey(2L));
+    decisionState.storeDecisionRequirements(
+        sampleDecisionRequirementsRecord()
+            .setDecisionRequirementsId("m-drg")
+            .setDecisionRequirementsKey(3L));
+
+    // when
+    final var latestDrgs = ((DbDecisionState) decisionState).findLatestDecisionRequirements(2);
+
+    // then
+    assertThat(latestDrgs)
+        .extracting(PersistedDecisionRequirements::getDecisionRequirementsKey)
+        .containsExactlyInAnyOrder(2L, 3L);
+  }
+
   @DisplayName("should return empty if no decision found for DRG key")
   @Test
   void shouldReturnEmptyIfNoDecisionFoundForDrgKey() {
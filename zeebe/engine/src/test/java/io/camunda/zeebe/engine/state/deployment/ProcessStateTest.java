@@ -542,6 +542,150 @@ public final class ProcessStateTest {
     Assertions.assertThat(serviceTask).isNotNull();
   }
 
+  @Test
+  public void shouldGetExecutableProcessAfterCacheIsCleared() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final DeployedProcess deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    final ExecutableProcess process = deployedProcess.getProcess();
+    Assertions.assertThat(process.getElementById(wrapString("test"))).isNotNull();
+    Assertions.assertThat(deployedProcess.getResource())
+        .isEqualTo(processRecord.getResourceBuffer());
+  }
+
+  @Test
+  public void shouldTransformProcessFromCompactResourceOfRecord() {
+    // given
+    final var compactResource =
+        new CompactBpmnResourceFormat()
+            .compact(
+                wrapString(
+                    Bpmn.convertToString(
+                        Bpmn.createExecutableProcess("processId")
+                            .startEvent()
+                            .serviceTask("compact", task -> task.zeebeJobType("type"))
+                            .done())))
+            .orElseThrow();
+    final var processRecord =
+        creatingProcessRecord(processingState)
+            .setCompactResource(CompactBpmnResourceFormat.VERSION, compactResource);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    processState.clearCache();
+
+    // when
+    final DeployedProcess deployedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // then
+    final ExecutableProcess process = deployedProcess.getProcess();
+    Assertions.assertThat(process.getElementById(wrapString("compact"))).isNotNull();
+    Assertions.assertThat(deployedProcess.getResource())
+        .isEqualTo(processRecord.getResourceBuffer());
+  }
+
+  @Test
+  public void shouldNotTransformProcessAgainOnUpdateProcessState() {
+    // given
+    final var processRecord = creatingProcessRecord(processingState);
+    processState.putProcess(processRecord.getKey(), processRecord);
+    final var initialProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+
+    // when
+    processState.updateProcessState(processRecord, PersistedProcessState.PENDING_DELETION);
+
+    // then
+    final var updatedProcess =
+        processState.getProcessByKeyAndTenant(processRecord.getKey(), TENANT_ID);
+    assertThat(updatedProcess.getState()).isEqualTo(PersistedProcessState.PENDING_DELETION);
+    assertThat(updatedProcess.getProcess()).isSameAs(initialProcess.getProcess());
+  }
+
+  @Test
+  public void shouldWarmUpCacheWithLatestProcessVersions() {
+    // given
+    final var processV1 = creatingProcessRecord(processingState, "process", 1);
+    final var processV2 = creatingProcessRecord(processingState, "process", 2);
+    final var otherProcess = creatingProcessRecord(processingState, "other", 1);
+    processState.putProcess(processV1.getKey(), processV1);
+    processState.putProcess(processV2.getKey(), processV2);
+    processState.putProcess(otherProcess.getKey(), otherProcess);
+    processState.clearCache();
+
+    // when
+    final int warmedUpProcesses =
+        ((DbProcessState) processState).warmUpCache(10, Runnable::run).join();
+
+    // then
+    assertThat(warmedUpProcesses).isEqualTo(2);
+    final DeployedProcess latestProcess =
+        processState.getLatestProcessVersionByProcessId(wrapString("process"), TENANT_ID);
+    assertThat(latestProcess.getVersion()).isEqualTo(2);
+    assertThat(latestProcess.getProcess().getElementById(wrapString("test"))).isNotNull();
+  }
+
+  @Test
+  public void shouldWarmUpCacheWithLimitedNumberOfProcesses() {
+    // given
+    final var process = creatingProcessRecord(processingState, "process", 1);
+    final var otherProcess = creatingProcessRecord(processingState, "other", 1);
+    processState.putProcess(process.getKey(), process);
+    processState.putProcess(otherProcess.getKey(), otherProcess);
+
+    // when
+    final int warmedUpProcesses =
+        ((DbProcessState) processState).warmUpCache(1, Runnable::run).join();
+
+    // then
+    assertThat(warmedUpProcesses).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldWarmUpCacheWithMostRecentlyDeployedProcesses() {
+    // given
+    final var olderProcess = creatingProcessRecord(processingState, "a-process", 1);
+    final var newerProcess = creatingProcessRecord(processingState, "z-process", 1);
+    processState.putProcess(olderProcess.getKey(), olderProcess);
+    processState.putProcess(newerProcess.getKey(), newerProcess);
+
+    // when
+    final var latestProcesses = ((DbProcessState) processState).findLatestProcesses(1);
+
+    // then
+    assertThat(latestProcesses)
+        .extracting(PersistedProcess::getKey)
+        .containsExactly(newerProcess.getKey());
+  }
+
+  @Test
+  public void shouldFindOnlyLatestVersionOfMostRecentlyDeployedProcesses() {
+    // given
+    final var processV1 = creatingProcessRecord(processingState, "process", 1);
+    final var otherProcess = creatingProcessRecord(processingState, "other", 1);
+    final var processV2 = creatingProcessRecord(processingState, "process", 2);
+    final var deletedProcess = creatingProcessRecord(processingState, "deleted", 1);
+    processState.putProcess(processV1.getKey(), processV1);
+    processState.putProcess(otherProcess.getKey(), otherProcess);
+    processState.putProcess(processV2.getKey(), processV2);
+    processState.putProcess(deletedProcess.getKey(), deletedProcess);
+    processState.deleteProcess(deletedProcess);
+
+    // when
+    final var latestProcesses = ((DbProcessState) processState).findLatestProcesses(10);
+
+    // then
+    assertThat(latestProcesses)
+        .extracting(PersistedProcess::getKey)
+        .containsExactlyInAnyOrder(otherProcess.getKey(), processV2.getKey());
+  }
+
   @Test
   public void shouldReturnHighestVersionInsteadOfMostRecent() {
     // given
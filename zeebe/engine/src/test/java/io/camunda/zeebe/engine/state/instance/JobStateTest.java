@@ -566,6 +566,29 @@ public final class JobStateTest {
     assertThat(timedOutKeys).containsExactly(1L, 2L, 3L);
   }
 
+  @Test
+  public void shouldStartIterationOverTimedOutAtGivenJob() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(1L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(4, newJobRecord().setDeadline(512L));
+
+    // when
+    final List<Long> timedOutKeys = new ArrayList<>();
+    jobState.forEachTimedOutEntry(
+        65536L,
+        256L,
+        3L,
+        (k, e) -> {
+          timedOutKeys.add(k);
+          return true;
+        });
+
+    // then
+    assertThat(timedOutKeys).containsExactly(3L, 4L);
+  }
+
   @Test
   public void shouldCleanUpOnForEachTimedOutAndVisitNext() {
     // given
@@ -601,6 +624,32 @@ public final class JobStateTest {
     assertThat(jobKeys).isEmpty();
   }
 
+  @Test
+  public void shouldReturnNextDeadlineOnForEachTimedOut() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(256L));
+    createAndActivateJobRecord(2, newJobRecord().setDeadline(1024L));
+    createAndActivateJobRecord(3, newJobRecord().setDeadline(2048L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(512L, (k, e) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(1024L);
+  }
+
+  @Test
+  public void shouldReturnNoNextDeadlineIfAllJobsTimedOut() {
+    // given
+    createAndActivateJobRecord(1, newJobRecord().setDeadline(256L));
+
+    // when
+    final long nextDeadline = jobState.forEachTimedOutEntry(512L, (k, e) -> true);
+
+    // then
+    assertThat(nextDeadline).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldCheckExistenceCorrectly() {
     // given
@@ -170,6 +170,43 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersStartingAtGivenTimer() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 2000L);
+    createTimerInstance(4, 4, 2000L);
+    createTimerInstance(5, 5, 3000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(
+            2000L, 2000L, 3L, 3L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(3L, 4L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldFindTimersAfterGivenTimerIfItWasRemoved() {
+    // given
+    createTimerInstance(1, 1, 2000L);
+    final var removedTimer = createTimerInstance(2, 2, 2000L);
+    createTimerInstance(3, 3, 2000L);
+    state.remove(removedTimer);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(
+        2000L, 2000L, 2L, 2L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(3L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.message;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class MessageCorrelationFilterTest {
+
+  private static final DirectBuffer TENANT = wrapString("<default>");
+  private static final DirectBuffer MESSAGE_NAME = wrapString("message");
+
+  private final MessageCorrelationFilter filter = new MessageCorrelationFilter();
+
+  @BeforeEach
+  void setup() {
+    filter.reset(0);
+  }
+
+  @Test
+  void shouldBeInvalidBeforeReset() {
+    assertThat(new MessageCorrelationFilter().isValid()).isFalse();
+  }
+
+  @Test
+  void shouldContainAddedEntry() {
+    // when
+    filter.add(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // then
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key"))).isTrue();
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("other"))).isFalse();
+    assertThat(filter.mightContain(wrapString("tenant"), MESSAGE_NAME, wrapString("key")))
+        .isFalse();
+  }
+
+  @Test
+  void shouldNotContainRemovedEntry() {
+    // given
+    filter.add(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // when
+    filter.remove(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // then
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key"))).isFalse();
+  }
+
+  @Test
+  void shouldContainEntryAddedTwiceAndRemovedOnce() {
+    // given
+    filter.add(TENANT, MESSAGE_NAME, wrapString("key"));
+    filter.add(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // when
+    filter.remove(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // then
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key"))).isTrue();
+  }
+
+  @Test
+  void shouldHaveFewFalsePositives() {
+    // given
+    final int entries = MessageCorrelationFilter.MIN_COUNTERS / 8;
+    for (int i = 0; i < entries; i++) {
+      filter.add(TENANT, MESSAGE_NAME, wrapString("key-" + i));
+    }
+
+    // when
+    int falsePositives = 0;
+    for (int i = entries; i < 2 * entries; i++) {
+      if (filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key-" + i))) {
+        falsePositives++;
+      }
+    }
+
+    // then
+    assertThat(filter.isValid()).isTrue();
+    assertThat(falsePositives).isLessThan(entries / 20);
+    for (int i = 0; i < entries; i++) {
+      assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key-" + i))).isTrue();
+    }
+  }
+
+  @Test
+  void shouldBecomeInvalidIfItHoldsTooManyEntries() {
+    // when
+    for (int i = 0; i <= MessageCorrelationFilter.MIN_COUNTERS / 8; i++) {
+      filter.add(TENANT, MESSAGE_NAME, wrapString("key-" + i));
+    }
+
+    // then
+    assertThat(filter.isValid()).isFalse();
+  }
+
+  @Test
+  void shouldRemoveAllEntriesOnReset() {
+    // given
+    filter.add(TENANT, MESSAGE_NAME, wrapString("key"));
+
+    // when
+    filter.reset(1);
+
+    // then
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("key"))).isFalse();
+  }
+
+  @Test
+  void shouldUndoChangesSinceCommitOnRollback() {
+    // given
+    filter.add(TENANT, MESSAGE_NAME, wrapString("committed"));
+    filter.commit();
+    filter.add(TENANT, MESSAGE_NAME, wrapString("added"));
+    filter.remove(TENANT, MESSAGE_NAME, wrapString("committed"));
+
+    // when
+    filter.rollback();
+
+    // then
+    assertThat(filter.isValid()).isTrue();
+    assertThat(filter.hasUncommittedChanges()).isFalse();
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("committed"))).isTrue();
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("added"))).isFalse();
+  }
+
+  @Test
+  void shouldKeepCommittedChangesOnRollback() {
+    // given
+    filter.add(TENANT, MESSAGE_NAME, wrapString("added"));
+    filter.commit();
+
+    // when
+    filter.rollback();
+
+    // then
+    assertThat(filter.isValid()).isTrue();
+    assertThat(filter.mightContain(TENANT, MESSAGE_NAME, wrapString("added"))).isTrue();
+  }
+
+  @Test
+  void shouldBecomeInvalidOnRollbackAfterReset() {
+    // given - the filter was reset in setup, but not committed
+
+    // when
+    filter.rollback();
+
+    // then
+    assertThat(filter.isValid()).isFalse();
+  }
+}
@@ -184,6 +184,127 @@ public final class MessageSubscriptionStateTest {
     assertThat(keys).hasSize(1).contains(1L);
   }
 
+  @Test
+  public void shouldVisitSubscriptionPutAfterLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    visitSubscriptions("messageName", "correlationKey", keys);
+
+    // when
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+
+    // then
+    visitSubscriptions("messageName", "correlationKey", keys);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotVisitSubscriptionRemovedAfterLookup() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    visitSubscriptions("messageName", "correlationKey", keys);
+
+    // when
+    state.remove(1L, wrapString("messageName"));
+
+    // then
+    visitSubscriptions("messageName", "correlationKey", keys);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldVisitSubscriptionsIfCorrelationFilterGrows() {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    visitSubscriptions("messageName", "correlationKey", keys);
+
+    // when - more subscriptions than the initial filter can hold
+    final int subscriptionCount = MessageCorrelationFilter.MIN_COUNTERS / 8 + 1;
+    for (int i = 1; i <= subscriptionCount; i++) {
+      state.put(i, subscription("messageName", "correlationKey-" + i, i));
+    }
+
+    // then
+    for (int i = 1; i <= subscriptionCount; i++) {
+      visitSubscriptions("messageName", "correlationKey-" + i, keys);
+    }
+    assertThat(keys).hasSize(subscriptionCount).doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionWhoseRemovalWasRolledBack() throws Exception {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+    visitSubscriptions("messageName", "correlationKey", keys);
+    state.commitCorrelationFilterChanges();
+
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.remove(1L, wrapString("messageName")));
+
+    // when
+    transaction.rollback();
+    state.rollbackCorrelationFilterChanges();
+
+    // then
+    visitSubscriptions("messageName", "correlationKey", keys);
+    assertThat(keys).containsExactly(1L, 1L);
+  }
+
+  @Test
+  public void shouldNotVisitSubscriptionWhosePutWasRolledBack() throws Exception {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    visitSubscriptions("messageName", "correlationKey", keys);
+    state.commitCorrelationFilterChanges();
+
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.put(1L, subscription("messageName", "correlationKey", 1L)));
+
+    // when
+    transaction.rollback();
+    state.rollbackCorrelationFilterChanges();
+
+    // then
+    assertThat(state.hasUncommittedCorrelationFilterChanges()).isFalse();
+    visitSubscriptions("messageName", "correlationKey", keys);
+    assertThat(keys).isEmpty();
+  }
+
+  @Test
+  public void shouldVisitSubscriptionWhoseRemovalWasRolledBackAfterFilterWasRebuilt()
+      throws Exception {
+    // given
+    final List<Long> keys = new ArrayList<>();
+    state.put(1L, subscription("messageName", "correlationKey", 1L));
+
+    // the filter is built lazily within the transaction, after the subscription was removed
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(
+        () -> {
+          state.remove(1L, wrapString("messageName"));
+          visitSubscriptions("messageName", "correlationKey", keys);
+        });
+
+    // when
+    transaction.rollback();
+    state.rollbackCorrelationFilterChanges();
+
+    // then
+    visitSubscriptions("messageName", "correlationKey", keys);
+    assertThat(keys).containsExactly(1L);
+  }
+
+  private void visitSubscriptions(
+      final String messageName, final String correlationKey, final List<Long> keys) {
+    state.visitSubscriptions(
+        DEFAULT_TENANT,
+        wrapString(messageName),
+        wrapString(correlationKey),
+        s -> keys.add(s.getRecord().getElementInstanceKey()));
+  }
+
   private MessageSubscriptionRecord subscriptionWithElementInstanceKey(
       final long elementInstanceKey) {
     return subscription("messageName", "correlationKey", elementInstanceKey);
@@ -88,7 +88,7 @@ public class MultiTenancyMigrationTest {
     @BeforeEach
     void setup() {
       legacyState = new LegacyProcessState(zeebeDb, transactionContext);
-      processState = new DbProcessState(zeebeDb, transactionContext);
+      processState = new DbProcessState(zeebeDb, transactionContext, 1);
     }
 
     @Test
@@ -253,7 +253,7 @@ public class MultiTenancyMigrationTest {
     void setup() {
       final var cfg = new EngineConfiguration();
       legacyState = new LegacyDecisionState(zeebeDb, transactionContext, cfg);
-      decisionState = new DbDecisionState(zeebeDb, transactionContext, cfg);
+      decisionState = new DbDecisionState(zeebeDb, transactionContext, 1, cfg);
     }
 
     @Test
@@ -711,7 +711,7 @@ public class MultiTenancyMigrationTest {
     @BeforeEach
     void setup() {
       legacyState = new LegacyMessageSubscriptionState(zeebeDb, transactionContext);
-      state = new DbMessageSubscriptionState(zeebeDb, transactionContext, null);
+      state = new DbMessageSubscriptionState(zeebeDb, transactionContext, 1, null);
     }
 
     @Test
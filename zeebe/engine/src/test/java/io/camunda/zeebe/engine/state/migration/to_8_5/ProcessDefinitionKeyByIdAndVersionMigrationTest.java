@@ -0,0 +1,176 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.migration.to_8_5;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingProcessRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbForeignKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+public class ProcessDefinitionKeyByIdAndVersionMigrationTest {
+
+  final ProcessDefinitionKeyByIdAndVersionMigration sutMigration =
+      new ProcessDefinitionKeyByIdAndVersionMigration();
+
+  @Nested
+  public class MockBasedTests {
+
+    @Test
+    public void noMigrationNeededWhenProcessColumnFamilyIsEmpty() {
+      // given
+      final var mockProcessingState = mock(ProcessingState.class);
+
+      // when
+      when(mockProcessingState.isEmpty(ZbColumnFamilies.PROCESS_CACHE)).thenReturn(true);
+      when(mockProcessingState.isEmpty(
+              ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION))
+          .thenReturn(true);
+      final var actual = sutMigration.needsToRun(mockProcessingState);
+
+      // then
+      assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void noMigrationNeededWhenKeyColumnFamilyIsPopulated() {
+      // given
+      final var mockProcessingState = mock(ProcessingState.class);
+
+      // when
+      when(mockProcessingState.isEmpty(ZbColumnFamilies.PROCESS_CACHE)).thenReturn(false);
+      when(mockProcessingState.isEmpty(
+              ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION))
+          .thenReturn(false);
+      final var actual = sutMigration.needsToRun(mockProcessingState);
+
+      // then
+      assertThat(actual).isFalse();
+    }
+
+    @Test
+    public void migrationNeededWhenProcessesHaveNotBeenMigratedYet() {
+      // given
+      final var mockProcessingState = mock(ProcessingState.class);
+
+      // when
+      when(mockProcessingState.isEmpty(ZbColumnFamilies.PROCESS_CACHE)).thenReturn(false);
+      when(mockProcessingState.isEmpty(
+              ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION))
+          .thenReturn(true);
+      final var actual = sutMigration.needsToRun(mockProcessingState);
+
+      // then
+      assertThat(actual).isTrue();
+    }
+
+    @Test
+    public void migrationCallsMethodInMigrationState() {
+      // given
+      final var mockProcessingState = mock(MutableProcessingState.class, RETURNS_DEEP_STUBS);
+
+      // when
+      sutMigration.runMigration(mockProcessingState);
+
+      // then
+      verify(mockProcessingState.getMigrationState()).migrateProcessDefinitionKeyByIdAndVersion();
+      verifyNoMoreInteractions(mockProcessingState.getMigrationState());
+    }
+  }
+
+  @Nested
+  @ExtendWith(ProcessingStateExtension.class)
+  public class BlackboxTest {
+    private ZeebeDb<ZbColumnFamilies> zeebeDb;
+    private MutableProcessingState processingState;
+    private TransactionContext transactionContext;
+
+    private DbTenantAwareKey<DbCompositeKey<DbString, DbLong>> tenantAwareProcessIdAndVersionKey;
+    private ColumnFamily<
+            DbTenantAwareKey<DbCompositeKey<DbString, DbLong>>,
+            DbForeignKey<DbTenantAwareKey<DbLong>>>
+        processKeyByIdAndVersionColumnFamily;
+
+    @BeforeEach
+    public void setup() {
+      final var tenantIdKey = new DbString();
+      tenantAwareProcessIdAndVersionKey =
+          new DbTenantAwareKey<>(
+              tenantIdKey,
+              new DbCompositeKey<>(new DbString(), new DbLong()),
+              PlacementType.PREFIX);
+      processKeyByIdAndVersionColumnFamily =
+          zeebeDb.createColumnFamily(
+              ZbColumnFamilies.PROCESS_DEFINITION_KEY_BY_PROCESS_ID_AND_VERSION,
+              transactionContext,
+              tenantAwareProcessIdAndVersionKey,
+              new DbForeignKey<>(
+                  new DbTenantAwareKey<>(tenantIdKey, new DbLong(), PlacementType.PREFIX),
+                  ZbColumnFamilies.PROCESS_CACHE));
+    }
+
+    @Test
+    public void shouldPopulateProcessDefinitionKeys() {
+      // given - processes which were deployed before the keys were indexed
+      final var processState = processingState.getProcessState();
+      final var processV1 = creatingProcessRecord(processingState, "process", 1);
+      final var processV2 = creatingProcessRecord(processingState, "process", 2);
+      final var otherProcess = creatingProcessRecord(processingState, "other", 1);
+      processState.putProcess(processV1.getKey(), processV1);
+      processState.putProcess(processV2.getKey(), processV2);
+      processState.putProcess(otherProcess.getKey(), otherProcess);
+      processKeyByIdAndVersionColumnFamily.forEach(
+          (key, processKey) ->
+              processKeyByIdAndVersionColumnFamily.deleteExisting(
+                  tenantAwareProcessIdAndVersionKey));
+      assertThat(sutMigration.needsToRun(processingState)).isTrue();
+
+      // when
+      sutMigration.runMigration(processingState);
+
+      // then
+      final List<String> entries = new ArrayList<>();
+      processKeyByIdAndVersionColumnFamily.forEach(
+          (key, processKey) ->
+              entries.add(
+                  "%s:%d=%d"
+                      .formatted(
+                          key.wrappedKey().first(),
+                          key.wrappedKey().second().getValue(),
+                          processKey.inner().wrappedKey().getValue())));
+      assertThat(entries)
+          .containsExactlyInAnyOrder(
+              "process:1=" + processV1.getKey(),
+              "process:2=" + processV2.getKey(),
+              "other:1=" + otherProcess.getKey());
+      assertThat(sutMigration.needsToRun(processingState)).isFalse();
+    }
+  }
+}
@@ -13,13 +13,17 @@ import static org.assertj.core.api.Assertions.assertThatCode;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateExtension;
 import io.camunda.zeebe.engine.util.Records;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -57,7 +61,11 @@ final class StateQueryServiceTest {
     return Stream.of(
         svc -> svc.getBpmnProcessIdForJob(1),
         svc -> svc.getBpmnProcessIdForProcess(1),
-        svc -> svc.getBpmnProcessIdForProcessInstance(1));
+        svc -> svc.getBpmnProcessIdForProcessInstance(1),
+        svc -> svc.getElementInstance(1),
+        svc -> svc.getVariables(1),
+        svc -> svc.getIncident(1),
+        svc -> svc.getJob(1));
   }
 
   @Nested
@@ -157,4 +165,158 @@ final class StateQueryServiceTest {
       assertThat(result).contains(BufferUtil.wrapString(processId));
     }
   }
+
+  @Nested
+  @DisplayName("getElementInstance(key)")
+  final class GetElementInstance {
+
+    @Test
+    @DisplayName("should return an empty optional when element instance is not found")
+    void shouldReturnEmptyWhenNotFound() {
+      // when
+      final var key = Protocol.encodePartitionId(1, 1L);
+      final var result = sut.getElementInstance(key);
+
+      // then
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return the element instance and its state when found")
+    void shouldReturnMatchWhenPresent() {
+      // given
+      final var key = Protocol.encodePartitionId(1, 1L);
+      final var record = Records.processInstance(key, "processId");
+      state
+          .getElementInstanceState()
+          .newInstance(key, record, ProcessInstanceIntent.ELEMENT_ACTIVATED);
+
+      // when
+      final var result = sut.getElementInstance(key);
+
+      // then
+      assertThat(result)
+          .hasValueSatisfying(
+              instance -> {
+                assertThat(instance.key()).isEqualTo(key);
+                assertThat(instance.state())
+                    .isEqualTo(ProcessInstanceIntent.ELEMENT_ACTIVATED.name());
+                assertThat(instance.value())
+                    .containsEntry("bpmnProcessId", "processId")
+                    .containsEntry("processInstanceKey", key);
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("getVariables(scopeKey)")
+  final class GetVariables {
+
+    @Test
+    @DisplayName("should return an empty map when the scope has no variables")
+    void shouldReturnEmptyWhenNotFound() {
+      // when
+      final var result = sut.getVariables(Protocol.encodePartitionId(1, 1L));
+
+      // then
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return the local variables of the scope")
+    void shouldReturnLocalVariables() {
+      // given
+      final var scopeKey = Protocol.encodePartitionId(1, 1L);
+      state
+          .getVariableState()
+          .setVariableLocal(
+              Protocol.encodePartitionId(1, 2L),
+              scopeKey,
+              Protocol.encodePartitionId(1, 3L),
+              BufferUtil.wrapString("foo"),
+              BufferUtil.wrapArray(MsgPackConverter.convertToMsgPack("\"bar\"")));
+
+      // when
+      final var result = sut.getVariables(scopeKey);
+
+      // then
+      assertThat(result).containsExactlyEntriesOf(Map.of("foo", "bar"));
+    }
+  }
+
+  @Nested
+  @DisplayName("getIncident(key)")
+  final class GetIncident {
+
+    @Test
+    @DisplayName("should return an empty optional when incident is not found")
+    void shouldReturnEmptyWhenNotFound() {
+      // when
+      final var result = sut.getIncident(Protocol.encodePartitionId(1, 1L));
+
+      // then
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return the incident when found")
+    void shouldReturnMatchWhenPresent() {
+      // given
+      final var key = Protocol.encodePartitionId(1, 1L);
+      final var record =
+          new IncidentRecord()
+              .setBpmnProcessId(BufferUtil.wrapString("processId"))
+              .setErrorMessage("failure");
+      state.getIncidentState().createIncident(key, record);
+
+      // when
+      final var result = sut.getIncident(key);
+
+      // then
+      assertThat(result)
+          .hasValueSatisfying(
+              incident -> {
+                assertThat(incident.key()).isEqualTo(key);
+                assertThat(incident.value())
+                    .containsEntry("bpmnProcessId", "processId")
+                    .containsEntry("errorMessage", "failure");
+              });
+    }
+  }
+
+  @Nested
+  @DisplayName("getJob(key)")
+  final class GetJob {
+
+    @Test
+    @DisplayName("should return an empty optional when job is not found")
+    void shouldReturnEmptyWhenNotFound() {
+      // when
+      final var result = sut.getJob(Protocol.encodePartitionId(1, 1L));
+
+      // then
+      assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should return the job and its state when found")
+    void shouldReturnMatchWhenPresent() {
+      // given
+      final var key = Protocol.encodePartitionId(1, 1L);
+      final var record = Records.job(key, "processId");
+      state.getJobState().create(key, record);
+
+      // when
+      final var result = sut.getJob(key);
+
+      // then
+      assertThat(result)
+          .hasValueSatisfying(
+              job -> {
+                assertThat(job.key()).isEqualTo(key);
+                assertThat(job.state()).isEqualTo(State.ACTIVATABLE.name());
+                assertThat(job.value()).containsEntry("bpmnProcessId", "processId");
+              });
+    }
+  }
 }
@@ -241,6 +241,54 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldCollectVariablesAsDocumentAfterParentVariableIsUpdated() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("2"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("3"));
+    setVariableLocal(parent, wrapString("c"), asMsgPack("4"));
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{'a': 3, 'b': 2, 'c': 4}");
+    assertEquality(
+        variableState.getVariablesAsDocument(child, List.of(wrapString("a"))), "{'a': 3}");
+  }
+
+  @Test
+  public void shouldCollectVariablesAsDocumentAfterScopeIsRemoved() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(child, wrapString("a"), asMsgPack("1"));
+    variableState.getVariablesAsDocument(child);
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(child), "{}");
+  }
+
+  @Test
+  public void shouldCollectVariablesAsDocumentAfterCacheIsCleared() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.getVariablesAsDocument(parent);
+
+    // when
+    variableState.clearCache();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(parent), "{'a': 1}");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -13,9 +13,12 @@ import io.camunda.zeebe.auth.impl.Authorization;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.camunda.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
+import io.camunda.zeebe.gateway.impl.broker.BatchRequestSender;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.configuration.MultiTenancyCfg;
@@ -25,6 +28,7 @@ import io.camunda.zeebe.gateway.interceptors.InterceptorUtil;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -33,10 +37,14 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeployProcessRequest;
@@ -56,6 +64,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBr
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -70,21 +80,27 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutReque
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobTimeoutResponse;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.VersionUtil;
 import io.grpc.Context;
+import io.grpc.Status;
 import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  private static final GrpcErrorMapper BATCH_ITEM_ERROR_MAPPER = new GrpcErrorMapper();
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
+  private final BatchRequestSender batchRequestSender;
   private final StreamJobsHandler streamJobsHandler;
   private final MultiTenancyCfg multiTenancy;
 
@@ -92,12 +108,14 @@ public final class EndpointManager {
       final BrokerClient brokerClient,
       final ActivateJobsHandler activateJobsHandler,
       final StreamJobsHandler streamJobsHandler,
-      final MultiTenancyCfg multiTenancy) {
+      final MultiTenancyCfg multiTenancy,
+      final long maxMessageSize) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
     this.streamJobsHandler = streamJobsHandler;
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
+    batchRequestSender = new BatchRequestSender(brokerClient, topologyManager, maxMessageSize);
     this.multiTenancy = multiTenancy;
     RequestMapper.setMultiTenancyEnabled(multiTenancy.isEnabled());
   }
@@ -419,6 +437,39 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCompleteJobRequest,
+        ResponseMapper::toCompleteJobResponse,
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
+  public void createProcessInstances(
+      final CreateProcessInstancesRequest request,
+      final ServerStreamObserver<CreateProcessInstancesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toCreateProcessInstanceRequest,
+        ResponseMapper::toCreateProcessInstanceResponse,
+        ResponseMapper::toCreateProcessInstancesResponse,
+        responseObserver);
+  }
+
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    sendBatchRequest(
+        request.getRequestsList(),
+        RequestMapper::toPublishMessageRequest,
+        ResponseMapper::toPublishMessageResponse,
+        ResponseMapper::toPublishMessagesResponse,
+        responseObserver);
+  }
+
   private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendRequest(
       final GrpcRequestT grpcRequest,
       final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
@@ -481,12 +532,74 @@ public final class EndpointManager {
         timeout);
   }
 
-  private <GrpcRequestT, BrokerResponseT> BrokerRequest<BrokerResponseT> mapToBrokerRequest(
+  /**
+   * Sends each of the given requests as if it was sent on its own, but groups them by partition
+   * so that only one request per partition is sent to the brokers. Requests which fail, e.g.
+   * because they are rejected, don't fail the others; their error is returned in place of their
+   * response instead.
+   */
+  private <GrpcRequestT, BrokerResponseT, GrpcResponseT, GrpcBatchResponseT>
+      void sendBatchRequest(
+          final List<GrpcRequestT> grpcRequests,
+          final Function<GrpcRequestT, ? extends BrokerExecuteCommand<BrokerResponseT>>
+              requestMapper,
+          final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
+          final Function<List<Either<BatchItemError, GrpcResponseT>>, GrpcBatchResponseT>
+              batchResponseMapper,
+          final ServerStreamObserver<GrpcBatchResponseT> streamObserver) {
+    final List<Either<BatchItemError, GrpcResponseT>> results = new ArrayList<>();
+    final List<BrokerExecuteCommand<BrokerResponseT>> brokerRequests = new ArrayList<>();
+    final List<Integer> brokerRequestIndexes = new ArrayList<>();
+
+    for (final GrpcRequestT grpcRequest : grpcRequests) {
+      try {
+        brokerRequests.add(mapToBrokerRequest(grpcRequest, requestMapper));
+        brokerRequestIndexes.add(results.size());
+        results.add(null);
+      } catch (final Exception e) {
+        results.add(Either.left(toBatchItemError(e)));
+      }
+    }
+
+    batchRequestSender
+        .sendRequests(brokerRequests)
+        .whenComplete(
+            (brokerResults, error) -> {
+              if (error != null) {
+                streamObserver.onError(error);
+                return;
+              }
+
+              for (int i = 0; i < brokerResults.size(); i++) {
+                final Either<BatchItemError, GrpcResponseT> result =
+                    brokerResults
+                        .get(i)
+                        .map(
+                            response ->
+                                responseMapper.apply(response.getKey(), response.getResponse()))
+                        .mapLeft(this::toBatchItemError);
+                results.set(brokerRequestIndexes.get(i), result);
+              }
+
+              streamObserver.onNext(batchResponseMapper.apply(results));
+              streamObserver.onCompleted();
+            });
+  }
+
+  private BatchItemError toBatchItemError(final Throwable error) {
+    final Status status = BATCH_ITEM_ERROR_MAPPER.mapError(error).getStatus();
+    return BatchItemError.newBuilder()
+        .setCode(status.getCode().value())
+        .setMessage(Objects.requireNonNullElse(status.getDescription(), ""))
+        .build();
+  }
+
+  private <GrpcRequestT, BrokerRequestT extends BrokerRequest<?>> BrokerRequestT mapToBrokerRequest(
       final GrpcRequestT grpcRequest,
-      final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper)
+      final Function<GrpcRequestT, ? extends BrokerRequestT> requestMapper)
       throws Exception {
 
-    final BrokerRequest<BrokerResponseT> brokerRequest = requestMapper.apply(grpcRequest);
+    final BrokerRequestT brokerRequest = requestMapper.apply(grpcRequest);
 
     final List<String> authorizedTenants =
         multiTenancy.isEnabled()
@@ -165,7 +165,12 @@ public final class Gateway implements CloseableSilently {
     applySecurityConfiguration(serverBuilder);
 
     final var endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, streamJobsHandler, multiTenancy);
+        new EndpointManager(
+            brokerClient,
+            activateJobsHandler,
+            streamJobsHandler,
+            multiTenancy,
+            network.getMaxMessageSize().toBytes());
     final var gatewayGrpcService = new GatewayGrpcService(endpointManager);
     return buildServer(serverBuilder, gatewayGrpcService);
   }
@@ -64,6 +64,7 @@ import io.grpc.Context;
 import java.util.List;
 import java.util.regex.Pattern;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.apache.commons.lang3.StringUtils;
 
@@ -292,7 +293,9 @@ public final class RequestMapper {
       return DocumentValue.EMPTY_DOCUMENT;
     } else {
       try {
-        return new UnsafeBuffer(MsgPackConverter.convertToMsgPack(value));
+        final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer(value.length());
+        final int length = MsgPackConverter.convertToMsgPack(value, buffer, 0);
+        return new UnsafeBuffer(buffer, 0, length);
       } catch (final RuntimeException e) {
         final var cause = e.getCause();
         if (cause instanceof final JsonParseException parseException) {
@@ -7,16 +7,20 @@
  */
 package io.camunda.zeebe.gateway;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BatchItemError;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionRequirementsMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceResponse;
@@ -33,6 +37,8 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.MigrateProcessInstanc
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ModifyProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ProcessMetadata;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -55,6 +61,7 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import io.camunda.zeebe.util.Either;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -393,8 +400,58 @@ public final class ResponseMapper {
         .build();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final List<Either<BatchItemError, CompleteJobResponse>> results) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    for (final var result : results) {
+      final CompleteJobsResult.Builder resultBuilder = CompleteJobsResult.newBuilder();
+      if (result.isRight()) {
+        resultBuilder.setResponse(result.get());
+      } else {
+        resultBuilder.setError(result.getLeft());
+      }
+      responseBuilder.addResults(resultBuilder);
+    }
+
+    return responseBuilder.build();
+  }
+
+  public static CreateProcessInstancesResponse toCreateProcessInstancesResponse(
+      final List<Either<BatchItemError, CreateProcessInstanceResponse>> results) {
+    final CreateProcessInstancesResponse.Builder responseBuilder =
+        CreateProcessInstancesResponse.newBuilder();
+    for (final var result : results) {
+      final CreateProcessInstancesResult.Builder resultBuilder =
+          CreateProcessInstancesResult.newBuilder();
+      if (result.isRight()) {
+        resultBuilder.setResponse(result.get());
+      } else {
+        resultBuilder.setError(result.getLeft());
+      }
+      responseBuilder.addResults(resultBuilder);
+    }
+
+    return responseBuilder.build();
+  }
+
+  public static PublishMessagesResponse toPublishMessagesResponse(
+      final List<Either<BatchItemError, PublishMessageResponse>> results) {
+    final PublishMessagesResponse.Builder responseBuilder = PublishMessagesResponse.newBuilder();
+    for (final var result : results) {
+      final PublishMessagesResult.Builder resultBuilder = PublishMessagesResult.newBuilder();
+      if (result.isRight()) {
+        resultBuilder.setResponse(result.get());
+      } else {
+        resultBuilder.setError(result.getLeft());
+      }
+      responseBuilder.addResults(resultBuilder);
+    }
+
+    return responseBuilder.build();
+  }
+
   private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+    return MsgPackConverter.convertToJson(customHeaders);
   }
 
   public record JobActivationResult(
@@ -0,0 +1,175 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.BrokerErrorException;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.RequestDispatchStrategy;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.collections.Int2ObjectHashMap;
+
+/**
+ * Sends multiple commands of the same kind with as few requests as possible. The commands are
+ * grouped by the partition they would be sent to on their own, and each group is sent as one
+ * {@link BrokerExecuteCommandBatch}, which the broker appends to its log with a single write.
+ *
+ * <p>A group is split into multiple batches if it has more than {@link
+ * BrokerExecuteCommandBatch#MAX_BATCH_SIZE} commands, or if its commands wouldn't fit into a single
+ * message. The broker rejects a batch which exceeds the max message size as a whole.
+ *
+ * <p>Each command succeeds or fails on its own. A failure of a whole batch, e.g. a timeout, fails
+ * only the commands of that batch.
+ */
+public final class BatchRequestSender {
+
+  private static final int MAX_BATCH_SIZE = BrokerExecuteCommandBatch.MAX_BATCH_SIZE;
+
+  /**
+   * The broker appends each command with its own record metadata and log frame, which are not part
+   * of the request, so some room is reserved for them per command.
+   */
+  private static final int COMMAND_OVERHEAD = 512;
+
+  private final RequestDispatchStrategy roundRobinDispatchStrategy =
+      RequestDispatchStrategy.roundRobin();
+
+  private final BrokerClient brokerClient;
+  private final BrokerTopologyManager topologyManager;
+  private final long maxMessageSize;
+
+  public BatchRequestSender(
+      final BrokerClient brokerClient,
+      final BrokerTopologyManager topologyManager,
+      final long maxMessageSize) {
+    this.brokerClient = brokerClient;
+    this.topologyManager = topologyManager;
+    this.maxMessageSize = maxMessageSize;
+  }
+
+  /**
+   * Sends the given commands, grouped by partition.
+   *
+   * @param commands the commands to send, which must all be of the same type
+   * @return a future which is completed once every command was answered; it contains a result per
+   *     command, in the order of the commands. A result is either the response, or the error with
+   *     which the command would have failed if sent on its own.
+   */
+  public <T> CompletableFuture<List<Either<Throwable, BrokerResponse<T>>>> sendRequests(
+      final List<? extends BrokerExecuteCommand<T>> commands) {
+    final List<Either<Throwable, BrokerResponse<T>>> results = new ArrayList<>(commands.size());
+    final Int2ObjectHashMap<List<Integer>> commandsByPartition = new Int2ObjectHashMap<>();
+
+    for (int i = 0; i < commands.size(); i++) {
+      results.add(null);
+      try {
+        final int partitionId = determinePartition(commands.get(i));
+        commandsByPartition.computeIfAbsent(partitionId, p -> new ArrayList<>()).add(i);
+      } catch (final RuntimeException e) {
+        results.set(i, Either.left(e));
+      }
+    }
+
+    final List<CompletableFuture<Void>> batches = new ArrayList<>();
+    commandsByPartition.forEach(
+        (partitionId, indexes) -> {
+          int from = 0;
+          long batchLength = 0;
+          for (int i = 0; i < indexes.size(); i++) {
+            final long commandLength = estimateLength(commands.get(indexes.get(i)));
+            final boolean isFull =
+                i - from == MAX_BATCH_SIZE || batchLength + commandLength > maxMessageSize;
+            if (i > from && isFull) {
+              batches.add(sendBatch(partitionId, commands, indexes.subList(from, i), results));
+              from = i;
+              batchLength = 0;
+            }
+            batchLength += commandLength;
+          }
+          batches.add(
+              sendBatch(partitionId, commands, indexes.subList(from, indexes.size()), results));
+        });
+
+    return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+        .thenApply(ok -> results);
+  }
+
+  private <T> CompletableFuture<Void> sendBatch(
+      final int partitionId,
+      final List<? extends BrokerExecuteCommand<T>> commands,
+      final List<Integer> indexes,
+      final List<Either<Throwable, BrokerResponse<T>>> results) {
+    final var batch =
+        new BrokerExecuteCommandBatch<T>(partitionId, commands.get(indexes.get(0)).getType());
+    indexes.forEach(index -> batch.addCommand(commands.get(index)));
+
+    return brokerClient
+        .sendRequestWithRetry(batch)
+        .handle(
+            (response, error) -> {
+              // every batch writes to distinct indexes of the results, and the results are only
+              // read once all batches are completed
+              for (int i = 0; i < indexes.size(); i++) {
+                final int index = indexes.get(i);
+                if (error != null) {
+                  results.set(index, Either.left(error));
+                } else {
+                  results.set(index, toResult(response.getResponse().get(i)));
+                }
+              }
+              return null;
+            });
+  }
+
+  private <T> Either<Throwable, BrokerResponse<T>> toResult(final BrokerResponse<T> response) {
+    if (response.isRejection()) {
+      return Either.left(new BrokerRejectionException(response.getRejection()));
+    } else if (response.isError()) {
+      return Either.left(new BrokerErrorException(response.getError()));
+    } else {
+      return Either.right(response);
+    }
+  }
+
+  /**
+   * Estimates the length of the command within a batch. The value of the command is only
+   * serialized when the batch is sent, so its length is added to the length of the request.
+   */
+  private static long estimateLength(final BrokerExecuteCommand<?> command) {
+    final var value = command.getRequestWriter();
+    final int valueLength = value != null ? value.getLength() : 0;
+    return (long) command.getLength() + valueLength + COMMAND_OVERHEAD;
+  }
+
+  private int determinePartition(final BrokerExecuteCommand<?> command) {
+    if (command.addressesSpecificPartition()) {
+      return command.getPartitionId();
+    }
+
+    final int partitionId =
+        command
+            .requestDispatchStrategy()
+            .orElse(roundRobinDispatchStrategy)
+            .determinePartition(topologyManager);
+    if (partitionId == BrokerClusterState.PARTITION_ID_NULL) {
+      // same as for single requests, fall back to the first partition if there is no topology yet
+      return Protocol.DEPLOYMENT_PARTITION;
+    }
+
+    return partitionId;
+  }
+}
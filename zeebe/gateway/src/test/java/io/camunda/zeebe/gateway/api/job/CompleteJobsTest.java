@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult.ResultCase;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldSendOneBatchPerPartition() {
+    // given
+    brokerClient.registerHandler(BrokerExecuteCommandBatch.class, this::completeAll);
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 1)))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(2, 2)))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 3)))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(result -> result.getResultCase())
+        .containsOnly(ResultCase.RESPONSE)
+        .hasSize(3);
+    assertThat(brokerClient.getBrokerRequests())
+        .hasSize(2)
+        .extracting(batch -> batch.getPartitionId())
+        .containsExactlyInAnyOrder(1, 2);
+  }
+
+  @Test
+  public void shouldReturnErrorPerRejectedJob() {
+    // given
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (BrokerExecuteCommandBatch<JobRecord> batch) -> {
+          final List<BrokerResponse<JobRecord>> responses = new ArrayList<>();
+          responses.add(new BrokerResponse<>(new JobRecord(), 1, jobKey(1, 1)));
+          responses.add(
+              new BrokerRejectionResponse<>(
+                  new BrokerRejection(
+                      JobIntent.COMPLETE, jobKey(1, 2), RejectionType.NOT_FOUND, "not found")));
+          return new BrokerResponse<>(responses, 1, -1);
+        });
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 1)))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 2)))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResults(0).getResultCase()).isEqualTo(ResultCase.RESPONSE);
+    assertThat(response.getResults(1).getResultCase()).isEqualTo(ResultCase.ERROR);
+    assertThat(response.getResults(1).getError().getCode()).isEqualTo(Code.NOT_FOUND.value());
+  }
+
+  @Test
+  public void shouldReturnErrorForInvalidRequestOnly() {
+    // given
+    brokerClient.registerHandler(BrokerExecuteCommandBatch.class, this::completeAll);
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 1)).setVariables("["))
+            .addRequests(CompleteJobRequest.newBuilder().setJobKey(jobKey(1, 2)))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResults(0).getError().getCode())
+        .isEqualTo(Code.INVALID_ARGUMENT.value());
+    assertThat(response.getResults(1).getResultCase()).isEqualTo(ResultCase.RESPONSE);
+    assertThat(brokerClient.<BrokerExecuteCommandBatch<JobRecord>>getSingleBrokerRequest())
+        .extracting(batch -> batch.getCommands().size())
+        .isEqualTo(1);
+  }
+
+  private BrokerResponse<List<BrokerResponse<JobRecord>>> completeAll(
+      final BrokerExecuteCommandBatch<JobRecord> batch) {
+    final List<BrokerResponse<JobRecord>> responses = new ArrayList<>();
+    batch
+        .getCommands()
+        .forEach(
+            command ->
+                responses.add(
+                    new BrokerResponse<>(
+                        new JobRecord(), batch.getPartitionId(), command.getKey())));
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+
+  private static long jobKey(final int partitionId, final long key) {
+    return Protocol.encodePartitionId(partitionId, key);
+  }
+}
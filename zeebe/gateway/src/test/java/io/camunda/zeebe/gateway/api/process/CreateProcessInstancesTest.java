@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRejectionResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstancesResult.ResultCase;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
+import io.grpc.Status.Code;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class CreateProcessInstancesTest extends GatewayTest {
+
+  @Test
+  public void shouldReturnResultsInOrderOfRequests() {
+    // given
+    brokerClient.registerHandler(BrokerExecuteCommandBatch.class, this::createAll);
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("first"))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("second"))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("third"))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CreateProcessInstancesResult::getResultCase)
+        .containsOnly(ResultCase.RESPONSE);
+    assertThat(response.getResultsList())
+        .extracting(result -> result.getResponse().getBpmnProcessId())
+        .containsExactly("first", "second", "third");
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(batch -> ((BrokerExecuteCommandBatch<?>) batch).getCommands().size())
+        .containsOnly(1)
+        .hasSize(3);
+  }
+
+  @Test
+  public void shouldReturnErrorPerRejectedInstance() {
+    // given
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (BrokerExecuteCommandBatch<ProcessInstanceCreationRecord> batch) -> {
+          final List<BrokerResponse<ProcessInstanceCreationRecord>> responses = new ArrayList<>();
+          responses.add(
+              new BrokerRejectionResponse<>(
+                  new BrokerRejection(
+                      ProcessInstanceCreationIntent.CREATE,
+                      -1,
+                      RejectionType.NOT_FOUND,
+                      "process not found")));
+          return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+        });
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("unknown"))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .singleElement()
+        .satisfies(
+            result -> {
+              assertThat(result.getResultCase()).isEqualTo(ResultCase.ERROR);
+              assertThat(result.getError().getCode()).isEqualTo(Code.NOT_FOUND.value());
+              assertThat(result.getError().getMessage()).contains("process not found");
+            });
+  }
+
+  @Test
+  public void shouldReturnErrorForInvalidRequestOnly() {
+    // given
+    brokerClient.registerHandler(BrokerExecuteCommandBatch.class, this::createAll);
+    final CreateProcessInstancesRequest request =
+        CreateProcessInstancesRequest.newBuilder()
+            .addRequests(
+                CreateProcessInstanceRequest.newBuilder()
+                    .setBpmnProcessId("invalid")
+                    .setVariables("["))
+            .addRequests(CreateProcessInstanceRequest.newBuilder().setBpmnProcessId("valid"))
+            .build();
+
+    // when
+    final CreateProcessInstancesResponse response = client.createProcessInstances(request);
+
+    // then
+    assertThat(response.getResults(0).getError().getCode())
+        .isEqualTo(Code.INVALID_ARGUMENT.value());
+    assertThat(response.getResults(1).getResponse().getBpmnProcessId()).isEqualTo("valid");
+
+    final BrokerExecuteCommandBatch<ProcessInstanceCreationRecord> batch =
+        brokerClient.getSingleBrokerRequest();
+    assertThat(batch.getCommands()).hasSize(1);
+  }
+
+  private BrokerResponse<List<BrokerResponse<ProcessInstanceCreationRecord>>> createAll(
+      final BrokerExecuteCommandBatch<ProcessInstanceCreationRecord> batch) {
+    final List<BrokerResponse<ProcessInstanceCreationRecord>> responses = new ArrayList<>();
+    batch
+        .getCommands()
+        .forEach(
+            command -> {
+              final var requestRecord = (ProcessInstanceCreationRecord) command.getRequestWriter();
+              final long processInstanceKey =
+                  Protocol.encodePartitionId(batch.getPartitionId(), responses.size() + 1);
+              final var record =
+                  new ProcessInstanceCreationRecord()
+                      .setBpmnProcessId(requestRecord.getBpmnProcessIdBuffer())
+                      .setProcessInstanceKey(processInstanceKey);
+              responses.add(
+                  new BrokerResponse<>(record, batch.getPartitionId(), processInstanceKey));
+            });
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.api.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResult.ResultCase;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.SubscriptionUtil;
+import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends GatewayTest {
+
+  private static final int PARTITION_COUNT = 8;
+
+  @Test
+  public void shouldSendOneBatchPerPartitionOfCorrelationKey() {
+    // given
+    brokerClient.registerHandler(BrokerExecuteCommandBatch.class, this::publishAll);
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addRequests(message("first", "key-1"))
+            .addRequests(message("second", "key-2"))
+            .addRequests(message("third", "key-1"))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(PublishMessagesResult::getResultCase)
+        .containsOnly(ResultCase.RESPONSE)
+        .hasSize(3);
+    assertThat(response.getResultsList())
+        .extracting(result -> Protocol.decodePartitionId(result.getResponse().getKey()))
+        .containsExactly(partitionOf("key-1"), partitionOf("key-2"), partitionOf("key-1"));
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(batch -> ((BrokerExecuteCommandBatch<?>) batch).getPartitionId())
+        .containsOnly(partitionOf("key-1"), partitionOf("key-2"))
+        .doesNotHaveDuplicates();
+  }
+
+  @Test
+  public void shouldFailOnlyMessagesOfFailedBatch() {
+    // given
+    final int failingPartition = partitionOf("failing");
+    brokerClient.registerHandler(
+        BrokerExecuteCommandBatch.class,
+        (BrokerExecuteCommandBatch<MessageRecord> batch) -> {
+          if (batch.getPartitionId() == failingPartition) {
+            throw new IllegalStateException("expected");
+          }
+          return publishAll(batch);
+        });
+    final String otherCorrelationKey = correlationKeyOnOtherPartition(failingPartition);
+    final PublishMessagesRequest request =
+        PublishMessagesRequest.newBuilder()
+            .addRequests(message("failing", "failing"))
+            .addRequests(message("other", otherCorrelationKey))
+            .build();
+
+    // when
+    final PublishMessagesResponse response = client.publishMessages(request);
+
+    // then
+    assertThat(response.getResults(0).getResultCase()).isEqualTo(ResultCase.ERROR);
+    assertThat(response.getResults(1).getResultCase()).isEqualTo(ResultCase.RESPONSE);
+  }
+
+  private PublishMessageRequest message(final String name, final String correlationKey) {
+    return PublishMessageRequest.newBuilder()
+        .setName(name)
+        .setCorrelationKey(correlationKey)
+        .setTimeToLive(0)
+        .build();
+  }
+
+  private BrokerResponse<List<BrokerResponse<MessageRecord>>> publishAll(
+      final BrokerExecuteCommandBatch<MessageRecord> batch) {
+    final List<BrokerResponse<MessageRecord>> responses = new ArrayList<>();
+    batch
+        .getCommands()
+        .forEach(
+            command -> {
+              final long key =
+                  Protocol.encodePartitionId(batch.getPartitionId(), responses.size() + 1);
+              responses.add(new BrokerResponse<>(new MessageRecord(), batch.getPartitionId(), key));
+            });
+    return new BrokerResponse<>(responses, batch.getPartitionId(), -1);
+  }
+
+  private String correlationKeyOnOtherPartition(final int partitionId) {
+    int i = 0;
+    while (partitionOf("key-" + i) == partitionId) {
+      i++;
+    }
+    return "key-" + i;
+  }
+
+  private static int partitionOf(final String correlationKey) {
+    return SubscriptionUtil.getSubscriptionPartitionId(
+        BufferUtil.wrapString(correlationKey), PARTITION_COUNT);
+  }
+}
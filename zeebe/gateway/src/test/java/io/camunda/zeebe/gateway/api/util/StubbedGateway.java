@@ -86,7 +86,12 @@ public final class StubbedGateway {
 
     final MultiTenancyCfg multiTenancy = config.getMultiTenancy();
     final EndpointManager endpointManager =
-        new EndpointManager(brokerClient, activateJobsHandler, clientStreamAdapter, multiTenancy);
+        new EndpointManager(
+            brokerClient,
+            activateJobsHandler,
+            clientStreamAdapter,
+            multiTenancy,
+            config.getNetwork().getMaxMessageSize().toBytes());
     final GatewayGrpcService gatewayGrpcService = new GatewayGrpcService(endpointManager);
 
     final InProcessServerBuilder serverBuilder =
@@ -127,6 +127,53 @@ public final class MsgPackConverterTest {
     assertThat(json).isEqualTo("null");
   }
 
+  @Test
+  public void shouldConvertNestedDocumentBackAndForth() {
+    // given
+    final String json =
+        "{\"a\":[1,-200,3.5,true,null,\"x\\\"y\"],\"b\":{\"c\":\"\u00fc\\n\",\"d\":{}},\"e\":[]}";
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // then
+    assertThat(MsgPackConverter.convertToJson(msgPack)).isEqualTo(json);
+  }
+
+  @Test
+  public void shouldConvertSingleQuotedJsonToMsgPack() {
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{'key1':1,'key2':2}");
+
+    // then
+    assertThat(msgPack).isEqualTo(MSG_PACK);
+  }
+
+  @Test
+  public void shouldUseCompactHeadersWhenConvertingToMsgPack() {
+    // given
+    final StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < 20; i++) {
+      json.append(i > 0 ? "," : "").append("\"").append("x".repeat(40)).append("\"");
+    }
+    json.append("]");
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json.toString());
+
+    // then
+    final byte[] expected =
+        MsgPackUtil.encodeMsgPack(
+                b -> {
+                  b.packArrayHeader(20);
+                  for (int i = 0; i < 20; i++) {
+                    b.packString("x".repeat(40));
+                  }
+                })
+            .byteArray();
+    assertThat(msgPack).isEqualTo(expected);
+  }
+
   @Test
   public void shouldThrowExceptionIfNotAJsonObject() {
     // then
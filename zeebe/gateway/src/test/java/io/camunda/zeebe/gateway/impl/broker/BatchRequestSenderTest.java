@@ -0,0 +1,144 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommandBatch;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class BatchRequestSenderTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final long MAX_MESSAGE_SIZE = 32 * 1024;
+
+  private final List<BrokerExecuteCommandBatch<JobRecord>> sentBatches = new ArrayList<>();
+  private BatchRequestSender sender;
+
+  @BeforeEach
+  void setUp() {
+    final var brokerClient = mock(BrokerClient.class);
+    when(brokerClient.sendRequestWithRetry(any(BrokerRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              final BrokerExecuteCommandBatch<JobRecord> batch = invocation.getArgument(0);
+              sentBatches.add(batch);
+              final List<BrokerResponse<JobRecord>> responses =
+                  batch.getCommands().stream()
+                      .map(command -> new BrokerResponse<>(new JobRecord(), PARTITION_ID, 1L))
+                      .toList();
+              return CompletableFuture.completedFuture(
+                  new BrokerResponse<>(responses, PARTITION_ID, -1));
+            });
+
+    sender =
+        new BatchRequestSender(brokerClient, mock(BrokerTopologyManager.class), MAX_MESSAGE_SIZE);
+  }
+
+  @Test
+  void shouldSendCommandsOfPartitionAsOneBatch() {
+    // given
+    final var commands = completeJobCommands(10, 100);
+
+    // when
+    final var results = sender.sendRequests(commands).join();
+
+    // then
+    assertThat(sentBatches).hasSize(1);
+    assertThat(sentBatches.get(0).getCommands()).containsExactlyElementsOf(commands);
+    assertThat(results).hasSize(10).allMatch(Either::isRight);
+  }
+
+  @Test
+  void shouldSplitBatchWithMoreCommandsThanMaxBatchSize() {
+    // given
+    final var commands = completeJobCommands(BrokerExecuteCommandBatch.MAX_BATCH_SIZE + 1, 10);
+
+    // when
+    final var results = sender.sendRequests(commands).join();
+
+    // then
+    assertThat(sentBatches)
+        .extracting(batch -> batch.getCommands().size())
+        .containsExactly(BrokerExecuteCommandBatch.MAX_BATCH_SIZE, 1);
+    assertThat(results).hasSize(commands.size()).allMatch(Either::isRight);
+  }
+
+  @Test
+  void shouldSplitBatchWhichExceedsMaxMessageSize() {
+    // given - each command takes more than a quarter of a message
+    final var commands = completeJobCommands(10, (int) MAX_MESSAGE_SIZE / 4);
+
+    // when
+    final var results = sender.sendRequests(commands).join();
+
+    // then
+    assertThat(sentBatches)
+        .extracting(batch -> batch.getCommands().size())
+        .containsExactly(3, 3, 3, 1);
+    assertThat(sentBatches)
+        .allSatisfy(
+            batch -> {
+              batch.serializeValue();
+              assertThat(batch.getLength()).isLessThanOrEqualTo((int) MAX_MESSAGE_SIZE);
+            });
+    assertThat(sentBatches.stream().flatMap(batch -> batch.getCommands().stream()))
+        .containsExactlyElementsOf(commands);
+    assertThat(results).hasSize(10).allMatch(Either::isRight);
+  }
+
+  @Test
+  void shouldSendCommandWhichExceedsMaxMessageSizeOnItsOwn() {
+    // given
+    final var commands = completeJobCommands(3, (int) MAX_MESSAGE_SIZE);
+
+    // when
+    final var results = sender.sendRequests(commands).join();
+
+    // then
+    assertThat(sentBatches)
+        .extracting(batch -> batch.getCommands().size())
+        .containsExactly(1, 1, 1);
+    assertThat(results).hasSize(3).allMatch(Either::isRight);
+  }
+
+  private static List<BrokerCompleteJobRequest> completeJobCommands(
+      final int count, final int variablesSize) {
+    final DirectBuffer variables =
+        MsgPackUtil.asMsgPack(Map.<String, Object>of("x", "a".repeat(variablesSize)));
+    return IntStream.range(0, count)
+        .mapToObj(
+            i -> {
+              final var command =
+                  new BrokerCompleteJobRequest(
+                      Protocol.encodePartitionId(PARTITION_ID, i), variables);
+              command.setPartitionId(PARTITION_ID);
+              return command;
+            })
+        .toList();
+  }
+}
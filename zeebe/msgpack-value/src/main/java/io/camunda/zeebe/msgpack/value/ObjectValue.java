@@ -14,6 +14,7 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +23,15 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  /**
+   * Open addressing hash table mapping the hash of a declared key to the index of its property plus
+   * one (zero marks an empty slot). It is built lazily on the first read after the declared
+   * properties changed.
+   */
+  private int[] declaredKeyIndex;
+
+  private int declaredKeyIndexMask;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +44,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredKeyIndex = null;
     return this;
   }
 
@@ -97,22 +108,20 @@ public class ObjectValue extends BaseValue {
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
 
+    // properties written by this class are in declaration order, so we expect the next key to
+    // belong to the property following the one we matched last
+    int expectedIndex = 0;
+
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+      final BaseProperty<? extends BaseValue> prop;
+      final int declaredIndex = findDeclaredProperty(decodedKey, expectedIndex);
 
-      if (prop == null) {
+      if (declaredIndex >= 0) {
+        prop = declaredProperties.get(declaredIndex);
+        expectedIndex = declaredIndex + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
@@ -133,6 +142,62 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Returns the index of the declared property with the given key, or -1 if no such property was
+   * declared. Checks the expected index first, which is a hit whenever the keys are encoded in
+   * declaration order, and otherwise falls back to the key hash index.
+   */
+  private int findDeclaredProperty(final StringValue key, final int expectedIndex) {
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    if (declaredKeyIndex == null) {
+      indexDeclaredKeys();
+    }
+
+    int slot = hashKey(key) & declaredKeyIndexMask;
+    while (declaredKeyIndex[slot] != 0) {
+      final int index = declaredKeyIndex[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+      slot = (slot + 1) & declaredKeyIndexMask;
+    }
+
+    return -1;
+  }
+
+  private void indexDeclaredKeys() {
+    final int declaredCount = declaredProperties.size();
+    // keep the load factor at or below 0.5 so that probe sequences stay short
+    final int capacity = Integer.highestOneBit(Math.max(declaredCount, 1) * 2) << 1;
+
+    declaredKeyIndex = new int[capacity];
+    declaredKeyIndexMask = capacity - 1;
+
+    for (int i = 0; i < declaredCount; i++) {
+      int slot = hashKey(declaredProperties.get(i).getKey()) & declaredKeyIndexMask;
+      while (declaredKeyIndex[slot] != 0) {
+        slot = (slot + 1) & declaredKeyIndexMask;
+      }
+      declaredKeyIndex[slot] = i + 1;
+    }
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = 1;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -141,6 +141,36 @@ public final class ObjectMappingTest {
     assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
   }
 
+  @Test
+  public void shouldDeserializePOJOWrittenInDeclarationOrder() {
+    // given
+    final POJO written = new POJO();
+    written.setEnum(POJOEnum.BAR);
+    written.setLong(456456L);
+    written.setInt(123);
+    written.setString(BUF1);
+    written.setBinary(BUF2);
+    written.setPacked(MSGPACK_BUF1);
+    written.nestedObject().setLong(24L);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[written.getLength()]);
+    written.write(buffer, 0);
+
+    final POJO pojo = new POJO();
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF2);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
   @Test
   public void shouldNotDeserializePOJOWithWrongValueType() {
     // given
@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.partitionIdNullValue;
+
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder;
+import io.camunda.zeebe.protocol.record.ExecuteCommandBatchRequestEncoder.CommandsEncoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderEncoder;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Writes multiple commands for the same partition as a single request. Each command is written
+ * as a complete {@link ExecuteCommandRequest}, so the receiver can decode it exactly like a single
+ * request.
+ */
+public final class ExecuteCommandBatchRequest implements BufferWriter {
+
+  /** The maximum number of commands in one batch, limited by the size of the group counter. */
+  public static final int MAX_BATCH_SIZE = CommandsEncoder.countMaxValue();
+
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final ExecuteCommandBatchRequestEncoder bodyEncoder =
+      new ExecuteCommandBatchRequestEncoder();
+  private final List<BufferWriter> commands = new ArrayList<>();
+  private int partitionId;
+
+  public ExecuteCommandBatchRequest() {
+    reset();
+  }
+
+  public ExecuteCommandBatchRequest reset() {
+    partitionId = partitionIdNullValue();
+    commands.clear();
+    return this;
+  }
+
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  public ExecuteCommandBatchRequest setPartitionId(final int partitionId) {
+    this.partitionId = partitionId;
+    return this;
+  }
+
+  public List<BufferWriter> getCommands() {
+    return commands;
+  }
+
+  public ExecuteCommandBatchRequest addCommand(final BufferWriter command) {
+    if (commands.size() >= MAX_BATCH_SIZE) {
+      throw new IllegalStateException(
+          "Expected to add at most %d commands to a batch, but it is full"
+              .formatted(MAX_BATCH_SIZE));
+    }
+
+    commands.add(command);
+    return this;
+  }
+
+  @Override
+  public int getLength() {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + ExecuteCommandBatchRequestEncoder.BLOCK_LENGTH
+            + CommandsEncoder.sbeHeaderSize();
+
+    for (final BufferWriter command : commands) {
+      length += CommandsEncoder.commandHeaderLength() + command.getLength();
+    }
+
+    return length;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, int offset) {
+    headerEncoder
+        .wrap(buffer, offset)
+        .blockLength(bodyEncoder.sbeBlockLength())
+        .templateId(bodyEncoder.sbeTemplateId())
+        .schemaId(bodyEncoder.sbeSchemaId())
+        .version(bodyEncoder.sbeSchemaVersion());
+
+    offset += headerEncoder.encodedLength();
+
+    bodyEncoder.wrap(buffer, offset).partitionId(partitionId);
+
+    final CommandsEncoder commandsEncoder = bodyEncoder.commandsCount(commands.size());
+    for (final BufferWriter command : commands) {
+      commandsEncoder.next();
+
+      // write the command in place, to avoid serializing it into an intermediate buffer first
+      final int commandLength = command.getLength();
+      int limit = bodyEncoder.limit();
+      buffer.putInt(limit, commandLength, Protocol.ENDIANNESS);
+      limit += CommandsEncoder.commandHeaderLength();
+      command.write(buffer, limit);
+      bodyEncoder.limit(limit + commandLength);
+    }
+  }
+}
@@ -7,15 +7,9 @@
  */
 package io.camunda.zeebe.protocol.impl.encoding;
 
-import static io.camunda.zeebe.util.StringUtil.getBytes;
-
-import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
@@ -23,15 +17,17 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.protocol.record.JsonSerializable;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -42,8 +38,8 @@ public final class MsgPackConverter {
           .maxNumberLength(Integer.MAX_VALUE)
           .maxNestingDepth(Integer.MAX_VALUE)
           .build();
-  private static final JsonEncoding JSON_ENCODING = JsonEncoding.UTF8;
   private static final Charset JSON_CHARSET = StandardCharsets.UTF_8;
+  private static final int MIN_BUFFER_CAPACITY = 128;
   private static final TypeReference<HashMap<String, Object>> OBJECT_MAP_TYPE_REFERENCE =
       new TypeReference<>() {};
   private static final TypeReference<HashMap<String, String>> STRING_MAP_TYPE_REFERENCE =
@@ -78,16 +74,27 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static byte[] convertToMsgPack(final String json) {
-    final byte[] jsonBytes = getBytes(json, JSON_CHARSET);
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonBytes);
-    return convertToMsgPack(inputStream);
-  }
+    final ExpandableArrayBuffer buffer =
+        new ExpandableArrayBuffer(Math.max(json.length(), MIN_BUFFER_CAPACITY));
+    final int length = convertToMsgPack(json, buffer, 0);
 
-  public static byte[] convertToMsgPack(final InputStream inputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(inputStream, outputStream, JSON_FACTORY, MESSAGE_PACK_FACTORY);
+    final byte[] msgPack = new byte[length];
+    buffer.getBytes(0, msgPack);
+    return msgPack;
+  }
 
-      return outputStream.toByteArray();
+  /**
+   * Converts the given JSON document into MessagePack, writing it directly into the given buffer.
+   *
+   * @param json the JSON document to convert
+   * @param buffer the buffer to write to; should be expandable if the size is not known upfront
+   * @param offset the offset in the buffer at which to start writing
+   * @return the number of bytes written
+   */
+  public static int convertToMsgPack(
+      final String json, final MutableDirectBuffer buffer, final int offset) {
+    try {
+      return new MsgPackJsonTranscoder().jsonToMsgPack(json, buffer, offset);
     } catch (final Exception e) {
       if (e instanceof IllegalArgumentException) {
         throw new IllegalArgumentException("Failed to convert JSON to MessagePack", e);
@@ -97,61 +104,67 @@ public final class MsgPackConverter {
     }
   }
 
+  public static byte[] convertToMsgPack(final InputStream inputStream) {
+    final String json;
+    try {
+      json = new String(inputStream.readAllBytes(), JSON_CHARSET);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to convert JSON to MessagePack", e);
+    }
+
+    return convertToMsgPack(json);
+  }
+
   ////////////////////////////////////////////////////////////////////////////////////////////////
   ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    return convertToJson(buffer, 0, buffer.capacity());
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+  private static String convertToJson(
+      final DirectBuffer msgPack, final int offset, final int length) {
+    final ExpandableArrayBuffer buffer =
+        new ExpandableArrayBuffer(Math.max(length * 2, MIN_BUFFER_CAPACITY));
+    final int jsonLength = convertToJson(msgPack, offset, length, buffer, 0);
+    return buffer.getStringWithoutLengthUtf8(0, jsonLength);
   }
 
-  public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
-    return new ByteArrayInputStream(jsonBytes);
-  }
-
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
-  }
-
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
-
-      return outputStream.toByteArray();
+  /**
+   * Converts the given MessagePack value into UTF-8 encoded JSON, writing it directly into the
+   * given buffer.
+   *
+   * @param msgPack the buffer containing the MessagePack value
+   * @param offset the offset of the value in the buffer
+   * @param length the length of the value
+   * @param buffer the buffer to write to; should be expandable if the size is not known upfront
+   * @param bufferOffset the offset in the buffer at which to start writing
+   * @return the number of bytes written
+   */
+  public static int convertToJson(
+      final DirectBuffer msgPack,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer buffer,
+      final int bufferOffset) {
+    try {
+      return new MsgPackJsonTranscoder()
+          .msgPackToJson(msgPack, offset, length, buffer, bufferOffset);
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert MessagePack to JSON", e);
     }
   }
 
-  private static void convert(
-      final InputStream in,
-      final OutputStream out,
-      final JsonFactory inFormat,
-      final JsonFactory outFormat)
-      throws Exception {
-    try (final JsonParser parser = inFormat.createParser(in);
-        final JsonGenerator generator = outFormat.createGenerator(out, JSON_ENCODING)) {
-
-      final JsonToken token = parser.nextToken();
-      if (!token.isStructStart() && !token.isScalarValue()) {
-        throw new RuntimeException(
-            "Document does not begin with an object, an array, or a scalar value");
-      }
-
-      generator.copyCurrentStructure(parser);
-      generator.flush();
-    }
+  public static InputStream convertToJsonInputStream(final byte[] msgPack) {
+    final ExpandableArrayBuffer buffer =
+        new ExpandableArrayBuffer(Math.max(msgPack.length * 2, MIN_BUFFER_CAPACITY));
+    final int jsonLength = convertToJson(new UnsafeBuffer(msgPack), 0, msgPack.length, buffer, 0);
+    return new ByteArrayInputStream(buffer.byteArray(), 0, jsonLength);
   }
 
   ////////////////////////////////////////////////////////////////////////////////////////////////
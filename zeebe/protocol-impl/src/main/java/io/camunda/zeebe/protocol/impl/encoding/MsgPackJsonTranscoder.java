@@ -0,0 +1,785 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import io.camunda.zeebe.msgpack.spec.MsgPackCodes;
+import io.camunda.zeebe.msgpack.spec.MsgPackFormat;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.spec.MsgpackReaderException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Streams JSON text directly into MessagePack and vice versa, without building an intermediate
+ * token tree, {@code byte[]} or {@link String}. Both directions write straight into a
+ * caller-supplied {@link MutableDirectBuffer}; pass an expandable buffer if the size of the result
+ * is not known upfront.
+ *
+ * <p>The produced output matches the one of the Jackson based conversion it replaces: maps,
+ * arrays and strings use the most compact header, JSON strings may use single quotes, and integers
+ * which do not fit into an unsigned 64-bit integer are rejected. Floating point numbers are written
+ * with {@link MsgPackWriter#writeFloat(double)}, i.e. as float32 whenever that is lossless.
+ *
+ * <p>Instances keep some scratch state and are therefore not thread-safe; they can be reused for
+ * any number of conversions on the same thread.
+ */
+public final class MsgPackJsonTranscoder {
+
+  private static final int INITIAL_DEPTH = 16;
+  private static final BigInteger MAX_UINT64 =
+      BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+
+  // container stack, shared by both directions
+  private boolean[] containerIsMap = new boolean[INITIAL_DEPTH];
+  private int[] containerOffset = new int[INITIAL_DEPTH];
+  private int[] containerCount = new int[INITIAL_DEPTH];
+  private int depth;
+
+  // JSON to MessagePack
+  private CharSequence json;
+  private int position;
+  private int[] containerSizes = new int[INITIAL_DEPTH];
+  private int scannedContainers;
+  private int openedContainers;
+  private MutableDirectBuffer msgPack;
+  private int msgPackOffset;
+
+  // MessagePack to JSON
+  private MutableDirectBuffer jsonBuffer;
+  private int jsonOffset;
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Transcodes the first JSON value found in the given text into MessagePack. Any content after
+   * that value is ignored.
+   *
+   * <p>The text is read twice: a first scan counts the entries of each container, so that the
+   * second pass can write every header before its content, and both passes stay linear.
+   *
+   * @param json the JSON text to transcode
+   * @param destination the buffer to write the MessagePack value to
+   * @param offset the offset in the destination at which to start writing
+   * @return the number of bytes written to the destination
+   * @throws JsonParseException if the text is not valid JSON
+   * @throws IllegalArgumentException if the text contains a number which cannot be represented in
+   *     MessagePack
+   */
+  public int jsonToMsgPack(
+      final CharSequence json, final MutableDirectBuffer destination, final int offset)
+      throws JsonParseException {
+    this.json = json;
+    position = 0;
+    msgPack = destination;
+    msgPackOffset = offset;
+
+    try {
+      countContainerEntries();
+      depth = 0;
+      openedContainers = 0;
+      transcodeJson();
+      return msgPackOffset - offset;
+    } finally {
+      this.json = null;
+      msgPack = null;
+    }
+  }
+
+  /**
+   * Records the number of entries of every container of the first JSON value in {@link
+   * #containerSizes}, in the order in which the containers are opened. The scan only tracks quotes,
+   * brackets and commas; the text is validated by the following pass, which never uses the counts
+   * of a text it rejects.
+   */
+  private void countContainerEntries() {
+    scannedContainers = 0;
+    depth = 0;
+
+    for (int i = 0; i < json.length(); i++) {
+      final char c = json.charAt(i);
+      switch (c) {
+        case ' ', '\n', '\r', '\t' -> {}
+        case ',' -> {
+          if (depth > 0) {
+            containerSizes[containerOffset[depth - 1]]++;
+          }
+        }
+        case '{', '[' -> {
+          markContainerNotEmpty();
+          if (scannedContainers == containerSizes.length) {
+            containerSizes = Arrays.copyOf(containerSizes, scannedContainers * 2);
+          }
+          containerSizes[scannedContainers] = 0;
+          pushContainer(c == '{', scannedContainers++);
+        }
+        case '}', ']' -> {
+          if (depth == 0 || --depth == 0) {
+            return;
+          }
+        }
+        default -> {
+          markContainerNotEmpty();
+          if (c == '"' || c == '\'') {
+            i = skipJsonString(i + 1, c);
+          }
+          if (depth == 0) {
+            return;
+          }
+        }
+      }
+    }
+  }
+
+  /** The first entry of a container is not preceded by a comma, so it is counted on sight. */
+  private void markContainerNotEmpty() {
+    if (depth > 0 && containerSizes[containerOffset[depth - 1]] == 0) {
+      containerSizes[containerOffset[depth - 1]] = 1;
+    }
+  }
+
+  /**
+   * @return the index of the closing quote of the string starting at the given index, or the end
+   *     of the text if the string is not closed
+   */
+  private int skipJsonString(final int start, final char quote) {
+    for (int i = start; i < json.length(); i++) {
+      final char c = json.charAt(i);
+      if (c == '\\') {
+        i++;
+      } else if (c == quote) {
+        return i;
+      }
+    }
+
+    return json.length();
+  }
+
+  private void transcodeJson() throws JsonParseException {
+    transcodeJsonValue();
+
+    while (depth > 0) {
+      final int top = depth - 1;
+      final char next = nextNonWhitespace();
+
+      if (containerIsMap[top]) {
+        if (next == ',') {
+          transcodeJsonKey(nextNonWhitespace());
+          transcodeJsonValue();
+        } else if (next == '}') {
+          closeMsgPackContainer();
+        } else {
+          throw parseError(next, "was expecting comma to separate Object entries");
+        }
+      } else {
+        if (next == ',') {
+          transcodeJsonValue();
+        } else if (next == ']') {
+          closeMsgPackContainer();
+        } else {
+          throw parseError(next, "was expecting comma to separate Array entries");
+        }
+      }
+    }
+  }
+
+  /** Transcodes a scalar value, or opens a container and transcodes its first entry. */
+  private void transcodeJsonValue() throws JsonParseException {
+    while (true) {
+      final char next = nextNonWhitespace();
+
+      switch (next) {
+        case '{':
+          openMsgPackContainer(true);
+          final char afterBrace = nextNonWhitespace();
+          if (afterBrace == '}') {
+            closeMsgPackContainer();
+            return;
+          }
+          transcodeJsonKey(afterBrace);
+          continue;
+        case '[':
+          openMsgPackContainer(false);
+          if (peekNonWhitespace() == ']') {
+            position++;
+            closeMsgPackContainer();
+            return;
+          }
+          continue;
+        case '"':
+        case '\'':
+          transcodeJsonString(next);
+          return;
+        case 't':
+          expectLiteral("true");
+          writer.wrap(msgPack, msgPackOffset).writeBoolean(true);
+          msgPackOffset = writer.getOffset();
+          return;
+        case 'f':
+          expectLiteral("false");
+          writer.wrap(msgPack, msgPackOffset).writeBoolean(false);
+          msgPackOffset = writer.getOffset();
+          return;
+        case 'n':
+          expectLiteral("null");
+          writer.wrap(msgPack, msgPackOffset).writeNil();
+          msgPackOffset = writer.getOffset();
+          return;
+        default:
+          if (next == '-' || (next >= '0' && next <= '9')) {
+            transcodeJsonNumber();
+            return;
+          }
+          throw parseError(
+              next,
+              "expected a valid value (JSON String, Number, Array, Object or token 'null', 'true'"
+                  + " or 'false')");
+      }
+    }
+  }
+
+  private void transcodeJsonKey(final char quote) throws JsonParseException {
+    if (quote != '"' && quote != '\'') {
+      throw parseError(quote, "was expecting double-quote to start field name");
+    }
+
+    transcodeJsonString(quote);
+
+    final char separator = nextNonWhitespace();
+    if (separator != ':') {
+      throw parseError(separator, "was expecting a colon to separate field name and value");
+    }
+  }
+
+  private void transcodeJsonString(final char quote) throws JsonParseException {
+    final int start = position;
+    final int length = encodeJsonString(quote, false);
+
+    position = start;
+    writer.wrap(msgPack, msgPackOffset).writeStringHeader(length);
+    msgPackOffset = writer.getOffset();
+    encodeJsonString(quote, true);
+  }
+
+  /**
+   * Decodes the JSON string starting at the current position (after the opening quote) as UTF-8,
+   * optionally writing the bytes to the destination, and moves the position past the closing
+   * quote.
+   *
+   * @return the number of UTF-8 bytes of the decoded string
+   */
+  private int encodeJsonString(final char quote, final boolean write) throws JsonParseException {
+    int length = 0;
+
+    while (true) {
+      final int c = nextStringChar(quote);
+      if (c < 0) {
+        return length;
+      }
+
+      if (c < 0x80) {
+        if (write) {
+          putMsgPackByte(c);
+        }
+        length += 1;
+      } else if (c < 0x800) {
+        if (write) {
+          putMsgPackByte(0xC0 | (c >> 6));
+          putMsgPackByte(0x80 | (c & 0x3F));
+        }
+        length += 2;
+      } else if (Character.isHighSurrogate((char) c)) {
+        final int lowSurrogatePosition = position;
+        final int low = nextStringChar(quote);
+        if (low >= 0 && Character.isLowSurrogate((char) low)) {
+          final int codePoint = Character.toCodePoint((char) c, (char) low);
+          if (write) {
+            putMsgPackByte(0xF0 | (codePoint >> 18));
+            putMsgPackByte(0x80 | ((codePoint >> 12) & 0x3F));
+            putMsgPackByte(0x80 | ((codePoint >> 6) & 0x3F));
+            putMsgPackByte(0x80 | (codePoint & 0x3F));
+          }
+          length += 4;
+        } else {
+          // unpaired surrogates are replaced, the same as String#getBytes does
+          position = lowSurrogatePosition;
+          if (write) {
+            putMsgPackByte('?');
+          }
+          length += 1;
+        }
+      } else if (Character.isLowSurrogate((char) c)) {
+        if (write) {
+          putMsgPackByte('?');
+        }
+        length += 1;
+      } else {
+        if (write) {
+          putMsgPackByte(0xE0 | (c >> 12));
+          putMsgPackByte(0x80 | ((c >> 6) & 0x3F));
+          putMsgPackByte(0x80 | (c & 0x3F));
+        }
+        length += 3;
+      }
+    }
+  }
+
+  /**
+   * @return the next decoded character of the current string, or -1 if the closing quote was
+   *     consumed
+   */
+  private int nextStringChar(final char quote) throws JsonParseException {
+    final char c = nextChar("in a String value");
+
+    if (c == quote) {
+      return -1;
+    } else if (c < 0x20) {
+      throw parseError(
+          c,
+          "Illegal unquoted character: has to be escaped using backslash to be included in string");
+    } else if (c != '\\') {
+      return c;
+    }
+
+    final char escaped = nextChar("in character escape sequence");
+    switch (escaped) {
+      case '"':
+      case '\\':
+      case '/':
+      case '\'':
+        return escaped;
+      case 'b':
+        return '\b';
+      case 'f':
+        return '\f';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 't':
+        return '\t';
+      case 'u':
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+          final int digit = Character.digit(nextChar("in character escape sequence"), 16);
+          if (digit < 0) {
+            throw parseError(
+                json.charAt(position - 1), "expected a hex-digit for character escape sequence");
+          }
+          value = (value << 4) | digit;
+        }
+        return value;
+      default:
+        throw parseError(escaped, "Unrecognized character escape");
+    }
+  }
+
+  private void transcodeJsonNumber() throws JsonParseException {
+    final int start = position - 1;
+    boolean isInteger = true;
+
+    if (json.charAt(start) == '-') {
+      if (!isDigit(peekChar())) {
+        throw parseError(peekChar(), "expected digit (0-9) to follow minus sign");
+      }
+    } else {
+      position = start;
+    }
+
+    final int integerStart = position;
+    skipDigits();
+    if (json.charAt(integerStart) == '0' && position - integerStart > 1) {
+      throw parseError('0', "Leading zeroes not allowed");
+    }
+
+    if (peekChar() == '.') {
+      isInteger = false;
+      position++;
+      if (!isDigit(peekChar())) {
+        throw parseError(peekChar(), "Decimal point not followed by a digit");
+      }
+      skipDigits();
+    }
+
+    final char exponent = peekChar();
+    if (exponent == 'e' || exponent == 'E') {
+      isInteger = false;
+      position++;
+      final char sign = peekChar();
+      if (sign == '+' || sign == '-') {
+        position++;
+      }
+      if (!isDigit(peekChar())) {
+        throw parseError(peekChar(), "Exponent indicator not followed by a digit");
+      }
+      skipDigits();
+    }
+
+    final String number = json.subSequence(start, position).toString();
+    writer.wrap(msgPack, msgPackOffset);
+
+    if (!isInteger) {
+      writer.writeFloat(Double.parseDouble(number));
+    } else if (position - start < 19) {
+      // at most 18 digits always fit into a long
+      writer.writeInteger(Long.parseLong(number));
+    } else {
+      writeBigInteger(new BigInteger(number));
+    }
+
+    msgPackOffset = writer.getOffset();
+  }
+
+  private void writeBigInteger(final BigInteger value) {
+    if (value.bitLength() <= 63) {
+      writer.writeInteger(value.longValue());
+    } else if (value.signum() > 0 && value.compareTo(MAX_UINT64) <= 0) {
+      msgPack.putByte(msgPackOffset, MsgPackCodes.UINT64);
+      msgPack.putLong(msgPackOffset + 1, value.longValue(), MsgPackCodes.BYTE_ORDER);
+      writer.wrap(msgPack, msgPackOffset + 9);
+    } else {
+      throw new IllegalArgumentException(
+          "MessagePack cannot serialize BigInteger larger than 2^64-1");
+    }
+  }
+
+  private void openMsgPackContainer(final boolean isMap) {
+    // a container which the scan did not see belongs to a text which is rejected later on
+    final int index = openedContainers++;
+    final int size = index < scannedContainers ? containerSizes[index] : 0;
+
+    writer.wrap(msgPack, msgPackOffset);
+    if (isMap) {
+      writer.writeMapHeader(size);
+    } else {
+      writer.writeArrayHeader(size);
+    }
+    msgPackOffset = writer.getOffset();
+
+    pushContainer(isMap, index);
+  }
+
+  private void closeMsgPackContainer() {
+    depth--;
+  }
+
+  private void putMsgPackByte(final int b) {
+    msgPack.putByte(msgPackOffset++, (byte) b);
+  }
+
+  private void expectLiteral(final String literal) throws JsonParseException {
+    for (int i = 1; i < literal.length(); i++) {
+      if (position >= json.length() || json.charAt(position) != literal.charAt(i)) {
+        throw unrecognizedToken(position - i);
+      }
+      position++;
+    }
+
+    if (position < json.length() && Character.isJavaIdentifierPart(json.charAt(position))) {
+      throw unrecognizedToken(position - literal.length());
+    }
+  }
+
+  private void skipDigits() {
+    while (isDigit(peekChar())) {
+      position++;
+    }
+  }
+
+  private static boolean isDigit(final char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private char peekChar() {
+    return position < json.length() ? json.charAt(position) : 0;
+  }
+
+  private char peekNonWhitespace() throws JsonParseException {
+    final char next = nextNonWhitespace();
+    position--;
+    return next;
+  }
+
+  private char nextNonWhitespace() throws JsonParseException {
+    while (position < json.length()) {
+      final char c = json.charAt(position++);
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return c;
+      }
+    }
+
+    throw endOfInput("while expecting a value");
+  }
+
+  private char nextChar(final String context) throws JsonParseException {
+    if (position >= json.length()) {
+      throw endOfInput(context);
+    }
+
+    return json.charAt(position++);
+  }
+
+  private JsonParseException unrecognizedToken(final int start) {
+    int end = start;
+    while (end < json.length() && Character.isJavaIdentifierPart(json.charAt(end))) {
+      end++;
+    }
+
+    return new JsonParseException(
+        (JsonParser) null,
+        String.format(
+            "Unrecognized token '%s': was expecting (JSON String, Number, Array, Object or token"
+                + " 'null', 'true' or 'false') at position %d",
+            json.subSequence(start, Math.max(end, start + 1)),
+            start));
+  }
+
+  private JsonParseException parseError(final char c, final String message) {
+    return new JsonParseException(
+        (JsonParser) null,
+        String.format(
+            "Unexpected character ('%s' (code %d)): %s at position %d",
+            c, (int) c, message, position - 1));
+  }
+
+  private JsonParseException endOfInput(final String context) {
+    return new JsonParseException(
+        (JsonParser) null,
+        String.format("Unexpected end-of-input %s at position %d", context, position));
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  /**
+   * Transcodes the first MessagePack value found in the given buffer range into UTF-8 encoded JSON
+   * text.
+   *
+   * @param msgPack the buffer containing the MessagePack value
+   * @param offset the offset of the value in the buffer
+   * @param length the length of the range containing the value
+   * @param destination the buffer to write the JSON text to
+   * @param destinationOffset the offset in the destination at which to start writing
+   * @return the number of bytes written to the destination
+   * @throws MsgpackReaderException if the value contains an extension type or is malformed
+   */
+  public int msgPackToJson(
+      final DirectBuffer msgPack,
+      final int offset,
+      final int length,
+      final MutableDirectBuffer destination,
+      final int destinationOffset) {
+    reader.wrap(msgPack, offset, length);
+    jsonBuffer = destination;
+    jsonOffset = destinationOffset;
+    depth = 0;
+
+    try {
+      transcodeMsgPack();
+      return jsonOffset - destinationOffset;
+    } finally {
+      jsonBuffer = null;
+    }
+  }
+
+  private void transcodeMsgPack() {
+    transcodeMsgPackValue();
+
+    while (depth > 0) {
+      final int top = depth - 1;
+
+      if (containerCount[top] == containerOffset[top]) {
+        putJsonByte(containerIsMap[top] ? '}' : ']');
+        depth--;
+        continue;
+      }
+
+      if (containerCount[top]++ > 0) {
+        putJsonByte(',');
+      }
+
+      if (containerIsMap[top]) {
+        transcodeMsgPackKey();
+        putJsonByte(':');
+      }
+
+      transcodeMsgPackValue();
+    }
+  }
+
+  /** Transcodes a scalar value, or opens a container, which is then filled by the caller. */
+  private void transcodeMsgPackValue() {
+    final DirectBuffer buffer = reader.getBuffer();
+    final byte headerByte = buffer.getByte(reader.getOffset());
+
+    switch (MsgPackFormat.valueOf(headerByte).getType()) {
+      case MAP:
+        // containers track their size in the offset slot and the visited entries in the count
+        pushContainer(true, reader.readMapHeader());
+        putJsonByte('{');
+        break;
+      case ARRAY:
+        pushContainer(false, reader.readArrayHeader());
+        putJsonByte('[');
+        break;
+      case INTEGER:
+        if (headerByte == MsgPackCodes.UINT64) {
+          final long value = buffer.getLong(reader.getOffset() + 1, MsgPackCodes.BYTE_ORDER);
+          reader.skipValue();
+          putJsonAscii(Long.toUnsignedString(value));
+        } else {
+          jsonOffset += jsonBuffer.putLongAscii(jsonOffset, reader.readInteger());
+        }
+        break;
+      case FLOAT:
+        final double value = reader.readFloat();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+          putJsonByte('"');
+          putJsonAscii(Double.toString(value));
+          putJsonByte('"');
+        } else {
+          putJsonAscii(Double.toString(value));
+        }
+        break;
+      case BOOLEAN:
+        putJsonBytes(reader.readBoolean() ? TRUE : FALSE);
+        break;
+      case NIL:
+        reader.skipValue();
+        putJsonBytes(NULL);
+        break;
+      case STRING:
+        final MsgPackToken string = reader.readToken();
+        putJsonString(string.getValueBuffer(), 0, string.getValueBuffer().capacity());
+        break;
+      case BINARY:
+        final MsgPackToken binary = reader.readToken();
+        final byte[] bytes = new byte[binary.getValueBuffer().capacity()];
+        binary.getValueBuffer().getBytes(0, bytes);
+        putJsonByte('"');
+        putJsonBytes(Base64.getEncoder().encode(bytes));
+        putJsonByte('"');
+        break;
+      default:
+        throw new MsgpackReaderException(
+            String.format(
+                "Expected a JSON compatible value, but found header byte 0x%02x", headerByte));
+    }
+  }
+
+  /** JSON only allows string keys, so any other scalar key is written as string. */
+  private void transcodeMsgPackKey() {
+    final byte headerByte = reader.getBuffer().getByte(reader.getOffset());
+    final MsgPackFormat format = MsgPackFormat.valueOf(headerByte);
+
+    switch (format.getType()) {
+      case STRING:
+        final MsgPackToken string = reader.readToken();
+        putJsonString(string.getValueBuffer(), 0, string.getValueBuffer().capacity());
+        break;
+      case INTEGER:
+      case FLOAT:
+      case BOOLEAN:
+      case NIL:
+        putJsonByte('"');
+        transcodeMsgPackValue();
+        putJsonByte('"');
+        break;
+      default:
+        throw new MsgpackReaderException(
+            String.format("Expected a scalar map key, but found %s", format.getType()));
+    }
+  }
+
+  private void putJsonString(final DirectBuffer utf8, final int offset, final int length) {
+    putJsonByte('"');
+
+    int unescapedStart = offset;
+    final int end = offset + length;
+    for (int i = offset; i < end; i++) {
+      final byte b = utf8.getByte(i);
+      if (b != '"' && b != '\\' && (b < 0 || b >= 0x20)) {
+        continue;
+      }
+
+      jsonBuffer.putBytes(jsonOffset, utf8, unescapedStart, i - unescapedStart);
+      jsonOffset += i - unescapedStart;
+      unescapedStart = i + 1;
+
+      putJsonByte('\\');
+      switch (b) {
+        case '"', '\\' -> putJsonByte(b);
+        case '\b' -> putJsonByte('b');
+        case '\t' -> putJsonByte('t');
+        case '\n' -> putJsonByte('n');
+        case '\f' -> putJsonByte('f');
+        case '\r' -> putJsonByte('r');
+        default -> {
+          putJsonByte('u');
+          putJsonByte('0');
+          putJsonByte('0');
+          putJsonByte(HEX_DIGITS[b >> 4]);
+          putJsonByte(HEX_DIGITS[b & 0xF]);
+        }
+      }
+    }
+
+    jsonBuffer.putBytes(jsonOffset, utf8, unescapedStart, end - unescapedStart);
+    jsonOffset += end - unescapedStart;
+
+    putJsonByte('"');
+  }
+
+  private void putJsonAscii(final String value) {
+    jsonOffset += jsonBuffer.putStringWithoutLengthAscii(jsonOffset, value);
+  }
+
+  private void putJsonBytes(final byte[] bytes) {
+    jsonBuffer.putBytes(jsonOffset, bytes);
+    jsonOffset += bytes.length;
+  }
+
+  private void putJsonByte(final int b) {
+    jsonBuffer.putByte(jsonOffset++, (byte) b);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////////// COMMON ///////////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  private void pushContainer(final boolean isMap, final int offset) {
+    if (depth == containerIsMap.length) {
+      final int newLength = depth * 2;
+      containerIsMap = Arrays.copyOf(containerIsMap, newLength);
+      containerOffset = Arrays.copyOf(containerOffset, newLength);
+      containerCount = Arrays.copyOf(containerCount, newLength);
+    }
+
+    containerIsMap[depth] = isMap;
+    containerOffset[depth] = offset;
+    containerCount[depth] = 0;
+    depth++;
+  }
+}
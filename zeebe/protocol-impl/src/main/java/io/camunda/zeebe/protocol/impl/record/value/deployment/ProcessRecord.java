@@ -32,16 +32,24 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
   private final BinaryProperty resourceProp = new BinaryProperty("resource", new UnsafeBuffer());
   private final StringProperty tenantIdProp =
       new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  // a compact form of the resource, which is created once on deployment and persisted with the
+  // process; it is internal to the engine and not part of the exported record
+  private final IntegerProperty compactResourceVersionProp =
+      new IntegerProperty("compactResourceVersion", 0);
+  private final BinaryProperty compactResourceProp =
+      new BinaryProperty("compactResource", new UnsafeBuffer());
 
   public ProcessRecord() {
-    super(7);
+    super(9);
     declareProperty(bpmnProcessIdProp)
         .declareProperty(versionProp)
         .declareProperty(keyProp)
         .declareProperty(resourceNameProp)
         .declareProperty(checksumProp)
         .declareProperty(resourceProp)
-        .declareProperty(tenantIdProp);
+        .declareProperty(tenantIdProp)
+        .declareProperty(compactResourceVersionProp)
+        .declareProperty(compactResourceProp);
   }
 
   public ProcessRecord wrap(final ProcessMetadata metadata, final byte[] resource) {
@@ -178,6 +186,22 @@ public final class ProcessRecord extends UnifiedRecordValue implements Process {
     return resourceProp.getValue();
   }
 
+  @JsonIgnore
+  public int getCompactResourceVersion() {
+    return compactResourceVersionProp.getValue();
+  }
+
+  @JsonIgnore
+  public DirectBuffer getCompactResourceBuffer() {
+    return compactResourceProp.getValue();
+  }
+
+  public ProcessRecord setCompactResource(final int version, final DirectBuffer resource) {
+    compactResourceVersionProp.setValue(version);
+    compactResourceProp.setValue(resource);
+    return this;
+  }
+
   @Override
   public String getTenantId() {
     return BufferUtil.bufferAsString(tenantIdProp.getValue());
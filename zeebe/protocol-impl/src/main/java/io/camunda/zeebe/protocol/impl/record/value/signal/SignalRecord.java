@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.camunda.zeebe.msgpack.property.DocumentProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
@@ -25,16 +26,26 @@ public final class SignalRecord extends UnifiedRecordValue implements SignalReco
   private final DocumentProperty variablesProp = new DocumentProperty("variables");
   private final StringProperty tenantIdProp =
       new StringProperty("tenantId", TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  // only used by the engine, to continue triggering the subscriptions of a signal in chunks
+  private final LongProperty subscriptionKeyProp = new LongProperty("subscriptionKey", -1L);
+  private final LongProperty subscriptionKeyBoundProp =
+      new LongProperty("subscriptionKeyBound", -1L);
 
   public SignalRecord() {
-    super(3);
-    declareProperty(signalNameProp).declareProperty(variablesProp).declareProperty(tenantIdProp);
+    super(5);
+    declareProperty(signalNameProp)
+        .declareProperty(variablesProp)
+        .declareProperty(tenantIdProp)
+        .declareProperty(subscriptionKeyProp)
+        .declareProperty(subscriptionKeyBoundProp);
   }
 
   public void wrap(final SignalRecord record) {
     setSignalName(record.getSignalNameBuffer())
         .setVariables(record.getVariablesBuffer())
-        .setTenantId(record.getTenantId());
+        .setTenantId(record.getTenantId())
+        .setSubscriptionKey(record.getSubscriptionKey())
+        .setSubscriptionKeyBound(record.getSubscriptionKeyBound());
   }
 
   @Override
@@ -81,4 +92,33 @@ public final class SignalRecord extends UnifiedRecordValue implements SignalReco
     tenantIdProp.setValue(tenantId);
     return this;
   }
+
+  /**
+   * @return the key of the subscription at which the triggering of the signal's subscriptions
+   *     continues, or -1 if it starts at the first subscription
+   */
+  @JsonIgnore
+  public long getSubscriptionKey() {
+    return subscriptionKeyProp.getValue();
+  }
+
+  public SignalRecord setSubscriptionKey(final long subscriptionKey) {
+    subscriptionKeyProp.setValue(subscriptionKey);
+    return this;
+  }
+
+  /**
+   * @return the key below which the subscriptions of the signal are triggered, i.e. subscriptions
+   *     which were created after the signal was broadcast are not triggered, or -1 if there is no
+   *     bound
+   */
+  @JsonIgnore
+  public long getSubscriptionKeyBound() {
+    return subscriptionKeyBoundProp.getValue();
+  }
+
+  public SignalRecord setSubscriptionKeyBound(final long subscriptionKeyBound) {
+    subscriptionKeyBoundProp.setValue(subscriptionKeyBound);
+    return this;
+  }
 }
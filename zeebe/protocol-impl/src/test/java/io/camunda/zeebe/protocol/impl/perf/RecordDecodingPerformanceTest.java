@@ -0,0 +1,127 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.usertask.UserTaskRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast wide records can be decoded from their msgpack representation, which is what
+ * happens for every record read from the log or the state.
+ *
+ * <p>The benchmarks are not run as JUnit tests, as there are no measured reference scores to
+ * compare them against yet.
+ */
+@Warmup(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordDecodingPerformanceTest {
+  private static final DirectBuffer VARIABLES =
+      new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"foo\":\"bar\",\"baz\":123}"));
+
+  private final JobRecord jobRecord = new JobRecord();
+  private final ProcessInstanceRecord processInstanceRecord = new ProcessInstanceRecord();
+  private final UserTaskRecord userTaskRecord = new UserTaskRecord();
+
+  private DirectBuffer encodedJobRecord;
+  private DirectBuffer encodedProcessInstanceRecord;
+  private DirectBuffer encodedUserTaskRecord;
+
+  @Setup
+  public void setup() {
+    encodedJobRecord =
+        encode(
+            new JobRecord()
+                .setType("task")
+                .setWorker("worker")
+                .setRetries(3)
+                .setDeadline(1000L)
+                .setTimeout(500L)
+                .setBpmnProcessId("process")
+                .setProcessDefinitionKey(1L)
+                .setProcessDefinitionVersion(1)
+                .setProcessInstanceKey(2L)
+                .setElementId("task")
+                .setElementInstanceKey(3L)
+                .setVariables(VARIABLES));
+
+    encodedProcessInstanceRecord =
+        encode(
+            new ProcessInstanceRecord()
+                .setBpmnProcessId("process")
+                .setVersion(1)
+                .setProcessDefinitionKey(1L)
+                .setProcessInstanceKey(2L)
+                .setElementId("task")
+                .setFlowScopeKey(2L)
+                .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+                .setBpmnEventType(BpmnEventType.UNSPECIFIED));
+
+    encodedUserTaskRecord =
+        encode(
+            new UserTaskRecord()
+                .setUserTaskKey(4L)
+                .setAssignee("demo")
+                .setCandidateGroupsList(List.of("management", "sales"))
+                .setCandidateUsersList(List.of("alice", "bob"))
+                .setDueDate("2023-11-11T11:11:00+01:00")
+                .setBpmnProcessId("process")
+                .setProcessDefinitionKey(1L)
+                .setProcessDefinitionVersion(1)
+                .setElementId("userTask")
+                .setElementInstanceKey(3L)
+                .setVariables(VARIABLES));
+  }
+
+  @Benchmark
+  public JobRecord measureJobRecordDecoding() {
+    jobRecord.wrap(encodedJobRecord);
+    return jobRecord;
+  }
+
+  @Benchmark
+  public ProcessInstanceRecord measureProcessInstanceRecordDecoding() {
+    processInstanceRecord.wrap(encodedProcessInstanceRecord);
+    return processInstanceRecord;
+  }
+
+  @Benchmark
+  public UserTaskRecord measureUserTaskRecordDecoding() {
+    userTaskRecord.wrap(encodedUserTaskRecord);
+    return userTaskRecord;
+  }
+
+  private static DirectBuffer encode(final UnpackedObject record) {
+    final var buffer = new UnsafeBuffer(new byte[record.getLength()]);
+    record.write(buffer, 0);
+    return buffer;
+  }
+}
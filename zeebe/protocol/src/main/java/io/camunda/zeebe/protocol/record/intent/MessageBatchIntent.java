@@ -16,7 +16,9 @@
 package io.camunda.zeebe.protocol.record.intent;
 
 public enum MessageBatchIntent implements Intent {
-  EXPIRE((short) 0);
+  EXPIRE((short) 0),
+  EXPIRED((short) 1);
+
   private final short value;
 
   MessageBatchIntent(final short value) {
@@ -30,13 +32,20 @@ public enum MessageBatchIntent implements Intent {
 
   @Override
   public boolean isEvent() {
-    return false;
+    switch (this) {
+      case EXPIRED:
+        return true;
+      default:
+        return false;
+    }
   }
 
   public static Intent from(final short value) {
     switch (value) {
       case 0:
         return EXPIRE;
+      case 1:
+        return EXPIRED;
       default:
         return Intent.UNKNOWN;
     }
@@ -17,7 +17,8 @@ package io.camunda.zeebe.protocol.record.intent;
 
 public enum SignalIntent implements Intent {
   BROADCAST((short) 0),
-  BROADCASTED((short) 1);
+  BROADCASTED((short) 1),
+  TRIGGER_SUBSCRIPTIONS((short) 2);
 
   private final short value;
 
@@ -46,6 +47,8 @@ public enum SignalIntent implements Intent {
         return BROADCAST;
       case 1:
         return BROADCASTED;
+      case 2:
+        return TRIGGER_SUBSCRIPTIONS;
       default:
         return Intent.UNKNOWN;
     }
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+/**
+ * Combines CRC32C checksums, as computed by {@link java.util.zip.CRC32C}, of consecutive byte
+ * sequences into the checksum of their concatenation, without reading the bytes again. This is
+ * the approach of zlib's {@code crc32_combine}: appending {@code n} bytes to a sequence is a linear
+ * operation on its checksum, which is applied by multiplying with the matrix of the operator for
+ * {@code n} zero bytes.
+ */
+final class Crc32C {
+
+  // reversed CRC32C (Castagnoli) polynomial
+  private static final int POLYNOMIAL = 0x82F63B78;
+
+  // ZERO_OPERATORS[i] appends 2^i zero bytes to a checksum
+  private static final int[][] ZERO_OPERATORS = createZeroOperators();
+
+  private Crc32C() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Combines the checksums of two consecutive byte sequences.
+   *
+   * @param firstChecksum the checksum of the first sequence
+   * @param secondChecksum the checksum of the second sequence
+   * @param secondLength the length of the second sequence in bytes
+   * @return the checksum of the concatenation of both sequences
+   */
+  static long combine(
+      final long firstChecksum, final long secondChecksum, final long secondLength) {
+    if (secondLength < 0) {
+      throw new IllegalArgumentException(
+          "Expected the length to be non-negative, but was " + secondLength);
+    }
+
+    int checksum = (int) firstChecksum;
+    long length = secondLength;
+    for (int i = 0; length != 0; i++, length >>>= 1) {
+      if ((length & 1) != 0) {
+        checksum = multiply(ZERO_OPERATORS[i], checksum);
+      }
+    }
+
+    return Integer.toUnsignedLong(checksum ^ (int) secondChecksum);
+  }
+
+  private static int[][] createZeroOperators() {
+    final int[][] operators = new int[Long.SIZE][];
+
+    // the operator for a single zero bit
+    final int[] operator = new int[Integer.SIZE];
+    operator[0] = POLYNOMIAL;
+    for (int i = 1; i < Integer.SIZE; i++) {
+      operator[i] = 1 << (i - 1);
+    }
+
+    // square it three times for a single zero byte, then once more for each power of two
+    operators[0] = square(square(square(operator)));
+    for (int i = 1; i < operators.length; i++) {
+      operators[i] = square(operators[i - 1]);
+    }
+    return operators;
+  }
+
+  private static int[] square(final int[] matrix) {
+    final int[] square = new int[Integer.SIZE];
+    for (int i = 0; i < Integer.SIZE; i++) {
+      square[i] = multiply(matrix, matrix[i]);
+    }
+    return square;
+  }
+
+  private static int multiply(final int[] matrix, final int vector) {
+    int product = 0;
+    int remaining = vector;
+    for (int i = 0; remaining != 0; i++, remaining >>>= 1) {
+      if ((remaining & 1) != 0) {
+        product ^= matrix[i];
+      }
+    }
+    return product;
+  }
+}
@@ -70,6 +70,8 @@ public final class FileBasedSnapshotStore extends Actor
   // keeps track of all snapshot modification listeners
   private final Set<PersistedSnapshotListener> listeners;
   private final SnapshotMetrics snapshotMetrics;
+  // checksums of the immutable files of the latest taken snapshot, reused by the next one
+  private final SnapshotChecksumCache checksumCache = new SnapshotChecksumCache();
   // Use AtomicReference so that getting latest snapshot doesn't have to go through the actor
   private final AtomicReference<FileBasedSnapshot> currentPersistedSnapshotRef =
       new AtomicReference<>();
@@ -645,6 +647,10 @@ public final class FileBasedSnapshotStore extends Actor
     return snapshotMetrics;
   }
 
+  SnapshotChecksumCache getChecksumCache() {
+    return checksumCache;
+  }
+
   void onSnapshotDeleted(final FileBasedSnapshot snapshot) {
     availableSnapshots.remove(snapshot);
   }
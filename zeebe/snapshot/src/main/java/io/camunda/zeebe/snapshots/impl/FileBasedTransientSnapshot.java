@@ -81,7 +81,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculate(directory);
+          checksum = SnapshotChecksum.calculate(directory, snapshotStore.getChecksumCache());
 
           snapshot = null;
           isValid = true;
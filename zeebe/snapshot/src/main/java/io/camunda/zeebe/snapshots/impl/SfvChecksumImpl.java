@@ -49,7 +49,8 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
       Pattern.compile("(.*)" + FILE_CRC_SEPARATOR_REGEX + "([0-9a-fA-F]{1,16})");
   private static final Pattern COMBINED_VALUE_PATTERN =
       Pattern.compile(".*combinedValue\\s+=\\s+([0-9a-fA-F]{1,16})");
-  private Checksum combinedChecksum;
+  private long combinedChecksum;
+  private boolean immutable;
   private final SortedMap<String, Long> checksums = new TreeMap<>();
   private String snapshotDirectoryComment;
 
@@ -59,16 +60,15 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
    * @param combinedChecksum pre-defined checksum
    */
   public SfvChecksumImpl(final long combinedChecksum) {
-    this.combinedChecksum = new PreDefinedImmutableChecksum(combinedChecksum);
+    this.combinedChecksum = combinedChecksum;
+    immutable = true;
   }
 
-  public SfvChecksumImpl() {
-    combinedChecksum = new CRC32C();
-  }
+  public SfvChecksumImpl() {}
 
   @Override
   public long getCombinedValue() {
-    return combinedChecksum.getValue();
+    return combinedChecksum;
   }
 
   @Override
@@ -78,7 +78,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     if (snapshotDirectoryComment != null) {
       writer.printf(FORMAT_SNAPSHOT_DIRECTORY_LINE, snapshotDirectoryComment);
     }
-    writer.printf(FORMAT_COMBINED_VALUE_LINE, Long.toHexString(combinedChecksum.getValue()));
+    writer.printf(FORMAT_COMBINED_VALUE_LINE, Long.toHexString(combinedChecksum));
     writer.printf(FORMAT_NUMBER_OF_FILES_LINE, checksums.size());
 
     for (final Entry<String, Long> entry : checksums.entrySet()) {
@@ -91,6 +91,13 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     }
   }
 
+  /**
+   * @return the checksum of the given file, or null if the file wasn't added
+   */
+  Long getChecksum(final String fileName) {
+    return checksums.get(fileName);
+  }
+
   public void setSnapshotDirectoryComment(final String headerComment) {
     snapshotDirectoryComment = headerComment;
   }
@@ -99,7 +106,7 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
   public String toString() {
     return "SfvChecksum{"
         + "combinedChecksum="
-        + combinedChecksum.getValue()
+        + combinedChecksum
         + ", checksums="
         + checksums
         + '}';
@@ -107,32 +114,50 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
-    final String fileName = filePath.getFileName().toString();
-    final byte[] chunkId = fileName.getBytes(UTF_8);
-    combinedChecksum.update(chunkId);
+    ensureMutable();
 
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    long length = 0;
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
-      readBuffer.clear();
-      while (channel.read(readBuffer) > 0) {
-        readBuffer.flip();
-        combinedChecksum.update(readBuffer);
+      int read;
+      while ((read = channel.read(readBuffer)) > 0) {
         readBuffer.flip();
         checksum.update(readBuffer);
         readBuffer.clear();
+        length += read;
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    updateFromChecksum(filePath.getFileName().toString(), checksum.getValue(), length);
   }
 
   @Override
   public void updateFromBytes(final String fileName, final byte[] bytes) {
-    combinedChecksum.update(fileName.getBytes(UTF_8));
+    ensureMutable();
+
     final Checksum checksum = new CRC32C();
     checksum.update(bytes);
-    combinedChecksum.update(bytes);
-    checksums.put(fileName, checksum.getValue());
+    updateFromChecksum(fileName, checksum.getValue(), bytes.length);
+  }
+
+  /**
+   * Adds a file of which the checksum is already known. The combined checksum is the same as if
+   * the file was added via {@link #updateFromFile(Path)}, but its content isn't read again.
+   *
+   * @param fileName the name of the file
+   * @param checksum the CRC32C checksum of the file's content
+   * @param length the length of the file's content in bytes
+   */
+  void updateFromChecksum(final String fileName, final long checksum, final long length) {
+    ensureMutable();
+
+    // the combined checksum covers the file name followed by the file content
+    final Checksum nameChecksum = new CRC32C();
+    final byte[] name = fileName.getBytes(UTF_8);
+    nameChecksum.update(name);
+    combinedChecksum = Crc32C.combine(combinedChecksum, nameChecksum.getValue(), name.length);
+    combinedChecksum = Crc32C.combine(combinedChecksum, checksum, length);
+    checksums.put(fileName, checksum);
   }
 
   @Override
@@ -144,7 +169,8 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
         if (matcher.find()) {
           final String hexString = matcher.group(1);
           final long crc = Long.parseLong(hexString, 16);
-          combinedChecksum = new PreDefinedImmutableChecksum(crc);
+          combinedChecksum = crc;
+          immutable = true;
         }
       } else {
         final Matcher matcher = FILE_CRC_PATTERN.matcher(line);
@@ -157,36 +183,9 @@ final class SfvChecksumImpl implements MutableChecksumsSFV {
     }
   }
 
-  private static class PreDefinedImmutableChecksum implements Checksum {
-
-    private final long crc;
-
-    public PreDefinedImmutableChecksum(final long crc) {
-      this.crc = crc;
-    }
-
-    @Override
-    public void update(final int b) {
-      throw getUnsupportedOperationException();
-    }
-
-    @Override
-    public void update(final byte[] b, final int off, final int len) {
-      throw getUnsupportedOperationException();
-    }
-
-    @Override
-    public long getValue() {
-      return crc;
-    }
-
-    @Override
-    public void reset() {
-      throw getUnsupportedOperationException();
-    }
-
-    private static UnsupportedOperationException getUnsupportedOperationException() {
-      return new UnsupportedOperationException("This is an immutable checksum.");
+  private void ensureMutable() {
+    if (immutable) {
+      throw new UnsupportedOperationException("This is an immutable checksum.");
     }
   }
 }
@@ -17,6 +17,9 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Stream;
 
 final class SnapshotChecksum {
@@ -42,9 +45,23 @@ final class SnapshotChecksum {
   }
 
   public static MutableChecksumsSFV calculate(final Path snapshotDirectory) throws IOException {
+    return calculate(snapshotDirectory, new SnapshotChecksumCache());
+  }
+
+  /**
+   * Calculates the checksum of the given snapshot, reusing the cached checksums of files which
+   * were already part of a previous snapshot. Afterward, the cache contains only the checksums of
+   * the files of this snapshot.
+   *
+   * @param snapshotDirectory the directory of the snapshot
+   * @param cache the checksums of the files of previous snapshots
+   * @return the checksum of the snapshot
+   */
+  public static MutableChecksumsSFV calculate(
+      final Path snapshotDirectory, final SnapshotChecksumCache cache) throws IOException {
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final var sfvChecksum = createCombinedChecksum(fileStream);
+      final var sfvChecksum = createCombinedChecksum(fileStream, cache);
 
       // While persisting transient snapshot, the checksum of metadata file is added at the end.
       // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
@@ -82,16 +99,39 @@ final class SnapshotChecksum {
    *
    * @return the SfvChecksum object
    */
-  private static SfvChecksumImpl createCombinedChecksum(final Stream<Path> files) {
+  private static SfvChecksumImpl createCombinedChecksum(
+      final Stream<Path> files, final SnapshotChecksumCache cache) {
     final SfvChecksumImpl checksum = new SfvChecksumImpl();
+    final Set<String> fileNames = new HashSet<>();
     files.forEachOrdered(
         path -> {
           try {
-            checksum.updateFromFile(path);
+            updateFromFile(checksum, path, cache);
+            fileNames.add(path.getFileName().toString());
           } catch (final IOException e) {
             throw new UncheckedIOException(e);
           }
         });
+    cache.retainAll(fileNames);
     return checksum;
   }
+
+  private static void updateFromFile(
+      final SfvChecksumImpl checksum, final Path file, final SnapshotChecksumCache cache)
+      throws IOException {
+    final var fileName = file.getFileName().toString();
+    final var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    if (!cache.isCacheable(fileName, attributes)) {
+      checksum.updateFromFile(file);
+      return;
+    }
+
+    final var cachedChecksum = cache.get(fileName, attributes);
+    if (cachedChecksum.isPresent()) {
+      checksum.updateFromChecksum(fileName, cachedChecksum.getAsLong(), attributes.size());
+    } else {
+      checksum.updateFromFile(file);
+      cache.put(fileName, attributes, checksum.getChecksum(fileName));
+    }
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the checksums of immutable snapshot files, i.e. RocksDB's SST files, which are never
+ * modified once written. Most of them are hard linked into consecutive snapshots, so their
+ * checksums can be reused instead of reading them again for every snapshot.
+ *
+ * <p>A cached checksum is only used if the file has the same name, size, file key (i.e. inode) and
+ * modification time as the file of which it was calculated. Files without a file key are never
+ * cached.
+ */
+final class SnapshotChecksumCache {
+
+  private static final String SST_FILE_SUFFIX = ".sst";
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * @return true if the checksum of the file can be cached, otherwise false
+   */
+  boolean isCacheable(final String fileName, final BasicFileAttributes attributes) {
+    return fileName.endsWith(SST_FILE_SUFFIX)
+        && attributes.isRegularFile()
+        && attributes.fileKey() != null;
+  }
+
+  /**
+   * Returns the cached checksum of the given file, if it was calculated for the same file.
+   *
+   * @param fileName the name of the file
+   * @param attributes the current attributes of the file
+   * @return the cached checksum, or an empty optional if there is none for this file
+   */
+  OptionalLong get(final String fileName, final BasicFileAttributes attributes) {
+    final var entry = entries.get(fileName);
+    if (entry == null || !entry.matches(attributes)) {
+      return OptionalLong.empty();
+    }
+    return OptionalLong.of(entry.checksum());
+  }
+
+  void put(final String fileName, final BasicFileAttributes attributes, final long checksum) {
+    if (isCacheable(fileName, attributes)) {
+      entries.put(
+          fileName,
+          new Entry(
+              attributes.size(), attributes.fileKey(), attributes.lastModifiedTime(), checksum));
+    }
+  }
+
+  /**
+   * Removes the checksums of all files which are not part of the latest snapshot, as they are
+   * unlikely to be part of the next one.
+   *
+   * @param fileNames the names of the files to keep
+   */
+  void retainAll(final Set<String> fileNames) {
+    entries.keySet().retainAll(fileNames);
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  private record Entry(long size, Object fileKey, FileTime lastModifiedTime, long checksum) {
+
+    private boolean matches(final BasicFileAttributes attributes) {
+      return size == attributes.size()
+          && fileKey.equals(attributes.fileKey())
+          && lastModifiedTime.equals(attributes.lastModifiedTime());
+    }
+  }
+}
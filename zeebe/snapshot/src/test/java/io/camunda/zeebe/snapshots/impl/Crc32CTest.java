@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.zip.CRC32C;
+import org.junit.jupiter.api.Test;
+
+final class Crc32CTest {
+
+  @Test
+  void shouldCombineChecksums() {
+    final var random = new Random(1);
+    for (final int secondLength : new int[] {0, 1, 7, 4096, 100_003}) {
+      // given
+      final byte[] first = new byte[1024];
+      final byte[] second = new byte[secondLength];
+      random.nextBytes(first);
+      random.nextBytes(second);
+
+      final var expected = new CRC32C();
+      expected.update(first);
+      expected.update(second);
+
+      // when
+      final var combined = Crc32C.combine(checksum(first), checksum(second), second.length);
+
+      // then
+      assertThat(combined).describedAs("length %d", secondLength).isEqualTo(expected.getValue());
+    }
+  }
+
+  @Test
+  void shouldCombineWithChecksumOfEmptySequence() {
+    // given
+    final byte[] bytes = new byte[4096];
+    new Random(1).nextBytes(bytes);
+
+    // when
+    final var combined = Crc32C.combine(checksum(new byte[0]), checksum(bytes), bytes.length);
+
+    // then
+    assertThat(combined).isEqualTo(checksum(bytes));
+  }
+
+  private static long checksum(final byte[] bytes) {
+    final var checksum = new CRC32C();
+    checksum.update(bytes);
+    return checksum.getValue();
+  }
+}
@@ -23,6 +23,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
@@ -256,6 +257,105 @@ public final class SnapshotChecksumTest {
         .isEqualTo(checksumCalculatedAtOnce.getCombinedValue());
   }
 
+  @Test
+  void shouldCalculateSameChecksumWithCache() throws IOException {
+    // given
+    final var snapshot = createTempDir("cached");
+    createChunk(snapshot, "000001.sst");
+    createChunk(snapshot, "000002.sst");
+    createChunk(snapshot, "CURRENT");
+    createChunk(snapshot, FileBasedSnapshotStore.METADATA_FILE_NAME);
+    final var cache = new SnapshotChecksumCache();
+    final var expected = SnapshotChecksum.calculate(snapshot);
+
+    // when
+    final var firstChecksum = SnapshotChecksum.calculate(snapshot, cache);
+    final var secondChecksum = SnapshotChecksum.calculate(snapshot, cache);
+
+    // then
+    assertThat(firstChecksum.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+    assertThat(secondChecksum.getCombinedValue()).isEqualTo(expected.getCombinedValue());
+  }
+
+  @Test
+  void shouldOnlyCacheChecksumsOfSstFiles() throws IOException {
+    // given
+    final var snapshot = createTempDir("cached");
+    createChunk(snapshot, "000001.sst");
+    createChunk(snapshot, "CURRENT");
+    createChunk(snapshot, "MANIFEST-000003");
+    final var cache = new SnapshotChecksumCache();
+
+    // when
+    SnapshotChecksum.calculate(snapshot, cache);
+
+    // then
+    assertThat(cache.size()).isOne();
+    assertThat(cache.get("000001.sst", readAttributes(snapshot.resolve("000001.sst"))))
+        .isNotEmpty();
+  }
+
+  @Test
+  void shouldReuseCachedChecksumOfUnchangedFile() throws IOException {
+    // given
+    final var snapshot = createTempDir("cached");
+    createChunk(snapshot, "000001.sst");
+    final var file = snapshot.resolve("000001.sst");
+    final var cache = new SnapshotChecksumCache();
+    cache.put("000001.sst", readAttributes(file), 0xCAFEL);
+
+    // when
+    final var checksum = (SfvChecksumImpl) SnapshotChecksum.calculate(snapshot, cache);
+
+    // then
+    assertThat(checksum.getChecksum("000001.sst")).isEqualTo(0xCAFEL);
+  }
+
+  @Test
+  void shouldNotReuseCachedChecksumOfChangedFile() throws IOException {
+    // given
+    final var snapshot = createTempDir("cached");
+    createChunk(snapshot, "000001.sst");
+    final var file = snapshot.resolve("000001.sst");
+    final var cache = new SnapshotChecksumCache();
+    SnapshotChecksum.calculate(snapshot, cache);
+
+    // when
+    Files.writeString(file, "changed content");
+    final var checksum = SnapshotChecksum.calculate(snapshot, cache);
+
+    // then
+    assertThat(checksum.getCombinedValue())
+        .isEqualTo(SnapshotChecksum.calculate(snapshot).getCombinedValue());
+  }
+
+  @Test
+  void shouldRemoveCachedChecksumsOfFilesNotInSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = createTempDir("previous");
+    createChunk(previousSnapshot, "000001.sst");
+    createChunk(previousSnapshot, "000002.sst");
+    final var nextSnapshot = createTempDir("next");
+    Files.createLink(nextSnapshot.resolve("000002.sst"), previousSnapshot.resolve("000002.sst"));
+    createChunk(nextSnapshot, "000003.sst");
+    final var cache = new SnapshotChecksumCache();
+    SnapshotChecksum.calculate(previousSnapshot, cache);
+
+    // when
+    SnapshotChecksum.calculate(nextSnapshot, cache);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("000001.sst", readAttributes(previousSnapshot.resolve("000001.sst"))))
+        .isEmpty();
+    assertThat(cache.get("000002.sst", readAttributes(nextSnapshot.resolve("000002.sst"))))
+        .isNotEmpty();
+  }
+
+  private static BasicFileAttributes readAttributes(final Path file) throws IOException {
+    return Files.readAttributes(file, BasicFileAttributes.class);
+  }
+
   private Path createTempDir(final String name) throws IOException {
     final var path = temporaryFolder.resolve(name);
     FileUtil.ensureDirectoryExists(path);
@@ -105,4 +105,15 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the transaction of a processed batch was rolled back, before the
+   * commands of the batch are processed again in a smaller batch. Errors which are handled via
+   * {@link #onProcessingError(Throwable, TypedRecord, ProcessingResultBuilder)} don't trigger this
+   * call.
+   *
+   * <p>Implementors must discard any in-memory values which they derived from the rolled back
+   * state changes.
+   */
+  default void onProcessingRollback() {}
 }
@@ -301,7 +301,12 @@ public final class ProcessingStateMachine {
             maxCommandsInBatch,
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
-        onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
+        onError(
+            exceededBatchRecordSizeException,
+            () -> {
+              recordProcessors.forEach(RecordProcessor::onProcessingRollback);
+              processCommand(loggedEvent);
+            });
       } else {
         onError(
             exceededBatchRecordSizeException,
@@ -83,4 +83,31 @@ public final class JMHAssert extends AbstractAssert<JMHAssert, RunResult> {
 
     return myself;
   }
+
+  /**
+   * Asserts that the score of this benchmark is at least the given factor of the score of another
+   * benchmark, which ran on the same machine. Unlike a reference score, this doesn't depend on the
+   * machine which runs the benchmarks.
+   *
+   * @param baseline the results of the benchmark to compare with
+   * @param minFactor the minimum factor of the baseline score
+   * @return itself for chaining
+   */
+  @SuppressWarnings("UnusedReturnValue")
+  public JMHAssert isAtLeastFactorOf(final JMHAssert baseline, final double minFactor) {
+    final double score = actual.getPrimaryResult().getScore();
+    final double baselineScore = baseline.actual.getPrimaryResult().getScore();
+
+    if (score < baselineScore * minFactor) {
+      throwAssertionError(
+          new BasicErrorMessageFactory(
+              "Expected score to be at least %s times the baseline score %s, but got %s (%s times)",
+              DECIMAL_FORMAT.format(minFactor),
+              DECIMAL_FORMAT.format(baselineScore),
+              DECIMAL_FORMAT.format(score),
+              DECIMAL_FORMAT.format(score / baselineScore)));
+    }
+
+    return myself;
+  }
 }